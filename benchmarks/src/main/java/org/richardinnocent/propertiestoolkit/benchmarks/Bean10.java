@@ -0,0 +1,36 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * A bean with 10 {@link FromProperty} fields. Field {@code i} is read from the key {@code
+ * "key<i>"}, and its type cycles through {@code int}, {@code long}, {@code double}, {@code
+ * boolean} and {@code String}, matching the values produced by {@link BeanFixtures}.
+ */
+@SuppressWarnings("unused")
+public class Bean10 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private int field0;
+  @FromProperty(key = "key1") private long field1;
+  @FromProperty(key = "key2") private double field2;
+  @FromProperty(key = "key3") private boolean field3;
+  @FromProperty(key = "key4") private String field4;
+  @FromProperty(key = "key5") private int field5;
+  @FromProperty(key = "key6") private long field6;
+  @FromProperty(key = "key7") private double field7;
+  @FromProperty(key = "key8") private boolean field8;
+  @FromProperty(key = "key9") private String field9;
+
+  public Bean10(Properties properties) {
+    super(properties);
+  }
+
+  public Bean10(PropertyReader reader) {
+    super(reader);
+  }
+
+}
@@ -0,0 +1,126 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * A bean with 100 {@link FromProperty} fields. Field {@code i} is read from the key {@code
+ * "key<i>"}, and its type cycles through {@code int}, {@code long}, {@code double}, {@code
+ * boolean} and {@code String}, matching the values produced by {@link BeanFixtures}.
+ */
+@SuppressWarnings("unused")
+public class Bean100 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private int field0;
+  @FromProperty(key = "key1") private long field1;
+  @FromProperty(key = "key2") private double field2;
+  @FromProperty(key = "key3") private boolean field3;
+  @FromProperty(key = "key4") private String field4;
+  @FromProperty(key = "key5") private int field5;
+  @FromProperty(key = "key6") private long field6;
+  @FromProperty(key = "key7") private double field7;
+  @FromProperty(key = "key8") private boolean field8;
+  @FromProperty(key = "key9") private String field9;
+  @FromProperty(key = "key10") private int field10;
+  @FromProperty(key = "key11") private long field11;
+  @FromProperty(key = "key12") private double field12;
+  @FromProperty(key = "key13") private boolean field13;
+  @FromProperty(key = "key14") private String field14;
+  @FromProperty(key = "key15") private int field15;
+  @FromProperty(key = "key16") private long field16;
+  @FromProperty(key = "key17") private double field17;
+  @FromProperty(key = "key18") private boolean field18;
+  @FromProperty(key = "key19") private String field19;
+  @FromProperty(key = "key20") private int field20;
+  @FromProperty(key = "key21") private long field21;
+  @FromProperty(key = "key22") private double field22;
+  @FromProperty(key = "key23") private boolean field23;
+  @FromProperty(key = "key24") private String field24;
+  @FromProperty(key = "key25") private int field25;
+  @FromProperty(key = "key26") private long field26;
+  @FromProperty(key = "key27") private double field27;
+  @FromProperty(key = "key28") private boolean field28;
+  @FromProperty(key = "key29") private String field29;
+  @FromProperty(key = "key30") private int field30;
+  @FromProperty(key = "key31") private long field31;
+  @FromProperty(key = "key32") private double field32;
+  @FromProperty(key = "key33") private boolean field33;
+  @FromProperty(key = "key34") private String field34;
+  @FromProperty(key = "key35") private int field35;
+  @FromProperty(key = "key36") private long field36;
+  @FromProperty(key = "key37") private double field37;
+  @FromProperty(key = "key38") private boolean field38;
+  @FromProperty(key = "key39") private String field39;
+  @FromProperty(key = "key40") private int field40;
+  @FromProperty(key = "key41") private long field41;
+  @FromProperty(key = "key42") private double field42;
+  @FromProperty(key = "key43") private boolean field43;
+  @FromProperty(key = "key44") private String field44;
+  @FromProperty(key = "key45") private int field45;
+  @FromProperty(key = "key46") private long field46;
+  @FromProperty(key = "key47") private double field47;
+  @FromProperty(key = "key48") private boolean field48;
+  @FromProperty(key = "key49") private String field49;
+  @FromProperty(key = "key50") private int field50;
+  @FromProperty(key = "key51") private long field51;
+  @FromProperty(key = "key52") private double field52;
+  @FromProperty(key = "key53") private boolean field53;
+  @FromProperty(key = "key54") private String field54;
+  @FromProperty(key = "key55") private int field55;
+  @FromProperty(key = "key56") private long field56;
+  @FromProperty(key = "key57") private double field57;
+  @FromProperty(key = "key58") private boolean field58;
+  @FromProperty(key = "key59") private String field59;
+  @FromProperty(key = "key60") private int field60;
+  @FromProperty(key = "key61") private long field61;
+  @FromProperty(key = "key62") private double field62;
+  @FromProperty(key = "key63") private boolean field63;
+  @FromProperty(key = "key64") private String field64;
+  @FromProperty(key = "key65") private int field65;
+  @FromProperty(key = "key66") private long field66;
+  @FromProperty(key = "key67") private double field67;
+  @FromProperty(key = "key68") private boolean field68;
+  @FromProperty(key = "key69") private String field69;
+  @FromProperty(key = "key70") private int field70;
+  @FromProperty(key = "key71") private long field71;
+  @FromProperty(key = "key72") private double field72;
+  @FromProperty(key = "key73") private boolean field73;
+  @FromProperty(key = "key74") private String field74;
+  @FromProperty(key = "key75") private int field75;
+  @FromProperty(key = "key76") private long field76;
+  @FromProperty(key = "key77") private double field77;
+  @FromProperty(key = "key78") private boolean field78;
+  @FromProperty(key = "key79") private String field79;
+  @FromProperty(key = "key80") private int field80;
+  @FromProperty(key = "key81") private long field81;
+  @FromProperty(key = "key82") private double field82;
+  @FromProperty(key = "key83") private boolean field83;
+  @FromProperty(key = "key84") private String field84;
+  @FromProperty(key = "key85") private int field85;
+  @FromProperty(key = "key86") private long field86;
+  @FromProperty(key = "key87") private double field87;
+  @FromProperty(key = "key88") private boolean field88;
+  @FromProperty(key = "key89") private String field89;
+  @FromProperty(key = "key90") private int field90;
+  @FromProperty(key = "key91") private long field91;
+  @FromProperty(key = "key92") private double field92;
+  @FromProperty(key = "key93") private boolean field93;
+  @FromProperty(key = "key94") private String field94;
+  @FromProperty(key = "key95") private int field95;
+  @FromProperty(key = "key96") private long field96;
+  @FromProperty(key = "key97") private double field97;
+  @FromProperty(key = "key98") private boolean field98;
+  @FromProperty(key = "key99") private String field99;
+
+  public Bean100(Properties properties) {
+    super(properties);
+  }
+
+  public Bean100(PropertyReader reader) {
+    super(reader);
+  }
+
+}
@@ -0,0 +1,1026 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * A bean with 1000 {@link FromProperty} fields. Field {@code i} is read from the key {@code
+ * "key<i>"}, and its type cycles through {@code int}, {@code long}, {@code double}, {@code
+ * boolean} and {@code String}, matching the values produced by {@link BeanFixtures}.
+ */
+@SuppressWarnings("unused")
+public class Bean1000 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private int field0;
+  @FromProperty(key = "key1") private long field1;
+  @FromProperty(key = "key2") private double field2;
+  @FromProperty(key = "key3") private boolean field3;
+  @FromProperty(key = "key4") private String field4;
+  @FromProperty(key = "key5") private int field5;
+  @FromProperty(key = "key6") private long field6;
+  @FromProperty(key = "key7") private double field7;
+  @FromProperty(key = "key8") private boolean field8;
+  @FromProperty(key = "key9") private String field9;
+  @FromProperty(key = "key10") private int field10;
+  @FromProperty(key = "key11") private long field11;
+  @FromProperty(key = "key12") private double field12;
+  @FromProperty(key = "key13") private boolean field13;
+  @FromProperty(key = "key14") private String field14;
+  @FromProperty(key = "key15") private int field15;
+  @FromProperty(key = "key16") private long field16;
+  @FromProperty(key = "key17") private double field17;
+  @FromProperty(key = "key18") private boolean field18;
+  @FromProperty(key = "key19") private String field19;
+  @FromProperty(key = "key20") private int field20;
+  @FromProperty(key = "key21") private long field21;
+  @FromProperty(key = "key22") private double field22;
+  @FromProperty(key = "key23") private boolean field23;
+  @FromProperty(key = "key24") private String field24;
+  @FromProperty(key = "key25") private int field25;
+  @FromProperty(key = "key26") private long field26;
+  @FromProperty(key = "key27") private double field27;
+  @FromProperty(key = "key28") private boolean field28;
+  @FromProperty(key = "key29") private String field29;
+  @FromProperty(key = "key30") private int field30;
+  @FromProperty(key = "key31") private long field31;
+  @FromProperty(key = "key32") private double field32;
+  @FromProperty(key = "key33") private boolean field33;
+  @FromProperty(key = "key34") private String field34;
+  @FromProperty(key = "key35") private int field35;
+  @FromProperty(key = "key36") private long field36;
+  @FromProperty(key = "key37") private double field37;
+  @FromProperty(key = "key38") private boolean field38;
+  @FromProperty(key = "key39") private String field39;
+  @FromProperty(key = "key40") private int field40;
+  @FromProperty(key = "key41") private long field41;
+  @FromProperty(key = "key42") private double field42;
+  @FromProperty(key = "key43") private boolean field43;
+  @FromProperty(key = "key44") private String field44;
+  @FromProperty(key = "key45") private int field45;
+  @FromProperty(key = "key46") private long field46;
+  @FromProperty(key = "key47") private double field47;
+  @FromProperty(key = "key48") private boolean field48;
+  @FromProperty(key = "key49") private String field49;
+  @FromProperty(key = "key50") private int field50;
+  @FromProperty(key = "key51") private long field51;
+  @FromProperty(key = "key52") private double field52;
+  @FromProperty(key = "key53") private boolean field53;
+  @FromProperty(key = "key54") private String field54;
+  @FromProperty(key = "key55") private int field55;
+  @FromProperty(key = "key56") private long field56;
+  @FromProperty(key = "key57") private double field57;
+  @FromProperty(key = "key58") private boolean field58;
+  @FromProperty(key = "key59") private String field59;
+  @FromProperty(key = "key60") private int field60;
+  @FromProperty(key = "key61") private long field61;
+  @FromProperty(key = "key62") private double field62;
+  @FromProperty(key = "key63") private boolean field63;
+  @FromProperty(key = "key64") private String field64;
+  @FromProperty(key = "key65") private int field65;
+  @FromProperty(key = "key66") private long field66;
+  @FromProperty(key = "key67") private double field67;
+  @FromProperty(key = "key68") private boolean field68;
+  @FromProperty(key = "key69") private String field69;
+  @FromProperty(key = "key70") private int field70;
+  @FromProperty(key = "key71") private long field71;
+  @FromProperty(key = "key72") private double field72;
+  @FromProperty(key = "key73") private boolean field73;
+  @FromProperty(key = "key74") private String field74;
+  @FromProperty(key = "key75") private int field75;
+  @FromProperty(key = "key76") private long field76;
+  @FromProperty(key = "key77") private double field77;
+  @FromProperty(key = "key78") private boolean field78;
+  @FromProperty(key = "key79") private String field79;
+  @FromProperty(key = "key80") private int field80;
+  @FromProperty(key = "key81") private long field81;
+  @FromProperty(key = "key82") private double field82;
+  @FromProperty(key = "key83") private boolean field83;
+  @FromProperty(key = "key84") private String field84;
+  @FromProperty(key = "key85") private int field85;
+  @FromProperty(key = "key86") private long field86;
+  @FromProperty(key = "key87") private double field87;
+  @FromProperty(key = "key88") private boolean field88;
+  @FromProperty(key = "key89") private String field89;
+  @FromProperty(key = "key90") private int field90;
+  @FromProperty(key = "key91") private long field91;
+  @FromProperty(key = "key92") private double field92;
+  @FromProperty(key = "key93") private boolean field93;
+  @FromProperty(key = "key94") private String field94;
+  @FromProperty(key = "key95") private int field95;
+  @FromProperty(key = "key96") private long field96;
+  @FromProperty(key = "key97") private double field97;
+  @FromProperty(key = "key98") private boolean field98;
+  @FromProperty(key = "key99") private String field99;
+  @FromProperty(key = "key100") private int field100;
+  @FromProperty(key = "key101") private long field101;
+  @FromProperty(key = "key102") private double field102;
+  @FromProperty(key = "key103") private boolean field103;
+  @FromProperty(key = "key104") private String field104;
+  @FromProperty(key = "key105") private int field105;
+  @FromProperty(key = "key106") private long field106;
+  @FromProperty(key = "key107") private double field107;
+  @FromProperty(key = "key108") private boolean field108;
+  @FromProperty(key = "key109") private String field109;
+  @FromProperty(key = "key110") private int field110;
+  @FromProperty(key = "key111") private long field111;
+  @FromProperty(key = "key112") private double field112;
+  @FromProperty(key = "key113") private boolean field113;
+  @FromProperty(key = "key114") private String field114;
+  @FromProperty(key = "key115") private int field115;
+  @FromProperty(key = "key116") private long field116;
+  @FromProperty(key = "key117") private double field117;
+  @FromProperty(key = "key118") private boolean field118;
+  @FromProperty(key = "key119") private String field119;
+  @FromProperty(key = "key120") private int field120;
+  @FromProperty(key = "key121") private long field121;
+  @FromProperty(key = "key122") private double field122;
+  @FromProperty(key = "key123") private boolean field123;
+  @FromProperty(key = "key124") private String field124;
+  @FromProperty(key = "key125") private int field125;
+  @FromProperty(key = "key126") private long field126;
+  @FromProperty(key = "key127") private double field127;
+  @FromProperty(key = "key128") private boolean field128;
+  @FromProperty(key = "key129") private String field129;
+  @FromProperty(key = "key130") private int field130;
+  @FromProperty(key = "key131") private long field131;
+  @FromProperty(key = "key132") private double field132;
+  @FromProperty(key = "key133") private boolean field133;
+  @FromProperty(key = "key134") private String field134;
+  @FromProperty(key = "key135") private int field135;
+  @FromProperty(key = "key136") private long field136;
+  @FromProperty(key = "key137") private double field137;
+  @FromProperty(key = "key138") private boolean field138;
+  @FromProperty(key = "key139") private String field139;
+  @FromProperty(key = "key140") private int field140;
+  @FromProperty(key = "key141") private long field141;
+  @FromProperty(key = "key142") private double field142;
+  @FromProperty(key = "key143") private boolean field143;
+  @FromProperty(key = "key144") private String field144;
+  @FromProperty(key = "key145") private int field145;
+  @FromProperty(key = "key146") private long field146;
+  @FromProperty(key = "key147") private double field147;
+  @FromProperty(key = "key148") private boolean field148;
+  @FromProperty(key = "key149") private String field149;
+  @FromProperty(key = "key150") private int field150;
+  @FromProperty(key = "key151") private long field151;
+  @FromProperty(key = "key152") private double field152;
+  @FromProperty(key = "key153") private boolean field153;
+  @FromProperty(key = "key154") private String field154;
+  @FromProperty(key = "key155") private int field155;
+  @FromProperty(key = "key156") private long field156;
+  @FromProperty(key = "key157") private double field157;
+  @FromProperty(key = "key158") private boolean field158;
+  @FromProperty(key = "key159") private String field159;
+  @FromProperty(key = "key160") private int field160;
+  @FromProperty(key = "key161") private long field161;
+  @FromProperty(key = "key162") private double field162;
+  @FromProperty(key = "key163") private boolean field163;
+  @FromProperty(key = "key164") private String field164;
+  @FromProperty(key = "key165") private int field165;
+  @FromProperty(key = "key166") private long field166;
+  @FromProperty(key = "key167") private double field167;
+  @FromProperty(key = "key168") private boolean field168;
+  @FromProperty(key = "key169") private String field169;
+  @FromProperty(key = "key170") private int field170;
+  @FromProperty(key = "key171") private long field171;
+  @FromProperty(key = "key172") private double field172;
+  @FromProperty(key = "key173") private boolean field173;
+  @FromProperty(key = "key174") private String field174;
+  @FromProperty(key = "key175") private int field175;
+  @FromProperty(key = "key176") private long field176;
+  @FromProperty(key = "key177") private double field177;
+  @FromProperty(key = "key178") private boolean field178;
+  @FromProperty(key = "key179") private String field179;
+  @FromProperty(key = "key180") private int field180;
+  @FromProperty(key = "key181") private long field181;
+  @FromProperty(key = "key182") private double field182;
+  @FromProperty(key = "key183") private boolean field183;
+  @FromProperty(key = "key184") private String field184;
+  @FromProperty(key = "key185") private int field185;
+  @FromProperty(key = "key186") private long field186;
+  @FromProperty(key = "key187") private double field187;
+  @FromProperty(key = "key188") private boolean field188;
+  @FromProperty(key = "key189") private String field189;
+  @FromProperty(key = "key190") private int field190;
+  @FromProperty(key = "key191") private long field191;
+  @FromProperty(key = "key192") private double field192;
+  @FromProperty(key = "key193") private boolean field193;
+  @FromProperty(key = "key194") private String field194;
+  @FromProperty(key = "key195") private int field195;
+  @FromProperty(key = "key196") private long field196;
+  @FromProperty(key = "key197") private double field197;
+  @FromProperty(key = "key198") private boolean field198;
+  @FromProperty(key = "key199") private String field199;
+  @FromProperty(key = "key200") private int field200;
+  @FromProperty(key = "key201") private long field201;
+  @FromProperty(key = "key202") private double field202;
+  @FromProperty(key = "key203") private boolean field203;
+  @FromProperty(key = "key204") private String field204;
+  @FromProperty(key = "key205") private int field205;
+  @FromProperty(key = "key206") private long field206;
+  @FromProperty(key = "key207") private double field207;
+  @FromProperty(key = "key208") private boolean field208;
+  @FromProperty(key = "key209") private String field209;
+  @FromProperty(key = "key210") private int field210;
+  @FromProperty(key = "key211") private long field211;
+  @FromProperty(key = "key212") private double field212;
+  @FromProperty(key = "key213") private boolean field213;
+  @FromProperty(key = "key214") private String field214;
+  @FromProperty(key = "key215") private int field215;
+  @FromProperty(key = "key216") private long field216;
+  @FromProperty(key = "key217") private double field217;
+  @FromProperty(key = "key218") private boolean field218;
+  @FromProperty(key = "key219") private String field219;
+  @FromProperty(key = "key220") private int field220;
+  @FromProperty(key = "key221") private long field221;
+  @FromProperty(key = "key222") private double field222;
+  @FromProperty(key = "key223") private boolean field223;
+  @FromProperty(key = "key224") private String field224;
+  @FromProperty(key = "key225") private int field225;
+  @FromProperty(key = "key226") private long field226;
+  @FromProperty(key = "key227") private double field227;
+  @FromProperty(key = "key228") private boolean field228;
+  @FromProperty(key = "key229") private String field229;
+  @FromProperty(key = "key230") private int field230;
+  @FromProperty(key = "key231") private long field231;
+  @FromProperty(key = "key232") private double field232;
+  @FromProperty(key = "key233") private boolean field233;
+  @FromProperty(key = "key234") private String field234;
+  @FromProperty(key = "key235") private int field235;
+  @FromProperty(key = "key236") private long field236;
+  @FromProperty(key = "key237") private double field237;
+  @FromProperty(key = "key238") private boolean field238;
+  @FromProperty(key = "key239") private String field239;
+  @FromProperty(key = "key240") private int field240;
+  @FromProperty(key = "key241") private long field241;
+  @FromProperty(key = "key242") private double field242;
+  @FromProperty(key = "key243") private boolean field243;
+  @FromProperty(key = "key244") private String field244;
+  @FromProperty(key = "key245") private int field245;
+  @FromProperty(key = "key246") private long field246;
+  @FromProperty(key = "key247") private double field247;
+  @FromProperty(key = "key248") private boolean field248;
+  @FromProperty(key = "key249") private String field249;
+  @FromProperty(key = "key250") private int field250;
+  @FromProperty(key = "key251") private long field251;
+  @FromProperty(key = "key252") private double field252;
+  @FromProperty(key = "key253") private boolean field253;
+  @FromProperty(key = "key254") private String field254;
+  @FromProperty(key = "key255") private int field255;
+  @FromProperty(key = "key256") private long field256;
+  @FromProperty(key = "key257") private double field257;
+  @FromProperty(key = "key258") private boolean field258;
+  @FromProperty(key = "key259") private String field259;
+  @FromProperty(key = "key260") private int field260;
+  @FromProperty(key = "key261") private long field261;
+  @FromProperty(key = "key262") private double field262;
+  @FromProperty(key = "key263") private boolean field263;
+  @FromProperty(key = "key264") private String field264;
+  @FromProperty(key = "key265") private int field265;
+  @FromProperty(key = "key266") private long field266;
+  @FromProperty(key = "key267") private double field267;
+  @FromProperty(key = "key268") private boolean field268;
+  @FromProperty(key = "key269") private String field269;
+  @FromProperty(key = "key270") private int field270;
+  @FromProperty(key = "key271") private long field271;
+  @FromProperty(key = "key272") private double field272;
+  @FromProperty(key = "key273") private boolean field273;
+  @FromProperty(key = "key274") private String field274;
+  @FromProperty(key = "key275") private int field275;
+  @FromProperty(key = "key276") private long field276;
+  @FromProperty(key = "key277") private double field277;
+  @FromProperty(key = "key278") private boolean field278;
+  @FromProperty(key = "key279") private String field279;
+  @FromProperty(key = "key280") private int field280;
+  @FromProperty(key = "key281") private long field281;
+  @FromProperty(key = "key282") private double field282;
+  @FromProperty(key = "key283") private boolean field283;
+  @FromProperty(key = "key284") private String field284;
+  @FromProperty(key = "key285") private int field285;
+  @FromProperty(key = "key286") private long field286;
+  @FromProperty(key = "key287") private double field287;
+  @FromProperty(key = "key288") private boolean field288;
+  @FromProperty(key = "key289") private String field289;
+  @FromProperty(key = "key290") private int field290;
+  @FromProperty(key = "key291") private long field291;
+  @FromProperty(key = "key292") private double field292;
+  @FromProperty(key = "key293") private boolean field293;
+  @FromProperty(key = "key294") private String field294;
+  @FromProperty(key = "key295") private int field295;
+  @FromProperty(key = "key296") private long field296;
+  @FromProperty(key = "key297") private double field297;
+  @FromProperty(key = "key298") private boolean field298;
+  @FromProperty(key = "key299") private String field299;
+  @FromProperty(key = "key300") private int field300;
+  @FromProperty(key = "key301") private long field301;
+  @FromProperty(key = "key302") private double field302;
+  @FromProperty(key = "key303") private boolean field303;
+  @FromProperty(key = "key304") private String field304;
+  @FromProperty(key = "key305") private int field305;
+  @FromProperty(key = "key306") private long field306;
+  @FromProperty(key = "key307") private double field307;
+  @FromProperty(key = "key308") private boolean field308;
+  @FromProperty(key = "key309") private String field309;
+  @FromProperty(key = "key310") private int field310;
+  @FromProperty(key = "key311") private long field311;
+  @FromProperty(key = "key312") private double field312;
+  @FromProperty(key = "key313") private boolean field313;
+  @FromProperty(key = "key314") private String field314;
+  @FromProperty(key = "key315") private int field315;
+  @FromProperty(key = "key316") private long field316;
+  @FromProperty(key = "key317") private double field317;
+  @FromProperty(key = "key318") private boolean field318;
+  @FromProperty(key = "key319") private String field319;
+  @FromProperty(key = "key320") private int field320;
+  @FromProperty(key = "key321") private long field321;
+  @FromProperty(key = "key322") private double field322;
+  @FromProperty(key = "key323") private boolean field323;
+  @FromProperty(key = "key324") private String field324;
+  @FromProperty(key = "key325") private int field325;
+  @FromProperty(key = "key326") private long field326;
+  @FromProperty(key = "key327") private double field327;
+  @FromProperty(key = "key328") private boolean field328;
+  @FromProperty(key = "key329") private String field329;
+  @FromProperty(key = "key330") private int field330;
+  @FromProperty(key = "key331") private long field331;
+  @FromProperty(key = "key332") private double field332;
+  @FromProperty(key = "key333") private boolean field333;
+  @FromProperty(key = "key334") private String field334;
+  @FromProperty(key = "key335") private int field335;
+  @FromProperty(key = "key336") private long field336;
+  @FromProperty(key = "key337") private double field337;
+  @FromProperty(key = "key338") private boolean field338;
+  @FromProperty(key = "key339") private String field339;
+  @FromProperty(key = "key340") private int field340;
+  @FromProperty(key = "key341") private long field341;
+  @FromProperty(key = "key342") private double field342;
+  @FromProperty(key = "key343") private boolean field343;
+  @FromProperty(key = "key344") private String field344;
+  @FromProperty(key = "key345") private int field345;
+  @FromProperty(key = "key346") private long field346;
+  @FromProperty(key = "key347") private double field347;
+  @FromProperty(key = "key348") private boolean field348;
+  @FromProperty(key = "key349") private String field349;
+  @FromProperty(key = "key350") private int field350;
+  @FromProperty(key = "key351") private long field351;
+  @FromProperty(key = "key352") private double field352;
+  @FromProperty(key = "key353") private boolean field353;
+  @FromProperty(key = "key354") private String field354;
+  @FromProperty(key = "key355") private int field355;
+  @FromProperty(key = "key356") private long field356;
+  @FromProperty(key = "key357") private double field357;
+  @FromProperty(key = "key358") private boolean field358;
+  @FromProperty(key = "key359") private String field359;
+  @FromProperty(key = "key360") private int field360;
+  @FromProperty(key = "key361") private long field361;
+  @FromProperty(key = "key362") private double field362;
+  @FromProperty(key = "key363") private boolean field363;
+  @FromProperty(key = "key364") private String field364;
+  @FromProperty(key = "key365") private int field365;
+  @FromProperty(key = "key366") private long field366;
+  @FromProperty(key = "key367") private double field367;
+  @FromProperty(key = "key368") private boolean field368;
+  @FromProperty(key = "key369") private String field369;
+  @FromProperty(key = "key370") private int field370;
+  @FromProperty(key = "key371") private long field371;
+  @FromProperty(key = "key372") private double field372;
+  @FromProperty(key = "key373") private boolean field373;
+  @FromProperty(key = "key374") private String field374;
+  @FromProperty(key = "key375") private int field375;
+  @FromProperty(key = "key376") private long field376;
+  @FromProperty(key = "key377") private double field377;
+  @FromProperty(key = "key378") private boolean field378;
+  @FromProperty(key = "key379") private String field379;
+  @FromProperty(key = "key380") private int field380;
+  @FromProperty(key = "key381") private long field381;
+  @FromProperty(key = "key382") private double field382;
+  @FromProperty(key = "key383") private boolean field383;
+  @FromProperty(key = "key384") private String field384;
+  @FromProperty(key = "key385") private int field385;
+  @FromProperty(key = "key386") private long field386;
+  @FromProperty(key = "key387") private double field387;
+  @FromProperty(key = "key388") private boolean field388;
+  @FromProperty(key = "key389") private String field389;
+  @FromProperty(key = "key390") private int field390;
+  @FromProperty(key = "key391") private long field391;
+  @FromProperty(key = "key392") private double field392;
+  @FromProperty(key = "key393") private boolean field393;
+  @FromProperty(key = "key394") private String field394;
+  @FromProperty(key = "key395") private int field395;
+  @FromProperty(key = "key396") private long field396;
+  @FromProperty(key = "key397") private double field397;
+  @FromProperty(key = "key398") private boolean field398;
+  @FromProperty(key = "key399") private String field399;
+  @FromProperty(key = "key400") private int field400;
+  @FromProperty(key = "key401") private long field401;
+  @FromProperty(key = "key402") private double field402;
+  @FromProperty(key = "key403") private boolean field403;
+  @FromProperty(key = "key404") private String field404;
+  @FromProperty(key = "key405") private int field405;
+  @FromProperty(key = "key406") private long field406;
+  @FromProperty(key = "key407") private double field407;
+  @FromProperty(key = "key408") private boolean field408;
+  @FromProperty(key = "key409") private String field409;
+  @FromProperty(key = "key410") private int field410;
+  @FromProperty(key = "key411") private long field411;
+  @FromProperty(key = "key412") private double field412;
+  @FromProperty(key = "key413") private boolean field413;
+  @FromProperty(key = "key414") private String field414;
+  @FromProperty(key = "key415") private int field415;
+  @FromProperty(key = "key416") private long field416;
+  @FromProperty(key = "key417") private double field417;
+  @FromProperty(key = "key418") private boolean field418;
+  @FromProperty(key = "key419") private String field419;
+  @FromProperty(key = "key420") private int field420;
+  @FromProperty(key = "key421") private long field421;
+  @FromProperty(key = "key422") private double field422;
+  @FromProperty(key = "key423") private boolean field423;
+  @FromProperty(key = "key424") private String field424;
+  @FromProperty(key = "key425") private int field425;
+  @FromProperty(key = "key426") private long field426;
+  @FromProperty(key = "key427") private double field427;
+  @FromProperty(key = "key428") private boolean field428;
+  @FromProperty(key = "key429") private String field429;
+  @FromProperty(key = "key430") private int field430;
+  @FromProperty(key = "key431") private long field431;
+  @FromProperty(key = "key432") private double field432;
+  @FromProperty(key = "key433") private boolean field433;
+  @FromProperty(key = "key434") private String field434;
+  @FromProperty(key = "key435") private int field435;
+  @FromProperty(key = "key436") private long field436;
+  @FromProperty(key = "key437") private double field437;
+  @FromProperty(key = "key438") private boolean field438;
+  @FromProperty(key = "key439") private String field439;
+  @FromProperty(key = "key440") private int field440;
+  @FromProperty(key = "key441") private long field441;
+  @FromProperty(key = "key442") private double field442;
+  @FromProperty(key = "key443") private boolean field443;
+  @FromProperty(key = "key444") private String field444;
+  @FromProperty(key = "key445") private int field445;
+  @FromProperty(key = "key446") private long field446;
+  @FromProperty(key = "key447") private double field447;
+  @FromProperty(key = "key448") private boolean field448;
+  @FromProperty(key = "key449") private String field449;
+  @FromProperty(key = "key450") private int field450;
+  @FromProperty(key = "key451") private long field451;
+  @FromProperty(key = "key452") private double field452;
+  @FromProperty(key = "key453") private boolean field453;
+  @FromProperty(key = "key454") private String field454;
+  @FromProperty(key = "key455") private int field455;
+  @FromProperty(key = "key456") private long field456;
+  @FromProperty(key = "key457") private double field457;
+  @FromProperty(key = "key458") private boolean field458;
+  @FromProperty(key = "key459") private String field459;
+  @FromProperty(key = "key460") private int field460;
+  @FromProperty(key = "key461") private long field461;
+  @FromProperty(key = "key462") private double field462;
+  @FromProperty(key = "key463") private boolean field463;
+  @FromProperty(key = "key464") private String field464;
+  @FromProperty(key = "key465") private int field465;
+  @FromProperty(key = "key466") private long field466;
+  @FromProperty(key = "key467") private double field467;
+  @FromProperty(key = "key468") private boolean field468;
+  @FromProperty(key = "key469") private String field469;
+  @FromProperty(key = "key470") private int field470;
+  @FromProperty(key = "key471") private long field471;
+  @FromProperty(key = "key472") private double field472;
+  @FromProperty(key = "key473") private boolean field473;
+  @FromProperty(key = "key474") private String field474;
+  @FromProperty(key = "key475") private int field475;
+  @FromProperty(key = "key476") private long field476;
+  @FromProperty(key = "key477") private double field477;
+  @FromProperty(key = "key478") private boolean field478;
+  @FromProperty(key = "key479") private String field479;
+  @FromProperty(key = "key480") private int field480;
+  @FromProperty(key = "key481") private long field481;
+  @FromProperty(key = "key482") private double field482;
+  @FromProperty(key = "key483") private boolean field483;
+  @FromProperty(key = "key484") private String field484;
+  @FromProperty(key = "key485") private int field485;
+  @FromProperty(key = "key486") private long field486;
+  @FromProperty(key = "key487") private double field487;
+  @FromProperty(key = "key488") private boolean field488;
+  @FromProperty(key = "key489") private String field489;
+  @FromProperty(key = "key490") private int field490;
+  @FromProperty(key = "key491") private long field491;
+  @FromProperty(key = "key492") private double field492;
+  @FromProperty(key = "key493") private boolean field493;
+  @FromProperty(key = "key494") private String field494;
+  @FromProperty(key = "key495") private int field495;
+  @FromProperty(key = "key496") private long field496;
+  @FromProperty(key = "key497") private double field497;
+  @FromProperty(key = "key498") private boolean field498;
+  @FromProperty(key = "key499") private String field499;
+  @FromProperty(key = "key500") private int field500;
+  @FromProperty(key = "key501") private long field501;
+  @FromProperty(key = "key502") private double field502;
+  @FromProperty(key = "key503") private boolean field503;
+  @FromProperty(key = "key504") private String field504;
+  @FromProperty(key = "key505") private int field505;
+  @FromProperty(key = "key506") private long field506;
+  @FromProperty(key = "key507") private double field507;
+  @FromProperty(key = "key508") private boolean field508;
+  @FromProperty(key = "key509") private String field509;
+  @FromProperty(key = "key510") private int field510;
+  @FromProperty(key = "key511") private long field511;
+  @FromProperty(key = "key512") private double field512;
+  @FromProperty(key = "key513") private boolean field513;
+  @FromProperty(key = "key514") private String field514;
+  @FromProperty(key = "key515") private int field515;
+  @FromProperty(key = "key516") private long field516;
+  @FromProperty(key = "key517") private double field517;
+  @FromProperty(key = "key518") private boolean field518;
+  @FromProperty(key = "key519") private String field519;
+  @FromProperty(key = "key520") private int field520;
+  @FromProperty(key = "key521") private long field521;
+  @FromProperty(key = "key522") private double field522;
+  @FromProperty(key = "key523") private boolean field523;
+  @FromProperty(key = "key524") private String field524;
+  @FromProperty(key = "key525") private int field525;
+  @FromProperty(key = "key526") private long field526;
+  @FromProperty(key = "key527") private double field527;
+  @FromProperty(key = "key528") private boolean field528;
+  @FromProperty(key = "key529") private String field529;
+  @FromProperty(key = "key530") private int field530;
+  @FromProperty(key = "key531") private long field531;
+  @FromProperty(key = "key532") private double field532;
+  @FromProperty(key = "key533") private boolean field533;
+  @FromProperty(key = "key534") private String field534;
+  @FromProperty(key = "key535") private int field535;
+  @FromProperty(key = "key536") private long field536;
+  @FromProperty(key = "key537") private double field537;
+  @FromProperty(key = "key538") private boolean field538;
+  @FromProperty(key = "key539") private String field539;
+  @FromProperty(key = "key540") private int field540;
+  @FromProperty(key = "key541") private long field541;
+  @FromProperty(key = "key542") private double field542;
+  @FromProperty(key = "key543") private boolean field543;
+  @FromProperty(key = "key544") private String field544;
+  @FromProperty(key = "key545") private int field545;
+  @FromProperty(key = "key546") private long field546;
+  @FromProperty(key = "key547") private double field547;
+  @FromProperty(key = "key548") private boolean field548;
+  @FromProperty(key = "key549") private String field549;
+  @FromProperty(key = "key550") private int field550;
+  @FromProperty(key = "key551") private long field551;
+  @FromProperty(key = "key552") private double field552;
+  @FromProperty(key = "key553") private boolean field553;
+  @FromProperty(key = "key554") private String field554;
+  @FromProperty(key = "key555") private int field555;
+  @FromProperty(key = "key556") private long field556;
+  @FromProperty(key = "key557") private double field557;
+  @FromProperty(key = "key558") private boolean field558;
+  @FromProperty(key = "key559") private String field559;
+  @FromProperty(key = "key560") private int field560;
+  @FromProperty(key = "key561") private long field561;
+  @FromProperty(key = "key562") private double field562;
+  @FromProperty(key = "key563") private boolean field563;
+  @FromProperty(key = "key564") private String field564;
+  @FromProperty(key = "key565") private int field565;
+  @FromProperty(key = "key566") private long field566;
+  @FromProperty(key = "key567") private double field567;
+  @FromProperty(key = "key568") private boolean field568;
+  @FromProperty(key = "key569") private String field569;
+  @FromProperty(key = "key570") private int field570;
+  @FromProperty(key = "key571") private long field571;
+  @FromProperty(key = "key572") private double field572;
+  @FromProperty(key = "key573") private boolean field573;
+  @FromProperty(key = "key574") private String field574;
+  @FromProperty(key = "key575") private int field575;
+  @FromProperty(key = "key576") private long field576;
+  @FromProperty(key = "key577") private double field577;
+  @FromProperty(key = "key578") private boolean field578;
+  @FromProperty(key = "key579") private String field579;
+  @FromProperty(key = "key580") private int field580;
+  @FromProperty(key = "key581") private long field581;
+  @FromProperty(key = "key582") private double field582;
+  @FromProperty(key = "key583") private boolean field583;
+  @FromProperty(key = "key584") private String field584;
+  @FromProperty(key = "key585") private int field585;
+  @FromProperty(key = "key586") private long field586;
+  @FromProperty(key = "key587") private double field587;
+  @FromProperty(key = "key588") private boolean field588;
+  @FromProperty(key = "key589") private String field589;
+  @FromProperty(key = "key590") private int field590;
+  @FromProperty(key = "key591") private long field591;
+  @FromProperty(key = "key592") private double field592;
+  @FromProperty(key = "key593") private boolean field593;
+  @FromProperty(key = "key594") private String field594;
+  @FromProperty(key = "key595") private int field595;
+  @FromProperty(key = "key596") private long field596;
+  @FromProperty(key = "key597") private double field597;
+  @FromProperty(key = "key598") private boolean field598;
+  @FromProperty(key = "key599") private String field599;
+  @FromProperty(key = "key600") private int field600;
+  @FromProperty(key = "key601") private long field601;
+  @FromProperty(key = "key602") private double field602;
+  @FromProperty(key = "key603") private boolean field603;
+  @FromProperty(key = "key604") private String field604;
+  @FromProperty(key = "key605") private int field605;
+  @FromProperty(key = "key606") private long field606;
+  @FromProperty(key = "key607") private double field607;
+  @FromProperty(key = "key608") private boolean field608;
+  @FromProperty(key = "key609") private String field609;
+  @FromProperty(key = "key610") private int field610;
+  @FromProperty(key = "key611") private long field611;
+  @FromProperty(key = "key612") private double field612;
+  @FromProperty(key = "key613") private boolean field613;
+  @FromProperty(key = "key614") private String field614;
+  @FromProperty(key = "key615") private int field615;
+  @FromProperty(key = "key616") private long field616;
+  @FromProperty(key = "key617") private double field617;
+  @FromProperty(key = "key618") private boolean field618;
+  @FromProperty(key = "key619") private String field619;
+  @FromProperty(key = "key620") private int field620;
+  @FromProperty(key = "key621") private long field621;
+  @FromProperty(key = "key622") private double field622;
+  @FromProperty(key = "key623") private boolean field623;
+  @FromProperty(key = "key624") private String field624;
+  @FromProperty(key = "key625") private int field625;
+  @FromProperty(key = "key626") private long field626;
+  @FromProperty(key = "key627") private double field627;
+  @FromProperty(key = "key628") private boolean field628;
+  @FromProperty(key = "key629") private String field629;
+  @FromProperty(key = "key630") private int field630;
+  @FromProperty(key = "key631") private long field631;
+  @FromProperty(key = "key632") private double field632;
+  @FromProperty(key = "key633") private boolean field633;
+  @FromProperty(key = "key634") private String field634;
+  @FromProperty(key = "key635") private int field635;
+  @FromProperty(key = "key636") private long field636;
+  @FromProperty(key = "key637") private double field637;
+  @FromProperty(key = "key638") private boolean field638;
+  @FromProperty(key = "key639") private String field639;
+  @FromProperty(key = "key640") private int field640;
+  @FromProperty(key = "key641") private long field641;
+  @FromProperty(key = "key642") private double field642;
+  @FromProperty(key = "key643") private boolean field643;
+  @FromProperty(key = "key644") private String field644;
+  @FromProperty(key = "key645") private int field645;
+  @FromProperty(key = "key646") private long field646;
+  @FromProperty(key = "key647") private double field647;
+  @FromProperty(key = "key648") private boolean field648;
+  @FromProperty(key = "key649") private String field649;
+  @FromProperty(key = "key650") private int field650;
+  @FromProperty(key = "key651") private long field651;
+  @FromProperty(key = "key652") private double field652;
+  @FromProperty(key = "key653") private boolean field653;
+  @FromProperty(key = "key654") private String field654;
+  @FromProperty(key = "key655") private int field655;
+  @FromProperty(key = "key656") private long field656;
+  @FromProperty(key = "key657") private double field657;
+  @FromProperty(key = "key658") private boolean field658;
+  @FromProperty(key = "key659") private String field659;
+  @FromProperty(key = "key660") private int field660;
+  @FromProperty(key = "key661") private long field661;
+  @FromProperty(key = "key662") private double field662;
+  @FromProperty(key = "key663") private boolean field663;
+  @FromProperty(key = "key664") private String field664;
+  @FromProperty(key = "key665") private int field665;
+  @FromProperty(key = "key666") private long field666;
+  @FromProperty(key = "key667") private double field667;
+  @FromProperty(key = "key668") private boolean field668;
+  @FromProperty(key = "key669") private String field669;
+  @FromProperty(key = "key670") private int field670;
+  @FromProperty(key = "key671") private long field671;
+  @FromProperty(key = "key672") private double field672;
+  @FromProperty(key = "key673") private boolean field673;
+  @FromProperty(key = "key674") private String field674;
+  @FromProperty(key = "key675") private int field675;
+  @FromProperty(key = "key676") private long field676;
+  @FromProperty(key = "key677") private double field677;
+  @FromProperty(key = "key678") private boolean field678;
+  @FromProperty(key = "key679") private String field679;
+  @FromProperty(key = "key680") private int field680;
+  @FromProperty(key = "key681") private long field681;
+  @FromProperty(key = "key682") private double field682;
+  @FromProperty(key = "key683") private boolean field683;
+  @FromProperty(key = "key684") private String field684;
+  @FromProperty(key = "key685") private int field685;
+  @FromProperty(key = "key686") private long field686;
+  @FromProperty(key = "key687") private double field687;
+  @FromProperty(key = "key688") private boolean field688;
+  @FromProperty(key = "key689") private String field689;
+  @FromProperty(key = "key690") private int field690;
+  @FromProperty(key = "key691") private long field691;
+  @FromProperty(key = "key692") private double field692;
+  @FromProperty(key = "key693") private boolean field693;
+  @FromProperty(key = "key694") private String field694;
+  @FromProperty(key = "key695") private int field695;
+  @FromProperty(key = "key696") private long field696;
+  @FromProperty(key = "key697") private double field697;
+  @FromProperty(key = "key698") private boolean field698;
+  @FromProperty(key = "key699") private String field699;
+  @FromProperty(key = "key700") private int field700;
+  @FromProperty(key = "key701") private long field701;
+  @FromProperty(key = "key702") private double field702;
+  @FromProperty(key = "key703") private boolean field703;
+  @FromProperty(key = "key704") private String field704;
+  @FromProperty(key = "key705") private int field705;
+  @FromProperty(key = "key706") private long field706;
+  @FromProperty(key = "key707") private double field707;
+  @FromProperty(key = "key708") private boolean field708;
+  @FromProperty(key = "key709") private String field709;
+  @FromProperty(key = "key710") private int field710;
+  @FromProperty(key = "key711") private long field711;
+  @FromProperty(key = "key712") private double field712;
+  @FromProperty(key = "key713") private boolean field713;
+  @FromProperty(key = "key714") private String field714;
+  @FromProperty(key = "key715") private int field715;
+  @FromProperty(key = "key716") private long field716;
+  @FromProperty(key = "key717") private double field717;
+  @FromProperty(key = "key718") private boolean field718;
+  @FromProperty(key = "key719") private String field719;
+  @FromProperty(key = "key720") private int field720;
+  @FromProperty(key = "key721") private long field721;
+  @FromProperty(key = "key722") private double field722;
+  @FromProperty(key = "key723") private boolean field723;
+  @FromProperty(key = "key724") private String field724;
+  @FromProperty(key = "key725") private int field725;
+  @FromProperty(key = "key726") private long field726;
+  @FromProperty(key = "key727") private double field727;
+  @FromProperty(key = "key728") private boolean field728;
+  @FromProperty(key = "key729") private String field729;
+  @FromProperty(key = "key730") private int field730;
+  @FromProperty(key = "key731") private long field731;
+  @FromProperty(key = "key732") private double field732;
+  @FromProperty(key = "key733") private boolean field733;
+  @FromProperty(key = "key734") private String field734;
+  @FromProperty(key = "key735") private int field735;
+  @FromProperty(key = "key736") private long field736;
+  @FromProperty(key = "key737") private double field737;
+  @FromProperty(key = "key738") private boolean field738;
+  @FromProperty(key = "key739") private String field739;
+  @FromProperty(key = "key740") private int field740;
+  @FromProperty(key = "key741") private long field741;
+  @FromProperty(key = "key742") private double field742;
+  @FromProperty(key = "key743") private boolean field743;
+  @FromProperty(key = "key744") private String field744;
+  @FromProperty(key = "key745") private int field745;
+  @FromProperty(key = "key746") private long field746;
+  @FromProperty(key = "key747") private double field747;
+  @FromProperty(key = "key748") private boolean field748;
+  @FromProperty(key = "key749") private String field749;
+  @FromProperty(key = "key750") private int field750;
+  @FromProperty(key = "key751") private long field751;
+  @FromProperty(key = "key752") private double field752;
+  @FromProperty(key = "key753") private boolean field753;
+  @FromProperty(key = "key754") private String field754;
+  @FromProperty(key = "key755") private int field755;
+  @FromProperty(key = "key756") private long field756;
+  @FromProperty(key = "key757") private double field757;
+  @FromProperty(key = "key758") private boolean field758;
+  @FromProperty(key = "key759") private String field759;
+  @FromProperty(key = "key760") private int field760;
+  @FromProperty(key = "key761") private long field761;
+  @FromProperty(key = "key762") private double field762;
+  @FromProperty(key = "key763") private boolean field763;
+  @FromProperty(key = "key764") private String field764;
+  @FromProperty(key = "key765") private int field765;
+  @FromProperty(key = "key766") private long field766;
+  @FromProperty(key = "key767") private double field767;
+  @FromProperty(key = "key768") private boolean field768;
+  @FromProperty(key = "key769") private String field769;
+  @FromProperty(key = "key770") private int field770;
+  @FromProperty(key = "key771") private long field771;
+  @FromProperty(key = "key772") private double field772;
+  @FromProperty(key = "key773") private boolean field773;
+  @FromProperty(key = "key774") private String field774;
+  @FromProperty(key = "key775") private int field775;
+  @FromProperty(key = "key776") private long field776;
+  @FromProperty(key = "key777") private double field777;
+  @FromProperty(key = "key778") private boolean field778;
+  @FromProperty(key = "key779") private String field779;
+  @FromProperty(key = "key780") private int field780;
+  @FromProperty(key = "key781") private long field781;
+  @FromProperty(key = "key782") private double field782;
+  @FromProperty(key = "key783") private boolean field783;
+  @FromProperty(key = "key784") private String field784;
+  @FromProperty(key = "key785") private int field785;
+  @FromProperty(key = "key786") private long field786;
+  @FromProperty(key = "key787") private double field787;
+  @FromProperty(key = "key788") private boolean field788;
+  @FromProperty(key = "key789") private String field789;
+  @FromProperty(key = "key790") private int field790;
+  @FromProperty(key = "key791") private long field791;
+  @FromProperty(key = "key792") private double field792;
+  @FromProperty(key = "key793") private boolean field793;
+  @FromProperty(key = "key794") private String field794;
+  @FromProperty(key = "key795") private int field795;
+  @FromProperty(key = "key796") private long field796;
+  @FromProperty(key = "key797") private double field797;
+  @FromProperty(key = "key798") private boolean field798;
+  @FromProperty(key = "key799") private String field799;
+  @FromProperty(key = "key800") private int field800;
+  @FromProperty(key = "key801") private long field801;
+  @FromProperty(key = "key802") private double field802;
+  @FromProperty(key = "key803") private boolean field803;
+  @FromProperty(key = "key804") private String field804;
+  @FromProperty(key = "key805") private int field805;
+  @FromProperty(key = "key806") private long field806;
+  @FromProperty(key = "key807") private double field807;
+  @FromProperty(key = "key808") private boolean field808;
+  @FromProperty(key = "key809") private String field809;
+  @FromProperty(key = "key810") private int field810;
+  @FromProperty(key = "key811") private long field811;
+  @FromProperty(key = "key812") private double field812;
+  @FromProperty(key = "key813") private boolean field813;
+  @FromProperty(key = "key814") private String field814;
+  @FromProperty(key = "key815") private int field815;
+  @FromProperty(key = "key816") private long field816;
+  @FromProperty(key = "key817") private double field817;
+  @FromProperty(key = "key818") private boolean field818;
+  @FromProperty(key = "key819") private String field819;
+  @FromProperty(key = "key820") private int field820;
+  @FromProperty(key = "key821") private long field821;
+  @FromProperty(key = "key822") private double field822;
+  @FromProperty(key = "key823") private boolean field823;
+  @FromProperty(key = "key824") private String field824;
+  @FromProperty(key = "key825") private int field825;
+  @FromProperty(key = "key826") private long field826;
+  @FromProperty(key = "key827") private double field827;
+  @FromProperty(key = "key828") private boolean field828;
+  @FromProperty(key = "key829") private String field829;
+  @FromProperty(key = "key830") private int field830;
+  @FromProperty(key = "key831") private long field831;
+  @FromProperty(key = "key832") private double field832;
+  @FromProperty(key = "key833") private boolean field833;
+  @FromProperty(key = "key834") private String field834;
+  @FromProperty(key = "key835") private int field835;
+  @FromProperty(key = "key836") private long field836;
+  @FromProperty(key = "key837") private double field837;
+  @FromProperty(key = "key838") private boolean field838;
+  @FromProperty(key = "key839") private String field839;
+  @FromProperty(key = "key840") private int field840;
+  @FromProperty(key = "key841") private long field841;
+  @FromProperty(key = "key842") private double field842;
+  @FromProperty(key = "key843") private boolean field843;
+  @FromProperty(key = "key844") private String field844;
+  @FromProperty(key = "key845") private int field845;
+  @FromProperty(key = "key846") private long field846;
+  @FromProperty(key = "key847") private double field847;
+  @FromProperty(key = "key848") private boolean field848;
+  @FromProperty(key = "key849") private String field849;
+  @FromProperty(key = "key850") private int field850;
+  @FromProperty(key = "key851") private long field851;
+  @FromProperty(key = "key852") private double field852;
+  @FromProperty(key = "key853") private boolean field853;
+  @FromProperty(key = "key854") private String field854;
+  @FromProperty(key = "key855") private int field855;
+  @FromProperty(key = "key856") private long field856;
+  @FromProperty(key = "key857") private double field857;
+  @FromProperty(key = "key858") private boolean field858;
+  @FromProperty(key = "key859") private String field859;
+  @FromProperty(key = "key860") private int field860;
+  @FromProperty(key = "key861") private long field861;
+  @FromProperty(key = "key862") private double field862;
+  @FromProperty(key = "key863") private boolean field863;
+  @FromProperty(key = "key864") private String field864;
+  @FromProperty(key = "key865") private int field865;
+  @FromProperty(key = "key866") private long field866;
+  @FromProperty(key = "key867") private double field867;
+  @FromProperty(key = "key868") private boolean field868;
+  @FromProperty(key = "key869") private String field869;
+  @FromProperty(key = "key870") private int field870;
+  @FromProperty(key = "key871") private long field871;
+  @FromProperty(key = "key872") private double field872;
+  @FromProperty(key = "key873") private boolean field873;
+  @FromProperty(key = "key874") private String field874;
+  @FromProperty(key = "key875") private int field875;
+  @FromProperty(key = "key876") private long field876;
+  @FromProperty(key = "key877") private double field877;
+  @FromProperty(key = "key878") private boolean field878;
+  @FromProperty(key = "key879") private String field879;
+  @FromProperty(key = "key880") private int field880;
+  @FromProperty(key = "key881") private long field881;
+  @FromProperty(key = "key882") private double field882;
+  @FromProperty(key = "key883") private boolean field883;
+  @FromProperty(key = "key884") private String field884;
+  @FromProperty(key = "key885") private int field885;
+  @FromProperty(key = "key886") private long field886;
+  @FromProperty(key = "key887") private double field887;
+  @FromProperty(key = "key888") private boolean field888;
+  @FromProperty(key = "key889") private String field889;
+  @FromProperty(key = "key890") private int field890;
+  @FromProperty(key = "key891") private long field891;
+  @FromProperty(key = "key892") private double field892;
+  @FromProperty(key = "key893") private boolean field893;
+  @FromProperty(key = "key894") private String field894;
+  @FromProperty(key = "key895") private int field895;
+  @FromProperty(key = "key896") private long field896;
+  @FromProperty(key = "key897") private double field897;
+  @FromProperty(key = "key898") private boolean field898;
+  @FromProperty(key = "key899") private String field899;
+  @FromProperty(key = "key900") private int field900;
+  @FromProperty(key = "key901") private long field901;
+  @FromProperty(key = "key902") private double field902;
+  @FromProperty(key = "key903") private boolean field903;
+  @FromProperty(key = "key904") private String field904;
+  @FromProperty(key = "key905") private int field905;
+  @FromProperty(key = "key906") private long field906;
+  @FromProperty(key = "key907") private double field907;
+  @FromProperty(key = "key908") private boolean field908;
+  @FromProperty(key = "key909") private String field909;
+  @FromProperty(key = "key910") private int field910;
+  @FromProperty(key = "key911") private long field911;
+  @FromProperty(key = "key912") private double field912;
+  @FromProperty(key = "key913") private boolean field913;
+  @FromProperty(key = "key914") private String field914;
+  @FromProperty(key = "key915") private int field915;
+  @FromProperty(key = "key916") private long field916;
+  @FromProperty(key = "key917") private double field917;
+  @FromProperty(key = "key918") private boolean field918;
+  @FromProperty(key = "key919") private String field919;
+  @FromProperty(key = "key920") private int field920;
+  @FromProperty(key = "key921") private long field921;
+  @FromProperty(key = "key922") private double field922;
+  @FromProperty(key = "key923") private boolean field923;
+  @FromProperty(key = "key924") private String field924;
+  @FromProperty(key = "key925") private int field925;
+  @FromProperty(key = "key926") private long field926;
+  @FromProperty(key = "key927") private double field927;
+  @FromProperty(key = "key928") private boolean field928;
+  @FromProperty(key = "key929") private String field929;
+  @FromProperty(key = "key930") private int field930;
+  @FromProperty(key = "key931") private long field931;
+  @FromProperty(key = "key932") private double field932;
+  @FromProperty(key = "key933") private boolean field933;
+  @FromProperty(key = "key934") private String field934;
+  @FromProperty(key = "key935") private int field935;
+  @FromProperty(key = "key936") private long field936;
+  @FromProperty(key = "key937") private double field937;
+  @FromProperty(key = "key938") private boolean field938;
+  @FromProperty(key = "key939") private String field939;
+  @FromProperty(key = "key940") private int field940;
+  @FromProperty(key = "key941") private long field941;
+  @FromProperty(key = "key942") private double field942;
+  @FromProperty(key = "key943") private boolean field943;
+  @FromProperty(key = "key944") private String field944;
+  @FromProperty(key = "key945") private int field945;
+  @FromProperty(key = "key946") private long field946;
+  @FromProperty(key = "key947") private double field947;
+  @FromProperty(key = "key948") private boolean field948;
+  @FromProperty(key = "key949") private String field949;
+  @FromProperty(key = "key950") private int field950;
+  @FromProperty(key = "key951") private long field951;
+  @FromProperty(key = "key952") private double field952;
+  @FromProperty(key = "key953") private boolean field953;
+  @FromProperty(key = "key954") private String field954;
+  @FromProperty(key = "key955") private int field955;
+  @FromProperty(key = "key956") private long field956;
+  @FromProperty(key = "key957") private double field957;
+  @FromProperty(key = "key958") private boolean field958;
+  @FromProperty(key = "key959") private String field959;
+  @FromProperty(key = "key960") private int field960;
+  @FromProperty(key = "key961") private long field961;
+  @FromProperty(key = "key962") private double field962;
+  @FromProperty(key = "key963") private boolean field963;
+  @FromProperty(key = "key964") private String field964;
+  @FromProperty(key = "key965") private int field965;
+  @FromProperty(key = "key966") private long field966;
+  @FromProperty(key = "key967") private double field967;
+  @FromProperty(key = "key968") private boolean field968;
+  @FromProperty(key = "key969") private String field969;
+  @FromProperty(key = "key970") private int field970;
+  @FromProperty(key = "key971") private long field971;
+  @FromProperty(key = "key972") private double field972;
+  @FromProperty(key = "key973") private boolean field973;
+  @FromProperty(key = "key974") private String field974;
+  @FromProperty(key = "key975") private int field975;
+  @FromProperty(key = "key976") private long field976;
+  @FromProperty(key = "key977") private double field977;
+  @FromProperty(key = "key978") private boolean field978;
+  @FromProperty(key = "key979") private String field979;
+  @FromProperty(key = "key980") private int field980;
+  @FromProperty(key = "key981") private long field981;
+  @FromProperty(key = "key982") private double field982;
+  @FromProperty(key = "key983") private boolean field983;
+  @FromProperty(key = "key984") private String field984;
+  @FromProperty(key = "key985") private int field985;
+  @FromProperty(key = "key986") private long field986;
+  @FromProperty(key = "key987") private double field987;
+  @FromProperty(key = "key988") private boolean field988;
+  @FromProperty(key = "key989") private String field989;
+  @FromProperty(key = "key990") private int field990;
+  @FromProperty(key = "key991") private long field991;
+  @FromProperty(key = "key992") private double field992;
+  @FromProperty(key = "key993") private boolean field993;
+  @FromProperty(key = "key994") private String field994;
+  @FromProperty(key = "key995") private int field995;
+  @FromProperty(key = "key996") private long field996;
+  @FromProperty(key = "key997") private double field997;
+  @FromProperty(key = "key998") private boolean field998;
+  @FromProperty(key = "key999") private String field999;
+
+  public Bean1000(Properties properties) {
+    super(properties);
+  }
+
+  public Bean1000(PropertyReader reader) {
+    super(reader);
+  }
+
+}
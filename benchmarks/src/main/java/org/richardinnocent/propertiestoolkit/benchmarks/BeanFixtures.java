@@ -0,0 +1,29 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+/**
+ * Builds the {@code Properties} instances that the generated beans ({@link Bean10}, {@link
+ * Bean100} and {@link Bean1000}) are bound from.
+ */
+final class BeanFixtures {
+
+  private static final String[] VALUES = {"42", "4200000000", "3.14159", "true", "text"};
+
+  private BeanFixtures() {}
+
+  /**
+   * Creates a {@code Properties} instance containing a valid value for each of the first {@code
+   * fieldCount} keys.
+   * @param fieldCount The number of fields on the bean.
+   * @return The populated properties.
+   */
+  static Properties properties(int fieldCount) {
+    Properties properties = new Properties();
+    for (int i = 0; i < fieldCount; i++) {
+      properties.setProperty("key" + i, VALUES[i % VALUES.length]);
+    }
+    return properties;
+  }
+
+}
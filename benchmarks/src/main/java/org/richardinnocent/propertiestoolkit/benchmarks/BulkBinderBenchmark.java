@@ -0,0 +1,62 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.BulkBinder;
+
+/**
+ * Measures the cost of creating one {@link Bean100} per tenant, either one after another or with a
+ * {@code BulkBinder} on the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkBinderBenchmark {
+
+  @Param({"1000", "10000"})
+  private int tenantCount;
+
+  private List<PropertyReader> readers;
+  private BulkBinder<Bean100> binder;
+
+  @Setup
+  public void setUp() {
+    readers = new ArrayList<>(tenantCount);
+    for (int i = 0; i < tenantCount; i++) {
+      readers.add(new PropertyReader(BeanFixtures.properties(100)));
+    }
+    binder = BulkBinder.forClass(Bean100.class);
+  }
+
+  @Benchmark
+  public List<Bean100> serial() {
+    List<Bean100> beans = new ArrayList<>(readers.size());
+    for (PropertyReader reader : readers) {
+      beans.add(new Bean100(reader));
+    }
+    return beans;
+  }
+
+  @Benchmark
+  public List<Bean100> bulk() {
+    return binder.bindAll(readers).getBeans();
+  }
+
+}
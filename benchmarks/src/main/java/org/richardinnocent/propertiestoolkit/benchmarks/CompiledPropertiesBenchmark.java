@@ -0,0 +1,90 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.CompiledProperties;
+import org.richardinnocent.propertiestoolkit.NumberParsers;
+import org.richardinnocent.propertiestoolkit.PropertyKey;
+import org.richardinnocent.propertiestoolkit.PropertyKeyRegistry;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+
+/**
+ * Measures reading a feature flag and a constrained {@code int} from {@code CompiledProperties},
+ * against reading them from a snapshot reader, with and without {@code PropertySpec}s. The
+ * snapshot holds 200 keys, so that the lookups are not into a trivially small table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompiledPropertiesBenchmark {
+
+  private static final PropertySpec<Boolean> FLAG_SPEC =
+      PropertySpec.of("feature.newCheckout", Boolean::valueOf);
+  private static final PropertySpec<Integer> MAX_USERS_SPEC =
+      PropertySpec.of("maxUsers", NumberParsers.INTEGER)
+                  .withConstraint(i -> i > 0);
+
+  private static final PropertyKeyRegistry KEYS = new PropertyKeyRegistry();
+  private static final PropertyKey<Boolean> FLAG = KEYS.register(FLAG_SPEC);
+  private static final PropertyKey<Integer> MAX_USERS = KEYS.register(MAX_USERS_SPEC);
+
+  private PropertyReader reader;
+  private CompiledProperties compiled;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    for (int i = 0; i < 198; i++)
+      properties.setProperty("feature.other" + i, "false");
+    properties.setProperty("feature.newCheckout", "true");
+    properties.setProperty("maxUsers", "12352");
+    reader = PropertyReader.snapshot(properties);
+    compiled = KEYS.compile(reader);
+  }
+
+  @Benchmark
+  public boolean flagFromReader() {
+    return reader.getBooleanValue("feature.newCheckout").get();
+  }
+
+  @Benchmark
+  public boolean flagFromSpec() {
+    return FLAG_SPEC.get(reader);
+  }
+
+  @Benchmark
+  public boolean flagCompiled() {
+    return compiled.getBoolean(FLAG);
+  }
+
+  @Benchmark
+  public int intFromReader() {
+    return reader.getIntValue("maxUsers").addConstraint(i -> i > 0).get();
+  }
+
+  @Benchmark
+  public int intFromSpec() {
+    return MAX_USERS_SPEC.get(reader);
+  }
+
+  @Benchmark
+  public int intCompiled() {
+    return compiled.getInt(MAX_USERS);
+  }
+
+}
@@ -0,0 +1,76 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.reload.ConfigHandle;
+import org.richardinnocent.propertiestoolkit.reload.IntHandle;
+import org.richardinnocent.propertiestoolkit.reload.ReloadingProperties;
+
+/**
+ * Measures reading a live-tunable limit and timeout from a {@code ReloadingProperties}, through
+ * handles and by reading the current reader each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigHandleBenchmark {
+
+  private Path file;
+  private ReloadingProperties config;
+  private IntHandle limitHandle;
+  private ConfigHandle<String> hostHandle;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("config-handle", ".properties");
+    Files.write(file, "limit=12352\nhost=example.com".getBytes(StandardCharsets.ISO_8859_1));
+    config = ReloadingProperties.watching(file).start();
+    limitHandle = config.intHandle(reader -> reader.getIntValue("limit").get());
+    hostHandle = config.handle(reader -> reader.getString("host").get());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    config.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public int limitFromReader() {
+    return config.getReader().getIntValue("limit").get();
+  }
+
+  @Benchmark
+  public int limitFromHandle() {
+    return limitHandle.get();
+  }
+
+  @Benchmark
+  public String hostFromReader() {
+    return config.getReader().getString("host").get();
+  }
+
+  @Benchmark
+  public String hostFromHandle() {
+    return hostHandle.get();
+  }
+
+}
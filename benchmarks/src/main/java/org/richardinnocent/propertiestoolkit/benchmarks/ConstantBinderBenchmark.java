@@ -0,0 +1,81 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.ConstantBinder;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+
+/**
+ * Measures a disabled debug flag guarding a loop, read as a constant, and read from the field of
+ * a bound object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstantBinderBenchmark {
+
+  private static final ConstantBinder<DebugConfig> CONFIG =
+      ConstantBinder.link(DebugConfig.class, new PropertyReader(properties()));
+  private static final MethodHandle DEBUG_ENABLED = CONFIG.constant("debugEnabled");
+
+  private final DebugConfig config = CONFIG.getBean();
+  private final int[] values = new int[64];
+
+  @Benchmark
+  public int flagFromConstant() throws Throwable {
+    int sum = 0;
+    for (int value : values) {
+      sum += value;
+      if ((boolean) DEBUG_ENABLED.invokeExact())
+        sum += describe(value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int flagFromField() {
+    int sum = 0;
+    for (int value : values) {
+      sum += value;
+      if (config.debugEnabled)
+        sum += describe(value);
+    }
+    return sum;
+  }
+
+  private static int describe(int value) {
+    return ("value=" + value).length();
+  }
+
+  private static Properties properties() {
+    Properties properties = new Properties();
+    properties.setProperty("debug.enabled", "false");
+    return properties;
+  }
+
+  public static final class DebugConfig {
+
+    private final boolean debugEnabled;
+
+    public DebugConfig(@FromProperty(key = "debug.enabled") boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+    }
+
+  }
+
+}
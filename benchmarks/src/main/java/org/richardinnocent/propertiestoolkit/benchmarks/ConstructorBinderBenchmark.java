@@ -0,0 +1,50 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.ConstructorBinder;
+
+/**
+ * Measures binding 10 values into an immutable object through its constructor, against binding
+ * the same values into the fields of a {@code PropertiesBean}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructorBinderBenchmark {
+
+  private static final ConstructorBinder<ImmutableBean10> BINDER =
+      ConstructorBinder.forClass(ImmutableBean10.class);
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    reader = new PropertyReader(BeanFixtures.properties(10));
+  }
+
+  @Benchmark
+  public ImmutableBean10 constructor() {
+    return BINDER.bind(reader);
+  }
+
+  @Benchmark
+  public Bean10 fields() {
+    return new Bean10(reader);
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.annotations.propertyHelpers.GenericExtractor;
+
+/**
+ * Measures the cost of resolving an extraction method from {@link
+ * GenericExtractor#getExtractionMethod(Class)} for each supported type, including the
+ * constructor-lookup fallback used for other types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GenericExtractorBenchmark {
+
+  @Param({"byte", "short", "int", "long", "float", "double", "boolean", "char", "String",
+          "BigDecimal"})
+  private String typeName;
+
+  private final GenericExtractor extractor = new GenericExtractor();
+  private Class<?> type;
+
+  @Setup
+  public void setUp() {
+    switch (typeName) {
+      case "byte":
+        type = Byte.TYPE;
+        break;
+      case "short":
+        type = Short.TYPE;
+        break;
+      case "int":
+        type = Integer.TYPE;
+        break;
+      case "long":
+        type = Long.TYPE;
+        break;
+      case "float":
+        type = Float.TYPE;
+        break;
+      case "double":
+        type = Double.TYPE;
+        break;
+      case "boolean":
+        type = Boolean.TYPE;
+        break;
+      case "char":
+        type = Character.TYPE;
+        break;
+      case "String":
+        type = String.class;
+        break;
+      default:
+        type = BigDecimal.class;
+    }
+  }
+
+  @Benchmark
+  public Function<String, ?> getExtractionMethod() {
+    return extractor.getExtractionMethod(type);
+  }
+
+}
@@ -0,0 +1,46 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import org.richardinnocent.propertiestoolkit.annotations.ConstructorBinder;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+
+/**
+ * The immutable equivalent of {@link Bean10}, whose {@code final} fields are set through its
+ * constructor by a {@link ConstructorBinder}.
+ */
+@SuppressWarnings("unused")
+public final class ImmutableBean10 {
+
+  private final int field0;
+  private final long field1;
+  private final double field2;
+  private final boolean field3;
+  private final String field4;
+  private final int field5;
+  private final long field6;
+  private final double field7;
+  private final boolean field8;
+  private final String field9;
+
+  public ImmutableBean10(@FromProperty(key = "key0") int field0,
+                         @FromProperty(key = "key1") long field1,
+                         @FromProperty(key = "key2") double field2,
+                         @FromProperty(key = "key3") boolean field3,
+                         @FromProperty(key = "key4") String field4,
+                         @FromProperty(key = "key5") int field5,
+                         @FromProperty(key = "key6") long field6,
+                         @FromProperty(key = "key7") double field7,
+                         @FromProperty(key = "key8") boolean field8,
+                         @FromProperty(key = "key9") String field9) {
+    this.field0 = field0;
+    this.field1 = field1;
+    this.field2 = field2;
+    this.field3 = field3;
+    this.field4 = field4;
+    this.field5 = field5;
+    this.field6 = field6;
+    this.field7 = field7;
+    this.field8 = field8;
+    this.field9 = field9;
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Measures enumerating the keys under one shard's prefix, in a configuration of 100,000 keys split
+ * across 1,000 shards, from a live {@code Properties} object (which checks every key) and from a
+ * snapshot (which uses a sorted index).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class KeyPrefixBenchmark {
+
+  private static final int SHARDS = 1000;
+  private static final int KEYS_PER_SHARD = 100;
+
+  private PropertyReader liveReader;
+  private PropertyReader snapshotReader;
+  private int shard;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    for (int shard = 0; shard < SHARDS; shard++) {
+      for (int key = 0; key < KEYS_PER_SHARD; key++) {
+        properties.setProperty("shard" + shard + ".setting" + key, Integer.toString(key));
+      }
+    }
+    liveReader = new PropertyReader(properties);
+    snapshotReader = PropertyReader.snapshot(properties);
+    snapshotReader.keysWithPrefix("");
+  }
+
+  @Benchmark
+  public List<String> live() {
+    return liveReader.withPrefix(nextShard()).keysWithPrefix("");
+  }
+
+  @Benchmark
+  public List<String> snapshot() {
+    return snapshotReader.withPrefix(nextShard()).keysWithPrefix("");
+  }
+
+  private String nextShard() {
+    shard = (shard + 1) % SHARDS;
+    return "shard" + shard + ".";
+  }
+
+}
@@ -0,0 +1,77 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.LayeredPropertySource;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Measures reading a value that is only defined in the lowest of four layers, and a key that is
+ * not defined at all, from a chain of {@code Properties} defaults and from a {@code
+ * LayeredPropertySource}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LayeredSourceBenchmark {
+
+  private static final String[] LAYERS = {"base", "override", "environment", "system"};
+
+  private Properties chained;
+  private LayeredPropertySource layered;
+  private PropertyReader chainedReader;
+  private PropertyReader layeredReader;
+
+  @Setup
+  public void setUp() {
+    layered = new LayeredPropertySource();
+    chained = null;
+    for (String name : LAYERS) {
+      Properties layer = chained == null ? new Properties() : new Properties(chained);
+      Properties values = new Properties();
+      for (int i = 0; i < 100; i++) {
+        values.setProperty(name + ".key" + i, Integer.toString(i));
+      }
+      layer.putAll(values);
+      layered.withLayer(name, values);
+      chained = layer;
+    }
+    chainedReader = new PropertyReader(chained);
+    layeredReader = new PropertyReader(layered);
+  }
+
+  @Benchmark
+  public int chainedLowestLayer() {
+    return chainedReader.getIntValue("base.key42").get();
+  }
+
+  @Benchmark
+  public int layeredLowestLayer() {
+    return layeredReader.getIntValue("base.key42").get();
+  }
+
+  @Benchmark
+  public String chainedMissing() {
+    return chained.getProperty("missing");
+  }
+
+  @Benchmark
+  public String layeredMissing() {
+    return layered.getProperty("missing");
+  }
+
+}
@@ -0,0 +1,36 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.LazyValue;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * The lazy equivalent of {@link Bean10}: a bean with 10 {@link FromProperty} fields, each of
+ * which is a {@link LazyValue}, so none of them are parsed when the bean is created.
+ */
+@SuppressWarnings("unused")
+public class LazyBean10 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private LazyValue<Integer> field0;
+  @FromProperty(key = "key1") private LazyValue<Long> field1;
+  @FromProperty(key = "key2") private LazyValue<Double> field2;
+  @FromProperty(key = "key3") private LazyValue<Boolean> field3;
+  @FromProperty(key = "key4") private LazyValue<String> field4;
+  @FromProperty(key = "key5") private LazyValue<Integer> field5;
+  @FromProperty(key = "key6") private LazyValue<Long> field6;
+  @FromProperty(key = "key7") private LazyValue<Double> field7;
+  @FromProperty(key = "key8") private LazyValue<Boolean> field8;
+  @FromProperty(key = "key9") private LazyValue<String> field9;
+
+  public LazyBean10(Properties properties) {
+    super(properties);
+  }
+
+  public LazyBean10(PropertyReader reader) {
+    super(reader);
+  }
+
+}
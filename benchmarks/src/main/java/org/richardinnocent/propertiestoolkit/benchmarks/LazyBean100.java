@@ -0,0 +1,126 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.LazyValue;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * The lazy equivalent of {@link Bean100}: a bean with 100 {@link FromProperty} fields, each of
+ * which is a {@link LazyValue}, so none of them are parsed when the bean is created.
+ */
+@SuppressWarnings("unused")
+public class LazyBean100 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private LazyValue<Integer> field0;
+  @FromProperty(key = "key1") private LazyValue<Long> field1;
+  @FromProperty(key = "key2") private LazyValue<Double> field2;
+  @FromProperty(key = "key3") private LazyValue<Boolean> field3;
+  @FromProperty(key = "key4") private LazyValue<String> field4;
+  @FromProperty(key = "key5") private LazyValue<Integer> field5;
+  @FromProperty(key = "key6") private LazyValue<Long> field6;
+  @FromProperty(key = "key7") private LazyValue<Double> field7;
+  @FromProperty(key = "key8") private LazyValue<Boolean> field8;
+  @FromProperty(key = "key9") private LazyValue<String> field9;
+  @FromProperty(key = "key10") private LazyValue<Integer> field10;
+  @FromProperty(key = "key11") private LazyValue<Long> field11;
+  @FromProperty(key = "key12") private LazyValue<Double> field12;
+  @FromProperty(key = "key13") private LazyValue<Boolean> field13;
+  @FromProperty(key = "key14") private LazyValue<String> field14;
+  @FromProperty(key = "key15") private LazyValue<Integer> field15;
+  @FromProperty(key = "key16") private LazyValue<Long> field16;
+  @FromProperty(key = "key17") private LazyValue<Double> field17;
+  @FromProperty(key = "key18") private LazyValue<Boolean> field18;
+  @FromProperty(key = "key19") private LazyValue<String> field19;
+  @FromProperty(key = "key20") private LazyValue<Integer> field20;
+  @FromProperty(key = "key21") private LazyValue<Long> field21;
+  @FromProperty(key = "key22") private LazyValue<Double> field22;
+  @FromProperty(key = "key23") private LazyValue<Boolean> field23;
+  @FromProperty(key = "key24") private LazyValue<String> field24;
+  @FromProperty(key = "key25") private LazyValue<Integer> field25;
+  @FromProperty(key = "key26") private LazyValue<Long> field26;
+  @FromProperty(key = "key27") private LazyValue<Double> field27;
+  @FromProperty(key = "key28") private LazyValue<Boolean> field28;
+  @FromProperty(key = "key29") private LazyValue<String> field29;
+  @FromProperty(key = "key30") private LazyValue<Integer> field30;
+  @FromProperty(key = "key31") private LazyValue<Long> field31;
+  @FromProperty(key = "key32") private LazyValue<Double> field32;
+  @FromProperty(key = "key33") private LazyValue<Boolean> field33;
+  @FromProperty(key = "key34") private LazyValue<String> field34;
+  @FromProperty(key = "key35") private LazyValue<Integer> field35;
+  @FromProperty(key = "key36") private LazyValue<Long> field36;
+  @FromProperty(key = "key37") private LazyValue<Double> field37;
+  @FromProperty(key = "key38") private LazyValue<Boolean> field38;
+  @FromProperty(key = "key39") private LazyValue<String> field39;
+  @FromProperty(key = "key40") private LazyValue<Integer> field40;
+  @FromProperty(key = "key41") private LazyValue<Long> field41;
+  @FromProperty(key = "key42") private LazyValue<Double> field42;
+  @FromProperty(key = "key43") private LazyValue<Boolean> field43;
+  @FromProperty(key = "key44") private LazyValue<String> field44;
+  @FromProperty(key = "key45") private LazyValue<Integer> field45;
+  @FromProperty(key = "key46") private LazyValue<Long> field46;
+  @FromProperty(key = "key47") private LazyValue<Double> field47;
+  @FromProperty(key = "key48") private LazyValue<Boolean> field48;
+  @FromProperty(key = "key49") private LazyValue<String> field49;
+  @FromProperty(key = "key50") private LazyValue<Integer> field50;
+  @FromProperty(key = "key51") private LazyValue<Long> field51;
+  @FromProperty(key = "key52") private LazyValue<Double> field52;
+  @FromProperty(key = "key53") private LazyValue<Boolean> field53;
+  @FromProperty(key = "key54") private LazyValue<String> field54;
+  @FromProperty(key = "key55") private LazyValue<Integer> field55;
+  @FromProperty(key = "key56") private LazyValue<Long> field56;
+  @FromProperty(key = "key57") private LazyValue<Double> field57;
+  @FromProperty(key = "key58") private LazyValue<Boolean> field58;
+  @FromProperty(key = "key59") private LazyValue<String> field59;
+  @FromProperty(key = "key60") private LazyValue<Integer> field60;
+  @FromProperty(key = "key61") private LazyValue<Long> field61;
+  @FromProperty(key = "key62") private LazyValue<Double> field62;
+  @FromProperty(key = "key63") private LazyValue<Boolean> field63;
+  @FromProperty(key = "key64") private LazyValue<String> field64;
+  @FromProperty(key = "key65") private LazyValue<Integer> field65;
+  @FromProperty(key = "key66") private LazyValue<Long> field66;
+  @FromProperty(key = "key67") private LazyValue<Double> field67;
+  @FromProperty(key = "key68") private LazyValue<Boolean> field68;
+  @FromProperty(key = "key69") private LazyValue<String> field69;
+  @FromProperty(key = "key70") private LazyValue<Integer> field70;
+  @FromProperty(key = "key71") private LazyValue<Long> field71;
+  @FromProperty(key = "key72") private LazyValue<Double> field72;
+  @FromProperty(key = "key73") private LazyValue<Boolean> field73;
+  @FromProperty(key = "key74") private LazyValue<String> field74;
+  @FromProperty(key = "key75") private LazyValue<Integer> field75;
+  @FromProperty(key = "key76") private LazyValue<Long> field76;
+  @FromProperty(key = "key77") private LazyValue<Double> field77;
+  @FromProperty(key = "key78") private LazyValue<Boolean> field78;
+  @FromProperty(key = "key79") private LazyValue<String> field79;
+  @FromProperty(key = "key80") private LazyValue<Integer> field80;
+  @FromProperty(key = "key81") private LazyValue<Long> field81;
+  @FromProperty(key = "key82") private LazyValue<Double> field82;
+  @FromProperty(key = "key83") private LazyValue<Boolean> field83;
+  @FromProperty(key = "key84") private LazyValue<String> field84;
+  @FromProperty(key = "key85") private LazyValue<Integer> field85;
+  @FromProperty(key = "key86") private LazyValue<Long> field86;
+  @FromProperty(key = "key87") private LazyValue<Double> field87;
+  @FromProperty(key = "key88") private LazyValue<Boolean> field88;
+  @FromProperty(key = "key89") private LazyValue<String> field89;
+  @FromProperty(key = "key90") private LazyValue<Integer> field90;
+  @FromProperty(key = "key91") private LazyValue<Long> field91;
+  @FromProperty(key = "key92") private LazyValue<Double> field92;
+  @FromProperty(key = "key93") private LazyValue<Boolean> field93;
+  @FromProperty(key = "key94") private LazyValue<String> field94;
+  @FromProperty(key = "key95") private LazyValue<Integer> field95;
+  @FromProperty(key = "key96") private LazyValue<Long> field96;
+  @FromProperty(key = "key97") private LazyValue<Double> field97;
+  @FromProperty(key = "key98") private LazyValue<Boolean> field98;
+  @FromProperty(key = "key99") private LazyValue<String> field99;
+
+  public LazyBean100(Properties properties) {
+    super(properties);
+  }
+
+  public LazyBean100(PropertyReader reader) {
+    super(reader);
+  }
+
+}
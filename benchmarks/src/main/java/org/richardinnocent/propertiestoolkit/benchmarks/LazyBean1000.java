@@ -0,0 +1,1026 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.LazyValue;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * The lazy equivalent of {@link Bean1000}: a bean with 1000 {@link FromProperty} fields, each of
+ * which is a {@link LazyValue}, so none of them are parsed when the bean is created.
+ */
+@SuppressWarnings("unused")
+public class LazyBean1000 extends PropertiesBean {
+
+  @FromProperty(key = "key0") private LazyValue<Integer> field0;
+  @FromProperty(key = "key1") private LazyValue<Long> field1;
+  @FromProperty(key = "key2") private LazyValue<Double> field2;
+  @FromProperty(key = "key3") private LazyValue<Boolean> field3;
+  @FromProperty(key = "key4") private LazyValue<String> field4;
+  @FromProperty(key = "key5") private LazyValue<Integer> field5;
+  @FromProperty(key = "key6") private LazyValue<Long> field6;
+  @FromProperty(key = "key7") private LazyValue<Double> field7;
+  @FromProperty(key = "key8") private LazyValue<Boolean> field8;
+  @FromProperty(key = "key9") private LazyValue<String> field9;
+  @FromProperty(key = "key10") private LazyValue<Integer> field10;
+  @FromProperty(key = "key11") private LazyValue<Long> field11;
+  @FromProperty(key = "key12") private LazyValue<Double> field12;
+  @FromProperty(key = "key13") private LazyValue<Boolean> field13;
+  @FromProperty(key = "key14") private LazyValue<String> field14;
+  @FromProperty(key = "key15") private LazyValue<Integer> field15;
+  @FromProperty(key = "key16") private LazyValue<Long> field16;
+  @FromProperty(key = "key17") private LazyValue<Double> field17;
+  @FromProperty(key = "key18") private LazyValue<Boolean> field18;
+  @FromProperty(key = "key19") private LazyValue<String> field19;
+  @FromProperty(key = "key20") private LazyValue<Integer> field20;
+  @FromProperty(key = "key21") private LazyValue<Long> field21;
+  @FromProperty(key = "key22") private LazyValue<Double> field22;
+  @FromProperty(key = "key23") private LazyValue<Boolean> field23;
+  @FromProperty(key = "key24") private LazyValue<String> field24;
+  @FromProperty(key = "key25") private LazyValue<Integer> field25;
+  @FromProperty(key = "key26") private LazyValue<Long> field26;
+  @FromProperty(key = "key27") private LazyValue<Double> field27;
+  @FromProperty(key = "key28") private LazyValue<Boolean> field28;
+  @FromProperty(key = "key29") private LazyValue<String> field29;
+  @FromProperty(key = "key30") private LazyValue<Integer> field30;
+  @FromProperty(key = "key31") private LazyValue<Long> field31;
+  @FromProperty(key = "key32") private LazyValue<Double> field32;
+  @FromProperty(key = "key33") private LazyValue<Boolean> field33;
+  @FromProperty(key = "key34") private LazyValue<String> field34;
+  @FromProperty(key = "key35") private LazyValue<Integer> field35;
+  @FromProperty(key = "key36") private LazyValue<Long> field36;
+  @FromProperty(key = "key37") private LazyValue<Double> field37;
+  @FromProperty(key = "key38") private LazyValue<Boolean> field38;
+  @FromProperty(key = "key39") private LazyValue<String> field39;
+  @FromProperty(key = "key40") private LazyValue<Integer> field40;
+  @FromProperty(key = "key41") private LazyValue<Long> field41;
+  @FromProperty(key = "key42") private LazyValue<Double> field42;
+  @FromProperty(key = "key43") private LazyValue<Boolean> field43;
+  @FromProperty(key = "key44") private LazyValue<String> field44;
+  @FromProperty(key = "key45") private LazyValue<Integer> field45;
+  @FromProperty(key = "key46") private LazyValue<Long> field46;
+  @FromProperty(key = "key47") private LazyValue<Double> field47;
+  @FromProperty(key = "key48") private LazyValue<Boolean> field48;
+  @FromProperty(key = "key49") private LazyValue<String> field49;
+  @FromProperty(key = "key50") private LazyValue<Integer> field50;
+  @FromProperty(key = "key51") private LazyValue<Long> field51;
+  @FromProperty(key = "key52") private LazyValue<Double> field52;
+  @FromProperty(key = "key53") private LazyValue<Boolean> field53;
+  @FromProperty(key = "key54") private LazyValue<String> field54;
+  @FromProperty(key = "key55") private LazyValue<Integer> field55;
+  @FromProperty(key = "key56") private LazyValue<Long> field56;
+  @FromProperty(key = "key57") private LazyValue<Double> field57;
+  @FromProperty(key = "key58") private LazyValue<Boolean> field58;
+  @FromProperty(key = "key59") private LazyValue<String> field59;
+  @FromProperty(key = "key60") private LazyValue<Integer> field60;
+  @FromProperty(key = "key61") private LazyValue<Long> field61;
+  @FromProperty(key = "key62") private LazyValue<Double> field62;
+  @FromProperty(key = "key63") private LazyValue<Boolean> field63;
+  @FromProperty(key = "key64") private LazyValue<String> field64;
+  @FromProperty(key = "key65") private LazyValue<Integer> field65;
+  @FromProperty(key = "key66") private LazyValue<Long> field66;
+  @FromProperty(key = "key67") private LazyValue<Double> field67;
+  @FromProperty(key = "key68") private LazyValue<Boolean> field68;
+  @FromProperty(key = "key69") private LazyValue<String> field69;
+  @FromProperty(key = "key70") private LazyValue<Integer> field70;
+  @FromProperty(key = "key71") private LazyValue<Long> field71;
+  @FromProperty(key = "key72") private LazyValue<Double> field72;
+  @FromProperty(key = "key73") private LazyValue<Boolean> field73;
+  @FromProperty(key = "key74") private LazyValue<String> field74;
+  @FromProperty(key = "key75") private LazyValue<Integer> field75;
+  @FromProperty(key = "key76") private LazyValue<Long> field76;
+  @FromProperty(key = "key77") private LazyValue<Double> field77;
+  @FromProperty(key = "key78") private LazyValue<Boolean> field78;
+  @FromProperty(key = "key79") private LazyValue<String> field79;
+  @FromProperty(key = "key80") private LazyValue<Integer> field80;
+  @FromProperty(key = "key81") private LazyValue<Long> field81;
+  @FromProperty(key = "key82") private LazyValue<Double> field82;
+  @FromProperty(key = "key83") private LazyValue<Boolean> field83;
+  @FromProperty(key = "key84") private LazyValue<String> field84;
+  @FromProperty(key = "key85") private LazyValue<Integer> field85;
+  @FromProperty(key = "key86") private LazyValue<Long> field86;
+  @FromProperty(key = "key87") private LazyValue<Double> field87;
+  @FromProperty(key = "key88") private LazyValue<Boolean> field88;
+  @FromProperty(key = "key89") private LazyValue<String> field89;
+  @FromProperty(key = "key90") private LazyValue<Integer> field90;
+  @FromProperty(key = "key91") private LazyValue<Long> field91;
+  @FromProperty(key = "key92") private LazyValue<Double> field92;
+  @FromProperty(key = "key93") private LazyValue<Boolean> field93;
+  @FromProperty(key = "key94") private LazyValue<String> field94;
+  @FromProperty(key = "key95") private LazyValue<Integer> field95;
+  @FromProperty(key = "key96") private LazyValue<Long> field96;
+  @FromProperty(key = "key97") private LazyValue<Double> field97;
+  @FromProperty(key = "key98") private LazyValue<Boolean> field98;
+  @FromProperty(key = "key99") private LazyValue<String> field99;
+  @FromProperty(key = "key100") private LazyValue<Integer> field100;
+  @FromProperty(key = "key101") private LazyValue<Long> field101;
+  @FromProperty(key = "key102") private LazyValue<Double> field102;
+  @FromProperty(key = "key103") private LazyValue<Boolean> field103;
+  @FromProperty(key = "key104") private LazyValue<String> field104;
+  @FromProperty(key = "key105") private LazyValue<Integer> field105;
+  @FromProperty(key = "key106") private LazyValue<Long> field106;
+  @FromProperty(key = "key107") private LazyValue<Double> field107;
+  @FromProperty(key = "key108") private LazyValue<Boolean> field108;
+  @FromProperty(key = "key109") private LazyValue<String> field109;
+  @FromProperty(key = "key110") private LazyValue<Integer> field110;
+  @FromProperty(key = "key111") private LazyValue<Long> field111;
+  @FromProperty(key = "key112") private LazyValue<Double> field112;
+  @FromProperty(key = "key113") private LazyValue<Boolean> field113;
+  @FromProperty(key = "key114") private LazyValue<String> field114;
+  @FromProperty(key = "key115") private LazyValue<Integer> field115;
+  @FromProperty(key = "key116") private LazyValue<Long> field116;
+  @FromProperty(key = "key117") private LazyValue<Double> field117;
+  @FromProperty(key = "key118") private LazyValue<Boolean> field118;
+  @FromProperty(key = "key119") private LazyValue<String> field119;
+  @FromProperty(key = "key120") private LazyValue<Integer> field120;
+  @FromProperty(key = "key121") private LazyValue<Long> field121;
+  @FromProperty(key = "key122") private LazyValue<Double> field122;
+  @FromProperty(key = "key123") private LazyValue<Boolean> field123;
+  @FromProperty(key = "key124") private LazyValue<String> field124;
+  @FromProperty(key = "key125") private LazyValue<Integer> field125;
+  @FromProperty(key = "key126") private LazyValue<Long> field126;
+  @FromProperty(key = "key127") private LazyValue<Double> field127;
+  @FromProperty(key = "key128") private LazyValue<Boolean> field128;
+  @FromProperty(key = "key129") private LazyValue<String> field129;
+  @FromProperty(key = "key130") private LazyValue<Integer> field130;
+  @FromProperty(key = "key131") private LazyValue<Long> field131;
+  @FromProperty(key = "key132") private LazyValue<Double> field132;
+  @FromProperty(key = "key133") private LazyValue<Boolean> field133;
+  @FromProperty(key = "key134") private LazyValue<String> field134;
+  @FromProperty(key = "key135") private LazyValue<Integer> field135;
+  @FromProperty(key = "key136") private LazyValue<Long> field136;
+  @FromProperty(key = "key137") private LazyValue<Double> field137;
+  @FromProperty(key = "key138") private LazyValue<Boolean> field138;
+  @FromProperty(key = "key139") private LazyValue<String> field139;
+  @FromProperty(key = "key140") private LazyValue<Integer> field140;
+  @FromProperty(key = "key141") private LazyValue<Long> field141;
+  @FromProperty(key = "key142") private LazyValue<Double> field142;
+  @FromProperty(key = "key143") private LazyValue<Boolean> field143;
+  @FromProperty(key = "key144") private LazyValue<String> field144;
+  @FromProperty(key = "key145") private LazyValue<Integer> field145;
+  @FromProperty(key = "key146") private LazyValue<Long> field146;
+  @FromProperty(key = "key147") private LazyValue<Double> field147;
+  @FromProperty(key = "key148") private LazyValue<Boolean> field148;
+  @FromProperty(key = "key149") private LazyValue<String> field149;
+  @FromProperty(key = "key150") private LazyValue<Integer> field150;
+  @FromProperty(key = "key151") private LazyValue<Long> field151;
+  @FromProperty(key = "key152") private LazyValue<Double> field152;
+  @FromProperty(key = "key153") private LazyValue<Boolean> field153;
+  @FromProperty(key = "key154") private LazyValue<String> field154;
+  @FromProperty(key = "key155") private LazyValue<Integer> field155;
+  @FromProperty(key = "key156") private LazyValue<Long> field156;
+  @FromProperty(key = "key157") private LazyValue<Double> field157;
+  @FromProperty(key = "key158") private LazyValue<Boolean> field158;
+  @FromProperty(key = "key159") private LazyValue<String> field159;
+  @FromProperty(key = "key160") private LazyValue<Integer> field160;
+  @FromProperty(key = "key161") private LazyValue<Long> field161;
+  @FromProperty(key = "key162") private LazyValue<Double> field162;
+  @FromProperty(key = "key163") private LazyValue<Boolean> field163;
+  @FromProperty(key = "key164") private LazyValue<String> field164;
+  @FromProperty(key = "key165") private LazyValue<Integer> field165;
+  @FromProperty(key = "key166") private LazyValue<Long> field166;
+  @FromProperty(key = "key167") private LazyValue<Double> field167;
+  @FromProperty(key = "key168") private LazyValue<Boolean> field168;
+  @FromProperty(key = "key169") private LazyValue<String> field169;
+  @FromProperty(key = "key170") private LazyValue<Integer> field170;
+  @FromProperty(key = "key171") private LazyValue<Long> field171;
+  @FromProperty(key = "key172") private LazyValue<Double> field172;
+  @FromProperty(key = "key173") private LazyValue<Boolean> field173;
+  @FromProperty(key = "key174") private LazyValue<String> field174;
+  @FromProperty(key = "key175") private LazyValue<Integer> field175;
+  @FromProperty(key = "key176") private LazyValue<Long> field176;
+  @FromProperty(key = "key177") private LazyValue<Double> field177;
+  @FromProperty(key = "key178") private LazyValue<Boolean> field178;
+  @FromProperty(key = "key179") private LazyValue<String> field179;
+  @FromProperty(key = "key180") private LazyValue<Integer> field180;
+  @FromProperty(key = "key181") private LazyValue<Long> field181;
+  @FromProperty(key = "key182") private LazyValue<Double> field182;
+  @FromProperty(key = "key183") private LazyValue<Boolean> field183;
+  @FromProperty(key = "key184") private LazyValue<String> field184;
+  @FromProperty(key = "key185") private LazyValue<Integer> field185;
+  @FromProperty(key = "key186") private LazyValue<Long> field186;
+  @FromProperty(key = "key187") private LazyValue<Double> field187;
+  @FromProperty(key = "key188") private LazyValue<Boolean> field188;
+  @FromProperty(key = "key189") private LazyValue<String> field189;
+  @FromProperty(key = "key190") private LazyValue<Integer> field190;
+  @FromProperty(key = "key191") private LazyValue<Long> field191;
+  @FromProperty(key = "key192") private LazyValue<Double> field192;
+  @FromProperty(key = "key193") private LazyValue<Boolean> field193;
+  @FromProperty(key = "key194") private LazyValue<String> field194;
+  @FromProperty(key = "key195") private LazyValue<Integer> field195;
+  @FromProperty(key = "key196") private LazyValue<Long> field196;
+  @FromProperty(key = "key197") private LazyValue<Double> field197;
+  @FromProperty(key = "key198") private LazyValue<Boolean> field198;
+  @FromProperty(key = "key199") private LazyValue<String> field199;
+  @FromProperty(key = "key200") private LazyValue<Integer> field200;
+  @FromProperty(key = "key201") private LazyValue<Long> field201;
+  @FromProperty(key = "key202") private LazyValue<Double> field202;
+  @FromProperty(key = "key203") private LazyValue<Boolean> field203;
+  @FromProperty(key = "key204") private LazyValue<String> field204;
+  @FromProperty(key = "key205") private LazyValue<Integer> field205;
+  @FromProperty(key = "key206") private LazyValue<Long> field206;
+  @FromProperty(key = "key207") private LazyValue<Double> field207;
+  @FromProperty(key = "key208") private LazyValue<Boolean> field208;
+  @FromProperty(key = "key209") private LazyValue<String> field209;
+  @FromProperty(key = "key210") private LazyValue<Integer> field210;
+  @FromProperty(key = "key211") private LazyValue<Long> field211;
+  @FromProperty(key = "key212") private LazyValue<Double> field212;
+  @FromProperty(key = "key213") private LazyValue<Boolean> field213;
+  @FromProperty(key = "key214") private LazyValue<String> field214;
+  @FromProperty(key = "key215") private LazyValue<Integer> field215;
+  @FromProperty(key = "key216") private LazyValue<Long> field216;
+  @FromProperty(key = "key217") private LazyValue<Double> field217;
+  @FromProperty(key = "key218") private LazyValue<Boolean> field218;
+  @FromProperty(key = "key219") private LazyValue<String> field219;
+  @FromProperty(key = "key220") private LazyValue<Integer> field220;
+  @FromProperty(key = "key221") private LazyValue<Long> field221;
+  @FromProperty(key = "key222") private LazyValue<Double> field222;
+  @FromProperty(key = "key223") private LazyValue<Boolean> field223;
+  @FromProperty(key = "key224") private LazyValue<String> field224;
+  @FromProperty(key = "key225") private LazyValue<Integer> field225;
+  @FromProperty(key = "key226") private LazyValue<Long> field226;
+  @FromProperty(key = "key227") private LazyValue<Double> field227;
+  @FromProperty(key = "key228") private LazyValue<Boolean> field228;
+  @FromProperty(key = "key229") private LazyValue<String> field229;
+  @FromProperty(key = "key230") private LazyValue<Integer> field230;
+  @FromProperty(key = "key231") private LazyValue<Long> field231;
+  @FromProperty(key = "key232") private LazyValue<Double> field232;
+  @FromProperty(key = "key233") private LazyValue<Boolean> field233;
+  @FromProperty(key = "key234") private LazyValue<String> field234;
+  @FromProperty(key = "key235") private LazyValue<Integer> field235;
+  @FromProperty(key = "key236") private LazyValue<Long> field236;
+  @FromProperty(key = "key237") private LazyValue<Double> field237;
+  @FromProperty(key = "key238") private LazyValue<Boolean> field238;
+  @FromProperty(key = "key239") private LazyValue<String> field239;
+  @FromProperty(key = "key240") private LazyValue<Integer> field240;
+  @FromProperty(key = "key241") private LazyValue<Long> field241;
+  @FromProperty(key = "key242") private LazyValue<Double> field242;
+  @FromProperty(key = "key243") private LazyValue<Boolean> field243;
+  @FromProperty(key = "key244") private LazyValue<String> field244;
+  @FromProperty(key = "key245") private LazyValue<Integer> field245;
+  @FromProperty(key = "key246") private LazyValue<Long> field246;
+  @FromProperty(key = "key247") private LazyValue<Double> field247;
+  @FromProperty(key = "key248") private LazyValue<Boolean> field248;
+  @FromProperty(key = "key249") private LazyValue<String> field249;
+  @FromProperty(key = "key250") private LazyValue<Integer> field250;
+  @FromProperty(key = "key251") private LazyValue<Long> field251;
+  @FromProperty(key = "key252") private LazyValue<Double> field252;
+  @FromProperty(key = "key253") private LazyValue<Boolean> field253;
+  @FromProperty(key = "key254") private LazyValue<String> field254;
+  @FromProperty(key = "key255") private LazyValue<Integer> field255;
+  @FromProperty(key = "key256") private LazyValue<Long> field256;
+  @FromProperty(key = "key257") private LazyValue<Double> field257;
+  @FromProperty(key = "key258") private LazyValue<Boolean> field258;
+  @FromProperty(key = "key259") private LazyValue<String> field259;
+  @FromProperty(key = "key260") private LazyValue<Integer> field260;
+  @FromProperty(key = "key261") private LazyValue<Long> field261;
+  @FromProperty(key = "key262") private LazyValue<Double> field262;
+  @FromProperty(key = "key263") private LazyValue<Boolean> field263;
+  @FromProperty(key = "key264") private LazyValue<String> field264;
+  @FromProperty(key = "key265") private LazyValue<Integer> field265;
+  @FromProperty(key = "key266") private LazyValue<Long> field266;
+  @FromProperty(key = "key267") private LazyValue<Double> field267;
+  @FromProperty(key = "key268") private LazyValue<Boolean> field268;
+  @FromProperty(key = "key269") private LazyValue<String> field269;
+  @FromProperty(key = "key270") private LazyValue<Integer> field270;
+  @FromProperty(key = "key271") private LazyValue<Long> field271;
+  @FromProperty(key = "key272") private LazyValue<Double> field272;
+  @FromProperty(key = "key273") private LazyValue<Boolean> field273;
+  @FromProperty(key = "key274") private LazyValue<String> field274;
+  @FromProperty(key = "key275") private LazyValue<Integer> field275;
+  @FromProperty(key = "key276") private LazyValue<Long> field276;
+  @FromProperty(key = "key277") private LazyValue<Double> field277;
+  @FromProperty(key = "key278") private LazyValue<Boolean> field278;
+  @FromProperty(key = "key279") private LazyValue<String> field279;
+  @FromProperty(key = "key280") private LazyValue<Integer> field280;
+  @FromProperty(key = "key281") private LazyValue<Long> field281;
+  @FromProperty(key = "key282") private LazyValue<Double> field282;
+  @FromProperty(key = "key283") private LazyValue<Boolean> field283;
+  @FromProperty(key = "key284") private LazyValue<String> field284;
+  @FromProperty(key = "key285") private LazyValue<Integer> field285;
+  @FromProperty(key = "key286") private LazyValue<Long> field286;
+  @FromProperty(key = "key287") private LazyValue<Double> field287;
+  @FromProperty(key = "key288") private LazyValue<Boolean> field288;
+  @FromProperty(key = "key289") private LazyValue<String> field289;
+  @FromProperty(key = "key290") private LazyValue<Integer> field290;
+  @FromProperty(key = "key291") private LazyValue<Long> field291;
+  @FromProperty(key = "key292") private LazyValue<Double> field292;
+  @FromProperty(key = "key293") private LazyValue<Boolean> field293;
+  @FromProperty(key = "key294") private LazyValue<String> field294;
+  @FromProperty(key = "key295") private LazyValue<Integer> field295;
+  @FromProperty(key = "key296") private LazyValue<Long> field296;
+  @FromProperty(key = "key297") private LazyValue<Double> field297;
+  @FromProperty(key = "key298") private LazyValue<Boolean> field298;
+  @FromProperty(key = "key299") private LazyValue<String> field299;
+  @FromProperty(key = "key300") private LazyValue<Integer> field300;
+  @FromProperty(key = "key301") private LazyValue<Long> field301;
+  @FromProperty(key = "key302") private LazyValue<Double> field302;
+  @FromProperty(key = "key303") private LazyValue<Boolean> field303;
+  @FromProperty(key = "key304") private LazyValue<String> field304;
+  @FromProperty(key = "key305") private LazyValue<Integer> field305;
+  @FromProperty(key = "key306") private LazyValue<Long> field306;
+  @FromProperty(key = "key307") private LazyValue<Double> field307;
+  @FromProperty(key = "key308") private LazyValue<Boolean> field308;
+  @FromProperty(key = "key309") private LazyValue<String> field309;
+  @FromProperty(key = "key310") private LazyValue<Integer> field310;
+  @FromProperty(key = "key311") private LazyValue<Long> field311;
+  @FromProperty(key = "key312") private LazyValue<Double> field312;
+  @FromProperty(key = "key313") private LazyValue<Boolean> field313;
+  @FromProperty(key = "key314") private LazyValue<String> field314;
+  @FromProperty(key = "key315") private LazyValue<Integer> field315;
+  @FromProperty(key = "key316") private LazyValue<Long> field316;
+  @FromProperty(key = "key317") private LazyValue<Double> field317;
+  @FromProperty(key = "key318") private LazyValue<Boolean> field318;
+  @FromProperty(key = "key319") private LazyValue<String> field319;
+  @FromProperty(key = "key320") private LazyValue<Integer> field320;
+  @FromProperty(key = "key321") private LazyValue<Long> field321;
+  @FromProperty(key = "key322") private LazyValue<Double> field322;
+  @FromProperty(key = "key323") private LazyValue<Boolean> field323;
+  @FromProperty(key = "key324") private LazyValue<String> field324;
+  @FromProperty(key = "key325") private LazyValue<Integer> field325;
+  @FromProperty(key = "key326") private LazyValue<Long> field326;
+  @FromProperty(key = "key327") private LazyValue<Double> field327;
+  @FromProperty(key = "key328") private LazyValue<Boolean> field328;
+  @FromProperty(key = "key329") private LazyValue<String> field329;
+  @FromProperty(key = "key330") private LazyValue<Integer> field330;
+  @FromProperty(key = "key331") private LazyValue<Long> field331;
+  @FromProperty(key = "key332") private LazyValue<Double> field332;
+  @FromProperty(key = "key333") private LazyValue<Boolean> field333;
+  @FromProperty(key = "key334") private LazyValue<String> field334;
+  @FromProperty(key = "key335") private LazyValue<Integer> field335;
+  @FromProperty(key = "key336") private LazyValue<Long> field336;
+  @FromProperty(key = "key337") private LazyValue<Double> field337;
+  @FromProperty(key = "key338") private LazyValue<Boolean> field338;
+  @FromProperty(key = "key339") private LazyValue<String> field339;
+  @FromProperty(key = "key340") private LazyValue<Integer> field340;
+  @FromProperty(key = "key341") private LazyValue<Long> field341;
+  @FromProperty(key = "key342") private LazyValue<Double> field342;
+  @FromProperty(key = "key343") private LazyValue<Boolean> field343;
+  @FromProperty(key = "key344") private LazyValue<String> field344;
+  @FromProperty(key = "key345") private LazyValue<Integer> field345;
+  @FromProperty(key = "key346") private LazyValue<Long> field346;
+  @FromProperty(key = "key347") private LazyValue<Double> field347;
+  @FromProperty(key = "key348") private LazyValue<Boolean> field348;
+  @FromProperty(key = "key349") private LazyValue<String> field349;
+  @FromProperty(key = "key350") private LazyValue<Integer> field350;
+  @FromProperty(key = "key351") private LazyValue<Long> field351;
+  @FromProperty(key = "key352") private LazyValue<Double> field352;
+  @FromProperty(key = "key353") private LazyValue<Boolean> field353;
+  @FromProperty(key = "key354") private LazyValue<String> field354;
+  @FromProperty(key = "key355") private LazyValue<Integer> field355;
+  @FromProperty(key = "key356") private LazyValue<Long> field356;
+  @FromProperty(key = "key357") private LazyValue<Double> field357;
+  @FromProperty(key = "key358") private LazyValue<Boolean> field358;
+  @FromProperty(key = "key359") private LazyValue<String> field359;
+  @FromProperty(key = "key360") private LazyValue<Integer> field360;
+  @FromProperty(key = "key361") private LazyValue<Long> field361;
+  @FromProperty(key = "key362") private LazyValue<Double> field362;
+  @FromProperty(key = "key363") private LazyValue<Boolean> field363;
+  @FromProperty(key = "key364") private LazyValue<String> field364;
+  @FromProperty(key = "key365") private LazyValue<Integer> field365;
+  @FromProperty(key = "key366") private LazyValue<Long> field366;
+  @FromProperty(key = "key367") private LazyValue<Double> field367;
+  @FromProperty(key = "key368") private LazyValue<Boolean> field368;
+  @FromProperty(key = "key369") private LazyValue<String> field369;
+  @FromProperty(key = "key370") private LazyValue<Integer> field370;
+  @FromProperty(key = "key371") private LazyValue<Long> field371;
+  @FromProperty(key = "key372") private LazyValue<Double> field372;
+  @FromProperty(key = "key373") private LazyValue<Boolean> field373;
+  @FromProperty(key = "key374") private LazyValue<String> field374;
+  @FromProperty(key = "key375") private LazyValue<Integer> field375;
+  @FromProperty(key = "key376") private LazyValue<Long> field376;
+  @FromProperty(key = "key377") private LazyValue<Double> field377;
+  @FromProperty(key = "key378") private LazyValue<Boolean> field378;
+  @FromProperty(key = "key379") private LazyValue<String> field379;
+  @FromProperty(key = "key380") private LazyValue<Integer> field380;
+  @FromProperty(key = "key381") private LazyValue<Long> field381;
+  @FromProperty(key = "key382") private LazyValue<Double> field382;
+  @FromProperty(key = "key383") private LazyValue<Boolean> field383;
+  @FromProperty(key = "key384") private LazyValue<String> field384;
+  @FromProperty(key = "key385") private LazyValue<Integer> field385;
+  @FromProperty(key = "key386") private LazyValue<Long> field386;
+  @FromProperty(key = "key387") private LazyValue<Double> field387;
+  @FromProperty(key = "key388") private LazyValue<Boolean> field388;
+  @FromProperty(key = "key389") private LazyValue<String> field389;
+  @FromProperty(key = "key390") private LazyValue<Integer> field390;
+  @FromProperty(key = "key391") private LazyValue<Long> field391;
+  @FromProperty(key = "key392") private LazyValue<Double> field392;
+  @FromProperty(key = "key393") private LazyValue<Boolean> field393;
+  @FromProperty(key = "key394") private LazyValue<String> field394;
+  @FromProperty(key = "key395") private LazyValue<Integer> field395;
+  @FromProperty(key = "key396") private LazyValue<Long> field396;
+  @FromProperty(key = "key397") private LazyValue<Double> field397;
+  @FromProperty(key = "key398") private LazyValue<Boolean> field398;
+  @FromProperty(key = "key399") private LazyValue<String> field399;
+  @FromProperty(key = "key400") private LazyValue<Integer> field400;
+  @FromProperty(key = "key401") private LazyValue<Long> field401;
+  @FromProperty(key = "key402") private LazyValue<Double> field402;
+  @FromProperty(key = "key403") private LazyValue<Boolean> field403;
+  @FromProperty(key = "key404") private LazyValue<String> field404;
+  @FromProperty(key = "key405") private LazyValue<Integer> field405;
+  @FromProperty(key = "key406") private LazyValue<Long> field406;
+  @FromProperty(key = "key407") private LazyValue<Double> field407;
+  @FromProperty(key = "key408") private LazyValue<Boolean> field408;
+  @FromProperty(key = "key409") private LazyValue<String> field409;
+  @FromProperty(key = "key410") private LazyValue<Integer> field410;
+  @FromProperty(key = "key411") private LazyValue<Long> field411;
+  @FromProperty(key = "key412") private LazyValue<Double> field412;
+  @FromProperty(key = "key413") private LazyValue<Boolean> field413;
+  @FromProperty(key = "key414") private LazyValue<String> field414;
+  @FromProperty(key = "key415") private LazyValue<Integer> field415;
+  @FromProperty(key = "key416") private LazyValue<Long> field416;
+  @FromProperty(key = "key417") private LazyValue<Double> field417;
+  @FromProperty(key = "key418") private LazyValue<Boolean> field418;
+  @FromProperty(key = "key419") private LazyValue<String> field419;
+  @FromProperty(key = "key420") private LazyValue<Integer> field420;
+  @FromProperty(key = "key421") private LazyValue<Long> field421;
+  @FromProperty(key = "key422") private LazyValue<Double> field422;
+  @FromProperty(key = "key423") private LazyValue<Boolean> field423;
+  @FromProperty(key = "key424") private LazyValue<String> field424;
+  @FromProperty(key = "key425") private LazyValue<Integer> field425;
+  @FromProperty(key = "key426") private LazyValue<Long> field426;
+  @FromProperty(key = "key427") private LazyValue<Double> field427;
+  @FromProperty(key = "key428") private LazyValue<Boolean> field428;
+  @FromProperty(key = "key429") private LazyValue<String> field429;
+  @FromProperty(key = "key430") private LazyValue<Integer> field430;
+  @FromProperty(key = "key431") private LazyValue<Long> field431;
+  @FromProperty(key = "key432") private LazyValue<Double> field432;
+  @FromProperty(key = "key433") private LazyValue<Boolean> field433;
+  @FromProperty(key = "key434") private LazyValue<String> field434;
+  @FromProperty(key = "key435") private LazyValue<Integer> field435;
+  @FromProperty(key = "key436") private LazyValue<Long> field436;
+  @FromProperty(key = "key437") private LazyValue<Double> field437;
+  @FromProperty(key = "key438") private LazyValue<Boolean> field438;
+  @FromProperty(key = "key439") private LazyValue<String> field439;
+  @FromProperty(key = "key440") private LazyValue<Integer> field440;
+  @FromProperty(key = "key441") private LazyValue<Long> field441;
+  @FromProperty(key = "key442") private LazyValue<Double> field442;
+  @FromProperty(key = "key443") private LazyValue<Boolean> field443;
+  @FromProperty(key = "key444") private LazyValue<String> field444;
+  @FromProperty(key = "key445") private LazyValue<Integer> field445;
+  @FromProperty(key = "key446") private LazyValue<Long> field446;
+  @FromProperty(key = "key447") private LazyValue<Double> field447;
+  @FromProperty(key = "key448") private LazyValue<Boolean> field448;
+  @FromProperty(key = "key449") private LazyValue<String> field449;
+  @FromProperty(key = "key450") private LazyValue<Integer> field450;
+  @FromProperty(key = "key451") private LazyValue<Long> field451;
+  @FromProperty(key = "key452") private LazyValue<Double> field452;
+  @FromProperty(key = "key453") private LazyValue<Boolean> field453;
+  @FromProperty(key = "key454") private LazyValue<String> field454;
+  @FromProperty(key = "key455") private LazyValue<Integer> field455;
+  @FromProperty(key = "key456") private LazyValue<Long> field456;
+  @FromProperty(key = "key457") private LazyValue<Double> field457;
+  @FromProperty(key = "key458") private LazyValue<Boolean> field458;
+  @FromProperty(key = "key459") private LazyValue<String> field459;
+  @FromProperty(key = "key460") private LazyValue<Integer> field460;
+  @FromProperty(key = "key461") private LazyValue<Long> field461;
+  @FromProperty(key = "key462") private LazyValue<Double> field462;
+  @FromProperty(key = "key463") private LazyValue<Boolean> field463;
+  @FromProperty(key = "key464") private LazyValue<String> field464;
+  @FromProperty(key = "key465") private LazyValue<Integer> field465;
+  @FromProperty(key = "key466") private LazyValue<Long> field466;
+  @FromProperty(key = "key467") private LazyValue<Double> field467;
+  @FromProperty(key = "key468") private LazyValue<Boolean> field468;
+  @FromProperty(key = "key469") private LazyValue<String> field469;
+  @FromProperty(key = "key470") private LazyValue<Integer> field470;
+  @FromProperty(key = "key471") private LazyValue<Long> field471;
+  @FromProperty(key = "key472") private LazyValue<Double> field472;
+  @FromProperty(key = "key473") private LazyValue<Boolean> field473;
+  @FromProperty(key = "key474") private LazyValue<String> field474;
+  @FromProperty(key = "key475") private LazyValue<Integer> field475;
+  @FromProperty(key = "key476") private LazyValue<Long> field476;
+  @FromProperty(key = "key477") private LazyValue<Double> field477;
+  @FromProperty(key = "key478") private LazyValue<Boolean> field478;
+  @FromProperty(key = "key479") private LazyValue<String> field479;
+  @FromProperty(key = "key480") private LazyValue<Integer> field480;
+  @FromProperty(key = "key481") private LazyValue<Long> field481;
+  @FromProperty(key = "key482") private LazyValue<Double> field482;
+  @FromProperty(key = "key483") private LazyValue<Boolean> field483;
+  @FromProperty(key = "key484") private LazyValue<String> field484;
+  @FromProperty(key = "key485") private LazyValue<Integer> field485;
+  @FromProperty(key = "key486") private LazyValue<Long> field486;
+  @FromProperty(key = "key487") private LazyValue<Double> field487;
+  @FromProperty(key = "key488") private LazyValue<Boolean> field488;
+  @FromProperty(key = "key489") private LazyValue<String> field489;
+  @FromProperty(key = "key490") private LazyValue<Integer> field490;
+  @FromProperty(key = "key491") private LazyValue<Long> field491;
+  @FromProperty(key = "key492") private LazyValue<Double> field492;
+  @FromProperty(key = "key493") private LazyValue<Boolean> field493;
+  @FromProperty(key = "key494") private LazyValue<String> field494;
+  @FromProperty(key = "key495") private LazyValue<Integer> field495;
+  @FromProperty(key = "key496") private LazyValue<Long> field496;
+  @FromProperty(key = "key497") private LazyValue<Double> field497;
+  @FromProperty(key = "key498") private LazyValue<Boolean> field498;
+  @FromProperty(key = "key499") private LazyValue<String> field499;
+  @FromProperty(key = "key500") private LazyValue<Integer> field500;
+  @FromProperty(key = "key501") private LazyValue<Long> field501;
+  @FromProperty(key = "key502") private LazyValue<Double> field502;
+  @FromProperty(key = "key503") private LazyValue<Boolean> field503;
+  @FromProperty(key = "key504") private LazyValue<String> field504;
+  @FromProperty(key = "key505") private LazyValue<Integer> field505;
+  @FromProperty(key = "key506") private LazyValue<Long> field506;
+  @FromProperty(key = "key507") private LazyValue<Double> field507;
+  @FromProperty(key = "key508") private LazyValue<Boolean> field508;
+  @FromProperty(key = "key509") private LazyValue<String> field509;
+  @FromProperty(key = "key510") private LazyValue<Integer> field510;
+  @FromProperty(key = "key511") private LazyValue<Long> field511;
+  @FromProperty(key = "key512") private LazyValue<Double> field512;
+  @FromProperty(key = "key513") private LazyValue<Boolean> field513;
+  @FromProperty(key = "key514") private LazyValue<String> field514;
+  @FromProperty(key = "key515") private LazyValue<Integer> field515;
+  @FromProperty(key = "key516") private LazyValue<Long> field516;
+  @FromProperty(key = "key517") private LazyValue<Double> field517;
+  @FromProperty(key = "key518") private LazyValue<Boolean> field518;
+  @FromProperty(key = "key519") private LazyValue<String> field519;
+  @FromProperty(key = "key520") private LazyValue<Integer> field520;
+  @FromProperty(key = "key521") private LazyValue<Long> field521;
+  @FromProperty(key = "key522") private LazyValue<Double> field522;
+  @FromProperty(key = "key523") private LazyValue<Boolean> field523;
+  @FromProperty(key = "key524") private LazyValue<String> field524;
+  @FromProperty(key = "key525") private LazyValue<Integer> field525;
+  @FromProperty(key = "key526") private LazyValue<Long> field526;
+  @FromProperty(key = "key527") private LazyValue<Double> field527;
+  @FromProperty(key = "key528") private LazyValue<Boolean> field528;
+  @FromProperty(key = "key529") private LazyValue<String> field529;
+  @FromProperty(key = "key530") private LazyValue<Integer> field530;
+  @FromProperty(key = "key531") private LazyValue<Long> field531;
+  @FromProperty(key = "key532") private LazyValue<Double> field532;
+  @FromProperty(key = "key533") private LazyValue<Boolean> field533;
+  @FromProperty(key = "key534") private LazyValue<String> field534;
+  @FromProperty(key = "key535") private LazyValue<Integer> field535;
+  @FromProperty(key = "key536") private LazyValue<Long> field536;
+  @FromProperty(key = "key537") private LazyValue<Double> field537;
+  @FromProperty(key = "key538") private LazyValue<Boolean> field538;
+  @FromProperty(key = "key539") private LazyValue<String> field539;
+  @FromProperty(key = "key540") private LazyValue<Integer> field540;
+  @FromProperty(key = "key541") private LazyValue<Long> field541;
+  @FromProperty(key = "key542") private LazyValue<Double> field542;
+  @FromProperty(key = "key543") private LazyValue<Boolean> field543;
+  @FromProperty(key = "key544") private LazyValue<String> field544;
+  @FromProperty(key = "key545") private LazyValue<Integer> field545;
+  @FromProperty(key = "key546") private LazyValue<Long> field546;
+  @FromProperty(key = "key547") private LazyValue<Double> field547;
+  @FromProperty(key = "key548") private LazyValue<Boolean> field548;
+  @FromProperty(key = "key549") private LazyValue<String> field549;
+  @FromProperty(key = "key550") private LazyValue<Integer> field550;
+  @FromProperty(key = "key551") private LazyValue<Long> field551;
+  @FromProperty(key = "key552") private LazyValue<Double> field552;
+  @FromProperty(key = "key553") private LazyValue<Boolean> field553;
+  @FromProperty(key = "key554") private LazyValue<String> field554;
+  @FromProperty(key = "key555") private LazyValue<Integer> field555;
+  @FromProperty(key = "key556") private LazyValue<Long> field556;
+  @FromProperty(key = "key557") private LazyValue<Double> field557;
+  @FromProperty(key = "key558") private LazyValue<Boolean> field558;
+  @FromProperty(key = "key559") private LazyValue<String> field559;
+  @FromProperty(key = "key560") private LazyValue<Integer> field560;
+  @FromProperty(key = "key561") private LazyValue<Long> field561;
+  @FromProperty(key = "key562") private LazyValue<Double> field562;
+  @FromProperty(key = "key563") private LazyValue<Boolean> field563;
+  @FromProperty(key = "key564") private LazyValue<String> field564;
+  @FromProperty(key = "key565") private LazyValue<Integer> field565;
+  @FromProperty(key = "key566") private LazyValue<Long> field566;
+  @FromProperty(key = "key567") private LazyValue<Double> field567;
+  @FromProperty(key = "key568") private LazyValue<Boolean> field568;
+  @FromProperty(key = "key569") private LazyValue<String> field569;
+  @FromProperty(key = "key570") private LazyValue<Integer> field570;
+  @FromProperty(key = "key571") private LazyValue<Long> field571;
+  @FromProperty(key = "key572") private LazyValue<Double> field572;
+  @FromProperty(key = "key573") private LazyValue<Boolean> field573;
+  @FromProperty(key = "key574") private LazyValue<String> field574;
+  @FromProperty(key = "key575") private LazyValue<Integer> field575;
+  @FromProperty(key = "key576") private LazyValue<Long> field576;
+  @FromProperty(key = "key577") private LazyValue<Double> field577;
+  @FromProperty(key = "key578") private LazyValue<Boolean> field578;
+  @FromProperty(key = "key579") private LazyValue<String> field579;
+  @FromProperty(key = "key580") private LazyValue<Integer> field580;
+  @FromProperty(key = "key581") private LazyValue<Long> field581;
+  @FromProperty(key = "key582") private LazyValue<Double> field582;
+  @FromProperty(key = "key583") private LazyValue<Boolean> field583;
+  @FromProperty(key = "key584") private LazyValue<String> field584;
+  @FromProperty(key = "key585") private LazyValue<Integer> field585;
+  @FromProperty(key = "key586") private LazyValue<Long> field586;
+  @FromProperty(key = "key587") private LazyValue<Double> field587;
+  @FromProperty(key = "key588") private LazyValue<Boolean> field588;
+  @FromProperty(key = "key589") private LazyValue<String> field589;
+  @FromProperty(key = "key590") private LazyValue<Integer> field590;
+  @FromProperty(key = "key591") private LazyValue<Long> field591;
+  @FromProperty(key = "key592") private LazyValue<Double> field592;
+  @FromProperty(key = "key593") private LazyValue<Boolean> field593;
+  @FromProperty(key = "key594") private LazyValue<String> field594;
+  @FromProperty(key = "key595") private LazyValue<Integer> field595;
+  @FromProperty(key = "key596") private LazyValue<Long> field596;
+  @FromProperty(key = "key597") private LazyValue<Double> field597;
+  @FromProperty(key = "key598") private LazyValue<Boolean> field598;
+  @FromProperty(key = "key599") private LazyValue<String> field599;
+  @FromProperty(key = "key600") private LazyValue<Integer> field600;
+  @FromProperty(key = "key601") private LazyValue<Long> field601;
+  @FromProperty(key = "key602") private LazyValue<Double> field602;
+  @FromProperty(key = "key603") private LazyValue<Boolean> field603;
+  @FromProperty(key = "key604") private LazyValue<String> field604;
+  @FromProperty(key = "key605") private LazyValue<Integer> field605;
+  @FromProperty(key = "key606") private LazyValue<Long> field606;
+  @FromProperty(key = "key607") private LazyValue<Double> field607;
+  @FromProperty(key = "key608") private LazyValue<Boolean> field608;
+  @FromProperty(key = "key609") private LazyValue<String> field609;
+  @FromProperty(key = "key610") private LazyValue<Integer> field610;
+  @FromProperty(key = "key611") private LazyValue<Long> field611;
+  @FromProperty(key = "key612") private LazyValue<Double> field612;
+  @FromProperty(key = "key613") private LazyValue<Boolean> field613;
+  @FromProperty(key = "key614") private LazyValue<String> field614;
+  @FromProperty(key = "key615") private LazyValue<Integer> field615;
+  @FromProperty(key = "key616") private LazyValue<Long> field616;
+  @FromProperty(key = "key617") private LazyValue<Double> field617;
+  @FromProperty(key = "key618") private LazyValue<Boolean> field618;
+  @FromProperty(key = "key619") private LazyValue<String> field619;
+  @FromProperty(key = "key620") private LazyValue<Integer> field620;
+  @FromProperty(key = "key621") private LazyValue<Long> field621;
+  @FromProperty(key = "key622") private LazyValue<Double> field622;
+  @FromProperty(key = "key623") private LazyValue<Boolean> field623;
+  @FromProperty(key = "key624") private LazyValue<String> field624;
+  @FromProperty(key = "key625") private LazyValue<Integer> field625;
+  @FromProperty(key = "key626") private LazyValue<Long> field626;
+  @FromProperty(key = "key627") private LazyValue<Double> field627;
+  @FromProperty(key = "key628") private LazyValue<Boolean> field628;
+  @FromProperty(key = "key629") private LazyValue<String> field629;
+  @FromProperty(key = "key630") private LazyValue<Integer> field630;
+  @FromProperty(key = "key631") private LazyValue<Long> field631;
+  @FromProperty(key = "key632") private LazyValue<Double> field632;
+  @FromProperty(key = "key633") private LazyValue<Boolean> field633;
+  @FromProperty(key = "key634") private LazyValue<String> field634;
+  @FromProperty(key = "key635") private LazyValue<Integer> field635;
+  @FromProperty(key = "key636") private LazyValue<Long> field636;
+  @FromProperty(key = "key637") private LazyValue<Double> field637;
+  @FromProperty(key = "key638") private LazyValue<Boolean> field638;
+  @FromProperty(key = "key639") private LazyValue<String> field639;
+  @FromProperty(key = "key640") private LazyValue<Integer> field640;
+  @FromProperty(key = "key641") private LazyValue<Long> field641;
+  @FromProperty(key = "key642") private LazyValue<Double> field642;
+  @FromProperty(key = "key643") private LazyValue<Boolean> field643;
+  @FromProperty(key = "key644") private LazyValue<String> field644;
+  @FromProperty(key = "key645") private LazyValue<Integer> field645;
+  @FromProperty(key = "key646") private LazyValue<Long> field646;
+  @FromProperty(key = "key647") private LazyValue<Double> field647;
+  @FromProperty(key = "key648") private LazyValue<Boolean> field648;
+  @FromProperty(key = "key649") private LazyValue<String> field649;
+  @FromProperty(key = "key650") private LazyValue<Integer> field650;
+  @FromProperty(key = "key651") private LazyValue<Long> field651;
+  @FromProperty(key = "key652") private LazyValue<Double> field652;
+  @FromProperty(key = "key653") private LazyValue<Boolean> field653;
+  @FromProperty(key = "key654") private LazyValue<String> field654;
+  @FromProperty(key = "key655") private LazyValue<Integer> field655;
+  @FromProperty(key = "key656") private LazyValue<Long> field656;
+  @FromProperty(key = "key657") private LazyValue<Double> field657;
+  @FromProperty(key = "key658") private LazyValue<Boolean> field658;
+  @FromProperty(key = "key659") private LazyValue<String> field659;
+  @FromProperty(key = "key660") private LazyValue<Integer> field660;
+  @FromProperty(key = "key661") private LazyValue<Long> field661;
+  @FromProperty(key = "key662") private LazyValue<Double> field662;
+  @FromProperty(key = "key663") private LazyValue<Boolean> field663;
+  @FromProperty(key = "key664") private LazyValue<String> field664;
+  @FromProperty(key = "key665") private LazyValue<Integer> field665;
+  @FromProperty(key = "key666") private LazyValue<Long> field666;
+  @FromProperty(key = "key667") private LazyValue<Double> field667;
+  @FromProperty(key = "key668") private LazyValue<Boolean> field668;
+  @FromProperty(key = "key669") private LazyValue<String> field669;
+  @FromProperty(key = "key670") private LazyValue<Integer> field670;
+  @FromProperty(key = "key671") private LazyValue<Long> field671;
+  @FromProperty(key = "key672") private LazyValue<Double> field672;
+  @FromProperty(key = "key673") private LazyValue<Boolean> field673;
+  @FromProperty(key = "key674") private LazyValue<String> field674;
+  @FromProperty(key = "key675") private LazyValue<Integer> field675;
+  @FromProperty(key = "key676") private LazyValue<Long> field676;
+  @FromProperty(key = "key677") private LazyValue<Double> field677;
+  @FromProperty(key = "key678") private LazyValue<Boolean> field678;
+  @FromProperty(key = "key679") private LazyValue<String> field679;
+  @FromProperty(key = "key680") private LazyValue<Integer> field680;
+  @FromProperty(key = "key681") private LazyValue<Long> field681;
+  @FromProperty(key = "key682") private LazyValue<Double> field682;
+  @FromProperty(key = "key683") private LazyValue<Boolean> field683;
+  @FromProperty(key = "key684") private LazyValue<String> field684;
+  @FromProperty(key = "key685") private LazyValue<Integer> field685;
+  @FromProperty(key = "key686") private LazyValue<Long> field686;
+  @FromProperty(key = "key687") private LazyValue<Double> field687;
+  @FromProperty(key = "key688") private LazyValue<Boolean> field688;
+  @FromProperty(key = "key689") private LazyValue<String> field689;
+  @FromProperty(key = "key690") private LazyValue<Integer> field690;
+  @FromProperty(key = "key691") private LazyValue<Long> field691;
+  @FromProperty(key = "key692") private LazyValue<Double> field692;
+  @FromProperty(key = "key693") private LazyValue<Boolean> field693;
+  @FromProperty(key = "key694") private LazyValue<String> field694;
+  @FromProperty(key = "key695") private LazyValue<Integer> field695;
+  @FromProperty(key = "key696") private LazyValue<Long> field696;
+  @FromProperty(key = "key697") private LazyValue<Double> field697;
+  @FromProperty(key = "key698") private LazyValue<Boolean> field698;
+  @FromProperty(key = "key699") private LazyValue<String> field699;
+  @FromProperty(key = "key700") private LazyValue<Integer> field700;
+  @FromProperty(key = "key701") private LazyValue<Long> field701;
+  @FromProperty(key = "key702") private LazyValue<Double> field702;
+  @FromProperty(key = "key703") private LazyValue<Boolean> field703;
+  @FromProperty(key = "key704") private LazyValue<String> field704;
+  @FromProperty(key = "key705") private LazyValue<Integer> field705;
+  @FromProperty(key = "key706") private LazyValue<Long> field706;
+  @FromProperty(key = "key707") private LazyValue<Double> field707;
+  @FromProperty(key = "key708") private LazyValue<Boolean> field708;
+  @FromProperty(key = "key709") private LazyValue<String> field709;
+  @FromProperty(key = "key710") private LazyValue<Integer> field710;
+  @FromProperty(key = "key711") private LazyValue<Long> field711;
+  @FromProperty(key = "key712") private LazyValue<Double> field712;
+  @FromProperty(key = "key713") private LazyValue<Boolean> field713;
+  @FromProperty(key = "key714") private LazyValue<String> field714;
+  @FromProperty(key = "key715") private LazyValue<Integer> field715;
+  @FromProperty(key = "key716") private LazyValue<Long> field716;
+  @FromProperty(key = "key717") private LazyValue<Double> field717;
+  @FromProperty(key = "key718") private LazyValue<Boolean> field718;
+  @FromProperty(key = "key719") private LazyValue<String> field719;
+  @FromProperty(key = "key720") private LazyValue<Integer> field720;
+  @FromProperty(key = "key721") private LazyValue<Long> field721;
+  @FromProperty(key = "key722") private LazyValue<Double> field722;
+  @FromProperty(key = "key723") private LazyValue<Boolean> field723;
+  @FromProperty(key = "key724") private LazyValue<String> field724;
+  @FromProperty(key = "key725") private LazyValue<Integer> field725;
+  @FromProperty(key = "key726") private LazyValue<Long> field726;
+  @FromProperty(key = "key727") private LazyValue<Double> field727;
+  @FromProperty(key = "key728") private LazyValue<Boolean> field728;
+  @FromProperty(key = "key729") private LazyValue<String> field729;
+  @FromProperty(key = "key730") private LazyValue<Integer> field730;
+  @FromProperty(key = "key731") private LazyValue<Long> field731;
+  @FromProperty(key = "key732") private LazyValue<Double> field732;
+  @FromProperty(key = "key733") private LazyValue<Boolean> field733;
+  @FromProperty(key = "key734") private LazyValue<String> field734;
+  @FromProperty(key = "key735") private LazyValue<Integer> field735;
+  @FromProperty(key = "key736") private LazyValue<Long> field736;
+  @FromProperty(key = "key737") private LazyValue<Double> field737;
+  @FromProperty(key = "key738") private LazyValue<Boolean> field738;
+  @FromProperty(key = "key739") private LazyValue<String> field739;
+  @FromProperty(key = "key740") private LazyValue<Integer> field740;
+  @FromProperty(key = "key741") private LazyValue<Long> field741;
+  @FromProperty(key = "key742") private LazyValue<Double> field742;
+  @FromProperty(key = "key743") private LazyValue<Boolean> field743;
+  @FromProperty(key = "key744") private LazyValue<String> field744;
+  @FromProperty(key = "key745") private LazyValue<Integer> field745;
+  @FromProperty(key = "key746") private LazyValue<Long> field746;
+  @FromProperty(key = "key747") private LazyValue<Double> field747;
+  @FromProperty(key = "key748") private LazyValue<Boolean> field748;
+  @FromProperty(key = "key749") private LazyValue<String> field749;
+  @FromProperty(key = "key750") private LazyValue<Integer> field750;
+  @FromProperty(key = "key751") private LazyValue<Long> field751;
+  @FromProperty(key = "key752") private LazyValue<Double> field752;
+  @FromProperty(key = "key753") private LazyValue<Boolean> field753;
+  @FromProperty(key = "key754") private LazyValue<String> field754;
+  @FromProperty(key = "key755") private LazyValue<Integer> field755;
+  @FromProperty(key = "key756") private LazyValue<Long> field756;
+  @FromProperty(key = "key757") private LazyValue<Double> field757;
+  @FromProperty(key = "key758") private LazyValue<Boolean> field758;
+  @FromProperty(key = "key759") private LazyValue<String> field759;
+  @FromProperty(key = "key760") private LazyValue<Integer> field760;
+  @FromProperty(key = "key761") private LazyValue<Long> field761;
+  @FromProperty(key = "key762") private LazyValue<Double> field762;
+  @FromProperty(key = "key763") private LazyValue<Boolean> field763;
+  @FromProperty(key = "key764") private LazyValue<String> field764;
+  @FromProperty(key = "key765") private LazyValue<Integer> field765;
+  @FromProperty(key = "key766") private LazyValue<Long> field766;
+  @FromProperty(key = "key767") private LazyValue<Double> field767;
+  @FromProperty(key = "key768") private LazyValue<Boolean> field768;
+  @FromProperty(key = "key769") private LazyValue<String> field769;
+  @FromProperty(key = "key770") private LazyValue<Integer> field770;
+  @FromProperty(key = "key771") private LazyValue<Long> field771;
+  @FromProperty(key = "key772") private LazyValue<Double> field772;
+  @FromProperty(key = "key773") private LazyValue<Boolean> field773;
+  @FromProperty(key = "key774") private LazyValue<String> field774;
+  @FromProperty(key = "key775") private LazyValue<Integer> field775;
+  @FromProperty(key = "key776") private LazyValue<Long> field776;
+  @FromProperty(key = "key777") private LazyValue<Double> field777;
+  @FromProperty(key = "key778") private LazyValue<Boolean> field778;
+  @FromProperty(key = "key779") private LazyValue<String> field779;
+  @FromProperty(key = "key780") private LazyValue<Integer> field780;
+  @FromProperty(key = "key781") private LazyValue<Long> field781;
+  @FromProperty(key = "key782") private LazyValue<Double> field782;
+  @FromProperty(key = "key783") private LazyValue<Boolean> field783;
+  @FromProperty(key = "key784") private LazyValue<String> field784;
+  @FromProperty(key = "key785") private LazyValue<Integer> field785;
+  @FromProperty(key = "key786") private LazyValue<Long> field786;
+  @FromProperty(key = "key787") private LazyValue<Double> field787;
+  @FromProperty(key = "key788") private LazyValue<Boolean> field788;
+  @FromProperty(key = "key789") private LazyValue<String> field789;
+  @FromProperty(key = "key790") private LazyValue<Integer> field790;
+  @FromProperty(key = "key791") private LazyValue<Long> field791;
+  @FromProperty(key = "key792") private LazyValue<Double> field792;
+  @FromProperty(key = "key793") private LazyValue<Boolean> field793;
+  @FromProperty(key = "key794") private LazyValue<String> field794;
+  @FromProperty(key = "key795") private LazyValue<Integer> field795;
+  @FromProperty(key = "key796") private LazyValue<Long> field796;
+  @FromProperty(key = "key797") private LazyValue<Double> field797;
+  @FromProperty(key = "key798") private LazyValue<Boolean> field798;
+  @FromProperty(key = "key799") private LazyValue<String> field799;
+  @FromProperty(key = "key800") private LazyValue<Integer> field800;
+  @FromProperty(key = "key801") private LazyValue<Long> field801;
+  @FromProperty(key = "key802") private LazyValue<Double> field802;
+  @FromProperty(key = "key803") private LazyValue<Boolean> field803;
+  @FromProperty(key = "key804") private LazyValue<String> field804;
+  @FromProperty(key = "key805") private LazyValue<Integer> field805;
+  @FromProperty(key = "key806") private LazyValue<Long> field806;
+  @FromProperty(key = "key807") private LazyValue<Double> field807;
+  @FromProperty(key = "key808") private LazyValue<Boolean> field808;
+  @FromProperty(key = "key809") private LazyValue<String> field809;
+  @FromProperty(key = "key810") private LazyValue<Integer> field810;
+  @FromProperty(key = "key811") private LazyValue<Long> field811;
+  @FromProperty(key = "key812") private LazyValue<Double> field812;
+  @FromProperty(key = "key813") private LazyValue<Boolean> field813;
+  @FromProperty(key = "key814") private LazyValue<String> field814;
+  @FromProperty(key = "key815") private LazyValue<Integer> field815;
+  @FromProperty(key = "key816") private LazyValue<Long> field816;
+  @FromProperty(key = "key817") private LazyValue<Double> field817;
+  @FromProperty(key = "key818") private LazyValue<Boolean> field818;
+  @FromProperty(key = "key819") private LazyValue<String> field819;
+  @FromProperty(key = "key820") private LazyValue<Integer> field820;
+  @FromProperty(key = "key821") private LazyValue<Long> field821;
+  @FromProperty(key = "key822") private LazyValue<Double> field822;
+  @FromProperty(key = "key823") private LazyValue<Boolean> field823;
+  @FromProperty(key = "key824") private LazyValue<String> field824;
+  @FromProperty(key = "key825") private LazyValue<Integer> field825;
+  @FromProperty(key = "key826") private LazyValue<Long> field826;
+  @FromProperty(key = "key827") private LazyValue<Double> field827;
+  @FromProperty(key = "key828") private LazyValue<Boolean> field828;
+  @FromProperty(key = "key829") private LazyValue<String> field829;
+  @FromProperty(key = "key830") private LazyValue<Integer> field830;
+  @FromProperty(key = "key831") private LazyValue<Long> field831;
+  @FromProperty(key = "key832") private LazyValue<Double> field832;
+  @FromProperty(key = "key833") private LazyValue<Boolean> field833;
+  @FromProperty(key = "key834") private LazyValue<String> field834;
+  @FromProperty(key = "key835") private LazyValue<Integer> field835;
+  @FromProperty(key = "key836") private LazyValue<Long> field836;
+  @FromProperty(key = "key837") private LazyValue<Double> field837;
+  @FromProperty(key = "key838") private LazyValue<Boolean> field838;
+  @FromProperty(key = "key839") private LazyValue<String> field839;
+  @FromProperty(key = "key840") private LazyValue<Integer> field840;
+  @FromProperty(key = "key841") private LazyValue<Long> field841;
+  @FromProperty(key = "key842") private LazyValue<Double> field842;
+  @FromProperty(key = "key843") private LazyValue<Boolean> field843;
+  @FromProperty(key = "key844") private LazyValue<String> field844;
+  @FromProperty(key = "key845") private LazyValue<Integer> field845;
+  @FromProperty(key = "key846") private LazyValue<Long> field846;
+  @FromProperty(key = "key847") private LazyValue<Double> field847;
+  @FromProperty(key = "key848") private LazyValue<Boolean> field848;
+  @FromProperty(key = "key849") private LazyValue<String> field849;
+  @FromProperty(key = "key850") private LazyValue<Integer> field850;
+  @FromProperty(key = "key851") private LazyValue<Long> field851;
+  @FromProperty(key = "key852") private LazyValue<Double> field852;
+  @FromProperty(key = "key853") private LazyValue<Boolean> field853;
+  @FromProperty(key = "key854") private LazyValue<String> field854;
+  @FromProperty(key = "key855") private LazyValue<Integer> field855;
+  @FromProperty(key = "key856") private LazyValue<Long> field856;
+  @FromProperty(key = "key857") private LazyValue<Double> field857;
+  @FromProperty(key = "key858") private LazyValue<Boolean> field858;
+  @FromProperty(key = "key859") private LazyValue<String> field859;
+  @FromProperty(key = "key860") private LazyValue<Integer> field860;
+  @FromProperty(key = "key861") private LazyValue<Long> field861;
+  @FromProperty(key = "key862") private LazyValue<Double> field862;
+  @FromProperty(key = "key863") private LazyValue<Boolean> field863;
+  @FromProperty(key = "key864") private LazyValue<String> field864;
+  @FromProperty(key = "key865") private LazyValue<Integer> field865;
+  @FromProperty(key = "key866") private LazyValue<Long> field866;
+  @FromProperty(key = "key867") private LazyValue<Double> field867;
+  @FromProperty(key = "key868") private LazyValue<Boolean> field868;
+  @FromProperty(key = "key869") private LazyValue<String> field869;
+  @FromProperty(key = "key870") private LazyValue<Integer> field870;
+  @FromProperty(key = "key871") private LazyValue<Long> field871;
+  @FromProperty(key = "key872") private LazyValue<Double> field872;
+  @FromProperty(key = "key873") private LazyValue<Boolean> field873;
+  @FromProperty(key = "key874") private LazyValue<String> field874;
+  @FromProperty(key = "key875") private LazyValue<Integer> field875;
+  @FromProperty(key = "key876") private LazyValue<Long> field876;
+  @FromProperty(key = "key877") private LazyValue<Double> field877;
+  @FromProperty(key = "key878") private LazyValue<Boolean> field878;
+  @FromProperty(key = "key879") private LazyValue<String> field879;
+  @FromProperty(key = "key880") private LazyValue<Integer> field880;
+  @FromProperty(key = "key881") private LazyValue<Long> field881;
+  @FromProperty(key = "key882") private LazyValue<Double> field882;
+  @FromProperty(key = "key883") private LazyValue<Boolean> field883;
+  @FromProperty(key = "key884") private LazyValue<String> field884;
+  @FromProperty(key = "key885") private LazyValue<Integer> field885;
+  @FromProperty(key = "key886") private LazyValue<Long> field886;
+  @FromProperty(key = "key887") private LazyValue<Double> field887;
+  @FromProperty(key = "key888") private LazyValue<Boolean> field888;
+  @FromProperty(key = "key889") private LazyValue<String> field889;
+  @FromProperty(key = "key890") private LazyValue<Integer> field890;
+  @FromProperty(key = "key891") private LazyValue<Long> field891;
+  @FromProperty(key = "key892") private LazyValue<Double> field892;
+  @FromProperty(key = "key893") private LazyValue<Boolean> field893;
+  @FromProperty(key = "key894") private LazyValue<String> field894;
+  @FromProperty(key = "key895") private LazyValue<Integer> field895;
+  @FromProperty(key = "key896") private LazyValue<Long> field896;
+  @FromProperty(key = "key897") private LazyValue<Double> field897;
+  @FromProperty(key = "key898") private LazyValue<Boolean> field898;
+  @FromProperty(key = "key899") private LazyValue<String> field899;
+  @FromProperty(key = "key900") private LazyValue<Integer> field900;
+  @FromProperty(key = "key901") private LazyValue<Long> field901;
+  @FromProperty(key = "key902") private LazyValue<Double> field902;
+  @FromProperty(key = "key903") private LazyValue<Boolean> field903;
+  @FromProperty(key = "key904") private LazyValue<String> field904;
+  @FromProperty(key = "key905") private LazyValue<Integer> field905;
+  @FromProperty(key = "key906") private LazyValue<Long> field906;
+  @FromProperty(key = "key907") private LazyValue<Double> field907;
+  @FromProperty(key = "key908") private LazyValue<Boolean> field908;
+  @FromProperty(key = "key909") private LazyValue<String> field909;
+  @FromProperty(key = "key910") private LazyValue<Integer> field910;
+  @FromProperty(key = "key911") private LazyValue<Long> field911;
+  @FromProperty(key = "key912") private LazyValue<Double> field912;
+  @FromProperty(key = "key913") private LazyValue<Boolean> field913;
+  @FromProperty(key = "key914") private LazyValue<String> field914;
+  @FromProperty(key = "key915") private LazyValue<Integer> field915;
+  @FromProperty(key = "key916") private LazyValue<Long> field916;
+  @FromProperty(key = "key917") private LazyValue<Double> field917;
+  @FromProperty(key = "key918") private LazyValue<Boolean> field918;
+  @FromProperty(key = "key919") private LazyValue<String> field919;
+  @FromProperty(key = "key920") private LazyValue<Integer> field920;
+  @FromProperty(key = "key921") private LazyValue<Long> field921;
+  @FromProperty(key = "key922") private LazyValue<Double> field922;
+  @FromProperty(key = "key923") private LazyValue<Boolean> field923;
+  @FromProperty(key = "key924") private LazyValue<String> field924;
+  @FromProperty(key = "key925") private LazyValue<Integer> field925;
+  @FromProperty(key = "key926") private LazyValue<Long> field926;
+  @FromProperty(key = "key927") private LazyValue<Double> field927;
+  @FromProperty(key = "key928") private LazyValue<Boolean> field928;
+  @FromProperty(key = "key929") private LazyValue<String> field929;
+  @FromProperty(key = "key930") private LazyValue<Integer> field930;
+  @FromProperty(key = "key931") private LazyValue<Long> field931;
+  @FromProperty(key = "key932") private LazyValue<Double> field932;
+  @FromProperty(key = "key933") private LazyValue<Boolean> field933;
+  @FromProperty(key = "key934") private LazyValue<String> field934;
+  @FromProperty(key = "key935") private LazyValue<Integer> field935;
+  @FromProperty(key = "key936") private LazyValue<Long> field936;
+  @FromProperty(key = "key937") private LazyValue<Double> field937;
+  @FromProperty(key = "key938") private LazyValue<Boolean> field938;
+  @FromProperty(key = "key939") private LazyValue<String> field939;
+  @FromProperty(key = "key940") private LazyValue<Integer> field940;
+  @FromProperty(key = "key941") private LazyValue<Long> field941;
+  @FromProperty(key = "key942") private LazyValue<Double> field942;
+  @FromProperty(key = "key943") private LazyValue<Boolean> field943;
+  @FromProperty(key = "key944") private LazyValue<String> field944;
+  @FromProperty(key = "key945") private LazyValue<Integer> field945;
+  @FromProperty(key = "key946") private LazyValue<Long> field946;
+  @FromProperty(key = "key947") private LazyValue<Double> field947;
+  @FromProperty(key = "key948") private LazyValue<Boolean> field948;
+  @FromProperty(key = "key949") private LazyValue<String> field949;
+  @FromProperty(key = "key950") private LazyValue<Integer> field950;
+  @FromProperty(key = "key951") private LazyValue<Long> field951;
+  @FromProperty(key = "key952") private LazyValue<Double> field952;
+  @FromProperty(key = "key953") private LazyValue<Boolean> field953;
+  @FromProperty(key = "key954") private LazyValue<String> field954;
+  @FromProperty(key = "key955") private LazyValue<Integer> field955;
+  @FromProperty(key = "key956") private LazyValue<Long> field956;
+  @FromProperty(key = "key957") private LazyValue<Double> field957;
+  @FromProperty(key = "key958") private LazyValue<Boolean> field958;
+  @FromProperty(key = "key959") private LazyValue<String> field959;
+  @FromProperty(key = "key960") private LazyValue<Integer> field960;
+  @FromProperty(key = "key961") private LazyValue<Long> field961;
+  @FromProperty(key = "key962") private LazyValue<Double> field962;
+  @FromProperty(key = "key963") private LazyValue<Boolean> field963;
+  @FromProperty(key = "key964") private LazyValue<String> field964;
+  @FromProperty(key = "key965") private LazyValue<Integer> field965;
+  @FromProperty(key = "key966") private LazyValue<Long> field966;
+  @FromProperty(key = "key967") private LazyValue<Double> field967;
+  @FromProperty(key = "key968") private LazyValue<Boolean> field968;
+  @FromProperty(key = "key969") private LazyValue<String> field969;
+  @FromProperty(key = "key970") private LazyValue<Integer> field970;
+  @FromProperty(key = "key971") private LazyValue<Long> field971;
+  @FromProperty(key = "key972") private LazyValue<Double> field972;
+  @FromProperty(key = "key973") private LazyValue<Boolean> field973;
+  @FromProperty(key = "key974") private LazyValue<String> field974;
+  @FromProperty(key = "key975") private LazyValue<Integer> field975;
+  @FromProperty(key = "key976") private LazyValue<Long> field976;
+  @FromProperty(key = "key977") private LazyValue<Double> field977;
+  @FromProperty(key = "key978") private LazyValue<Boolean> field978;
+  @FromProperty(key = "key979") private LazyValue<String> field979;
+  @FromProperty(key = "key980") private LazyValue<Integer> field980;
+  @FromProperty(key = "key981") private LazyValue<Long> field981;
+  @FromProperty(key = "key982") private LazyValue<Double> field982;
+  @FromProperty(key = "key983") private LazyValue<Boolean> field983;
+  @FromProperty(key = "key984") private LazyValue<String> field984;
+  @FromProperty(key = "key985") private LazyValue<Integer> field985;
+  @FromProperty(key = "key986") private LazyValue<Long> field986;
+  @FromProperty(key = "key987") private LazyValue<Double> field987;
+  @FromProperty(key = "key988") private LazyValue<Boolean> field988;
+  @FromProperty(key = "key989") private LazyValue<String> field989;
+  @FromProperty(key = "key990") private LazyValue<Integer> field990;
+  @FromProperty(key = "key991") private LazyValue<Long> field991;
+  @FromProperty(key = "key992") private LazyValue<Double> field992;
+  @FromProperty(key = "key993") private LazyValue<Boolean> field993;
+  @FromProperty(key = "key994") private LazyValue<String> field994;
+  @FromProperty(key = "key995") private LazyValue<Integer> field995;
+  @FromProperty(key = "key996") private LazyValue<Long> field996;
+  @FromProperty(key = "key997") private LazyValue<Double> field997;
+  @FromProperty(key = "key998") private LazyValue<Boolean> field998;
+  @FromProperty(key = "key999") private LazyValue<String> field999;
+
+  public LazyBean1000(Properties properties) {
+    super(properties);
+  }
+
+  public LazyBean1000(PropertyReader reader) {
+    super(reader);
+  }
+
+}
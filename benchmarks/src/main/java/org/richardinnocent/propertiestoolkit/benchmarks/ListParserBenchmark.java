@@ -0,0 +1,79 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Measures reading a list of 1,000 comma-separated numbers with the array getters, which parse
+ * each element in place, against the usual approach of splitting the text and parsing (and
+ * boxing) each element through a custom parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListParserBenchmark {
+
+  private static final int ELEMENTS = 1000;
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    StringJoiner ints = new StringJoiner(", ");
+    StringJoiner doubles = new StringJoiner(", ");
+    for (int i = 0; i < ELEMENTS; i++) {
+      ints.add(Integer.toString(i * 37));
+      doubles.add(Double.toString(i / 8d));
+    }
+    Properties properties = new Properties();
+    properties.setProperty("ints", ints.toString());
+    properties.setProperty("doubles", doubles.toString());
+    reader = new PropertyReader(properties);
+  }
+
+  @Benchmark
+  public int[] intArray() {
+    return reader.getIntArray("ints").get();
+  }
+
+  @Benchmark
+  public Integer[] splitInts() {
+    return reader.getCustom("ints", text -> Arrays.stream(text.split(","))
+                                                  .map(String::trim)
+                                                  .map(Integer::valueOf)
+                                                  .toArray(Integer[]::new))
+                 .get();
+  }
+
+  @Benchmark
+  public double[] doubleArray() {
+    return reader.getDoubleArray("doubles").get();
+  }
+
+  @Benchmark
+  public Double[] splitDoubles() {
+    return reader.getCustom("doubles", text -> Arrays.stream(text.split(","))
+                                                     .map(String::trim)
+                                                     .map(Double::valueOf)
+                                                     .toArray(Double[]::new))
+                 .get();
+  }
+
+}
@@ -0,0 +1,138 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.types.CidrSet;
+import org.richardinnocent.propertiestoolkit.types.IntSet;
+import org.richardinnocent.propertiestoolkit.types.StringSet;
+
+/**
+ * Measures checking membership of allowlists of 5,000 entries, read once from properties, against
+ * the collections that they would usually be read into: a {@code HashSet<Integer>} (which boxes
+ * each ID that's checked), a {@code HashSet<String>}, and a list of CIDR ranges that is scanned
+ * for a match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MembershipBenchmark {
+
+  private static final int ENTRIES = 5000;
+  private static final int PROBES = 1024;
+
+  private IntSet intSet;
+  private Set<Integer> integerHashSet;
+  private StringSet stringSet;
+  private Set<String> stringHashSet;
+  private CidrSet cidrSet;
+  private int[] networks;
+  private int[] masks;
+
+  private final int[] ids = new int[PROBES];
+  private final String[] hosts = new String[PROBES];
+  private final int[] addresses = new int[PROBES];
+  private int probe;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    StringJoiner idText = new StringJoiner(",");
+    StringJoiner hostText = new StringJoiner(",");
+    StringJoiner cidrText = new StringJoiner(",");
+    integerHashSet = new HashSet<>();
+    stringHashSet = new HashSet<>();
+    networks = new int[ENTRIES];
+    masks = new int[ENTRIES];
+    for (int i = 0; i < ENTRIES; i++) {
+      int id = random.nextInt(1_000_000);
+      idText.add(Integer.toString(id));
+      integerHashSet.add(id);
+
+      String host = "host" + random.nextInt(1_000_000) + ".example.com";
+      hostText.add(host);
+      stringHashSet.add(host);
+
+      int prefixLength = 16 + random.nextInt(17);
+      masks[i] = prefixLength == 32 ? -1 : ~(-1 >>> prefixLength);
+      networks[i] = random.nextInt() & masks[i];
+      cidrText.add((networks[i] >>> 24) + "." + ((networks[i] >>> 16) & 0xFF) + "."
+                       + ((networks[i] >>> 8) & 0xFF) + "." + (networks[i] & 0xFF)
+                       + "/" + prefixLength);
+    }
+
+    Properties properties = new Properties();
+    properties.setProperty("blocked.ids", idText.toString());
+    properties.setProperty("allowed.hosts", hostText.toString());
+    properties.setProperty("allowed.cidrs", cidrText.toString());
+    PropertyReader reader = new PropertyReader(properties);
+    intSet = reader.getIntSet("blocked.ids").get();
+    stringSet = reader.getStringSet("allowed.hosts").get();
+    cidrSet = reader.getCidrSet("allowed.cidrs").get();
+
+    for (int i = 0; i < PROBES; i++) {
+      ids[i] = random.nextInt(1_000_000);
+      hosts[i] = "host" + random.nextInt(1_000_000) + ".example.com";
+      addresses[i] = random.nextInt();
+    }
+  }
+
+  @Benchmark
+  public boolean intSet() {
+    return intSet.contains(ids[nextProbe()]);
+  }
+
+  @Benchmark
+  public boolean integerHashSet() {
+    return integerHashSet.contains(ids[nextProbe()]);
+  }
+
+  @Benchmark
+  public boolean stringSet() {
+    return stringSet.contains(hosts[nextProbe()]);
+  }
+
+  @Benchmark
+  public boolean stringHashSet() {
+    return stringHashSet.contains(hosts[nextProbe()]);
+  }
+
+  @Benchmark
+  public boolean cidrSet() {
+    return cidrSet.containsIPv4(addresses[nextProbe()]);
+  }
+
+  @Benchmark
+  public boolean cidrScan() {
+    int address = addresses[nextProbe()];
+    for (int i = 0; i < networks.length; i++) {
+      if ((address & masks[i]) == networks[i])
+        return true;
+    }
+    return false;
+  }
+
+  private int nextProbe() {
+    probe = (probe + 1) & (PROBES - 1);
+    return probe;
+  }
+
+}
@@ -0,0 +1,81 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+
+/**
+ * Measures the cost of constructing a {@code PropertiesBean}, for beans with 10, 100 and 1000
+ * {@code FromProperty} fields, with each field either read eagerly or declared as a {@code
+ * LazyValue}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropertiesBeanBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int fieldCount;
+
+  private Properties properties;
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    properties = BeanFixtures.properties(fieldCount);
+    reader = new PropertyReader(properties);
+  }
+
+  @Benchmark
+  public PropertiesBean fromProperties() {
+    switch (fieldCount) {
+      case 10:
+        return new Bean10(properties);
+      case 100:
+        return new Bean100(properties);
+      default:
+        return new Bean1000(properties);
+    }
+  }
+
+  @Benchmark
+  public PropertiesBean fromReader() {
+    switch (fieldCount) {
+      case 10:
+        return new Bean10(reader);
+      case 100:
+        return new Bean100(reader);
+      default:
+        return new Bean1000(reader);
+    }
+  }
+
+  @Benchmark
+  public PropertiesBean lazyFromReader() {
+    switch (fieldCount) {
+      case 10:
+        return new LazyBean10(reader);
+      case 100:
+        return new LazyBean100(reader);
+      default:
+        return new LazyBean1000(reader);
+    }
+  }
+
+}
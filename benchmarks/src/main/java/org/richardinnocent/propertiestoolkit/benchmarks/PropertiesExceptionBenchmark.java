@@ -0,0 +1,83 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertiesException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertyResult;
+
+/**
+ * Measures {@code Property.get()} when no default applies and an exception is thrown, with and
+ * without stackless exceptions, against {@code Property.evaluate()}, which reports the same
+ * failures without an exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropertiesExceptionBenchmark {
+
+  @Param({"false", "true"})
+  private boolean stackless;
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty("unparseable", "not a number");
+    reader = new PropertyReader(properties);
+    PropertiesException.setStackless(stackless);
+  }
+
+  @TearDown
+  public void tearDown() {
+    PropertiesException.setStackless(false);
+  }
+
+  @Benchmark
+  public PropertiesException missing() {
+    try {
+      reader.getInt("missing").get();
+      return null;
+    } catch (PropertiesException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public PropertiesException parseFails() {
+    try {
+      reader.getInt("unparseable").get();
+      return null;
+    } catch (PropertiesException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public PropertyResult<Integer> missingEvaluated() {
+    return reader.getInt("missing").evaluate();
+  }
+
+  @Benchmark
+  public PropertyResult<Integer> parseFailsEvaluated() {
+    return reader.getInt("unparseable").evaluate();
+  }
+
+}
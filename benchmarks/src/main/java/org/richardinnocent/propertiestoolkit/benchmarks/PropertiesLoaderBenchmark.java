@@ -0,0 +1,78 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertiesLoader;
+import org.richardinnocent.propertiestoolkit.PropertySnapshot;
+
+/**
+ * Compares loading a {@code .properties} file with {@code Properties.load} and then taking a
+ * snapshot, against loading it straight into a snapshot with {@code PropertiesLoader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropertiesLoaderBenchmark {
+
+  @Param({"100", "10000"})
+  private int lines;
+
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("benchmark", ".properties");
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+      for (int i = 0; i < lines; i++) {
+        if (i % 10 == 0)
+          writer.write("# Settings for component " + i + "\n");
+        if (i % 50 == 0)
+          writer.write("component" + i + ".path = C:\\\\components\\\\" + i + "\n");
+        else
+          writer.write("component" + i + ".timeout = " + (i * 31) + "\n");
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public PropertySnapshot propertiesLoad() throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(file)) {
+      properties.load(in);
+    }
+    return PropertySnapshot.of(properties);
+  }
+
+  @Benchmark
+  public PropertySnapshot propertiesLoader() throws IOException {
+    return PropertiesLoader.load(file);
+  }
+
+}
@@ -0,0 +1,125 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.DefaultCondition;
+import org.richardinnocent.propertiestoolkit.DefaultSettings;
+import org.richardinnocent.propertiestoolkit.NumberParsers;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+
+/**
+ * Measures {@code Property.get()} with zero, one and several constraints, and for each of the
+ * {@link DefaultCondition}s when a {@code DefaultSettings} fallback applies. The {@code spec}
+ * benchmarks read the same values through {@code PropertySpec} constants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropertyGetBenchmark {
+
+  private static final DefaultSettings<Integer> DEFAULTS =
+      new DefaultSettings<Integer>().when(DefaultCondition.values())
+                                    .thenReturn(0);
+
+  private static final PropertySpec<Integer> VALID =
+      PropertySpec.of("valid", NumberParsers.INTEGER);
+
+  private static final PropertySpec<Integer> VALID_FIVE_CONSTRAINTS =
+      VALID.withConstraint(i -> i > 0)
+           .withConstraint(i -> i < 100_000)
+           .withConstraint(i -> i % 2 == 0)
+           .withConstraint(i -> i != 42)
+           .withConstraint(i -> i >= 10);
+
+  private static final PropertySpec<Integer> NEGATIVE_WITH_DEFAULT =
+      PropertySpec.of("negative", NumberParsers.INTEGER)
+                  .withConstraint(i -> i > 0)
+                  .withDefaultSettings(DEFAULTS);
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty("valid", "12352");
+    properties.setProperty("unparseable", "not a number");
+    properties.setProperty("negative", "-12352");
+    reader = new PropertyReader(properties);
+  }
+
+  @Benchmark
+  public Integer noConstraints() {
+    return reader.getInt("valid").get();
+  }
+
+  @Benchmark
+  public Integer oneConstraint() {
+    return reader.getInt("valid")
+                 .addConstraint(i -> i > 0)
+                 .get();
+  }
+
+  @Benchmark
+  public Integer fiveConstraints() {
+    return reader.getInt("valid")
+                 .addConstraint(i -> i > 0)
+                 .addConstraint(i -> i < 100_000)
+                 .addConstraint(i -> i % 2 == 0)
+                 .addConstraint(i -> i != 42)
+                 .addConstraint(i -> i >= 10)
+                 .get();
+  }
+
+  @Benchmark
+  public Integer defaultWhenEmpty() {
+    return reader.getInt("missing")
+                 .withDefaultSettings(DEFAULTS)
+                 .get();
+  }
+
+  @Benchmark
+  public Integer defaultWhenParseFails() {
+    return reader.getInt("unparseable")
+                 .withDefaultSettings(DEFAULTS)
+                 .get();
+  }
+
+  @Benchmark
+  public Integer defaultWhenInvalid() {
+    return reader.getInt("negative")
+                 .addConstraint(i -> i > 0)
+                 .withDefaultSettings(DEFAULTS)
+                 .get();
+  }
+
+  @Benchmark
+  public Integer specNoConstraints() {
+    return VALID.get(reader);
+  }
+
+  @Benchmark
+  public Integer specFiveConstraints() {
+    return VALID_FIVE_CONSTRAINTS.get(reader);
+  }
+
+  @Benchmark
+  public Integer specDefaultWhenInvalid() {
+    return NEGATIVE_WITH_DEFAULT.get(reader);
+  }
+
+}
@@ -0,0 +1,110 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.CachingPropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Measures a full {@code reader.getX(key).get()} round trip for each of the typed getters on
+ * {@code PropertyReader}, reading directly from the {@code Properties} object, from a snapshot of
+ * it, or through a {@code CachingPropertyReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PropertyReaderBenchmark {
+
+  private static final Function<String, StringBuilder> CUSTOM_PARSER = StringBuilder::new;
+
+  @Param({"properties", "snapshot", "caching"})
+  private String source;
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty("byte", "126");
+    properties.setProperty("short", "1238");
+    properties.setProperty("int", "12352");
+    properties.setProperty("long", "4200000000");
+    properties.setProperty("float", "124.245");
+    properties.setProperty("double", "124.56235");
+    properties.setProperty("boolean", "true");
+    properties.setProperty("string", "some text");
+    properties.setProperty("custom", "big StringBuilder");
+    switch (source) {
+      case "snapshot":
+        reader = PropertyReader.snapshot(properties);
+        break;
+      case "caching":
+        reader = new CachingPropertyReader(properties);
+        break;
+      default:
+        reader = new PropertyReader(properties);
+    }
+  }
+
+  @Benchmark
+  public Byte getByte() {
+    return reader.getByte("byte").get();
+  }
+
+  @Benchmark
+  public Short getShort() {
+    return reader.getShort("short").get();
+  }
+
+  @Benchmark
+  public Integer getInt() {
+    return reader.getInt("int").get();
+  }
+
+  @Benchmark
+  public Long getLong() {
+    return reader.getLong("long").get();
+  }
+
+  @Benchmark
+  public Float getFloat() {
+    return reader.getFloat("float").get();
+  }
+
+  @Benchmark
+  public Double getDouble() {
+    return reader.getDouble("double").get();
+  }
+
+  @Benchmark
+  public Boolean getBoolean() {
+    return reader.getBoolean("boolean").get();
+  }
+
+  @Benchmark
+  public String getString() {
+    return reader.getString("string").get();
+  }
+
+  @Benchmark
+  public StringBuilder getCustom() {
+    return reader.getCustom("custom", CUSTOM_PARSER).get();
+  }
+
+}
@@ -0,0 +1,102 @@
+package org.richardinnocent.propertiestoolkit.benchmarks;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Measures reading a timeout ({@code 250ms}) and a buffer size ({@code 512MB}) with the built-in
+ * unit parsers, against the regular-expression extractors that would otherwise be written for
+ * them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UnitParserBenchmark {
+
+  private static final Pattern DURATION = Pattern.compile("\\s*(\\d+)\\s*(ns|us|ms|s|m|h|d)\\s*");
+  private static final Pattern SIZE = Pattern.compile("\\s*(\\d+)\\s*(B|KB|MB|GB|TB)\\s*");
+
+  private PropertyReader reader;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty("pool.timeout", "250ms");
+    properties.setProperty("pool.buffer", "512MB");
+    reader = new PropertyReader(properties);
+  }
+
+  @Benchmark
+  public long durationNanos() {
+    return reader.getDurationNanos("pool.timeout").get();
+  }
+
+  @Benchmark
+  public Duration duration() {
+    return reader.getDuration("pool.timeout").get();
+  }
+
+  @Benchmark
+  public Duration durationRegex() {
+    return reader.getCustom("pool.timeout", UnitParserBenchmark::parseDurationWithRegex).get();
+  }
+
+  @Benchmark
+  public long sizeBytes() {
+    return reader.getSizeBytes("pool.buffer").get();
+  }
+
+  @Benchmark
+  public Long sizeRegex() {
+    return reader.getCustom("pool.buffer", UnitParserBenchmark::parseSizeWithRegex).get();
+  }
+
+  private static Duration parseDurationWithRegex(String text) {
+    Matcher matcher = DURATION.matcher(text);
+    if (!matcher.matches())
+      throw new IllegalArgumentException(text);
+    long amount = Long.parseLong(matcher.group(1));
+    switch (matcher.group(2)) {
+      case "ns": return Duration.ofNanos(amount);
+      case "us": return Duration.ofNanos(amount * 1_000);
+      case "ms": return Duration.ofMillis(amount);
+      case "s": return Duration.ofSeconds(amount);
+      case "m": return Duration.ofMinutes(amount);
+      case "h": return Duration.ofHours(amount);
+      default: return Duration.ofDays(amount);
+    }
+  }
+
+  private static Long parseSizeWithRegex(String text) {
+    Matcher matcher = SIZE.matcher(text);
+    if (!matcher.matches())
+      throw new IllegalArgumentException(text);
+    long amount = Long.parseLong(matcher.group(1));
+    switch (matcher.group(2)) {
+      case "B": return amount;
+      case "KB": return amount << 10;
+      case "MB": return amount << 20;
+      case "GB": return amount << 30;
+      default: return amount << 40;
+    }
+  }
+
+}
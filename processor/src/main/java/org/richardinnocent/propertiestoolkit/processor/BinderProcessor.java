@@ -0,0 +1,353 @@
+package org.richardinnocent.propertiestoolkit.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a {@code PropertiesBinder} for each class that extends {@code PropertiesBean} and has
+ * at least one field annotated with {@code FromProperty}. The generated binder reads, parses,
+ * validates and assigns each field with straight-line code, so {@code PropertiesBean} does not
+ * need to inspect the class reflectively.<br>
+ * <br>
+ * A binder can only assign fields directly if it can see them, so a binder is only generated
+ * when the bean, its annotated fields, and the extractors and constraints that they use, are all
+ * accessible from the bean's package. Beans that do not meet these criteria (for example, beans
+ * with {@code private} fields) are skipped with a note, and are populated reflectively at runtime
+ * as before. Beans with {@code LazyValue} fields are skipped in the same way, as lazy fields are
+ * only supported by the reflective binding.<br>
+ * <br>
+ * Annotated fields that are {@code final} or {@code static}, and lists that the {@code
+ * GenericExtractor} would read into any type other than {@code List<String>}, are reported as
+ * compilation errors, as they would be rejected at runtime.
+ */
+@SupportedAnnotationTypes(BinderProcessor.FROM_PROPERTY)
+public class BinderProcessor extends AbstractProcessor {
+
+  static final String FROM_PROPERTY = "org.richardinnocent.propertiestoolkit.annotations.FromProperty";
+  static final String PROPERTIES_BEAN =
+      "org.richardinnocent.propertiestoolkit.annotations.PropertiesBean";
+  static final String GENERIC_EXTRACTOR =
+      "org.richardinnocent.propertiestoolkit.annotations.propertyHelpers.GenericExtractor";
+  static final String PROPERTY_CONSTRAINT =
+      "org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint";
+  static final String LAZY_VALUE = "org.richardinnocent.propertiestoolkit.annotations.LazyValue";
+  static final String BINDER_SUFFIX = "Binder";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement fromProperty = elements().getTypeElement(FROM_PROPERTY);
+    TypeElement propertiesBean = elements().getTypeElement(PROPERTIES_BEAN);
+    if (fromProperty == null || propertiesBean == null) {
+      return false;
+    }
+
+    Map<TypeElement, List<VariableElement>> fieldsByBean = new LinkedHashMap<>();
+    for (Element element : roundEnv.getElementsAnnotatedWith(fromProperty)) {
+      if (element.getKind() == ElementKind.FIELD) {
+        fieldsByBean.computeIfAbsent((TypeElement) element.getEnclosingElement(),
+                                     bean -> new ArrayList<>())
+                    .add((VariableElement) element);
+      }
+    }
+
+    for (Map.Entry<TypeElement, List<VariableElement>> entry : fieldsByBean.entrySet()) {
+      TypeElement bean = entry.getKey();
+      if (types().isSubtype(types().erasure(bean.asType()),
+                            types().erasure(propertiesBean.asType()))) {
+        processBean(bean, entry.getValue(), fromProperty);
+      }
+    }
+    return false;
+  }
+
+  private void processBean(TypeElement bean,
+                           List<VariableElement> fields,
+                           TypeElement fromProperty) {
+    if (!checkFieldsAreSettable(fields)) {
+      return;
+    }
+
+    PackageElement beanPackage = elements().getPackageOf(bean);
+    if (!isReachableFrom(bean, beanPackage)) {
+      note(bean, "it is not accessible from its package");
+      return;
+    }
+
+    List<BoundField> boundFields = new ArrayList<>(fields.size());
+    for (VariableElement field : fields) {
+      BoundField boundField = resolveField(field, fromProperty, beanPackage);
+      if (boundField == null) {
+        return;
+      }
+      boundFields.add(boundField);
+    }
+
+    writeBinder(bean, beanPackage, boundFields);
+  }
+
+  private boolean checkFieldsAreSettable(List<VariableElement> fields) {
+    boolean settable = true;
+    for (VariableElement field : fields) {
+      Set<Modifier> modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.FINAL)) {
+        messager().printMessage(Diagnostic.Kind.ERROR,
+                                "Field, " + field.getSimpleName() + ", is final", field);
+        settable = false;
+      }
+      if (modifiers.contains(Modifier.STATIC)) {
+        messager().printMessage(Diagnostic.Kind.ERROR,
+                                "Field, " + field.getSimpleName()
+                                    + ", is static. Setting static fields is not supported",
+                                field);
+        settable = false;
+      }
+    }
+    return settable;
+  }
+
+  private BoundField resolveField(VariableElement field,
+                                  TypeElement fromProperty,
+                                  PackageElement beanPackage) {
+    TypeElement bean = (TypeElement) field.getEnclosingElement();
+    if (!isAccessibleFrom(field, beanPackage)) {
+      note(bean, "field " + field.getSimpleName() + " is private");
+      return null;
+    }
+
+    if (isLazyValue(field.asType())) {
+      note(bean, "field " + field.getSimpleName() + " is a LazyValue");
+      return null;
+    }
+
+    Map<String, AnnotationValue> values = getAnnotationValues(field, fromProperty);
+
+    String key = (String) values.get("key").getValue();
+    if (key.isEmpty()) {
+      key = field.getSimpleName().toString();
+    }
+
+    TypeElement extractor = asTypeElement((TypeMirror) values.get("extractor").getValue());
+    if (!isInstantiableFrom(extractor, beanPackage)) {
+      note(bean, "the extractor " + extractor.getQualifiedName() + " cannot be instantiated from "
+          + "the bean's package");
+      return null;
+    }
+
+    boolean genericExtractor = isGenericExtractor(extractor);
+    if (genericExtractor && isList(field.asType()) && !isStringList(field.asType())) {
+      messager().printMessage(Diagnostic.Kind.ERROR,
+                              "Field, " + field.getSimpleName()
+                                  + ", must be declared as a List<String>. Lists of other types "
+                                  + "can be read with a custom PropertyExtractor",
+                              field);
+      return null;
+    }
+
+    List<TypeElement> constraints = new ArrayList<>();
+    TypeElement propertyConstraint = elements().getTypeElement(PROPERTY_CONSTRAINT);
+    for (Object value : (List<?>) values.get("constraints").getValue()) {
+      TypeElement constraint = asTypeElement((TypeMirror) ((AnnotationValue) value).getValue());
+      if (!types().isSubtype(types().erasure(constraint.asType()),
+                             types().erasure(propertyConstraint.asType()))) {
+        messager().printMessage(Diagnostic.Kind.ERROR,
+                                constraint.getQualifiedName() + " does not extend "
+                                    + PROPERTY_CONSTRAINT, field);
+        return null;
+      }
+      if (!isInstantiableFrom(constraint, beanPackage)) {
+        note(bean, "the constraint " + constraint.getQualifiedName() + " cannot be instantiated "
+            + "from the bean's package");
+        return null;
+      }
+      constraints.add(constraint);
+    }
+
+    if (!constraints.isEmpty() && isList(field.asType())) {
+      // Constraints on lists may apply to each element, which only the reflective binding handles
+      note(bean, "field " + field.getSimpleName() + " is a constrained list");
+      return null;
+    }
+
+    return new BoundField(field, key, extractor, genericExtractor,
+                          Collections.unmodifiableList(constraints));
+  }
+
+  private Map<String, AnnotationValue> getAnnotationValues(Element element,
+                                                           TypeElement annotationType) {
+    Map<String, AnnotationValue> values = new LinkedHashMap<>();
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (types().isSameType(mirror.getAnnotationType(), annotationType.asType())) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : elements().getElementValuesWithDefaults(mirror).entrySet()) {
+          values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+      }
+    }
+    return values;
+  }
+
+  private boolean isLazyValue(TypeMirror type) {
+    TypeElement lazyValue = elements().getTypeElement(LAZY_VALUE);
+    return lazyValue != null
+        && types().isSameType(types().erasure(type), types().erasure(lazyValue.asType()));
+  }
+
+  private boolean isList(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return true;
+    }
+    TypeElement list = elements().getTypeElement(List.class.getName());
+    return types().isSameType(types().erasure(type), types().erasure(list.asType()));
+  }
+
+  /**
+   * Checks that a list, which is not an array, is declared as a {@code List<String>}.
+   */
+  private boolean isStringList(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return true;
+    }
+    List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+    TypeElement string = elements().getTypeElement(String.class.getName());
+    return arguments.size() == 1 && types().isSameType(arguments.get(0), string.asType());
+  }
+
+  private boolean isGenericExtractor(TypeElement extractor) {
+    TypeElement genericExtractor = elements().getTypeElement(GENERIC_EXTRACTOR);
+    return types().isSubtype(extractor.asType(), genericExtractor.asType());
+  }
+
+  /**
+   * Checks that {@code new Type()} would compile in the given package.
+   */
+  private boolean isInstantiableFrom(TypeElement type, PackageElement from) {
+    if (type.getKind() != ElementKind.CLASS
+        || type.getModifiers().contains(Modifier.ABSTRACT)
+        || !isReachableFrom(type, from)) {
+      return false;
+    }
+
+    if (type.getNestingKind() == NestingKind.MEMBER
+        && !type.getModifiers().contains(Modifier.STATIC)) {
+      return false;
+    }
+
+    for (ExecutableElement constructor
+        : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (constructor.getParameters().isEmpty()) {
+        return isAccessibleFrom(constructor, from);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks that the type, and every type that encloses it, is accessible from the given package.
+   */
+  private boolean isReachableFrom(TypeElement type, PackageElement from) {
+    if (type.getNestingKind() == NestingKind.LOCAL
+        || type.getNestingKind() == NestingKind.ANONYMOUS) {
+      return false;
+    }
+
+    Element element = type;
+    while (element instanceof TypeElement) {
+      if (!isAccessibleFrom(element, from)) {
+        return false;
+      }
+      element = element.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private boolean isAccessibleFrom(Element element, PackageElement from) {
+    Set<Modifier> modifiers = element.getModifiers();
+    if (modifiers.contains(Modifier.PRIVATE)) {
+      return false;
+    }
+    return modifiers.contains(Modifier.PUBLIC) || elements().getPackageOf(element).equals(from);
+  }
+
+  private void writeBinder(TypeElement bean, PackageElement beanPackage, List<BoundField> fields) {
+    String packageName = beanPackage.isUnnamed() ? "" : beanPackage.getQualifiedName().toString();
+    String binderName = getBinderSimpleName(bean, packageName);
+    String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + '.' + binderName;
+
+    BinderSource source = new BinderSource(elements(), types(), packageName, binderName, bean,
+                                           fields);
+    try (Writer writer = processingEnv.getFiler()
+                                      .createSourceFile(qualifiedBinderName, bean)
+                                      .openWriter()) {
+      writer.write(source.generate());
+    } catch (IOException e) {
+      messager().printMessage(Diagnostic.Kind.ERROR,
+                              "Could not write " + qualifiedBinderName + ": " + e.getMessage(),
+                              bean);
+    }
+  }
+
+  private String getBinderSimpleName(TypeElement bean, String packageName) {
+    String binaryName = elements().getBinaryName(bean).toString();
+    String nameInPackage =
+        packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+    return nameInPackage.replace('$', '_') + BINDER_SUFFIX;
+  }
+
+  private TypeElement asTypeElement(TypeMirror type) {
+    return (TypeElement) ((DeclaredType) type).asElement();
+  }
+
+  private void note(TypeElement bean, String reason) {
+    messager().printMessage(Diagnostic.Kind.NOTE,
+                            "No binder generated for " + bean.getQualifiedName() + " because "
+                                + reason + ". It will be populated reflectively.",
+                            bean);
+  }
+
+  private Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  private Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  private Messager messager() {
+    return processingEnv.getMessager();
+  }
+
+}
@@ -0,0 +1,263 @@
+package org.richardinnocent.propertiestoolkit.processor;
+
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the source code of a generated binder. For a field such as
+ * <pre>
+ * &#64;FromProperty(key = "max.users", constraints = NumberMustBePositive.class)
+ * int maxUsers;</pre>
+ * the binder compiles the extraction method, default settings and constraints into a {@code
+ * PropertySpec} constant when the binder class is initialised:
+ * <pre>
+ * private static final PropertySpec SPEC0;
+ *
+ * static {
+ *   GenericExtractor extractor0 = new GenericExtractor();
+ *   PropertySpec spec0 = PropertySpec.of("max.users", extractor0.getExtractionMethod(int.class));
+ *   spec0 = withConstraint(spec0, new NumberMustBePositive(), Integer.class, "maxUsers");
+ *   SPEC0 = spec0.withDefaultSettings(extractor0.getDefaultSettings());
+ * }</pre>
+ * and then binds the field with:
+ * <pre>
+ * Object value0 = SPEC0.get(reader);
+ * if (value0 == null) {
+ *   bean.maxUsers = 0;
+ * } else if (value0 instanceof java.lang.Integer) {
+ *   bean.maxUsers = (java.lang.Integer) value0;
+ * } else if (value0 instanceof java.lang.Short) {
+ *   ...
+ * } else {
+ *   throw wrongType("maxUsers", value0);
+ * }</pre>
+ * As with reflective binding, a value for a primitive field may be of any wrapper type that can be
+ * widened to the field's type, and a value of any other type is rejected with an {@code
+ * IllegalArgumentException}.
+ */
+final class BinderSource {
+
+  private static final String PROPERTY_READER = "org.richardinnocent.propertiestoolkit.PropertyReader";
+  private static final String PROPERTY_SPEC = "org.richardinnocent.propertiestoolkit.PropertySpec";
+  private static final String PROPERTIES_BINDER =
+      "org.richardinnocent.propertiestoolkit.annotations.PropertiesBinder";
+  private static final String INVALID_ANNOTATION_EXCEPTION =
+      "org.richardinnocent.propertiestoolkit.annotations.InvalidAnnotationException";
+
+  private final Elements elements;
+  private final Types types;
+  private final String packageName;
+  private final String binderName;
+  private final TypeElement bean;
+  private final List<BoundField> fields;
+  private final StringBuilder source = new StringBuilder();
+
+  BinderSource(Elements elements,
+               Types types,
+               String packageName,
+               String binderName,
+               TypeElement bean,
+               List<BoundField> fields) {
+    this.elements = elements;
+    this.types = types;
+    this.packageName = packageName;
+    this.binderName = binderName;
+    this.bean = bean;
+    this.fields = fields;
+  }
+
+  String generate() {
+    if (!packageName.isEmpty()) {
+      line("package " + packageName + ";");
+      line("");
+    }
+    String beanName = types.erasure(bean.asType()).toString();
+    line("/**");
+    line(" * Populates {@link " + beanName + "} without reflection.");
+    line(" * Generated by the Properties Toolkit annotation processor. Do not edit.");
+    line(" */");
+    line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+    line("public final class " + binderName);
+    line("    implements " + PROPERTIES_BINDER + "<" + beanName + "> {");
+    line("");
+    writeSpecs();
+    writeBind(beanName);
+    writeWrongTypeHelper();
+    if (hasConstraints()) {
+      writeConstraintHelper();
+    }
+    line("}");
+    return source.toString();
+  }
+
+  private void writeSpecs() {
+    for (int i = 0; i < fields.size(); i++) {
+      line("  private static final " + PROPERTY_SPEC + " SPEC" + i + ";");
+    }
+    line("");
+    line("  static {");
+    for (int i = 0; i < fields.size(); i++) {
+      BoundField field = fields.get(i);
+      String extractorType = field.getExtractor().getQualifiedName().toString();
+      line("    " + extractorType + " extractor" + i + " = new " + extractorType + "();");
+      String extraction = field.usesGenericExtractor() ?
+          "extractor" + i + ".getExtractionMethod(" + getErasedName(field) + ".class)" :
+          "extractor" + i + ".getExtractionMethod()";
+      line("    " + PROPERTY_SPEC + " spec" + i + " = " + PROPERTY_SPEC + ".of("
+               + elements.getConstantExpression(field.getKey()) + ", " + extraction + ");");
+      for (TypeElement constraint : field.getConstraints()) {
+        line("    spec" + i + " = withConstraint(spec" + i + ", new "
+                 + constraint.getQualifiedName() + "(), " + getBoxedName(field) + ".class, "
+                 + elements.getConstantExpression(field.getName()) + ");");
+      }
+      line("    SPEC" + i + " = spec" + i + ".withDefaultSettings(extractor" + i
+               + ".getDefaultSettings());");
+    }
+    line("  }");
+    line("");
+  }
+
+  private void writeBind(String beanName) {
+    line("  @Override");
+    line("  public void bind(" + beanName + " bean, " + PROPERTY_READER + " reader) {");
+    for (int i = 0; i < fields.size(); i++) {
+      line("    Object value" + i + " = SPEC" + i + ".get(reader);");
+      writeAssignment(fields.get(i), "value" + i);
+    }
+    line("  }");
+  }
+
+  private void writeAssignment(BoundField field, String value) {
+    String target = "bean." + field.getName();
+    TypeMirror type = field.getField().asType();
+    if (type.getKind().isPrimitive()) {
+      line("    if (" + value + " == null) {");
+      line("      " + target + " = " + getZeroValue(type.getKind()) + ";");
+      for (String source : getWideningSources(type.getKind())) {
+        line("    } else if (" + value + " instanceof " + source + ") {");
+        line("      " + target + " = (" + source + ") " + value + ";");
+      }
+    } else {
+      String erasedName = getErasedName(field);
+      line("    if (" + value + " == null || " + value + " instanceof " + erasedName + ") {");
+      line("      " + target + " = (" + erasedName + ") " + value + ";");
+    }
+    line("    } else {");
+    line("      throw wrongType(" + elements.getConstantExpression(field.getName()) + ", " + value
+             + ");");
+    line("    }");
+  }
+
+  private void writeWrongTypeHelper() {
+    line("");
+    line("  private static IllegalArgumentException wrongType(String fieldName, Object value) {");
+    line("    return new IllegalArgumentException(");
+    line("        \"Cannot set field \" + fieldName + \" to a value of type \""
+             + " + value.getClass().getName());");
+    line("  }");
+  }
+
+  private void writeConstraintHelper() {
+    line("");
+    line("  private static " + PROPERTY_SPEC + " withConstraint(");
+    line("      " + PROPERTY_SPEC + " spec,");
+    line("      org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint"
+             + " constraint,");
+    line("      Class<?> fieldType,");
+    line("      String fieldName) {");
+    line("    if (!constraint.getType().isAssignableFrom(fieldType)) {");
+    line("      throw new " + INVALID_ANNOTATION_EXCEPTION + "(");
+    line("          \"The type of constraint \" + constraint.getClass().getName() + \" on field \"");
+    line("              + fieldName + \" (\" + constraint.getType()");
+    line("              + \") is not assignable from the field type (\" + fieldType.getName()"
+             + " + \")\");");
+    line("    }");
+    line("    java.util.function.Predicate predicate = constraint.getConstraint();");
+    line("    return predicate == null ? spec : spec.withConstraint(predicate);");
+    line("  }");
+  }
+
+  private boolean hasConstraints() {
+    for (BoundField field : fields) {
+      if (!field.getConstraints().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String getErasedName(BoundField field) {
+    return types.erasure(field.getField().asType()).toString();
+  }
+
+  private String getBoxedName(BoundField field) {
+    TypeMirror type = field.getField().asType();
+    if (type.getKind().isPrimitive()) {
+      return types.boxedClass(types.getPrimitiveType(type.getKind()))
+                  .getQualifiedName()
+                  .toString();
+    }
+    return getErasedName(field);
+  }
+
+  /**
+   * Gets the wrapper types that can be unboxed and widened to the given primitive type, starting
+   * with the primitive's own wrapper type.
+   */
+  private static String[] getWideningSources(TypeKind kind) {
+    switch (kind) {
+      case BOOLEAN:
+        return new String[] {"java.lang.Boolean"};
+      case BYTE:
+        return new String[] {"java.lang.Byte"};
+      case SHORT:
+        return new String[] {"java.lang.Short", "java.lang.Byte"};
+      case CHAR:
+        return new String[] {"java.lang.Character"};
+      case INT:
+        return new String[] {
+            "java.lang.Integer", "java.lang.Short", "java.lang.Character", "java.lang.Byte"};
+      case LONG:
+        return new String[] {"java.lang.Long", "java.lang.Integer", "java.lang.Short",
+                             "java.lang.Character", "java.lang.Byte"};
+      case FLOAT:
+        return new String[] {"java.lang.Float", "java.lang.Long", "java.lang.Integer",
+                             "java.lang.Short", "java.lang.Character", "java.lang.Byte"};
+      default:
+        return new String[] {"java.lang.Double", "java.lang.Float", "java.lang.Long",
+                             "java.lang.Integer", "java.lang.Short", "java.lang.Character",
+                             "java.lang.Byte"};
+    }
+  }
+
+  private static String getZeroValue(TypeKind kind) {
+    switch (kind) {
+      case BYTE:
+        return "(byte) 0";
+      case SHORT:
+        return "(short) 0";
+      case LONG:
+        return "0L";
+      case FLOAT:
+        return "0f";
+      case DOUBLE:
+        return "0d";
+      case BOOLEAN:
+        return "false";
+      case CHAR:
+        return "(char) 0";
+      default:
+        return "0";
+    }
+  }
+
+  private void line(String text) {
+    source.append(text).append('\n');
+  }
+
+}
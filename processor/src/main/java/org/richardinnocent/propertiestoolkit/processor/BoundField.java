@@ -0,0 +1,55 @@
+package org.richardinnocent.propertiestoolkit.processor;
+
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+
+/**
+ * The resolved settings of a single {@code FromProperty} field, as read at compile time.
+ */
+final class BoundField {
+
+  private final VariableElement field;
+  private final String key;
+  private final TypeElement extractor;
+  private final boolean genericExtractor;
+  private final List<TypeElement> constraints;
+
+  BoundField(VariableElement field,
+             String key,
+             TypeElement extractor,
+             boolean genericExtractor,
+             List<TypeElement> constraints) {
+    this.field = field;
+    this.key = key;
+    this.extractor = extractor;
+    this.genericExtractor = genericExtractor;
+    this.constraints = constraints;
+  }
+
+  VariableElement getField() {
+    return field;
+  }
+
+  String getName() {
+    return field.getSimpleName().toString();
+  }
+
+  String getKey() {
+    return key;
+  }
+
+  TypeElement getExtractor() {
+    return extractor;
+  }
+
+  boolean usesGenericExtractor() {
+    return genericExtractor;
+  }
+
+  List<TypeElement> getConstraints() {
+    return constraints;
+  }
+
+}
@@ -0,0 +1,311 @@
+package org.richardinnocent.propertiestoolkit.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+public class BinderProcessorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path sources;
+  private Path classes;
+  private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+  @Before
+  public void setUp() throws IOException {
+    sources = folder.newFolder("sources").toPath();
+    classes = folder.newFolder("classes").toPath();
+  }
+
+  @Test
+  public void testBinderIsGeneratedAndUsed() throws Exception {
+    writeSource("com/example/AppConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;",
+                "import org.richardinnocent.propertiestoolkit.annotations.propertyHelpers.TolerantGenericExtractor;",
+                "public class AppConfig extends PropertiesBean {",
+                "  @FromProperty(key = \"admin\") String adminAccount;",
+                "  @FromProperty(constraints = NumberMustBePositive.class) int maxUsers;",
+                "  @FromProperty(extractor = TolerantGenericExtractor.class) long missing;",
+                "  @FromProperty(extractor = UpperCaseExtractor.class) String name;",
+                "  public AppConfig(Properties properties) { super(properties); }",
+                "}");
+    writeSource("com/example/UpperCaseExtractor.java",
+                "package com.example;",
+                "import java.util.function.Function;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertyExtractor;",
+                "public class UpperCaseExtractor implements PropertyExtractor<String> {",
+                "  public Function<String, String> getExtractionMethod() {",
+                "    return String::toUpperCase;",
+                "  }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertTrue(Files.exists(classes.resolve("com/example/AppConfigBinder.class")));
+
+    Properties properties = new Properties();
+    properties.setProperty("admin", "myAdmin");
+    properties.setProperty("maxUsers", "50");
+    properties.setProperty("name", "bob");
+
+    try (URLClassLoader loader = newClassLoader()) {
+      Class<?> beanClass = loader.loadClass("com.example.AppConfig");
+      Object bean = beanClass.getConstructor(Properties.class).newInstance(properties);
+      assertEquals("myAdmin", getField(bean, "adminAccount"));
+      assertEquals(50, getField(bean, "maxUsers"));
+      assertEquals(0L, getField(bean, "missing"));
+      assertEquals("BOB", getField(bean, "name"));
+    }
+  }
+
+  @Test
+  public void testGeneratedBinderWidensAndRejectsValuesLikeReflectiveBinding() throws Exception {
+    writeSource("com/example/IntegerExtractor.java",
+                "package com.example;",
+                "import java.util.function.Function;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertyExtractor;",
+                "public class IntegerExtractor implements PropertyExtractor<Integer> {",
+                "  public Function<String, Integer> getExtractionMethod() {",
+                "    return Integer::valueOf;",
+                "  }",
+                "}");
+    writeSource("com/example/WideningConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class WideningConfig extends PropertiesBean {",
+                "  @FromProperty(extractor = IntegerExtractor.class) long count;",
+                "  public WideningConfig(Properties properties) { super(properties); }",
+                "}");
+    writeSource("com/example/WrongTypeConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class WrongTypeConfig extends PropertiesBean {",
+                "  @FromProperty(extractor = IntegerExtractor.class) String count;",
+                "  public WrongTypeConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertTrue(Files.exists(classes.resolve("com/example/WideningConfigBinder.class")));
+    assertTrue(Files.exists(classes.resolve("com/example/WrongTypeConfigBinder.class")));
+
+    Properties properties = new Properties();
+    properties.setProperty("count", "5");
+
+    try (URLClassLoader loader = newClassLoader()) {
+      Class<?> wideningClass = loader.loadClass("com.example.WideningConfig");
+      Object bean = wideningClass.getConstructor(Properties.class).newInstance(properties);
+      assertEquals(5L, getField(bean, "count"));
+
+      Class<?> wrongTypeClass = loader.loadClass("com.example.WrongTypeConfig");
+      try {
+        wrongTypeClass.getConstructor(Properties.class).newInstance(properties);
+        fail("Expected the value of the wrong type to be rejected");
+      } catch (InvocationTargetException e) {
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        assertEquals("Cannot set field count to a value of type java.lang.Integer",
+                     e.getCause().getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testBinderIsGeneratedForNestedBean() throws Exception {
+    writeSource("com/example/Outer.java",
+                "package com.example;",
+                "import org.richardinnocent.propertiestoolkit.PropertyReader;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class Outer {",
+                "  static class Config extends PropertiesBean {",
+                "    @FromProperty double ratio;",
+                "    Config(PropertyReader reader) { super(reader); }",
+                "  }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertTrue(Files.exists(classes.resolve("com/example/Outer_ConfigBinder.class")));
+  }
+
+  @Test
+  public void testNoBinderIsGeneratedForPrivateFields() throws Exception {
+    writeSource("com/example/PrivateConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class PrivateConfig extends PropertiesBean {",
+                "  @FromProperty private String admin;",
+                "  public PrivateConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertFalse(Files.exists(classes.resolve("com/example/PrivateConfigBinder.class")));
+    assertTrue(getMessages(Diagnostic.Kind.NOTE).stream()
+                                                .anyMatch(message -> message.contains("private")));
+  }
+
+  @Test
+  public void testNoBinderIsGeneratedForLazyFields() throws Exception {
+    writeSource("com/example/LazyConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.LazyValue;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class LazyConfig extends PropertiesBean {",
+                "  @FromProperty LazyValue<Integer> maxUsers;",
+                "  public LazyConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertFalse(Files.exists(classes.resolve("com/example/LazyConfigBinder.class")));
+    assertTrue(getMessages(Diagnostic.Kind.NOTE).stream()
+                                                .anyMatch(message -> message.contains("LazyValue")));
+  }
+
+  @Test
+  public void testNoBinderIsGeneratedForConstrainedLists() throws Exception {
+    writeSource("com/example/PortsConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "import org.richardinnocent.propertiestoolkit.annotations.constraints"
+                    + ".NumberMustBePositive;",
+                "public class PortsConfig extends PropertiesBean {",
+                "  @FromProperty(constraints = NumberMustBePositive.class) int[] ports;",
+                "  public PortsConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertFalse(Files.exists(classes.resolve("com/example/PortsConfigBinder.class")));
+    assertTrue(getMessages(Diagnostic.Kind.NOTE).stream()
+                                                .anyMatch(message -> message.contains("list")));
+  }
+
+  @Test
+  public void testNoBinderIsGeneratedForClassesThatAreNotBeans() throws Exception {
+    writeSource("com/example/NotABean.java",
+                "package com.example;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "public class NotABean {",
+                "  @FromProperty String admin;",
+                "}");
+
+    assertTrue(diagnostics.getDiagnostics().toString(), compile());
+    assertFalse(Files.exists(classes.resolve("com/example/NotABeanBinder.class")));
+  }
+
+  @Test
+  public void testFinalFieldIsAnError() throws Exception {
+    writeSource("com/example/FinalConfig.java",
+                "package com.example;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class FinalConfig extends PropertiesBean {",
+                "  @FromProperty final String admin = \"\";",
+                "  public FinalConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertFalse(compile());
+    assertTrue(getMessages(Diagnostic.Kind.ERROR).contains("Field, admin, is final"));
+  }
+
+  @Test
+  public void testListOfAnotherTypeIsAnError() throws Exception {
+    writeSource("com/example/IdsConfig.java",
+                "package com.example;",
+                "import java.util.List;",
+                "import java.util.Properties;",
+                "import org.richardinnocent.propertiestoolkit.annotations.FromProperty;",
+                "import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;",
+                "public class IdsConfig extends PropertiesBean {",
+                "  @FromProperty List<Integer> ids;",
+                "  public IdsConfig(Properties properties) { super(properties); }",
+                "}");
+
+    assertFalse(compile());
+    assertTrue(getMessages(Diagnostic.Kind.ERROR).stream()
+                                                 .anyMatch(message -> message.contains(
+                                                     "must be declared as a List<String>")));
+  }
+
+  private void writeSource(String path, String... lines) throws IOException {
+    Path file = sources.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  private boolean compile() throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+             compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      List<File> files = Files.walk(sources)
+                              .filter(path -> path.toString().endsWith(".java"))
+                              .map(Path::toFile)
+                              .collect(Collectors.toList());
+      List<String> options = Arrays.asList(
+          "-classpath", System.getProperty("java.class.path"),
+          "-processor", BinderProcessor.class.getName(),
+          "-s", sources.toString(),
+          "-d", classes.toString());
+      return compiler.getTask(null, fileManager, diagnostics, options, null,
+                              fileManager.getJavaFileObjectsFromFiles(files))
+                     .call();
+    }
+  }
+
+  private List<String> getMessages(Diagnostic.Kind kind) {
+    return diagnostics.getDiagnostics()
+                      .stream()
+                      .filter(diagnostic -> diagnostic.getKind() == kind)
+                      .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                      .collect(Collectors.toList());
+  }
+
+  private URLClassLoader newClassLoader() throws IOException {
+    return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  private static Object getField(Object bean, String name) throws ReflectiveOperationException {
+    Field field = bean.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    return field.get(bean);
+  }
+
+}
@@ -0,0 +1,127 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code boolean} equivalent of {@link DefaultSettings}, for use with a {@link
+ * BooleanProperty}. The default value is stored as a {@code boolean}, so applying it does not
+ * require any boxing.
+ * @see DefaultSettings
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+@SuppressWarnings("WeakerAccess")
+public class BooleanDefaultSettings {
+
+  private final ReturnBehaviour[] behaviours =
+      new ReturnBehaviour[DefaultCondition.values().length];
+
+  /**
+   * Creates a new {@code Setting} object which contains the expected behaviour for these specified
+   * conditions. This behaviour is only applied if the {@link Setting#thenReturn(boolean)} method
+   * is subsequently called.
+   * @param conditions The conditions for which the soon-to-be-specified task (if appropriate) and
+   *   return value should be applied.
+   * @return The new {@code Setting}s object, for chaining.
+   * @see DefaultSettings#when(DefaultCondition...)
+   */
+  public Setting when(DefaultCondition... conditions) {
+    return new Setting(conditions);
+  }
+
+  /**
+   * Checks to see if the behaviour for this condition has been specified in {@code this} settings
+   * instance. If it has not, the caller should throw the appropriate exception instead of calling
+   * {@link #apply(DefaultCondition, String, String)}, so that the exception is only created when
+   * it is actually thrown.
+   * @param condition The condition that has been triggered.
+   * @return {@code true} if behaviour for this condition has been defined.
+   */
+  boolean handles(DefaultCondition condition) {
+    return behaviours[condition.ordinal()] != null;
+  }
+
+  /**
+   * Applies the behaviour for this condition: the task is executed, if present, and then the
+   * default value is returned. This must only be called if {@link #handles(DefaultCondition)}
+   * returns {@code true} for the condition.
+   * @param condition The condition that has been triggered.
+   * @param key The key to pass to the task, if appropriate.
+   * @param value The value, in its raw {@code String} form, that can be passed to the task, if
+   *   appropriate.
+   * @return The appropriate return value for this condition.
+   */
+  boolean apply(DefaultCondition condition, String key, String value) {
+    ReturnBehaviour behaviour = behaviours[condition.ordinal()];
+    if (behaviour.task != null)
+      behaviour.task.accept(key, value);
+
+    return behaviour.returnValue;
+  }
+
+  private void saveBehaviour(Setting setting) {
+    ReturnBehaviour behaviour = new ReturnBehaviour(setting.task, setting.returnValue);
+    setting.conditions.forEach(condition -> behaviours[condition.ordinal()] = behaviour);
+  }
+
+  /**
+   * Object to contain the behaviour for specified {@link DefaultCondition}s.
+   */
+  public class Setting {
+
+    private final Set<DefaultCondition> conditions = EnumSet.noneOf(DefaultCondition.class);
+    private BiConsumer<String, String> task;
+    private boolean returnValue;
+
+    Setting(DefaultCondition... conditions) {
+      if (conditions == null || conditions.length < 1)
+        throw new IllegalArgumentException("Conditions cannot be null or empty");
+
+      Stream.of(conditions)
+            .filter(Objects::nonNull)
+            .forEach(this.conditions::add);
+    }
+
+    /**
+     * Sets the task to execute when the specific condition is met, before the return value is
+     * returned. Only one task may be specified.
+     * @param task The task to complete. This is a consumer that takes two {@code String}s: first
+     *   the key name, then the raw {@code String} value received from the {@code Properties} file.
+     * @return {@code this} settings object, for chaining.
+     */
+    public Setting thenDo(BiConsumer<String, String> task) {
+      this.task = task;
+      return this;
+    }
+
+    /**
+     * Sets the value that should be returned, in the event that any of the conditions are met.
+     * This method is a required call, in order to add this {@code Setting} to the {@code
+     * BooleanDefaultSettings} instance.
+     * @param returnValue The value that should be returned.
+     * @return {@code this} {@code BooleanDefaultSettings} object, so that additional cases can be
+     *   appended.
+     */
+    public BooleanDefaultSettings thenReturn(boolean returnValue) {
+      this.returnValue = returnValue;
+      BooleanDefaultSettings.this.saveBehaviour(this);
+      return BooleanDefaultSettings.this;
+    }
+
+  }
+
+  private static class ReturnBehaviour {
+    private final BiConsumer<String, String> task;
+    private final boolean returnValue;
+
+    ReturnBehaviour(BiConsumer<String, String> task, boolean returnValue) {
+      this.task = task;
+      this.returnValue = returnValue;
+    }
+  }
+
+}
@@ -0,0 +1,21 @@
+package org.richardinnocent.propertiestoolkit;
+
+/**
+ * Represents a predicate (boolean-valued function) of one {@code boolean}-valued argument. This is
+ * the {@code boolean} equivalent of {@link java.util.function.IntPredicate}, which is not
+ * provided by {@code java.util.function}.
+ * @see BooleanProperty#addConstraint(BooleanPredicate)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+@FunctionalInterface
+public interface BooleanPredicate {
+
+  /**
+   * Evaluates this predicate on the given argument.
+   * @param value The input argument.
+   * @return {@code true} if the input argument matches the predicate, otherwise {@code false}.
+   */
+  boolean test(boolean value);
+
+}
@@ -0,0 +1,107 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+
+/**
+ * The {@code boolean} equivalent of {@link Property}. The value is parsed, validated and returned
+ * as a {@code boolean}, so reading it does not require any boxing. Constraints are expressed as
+ * {@link BooleanPredicate}s, and default values are expressed with a {@link
+ * BooleanDefaultSettings} instance.
+ * @see Property
+ * @see PropertyReader#getBooleanValue(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class BooleanProperty {
+
+  private static final BooleanPredicate[] NO_CONSTRAINTS = new BooleanPredicate[0];
+
+  private final String value;
+  private final String key;
+  private BooleanDefaultSettings defaultSettings;
+  private BooleanPredicate[] constraints = NO_CONSTRAINTS;
+
+  /**
+   * Creates a {@code BooleanProperty} for the given key and value.
+   * @param key The key name from the {@code Properties} file.
+   * @param value The value for the given key.
+   */
+  BooleanProperty(String key, String value) {
+    this.key = key;
+    this.value = value;
+  }
+
+  /**
+   * Sets the default settings for this property. The default settings specify what should be
+   * returned (and executed, if appropriate), if specific {@link DefaultCondition}s are encountered
+   * during processing. If no default is set for that specific condition, a {@code
+   * PropertiesException} will be thrown when calling {@link BooleanProperty#get()}.
+   * @param defaultSettings The default settings.
+   * @return This {@code BooleanProperty} object, for chaining.
+   */
+  public BooleanProperty withDefaultSettings(BooleanDefaultSettings defaultSettings) {
+    this.defaultSettings = defaultSettings;
+    return this;
+  }
+
+  /**
+   * Enforces that the returned value meets the given constraint. Repeated calls to this method
+   * will add additional validation checks, not replacing the previously added checks.
+   * @param constraint The constraint that should be applied.
+   * @return This {@code BooleanProperty} object, for chaining.
+   * @see Property#addConstraint(java.util.function.Predicate)
+   */
+  public BooleanProperty addConstraint(BooleanPredicate constraint) {
+    if (constraint != null) {
+      constraints = Arrays.copyOf(constraints, constraints.length + 1);
+      constraints[constraints.length - 1] = constraint;
+    }
+    return this;
+  }
+
+  /**
+   * Converts the property to a {@code boolean}, in the same manner as {@link Property#get()}. As
+   * with {@link PropertyReader#getBoolean(String)}, any value other than {@code "true"} (ignoring
+   * case) is read as {@code false}, so the {@link DefaultCondition#PARSE_FAILS} condition is never
+   * triggered.
+   * @return The property, converted to a {@code boolean}, or an appropriate default if there is a
+   *   return value specified for the triggered {@link DefaultCondition}.
+   * @throws MissingPropertyException Thrown if the property text is {@code null} or empty, and
+   *   there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_EMPTY}.
+   * @throws ValidationException Thrown if any of the constraint checks for this property fail,
+   *   and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_INVALID}.
+   * @see Property#get()
+   */
+  public boolean get() throws MissingPropertyException, ValidationException {
+    if (value == null || value.isEmpty())
+      return applyDefaultBehaviour(DefaultCondition.IS_EMPTY, null);
+
+    boolean parsedValue = Boolean.parseBoolean(value);
+
+    for (BooleanPredicate constraint : constraints) {
+      try {
+        if (!constraint.test(parsedValue))
+          return applyDefaultBehaviour(DefaultCondition.IS_INVALID, null);
+      } catch (RuntimeException e) {
+        return applyDefaultBehaviour(DefaultCondition.IS_INVALID, e);
+      }
+    }
+
+    return parsedValue;
+  }
+
+  private boolean applyDefaultBehaviour(DefaultCondition condition, Exception cause)
+      throws PropertiesException {
+    if (defaultSettings == null || !defaultSettings.handles(condition))
+      throw PropertiesException.forCondition(condition, key, value, cause);
+    return defaultSettings.apply(condition, key, value);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s", key, value);
+  }
+
+}
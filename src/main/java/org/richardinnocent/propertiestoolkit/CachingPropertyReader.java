@@ -0,0 +1,279 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link PropertyReader} that remembers the result of parsing each value, so that repeatedly
+ * reading the same key does not parse the same text repeatedly. For example:
+ * <pre>
+ * CachingPropertyReader reader = new CachingPropertyReader(properties);
+ * reader.getInt("maxUsers").get(); // Parses the value
+ * reader.getInt("maxUsers").get(); // Returns the previously parsed value</pre>
+ * Results are remembered for each combination of key and parser, including parsers that are
+ * passed to {@link #getCustom(String, Function)}. Parse failures are remembered too, so a value
+ * that cannot be parsed is only attempted once. Each later read of that value is given a new
+ * {@code IllegalArgumentException} as the cause of its {@link InvalidTypeException}, which
+ * describes the original failure. Constraints and default settings are still applied each time
+ * {@link Property#get()} is called.<br>
+ * <br>
+ * <b>Caveats</b>
+ * <ul>
+ *   <li>As parsers are matched by identity, custom parsers should be held in a constant, rather
+ *     than being created for each call. A new parser instance for every call would never be
+ *     matched, and would grow the cache each time.</li>
+ *   <li>Every read of a key returns the same parsed instance, so custom types should be
+ *     immutable.</li>
+ *   <li>The arrays returned by the array getters, such as {@link #getIntArray(String)}, are shared
+ *     in the same way, so they must not be modified.</li>
+ *   <li>The primitive getters, such as {@link #getIntValue(String)}, are not cached, as their
+ *     values would need to be boxed to be stored.</li>
+ * </ul>
+ * Each remembered result is stored alongside the text that it was parsed from, and is only
+ * reused if the current text for the key is the same. This means that changes to a live {@code
+ * Properties} object are still seen. The cache can be emptied with {@link #invalidate()}, and the
+ * source can be replaced entirely with {@link #swap(PropertySource)}.<br>
+ * <br>
+ * A {@code CachingPropertyReader} is safe to use from multiple threads. If several threads read
+ * the same key for the first time at once, they may each parse the value, but they all receive
+ * the same, first published, result.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class CachingPropertyReader extends PropertyReader {
+
+  private volatile Generation generation;
+
+  /**
+   * Initialises a {@code CachingPropertyReader} to read from the given {@code Properties} file.
+   * @param properties The object to read from.
+   */
+  public CachingPropertyReader(Properties properties) {
+    this(PropertySource.of(properties));
+  }
+
+  /**
+   * Initialises a {@code CachingPropertyReader} to read from the given source.
+   * @param source The source to read from.
+   */
+  public CachingPropertyReader(PropertySource source) {
+    super(source);
+    this.generation = new Generation(source);
+  }
+
+  /**
+   * Replaces the source that this reader reads from, and discards every cached result. Properties
+   * that have already been created by this reader keep the value that they were created with.
+   * @param source The new source to read from.
+   */
+  public void swap(PropertySource source) {
+    generation = new Generation(source);
+  }
+
+  /**
+   * Replaces the {@code Properties} object that this reader reads from, and discards every cached
+   * result.
+   * @param properties The new object to read from.
+   * @see #swap(PropertySource)
+   */
+  public void swap(Properties properties) {
+    swap(PropertySource.of(properties));
+  }
+
+  /**
+   * Discards every cached result, so that each value is parsed again when it is next read.
+   */
+  public void invalidate() {
+    generation = new Generation(generation.source);
+  }
+
+  @Override
+  PropertySource getSource() {
+    return generation.source;
+  }
+
+  @Override
+  String getRawValue(String key) {
+    return generation.source.getProperty(key);
+  }
+
+  @Override
+  <T> Property<T> createProperty(String key, Function<String, T> parser) {
+    Generation current = generation;
+    return new Property<>(key, current.source.getProperty(key), current.getParser(key, parser));
+  }
+
+  @Override
+  <T> PropertyResult<T> evaluate(String key,
+                                 Function<String, T> parser,
+                                 Predicate<?>[] constraints,
+                                 DefaultSettings<T> defaultSettings) {
+    Generation current = generation;
+    return Property.evaluate(key,
+                             current.source.getProperty(key),
+                             current.getParser(key, parser),
+                             constraints,
+                             defaultSettings);
+  }
+
+  @Override
+  <T> T read(String key,
+             Function<String, T> parser,
+             Predicate<?>[] constraints,
+             DefaultSettings<T> defaultSettings) {
+    Generation current = generation;
+    return Property.get(key,
+                        current.source.getProperty(key),
+                        current.getParser(key, parser),
+                        constraints,
+                        defaultSettings);
+  }
+
+  /**
+   * A source, and the results that have been cached for it.
+   */
+  private static final class Generation {
+
+    private final PropertySource source;
+    private final ConcurrentMap<Function<?, ?>, ConcurrentMap<String, MemoisedParser<?>>> cache =
+        new ConcurrentHashMap<>();
+
+    Generation(PropertySource source) {
+      this.source = source;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> MemoisedParser<T> getParser(String key, Function<String, T> parser) {
+      ConcurrentMap<String, MemoisedParser<?>> parsersByKey = cache.get(parser);
+      if (parsersByKey == null) {
+        ConcurrentMap<String, MemoisedParser<?>> created = new ConcurrentHashMap<>();
+        parsersByKey = cache.putIfAbsent(parser, created);
+        if (parsersByKey == null)
+          parsersByKey = created;
+      }
+
+      MemoisedParser<?> memoised = parsersByKey.get(key);
+      if (memoised == null) {
+        MemoisedParser<T> created = MemoisedParser.of(parser);
+        memoised = parsersByKey.putIfAbsent(key, created);
+        if (memoised == null)
+          memoised = created;
+      }
+      return (MemoisedParser<T>) memoised;
+    }
+
+  }
+
+  /**
+   * Wraps a parser for a single key, remembering the most recent outcome.
+   * @param <T> The type that the text is parsed to.
+   */
+  private static class MemoisedParser<T> implements Function<String, T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MemoisedParser, Outcome> OUTCOME =
+        AtomicReferenceFieldUpdater.newUpdater(MemoisedParser.class, Outcome.class, "outcome");
+
+    final Function<String, T> parser;
+    volatile Outcome<T> outcome;
+
+    MemoisedParser(Function<String, T> parser) {
+      this.parser = parser;
+    }
+
+    static <T> MemoisedParser<T> of(Function<String, T> parser) {
+      if (parser instanceof PropertyParser)
+        return new MemoisedPropertyParser<>((PropertyParser<T>) parser);
+      return new MemoisedParser<>(parser);
+    }
+
+    @Override
+    public T apply(String text) {
+      Outcome<T> current = outcome;
+      if (current != null && current.text.equals(text))
+        return current.get();
+
+      T value;
+      try {
+        value = parser.apply(text);
+      } catch (RuntimeException e) {
+        // Only this caller is given the parser's exception, so it is never shared between threads
+        publish(current, new Outcome<>(text, null, e.toString()));
+        throw e;
+      }
+      return publish(current, new Outcome<>(text, value, null)).get();
+    }
+
+    /**
+     * Publishes the computed outcome, unless another thread has already published an outcome for
+     * the same text, in which case that outcome is returned instead.
+     */
+    Outcome<T> publish(Outcome<T> expected, Outcome<T> computed) {
+      Outcome<T> current = expected;
+      while (!OUTCOME.compareAndSet(this, current, computed)) {
+        current = outcome;
+        if (current.text.equals(computed.text))
+          return current;
+      }
+      return computed;
+    }
+
+  }
+
+  /**
+   * A {@code MemoisedParser} for a {@link PropertyParser}, which keeps reporting failure with a
+   * {@code null} result, rather than an exception.
+   * @param <T> The type that the text is parsed to.
+   */
+  private static final class MemoisedPropertyParser<T> extends MemoisedParser<T>
+      implements PropertyParser<T> {
+
+    MemoisedPropertyParser(PropertyParser<T> parser) {
+      super(parser);
+    }
+
+    @Override
+    public T parseOrNull(String text) {
+      Outcome<T> current = outcome;
+      if (current != null && current.text.equals(text))
+        return current.value;
+      T value = ((PropertyParser<T>) parser).parseOrNull(text);
+      return publish(current, new Outcome<>(text, value, null)).value;
+    }
+
+    @Override
+    public T apply(String text) {
+      return PropertyParser.super.apply(text);
+    }
+
+  }
+
+  /**
+   * The result of parsing some text. A failure is remembered only as a description of the
+   * exception that the parser threw, so that each later read can be given its own exception.
+   * @param <T> The type that the text is parsed to.
+   */
+  private static final class Outcome<T> {
+
+    private final String text;
+    private final T value;
+    private final String failure;
+
+    Outcome(String text, T value, String failure) {
+      this.text = text;
+      this.value = value;
+      this.failure = failure;
+    }
+
+    T get() throws IllegalArgumentException {
+      if (failure != null)
+        throw new IllegalArgumentException("Could not parse value: " + text + " (" + failure + ")");
+      return value;
+    }
+
+  }
+}
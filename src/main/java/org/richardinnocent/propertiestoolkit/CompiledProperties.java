@@ -0,0 +1,105 @@
+package org.richardinnocent.propertiestoolkit;
+
+/**
+ * The values of every key in a {@link PropertyKeyRegistry}, read from a {@link PropertyReader} at
+ * the time that they were {@link PropertyKeyRegistry#compile(PropertyReader) compiled}. The values
+ * are held in an array, indexed by each key's ordinal, so reading a value is a single array
+ * access, with no hashing, parsing or validation. This makes it suitable for values that are read
+ * on every request, such as feature flags.<br>
+ * <br>
+ * {@code CompiledProperties} are immutable, and can be read concurrently without locking. To pick
+ * up changes to the properties, compile them again and replace the previous instance.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class CompiledProperties {
+
+  private final PropertyKeyRegistry registry;
+  private final Object[] values;
+
+  CompiledProperties(PropertyKeyRegistry registry, Object[] values) {
+    this.registry = registry;
+    this.values = values;
+  }
+
+  /**
+   * Gets the value of the given key.
+   * @param key The key to read.
+   * @param <T> The type of the key's value.
+   * @return The value, which is only {@code null} if that is the default that applied.
+   * @throws IllegalArgumentException Thrown if the key belongs to a different registry, or was
+   *   registered after these properties were compiled.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(PropertyKey<T> key) throws IllegalArgumentException {
+    int ordinal = key.getOrdinal();
+    if (key.getRegistry() != registry || ordinal >= values.length)
+      throw new IllegalArgumentException("Key was not compiled into these properties: " + key);
+    return (T) values[ordinal];
+  }
+
+  /**
+   * Gets the value of the given {@code Integer} key as an {@code int}.
+   * @param key The key to read.
+   * @return The value.
+   * @throws IllegalArgumentException Thrown if the key was not compiled into these properties.
+   * @throws NullPointerException Thrown if the value is {@code null}.
+   */
+  public int getInt(PropertyKey<Integer> key)
+      throws IllegalArgumentException, NullPointerException {
+    return get(key);
+  }
+
+  /**
+   * Gets the value of the given {@code Long} key as a {@code long}.
+   * @param key The key to read.
+   * @return The value.
+   * @throws IllegalArgumentException Thrown if the key was not compiled into these properties.
+   * @throws NullPointerException Thrown if the value is {@code null}.
+   */
+  public long getLong(PropertyKey<Long> key)
+      throws IllegalArgumentException, NullPointerException {
+    return get(key);
+  }
+
+  /**
+   * Gets the value of the given {@code Double} key as a {@code double}.
+   * @param key The key to read.
+   * @return The value.
+   * @throws IllegalArgumentException Thrown if the key was not compiled into these properties.
+   * @throws NullPointerException Thrown if the value is {@code null}.
+   */
+  public double getDouble(PropertyKey<Double> key)
+      throws IllegalArgumentException, NullPointerException {
+    return get(key);
+  }
+
+  /**
+   * Gets the value of the given {@code Boolean} key as a {@code boolean}.
+   * @param key The key to read.
+   * @return The value.
+   * @throws IllegalArgumentException Thrown if the key was not compiled into these properties.
+   * @throws NullPointerException Thrown if the value is {@code null}.
+   */
+  public boolean getBoolean(PropertyKey<Boolean> key)
+      throws IllegalArgumentException, NullPointerException {
+    return get(key);
+  }
+
+  /**
+   * Gets the registry that these properties were compiled from.
+   * @return The registry.
+   */
+  public PropertyKeyRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Gets the number of keys that were compiled.
+   * @return The number of keys.
+   */
+  public int size() {
+    return values.length;
+  }
+
+}
@@ -1,5 +1,7 @@
 package org.richardinnocent.propertiestoolkit;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -18,7 +20,19 @@ import java.util.stream.Stream;
 @SuppressWarnings("WeakerAccess")
 public class DefaultSettings<T> {
 
-  private final Map<DefaultCondition, ReturnBehaviour> behaviourMap = new HashMap<>(1);
+  private final Map<DefaultCondition, ReturnBehaviour> behaviourMap;
+
+  /**
+   * Creates a new, empty set of default settings. Behaviour can be added using {@link
+   * #when(DefaultCondition...)}.
+   */
+  public DefaultSettings() {
+    this(new HashMap<>(1));
+  }
+
+  private DefaultSettings(Map<DefaultCondition, ReturnBehaviour> behaviourMap) {
+    this.behaviourMap = behaviourMap;
+  }
 
   /**
    * Creates a new {@code Setting} object which contains the expected behaviour for these specified
@@ -59,29 +73,46 @@ public class DefaultSettings<T> {
 
   /**
    * Checks to see if the behaviour for this condition has been specified in {@code this} settings
-   * instance. If it has, the task is executed, if present, and then the default value is returned.
-   * If the behaviour for this condition has not been expressed, the exception, {@code e}, is
-   * thrown.
+   * instance. If it has not, the caller should throw the appropriate exception instead of calling
+   * {@link #apply(DefaultCondition, String, String)}, so that the exception is only created when
+   * it is actually thrown.
+   * @param condition The condition that has been triggered.
+   * @return {@code true} if behaviour for this condition has been defined.
+   */
+  boolean handles(DefaultCondition condition) {
+    return behaviourMap.containsKey(condition);
+  }
+
+  /**
+   * Applies the behaviour for this condition: the task is executed, if present, and then the
+   * default value is returned. This must only be called if {@link #handles(DefaultCondition)}
+   * returns {@code true} for the condition.
    * @param condition The condition that has been triggered.
    * @param key The key to pass to the task, if appropriate.
    * @param value The value, in its raw {@code String} form, that can be passed to the task, if
    *   appropriate.
-   * @param e The exception to throw if behaviour for this condition has not been defined.
    * @return The appropriate return value for this condition.
-   * @throws PropertiesException Thrown if behaviour for this condition has not been defined.
    */
-  T apply(DefaultCondition condition, String key, String value, PropertiesException e)
-      throws PropertiesException {
+  T apply(DefaultCondition condition, String key, String value) {
     ReturnBehaviour behaviour = behaviourMap.get(condition);
-    if (behaviour == null)
-      throw e;
-
     if (behaviour.task != null)
       behaviour.task.accept(key, value);
 
     return behaviour.returnValue;
   }
 
+  /**
+   * Creates an immutable copy of the behaviour currently defined in {@code this} settings instance.
+   * Behaviour added to {@code this} instance afterwards is not reflected in the copy, and any
+   * attempt to add behaviour to the copy fails with an {@link UnsupportedOperationException}.
+   * @return The snapshot of these settings.
+   */
+  DefaultSettings<T> snapshot() {
+    Map<DefaultCondition, ReturnBehaviour> copy = new EnumMap<>(DefaultCondition.class);
+    copy.putAll(behaviourMap);
+    return new DefaultSettings<>(Collections.unmodifiableMap(copy));
+  }
+
   private void saveBehaviourMap(Setting setting) {
     setting.getConditions()
            .forEach(condition ->
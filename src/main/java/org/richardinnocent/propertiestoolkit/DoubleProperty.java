@@ -0,0 +1,110 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+
+/**
+ * The {@code double} equivalent of {@link Property}. The value is parsed, validated and returned as
+ * a {@code double}, so reading it does not require any boxing. Constraints are expressed as {@link
+ * DoublePredicate}s, and default values are expressed with a {@link DoubleDefaultSettings}
+ * instance.
+ * @see Property
+ * @see PropertyReader#getDoubleValue(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class DoubleProperty {
+
+  private static final DoublePredicate[] NO_CONSTRAINTS = new DoublePredicate[0];
+
+  private final String value;
+  private final String key;
+  private DoubleDefaultSettings defaultSettings;
+  private DoublePredicate[] constraints = NO_CONSTRAINTS;
+
+  /**
+   * Creates a {@code DoubleProperty} for the given key and value.
+   * @param key The key name from the {@code Properties} file.
+   * @param value The value for the given key.
+   */
+  DoubleProperty(String key, String value) {
+    this.key = key;
+    this.value = value;
+  }
+
+  /**
+   * Sets the default settings for this property. The default settings specify what should be
+   * returned (and executed, if appropriate), if specific {@link DefaultCondition}s are encountered
+   * during processing. If no default is set for that specific condition, a {@code
+   * PropertiesException} will be thrown when calling {@link DoubleProperty#get()}.
+   * @param defaultSettings The default settings.
+   * @return This {@code DoubleProperty} object, for chaining.
+   */
+  public DoubleProperty withDefaultSettings(DoubleDefaultSettings defaultSettings) {
+    this.defaultSettings = defaultSettings;
+    return this;
+  }
+
+  /**
+   * Enforces that the returned value meets the given constraint. Repeated calls to this method
+   * will add additional validation checks, not replacing the previously added checks.
+   * @param constraint The constraint that should be applied.
+   * @return This {@code DoubleProperty} object, for chaining.
+   * @see Property#addConstraint(java.util.function.Predicate)
+   */
+  public DoubleProperty addConstraint(DoublePredicate constraint) {
+    if (constraint != null) {
+      constraints = Arrays.copyOf(constraints, constraints.length + 1);
+      constraints[constraints.length - 1] = constraint;
+    }
+    return this;
+  }
+
+  /**
+   * Converts the property to a {@code double}, in the same manner as {@link Property#get()}.
+   * @return The property, converted to a {@code double}, or an appropriate default if there is a
+   *   return value specified for the triggered {@link DefaultCondition}.
+   * @throws MissingPropertyException Thrown if the property text is {@code null} or empty, and
+   *   there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if the property text cannot be converted to a {@code
+   *   double}, and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if any of the constraint checks for this property fail,
+   *   and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_INVALID}.
+   * @see Property#get()
+   */
+  public double get() throws MissingPropertyException, InvalidTypeException, ValidationException {
+    if (value == null || value.isEmpty())
+      return applyDefaultBehaviour(DefaultCondition.IS_EMPTY, null);
+
+    double parsedValue = NumberParsers.parseDouble(value, 0, value.length());
+    if (Double.isNaN(parsedValue) && !NumberParsers.isNaN(value, 0, value.length()))
+      return applyDefaultBehaviour(DefaultCondition.PARSE_FAILS, null);
+
+    for (DoublePredicate constraint : constraints) {
+      try {
+        if (!constraint.test(parsedValue))
+          return applyDefaultBehaviour(DefaultCondition.IS_INVALID, null);
+      } catch (RuntimeException e) {
+        return applyDefaultBehaviour(DefaultCondition.IS_INVALID, e);
+      }
+    }
+
+    return parsedValue;
+  }
+
+  private double applyDefaultBehaviour(DefaultCondition condition, Exception cause)
+      throws PropertiesException {
+    if (defaultSettings == null || !defaultSettings.handles(condition))
+      throw PropertiesException.forCondition(condition, key, value, cause);
+    return defaultSettings.apply(condition, key, value);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s", key, value);
+  }
+
+}
@@ -0,0 +1,110 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * The {@code int} equivalent of {@link Property}. The value is parsed, validated and returned as
+ * an {@code int}, so reading it does not require any boxing. Constraints are expressed as {@link
+ * IntPredicate}s, and default values are expressed with an {@link IntDefaultSettings} instance.
+ * @see Property
+ * @see PropertyReader#getIntValue(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class IntProperty {
+
+  private static final IntPredicate[] NO_CONSTRAINTS = new IntPredicate[0];
+
+  private final String value;
+  private final String key;
+  private IntDefaultSettings defaultSettings;
+  private IntPredicate[] constraints = NO_CONSTRAINTS;
+
+  /**
+   * Creates an {@code IntProperty} for the given key and value.
+   * @param key The key name from the {@code Properties} file.
+   * @param value The value for the given key.
+   */
+  IntProperty(String key, String value) {
+    this.key = key;
+    this.value = value;
+  }
+
+  /**
+   * Sets the default settings for this property. The default settings specify what should be
+   * returned (and executed, if appropriate), if specific {@link DefaultCondition}s are encountered
+   * during processing. If no default is set for that specific condition, a {@code
+   * PropertiesException} will be thrown when calling {@link IntProperty#get()}.
+   * @param defaultSettings The default settings.
+   * @return This {@code IntProperty} object, for chaining.
+   */
+  public IntProperty withDefaultSettings(IntDefaultSettings defaultSettings) {
+    this.defaultSettings = defaultSettings;
+    return this;
+  }
+
+  /**
+   * Enforces that the returned value meets the given constraint. Repeated calls to this method
+   * will add additional validation checks, not replacing the previously added checks.
+   * @param constraint The constraint that should be applied.
+   * @return This {@code IntProperty} object, for chaining.
+   * @see Property#addConstraint(java.util.function.Predicate)
+   */
+  public IntProperty addConstraint(IntPredicate constraint) {
+    if (constraint != null) {
+      constraints = Arrays.copyOf(constraints, constraints.length + 1);
+      constraints[constraints.length - 1] = constraint;
+    }
+    return this;
+  }
+
+  /**
+   * Converts the property to an {@code int}, in the same manner as {@link Property#get()}.
+   * @return The property, converted to an {@code int}, or an appropriate default if there is a
+   *   return value specified for the triggered {@link DefaultCondition}.
+   * @throws MissingPropertyException Thrown if the property text is {@code null} or empty, and
+   *   there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if the property text cannot be converted to an {@code
+   *   int}, and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if any of the constraint checks for this property fail,
+   *   and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_INVALID}.
+   * @see Property#get()
+   */
+  public int get() throws MissingPropertyException, InvalidTypeException, ValidationException {
+    if (value == null || value.isEmpty())
+      return applyDefaultBehaviour(DefaultCondition.IS_EMPTY, null);
+
+    long parsed = NumberParsers.parseInt(value, 0, value.length());
+    if (parsed == NumberParsers.INVALID_INT)
+      return applyDefaultBehaviour(DefaultCondition.PARSE_FAILS, null);
+    int parsedValue = (int) parsed;
+
+    for (IntPredicate constraint : constraints) {
+      try {
+        if (!constraint.test(parsedValue))
+          return applyDefaultBehaviour(DefaultCondition.IS_INVALID, null);
+      } catch (RuntimeException e) {
+        return applyDefaultBehaviour(DefaultCondition.IS_INVALID, e);
+      }
+    }
+
+    return parsedValue;
+  }
+
+  private int applyDefaultBehaviour(DefaultCondition condition, Exception cause)
+      throws PropertiesException {
+    if (defaultSettings == null || !defaultSettings.handles(condition))
+      throw PropertiesException.forCondition(condition, key, value, cause);
+    return defaultSettings.apply(condition, key, value);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s", key, value);
+  }
+
+}
@@ -12,8 +12,26 @@ package org.richardinnocent.propertiestoolkit;
 @SuppressWarnings("WeakerAccess")
 public class InvalidTypeException extends PropertiesException {
 
-  private InvalidTypeException(String message, Exception e) {
-    super(message, e);
+  private final String key;
+  private final String value;
+
+  private InvalidTypeException(String key, String value, Exception e) {
+    super(e, !isStackless());
+    this.key = key;
+    this.value = value;
+  }
+
+  /**
+   * Creates an {@code InvalidTypeException} with an appropriate message, given the {@code key} and
+   * {@code value}. This is used when the value could not be converted, but no exception was thrown
+   * to explain why, e.g. when a {@link PropertyParser} returns {@code null}.
+   * @param key The property key.
+   * @param value The raw {@code String} value from the properties file.
+   * @return A new, appropriately initialised {@code InvalidTypeException}.
+   * @since 3.1.0
+   */
+  public static InvalidTypeException forProperty(String key, String value) {
+    return forProperty(key, value, null);
   }
 
   /**
@@ -27,9 +45,13 @@ public class InvalidTypeException extends PropertiesException {
    * @return A new, appropriately initialised {@code InvalidTypeException}.
    */
   public static InvalidTypeException forProperty(String key, String value, Exception cause) {
-    return new InvalidTypeException(
-        String.format("Key, %s, contains a value, %s, that cannot be "
-                          + "converted to the expected type", key, value), cause);
+    return new InvalidTypeException(key, value, cause);
+  }
+
+  @Override
+  protected String formatMessage() {
+    return String.format("Key, %s, contains a value, %s, that cannot be "
+                             + "converted to the expected type", key, value);
   }
 
 }
@@ -0,0 +1,215 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A {@link PropertySource} that combines several named layers, in which each layer overrides the
+ * layers that were added before it, e.g.:
+ * <pre>
+ * LayeredPropertySource source = new LayeredPropertySource()
+ *     .withLayer("base", PropertiesLoader.load(basePath))
+ *     .withLayer("override", PropertiesLoader.load(overridePath))
+ *     .withLayer("environment", PropertySource.of(System.getenv()))
+ *     .withLayer("system", System.getProperties());
+ * PropertyReader reader = new PropertyReader(source);</pre>
+ * Rather than checking each layer in turn on every read, as a chain of {@code Properties}
+ * defaults does, the layers are merged into a single {@link PropertySnapshot} the first time that
+ * the source is read. Each read is then a single probe of that snapshot, without locking,
+ * regardless of the number of layers. The layer that each value came from is recorded too, and
+ * can be found with {@link #getOrigin(String)}.<br>
+ * <br>
+ * The merged view is only rebuilt when a layer changes: when a layer is added or replaced with
+ * {@link #replaceLayer(String, PropertySource)}, or when {@link #refresh()} is called to pick up
+ * changes made to a live layer, such as a {@code Properties} object. Until then, changes made to a
+ * live layer are not visible through this source.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class LayeredPropertySource implements PropertySource {
+
+  private String[] names = new String[0];
+  private PropertySource[] layers = new PropertySource[0];
+  private volatile MergedView view;
+
+  /**
+   * Adds a layer, which overrides every layer that has already been added.
+   * @param name The name of the layer, which is reported by {@link #getOrigin(String)}.
+   * @param layer The properties in the layer.
+   * @return This source, for chaining.
+   * @throws NullPointerException Thrown if the {@code name} or {@code layer} is {@code null}.
+   * @throws IllegalArgumentException Thrown if there is already a layer with the given name.
+   */
+  public synchronized LayeredPropertySource withLayer(String name, PropertySource layer)
+      throws NullPointerException, IllegalArgumentException {
+    if (name == null)
+      throw new NullPointerException("name");
+    if (layer == null)
+      throw new NullPointerException("layer");
+    if (indexOf(name) >= 0)
+      throw new IllegalArgumentException("There is already a layer named " + name);
+
+    names = Arrays.copyOf(names, names.length + 1);
+    names[names.length - 1] = name;
+    layers = Arrays.copyOf(layers, layers.length + 1);
+    layers[layers.length - 1] = layer;
+    view = null;
+    return this;
+  }
+
+  /**
+   * Adds a layer that reads from the given {@code Properties} object, including its defaults. The
+   * layer overrides every layer that has already been added.
+   * @param name The name of the layer, which is reported by {@link #getOrigin(String)}.
+   * @param properties The properties in the layer.
+   * @return This source, for chaining.
+   * @throws NullPointerException Thrown if the {@code name} or {@code properties} is {@code null}.
+   * @throws IllegalArgumentException Thrown if there is already a layer with the given name.
+   */
+  public LayeredPropertySource withLayer(String name, Properties properties)
+      throws NullPointerException, IllegalArgumentException {
+    if (properties == null)
+      throw new NullPointerException("properties");
+    return withLayer(name, PropertySource.of(properties));
+  }
+
+  /**
+   * Replaces the properties in an existing layer, keeping its position. The merged view is rebuilt
+   * when the source is next read.
+   * @param name The name of the layer.
+   * @param layer The new properties in the layer.
+   * @throws NullPointerException Thrown if the {@code layer} is {@code null}.
+   * @throws IllegalArgumentException Thrown if there is no layer with the given name.
+   */
+  public synchronized void replaceLayer(String name, PropertySource layer)
+      throws NullPointerException, IllegalArgumentException {
+    if (layer == null)
+      throw new NullPointerException("layer");
+    int index = indexOf(name);
+    if (index < 0)
+      throw new IllegalArgumentException("There is no layer named " + name);
+
+    layers = layers.clone();
+    layers[index] = layer;
+    view = null;
+  }
+
+  /**
+   * Rebuilds the merged view when the source is next read, so that any changes made to live layers
+   * since the view was last built become visible.
+   */
+  public synchronized void refresh() {
+    view = null;
+  }
+
+  /**
+   * Gets the names of the layers, with the layer that takes precedence over all others last.
+   * @return The names of the layers.
+   */
+  public synchronized List<String> getLayerNames() {
+    return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(names)));
+  }
+
+  /**
+   * Gets the name of the layer that the value for the given key came from.
+   * @param key The property key.
+   * @return The name of the layer, or {@code null} if no layer has a value for the key.
+   */
+  public String getOrigin(String key) {
+    return getView().origins.getProperty(key);
+  }
+
+  @Override
+  public String getProperty(String key) {
+    return getView().values.getProperty(key);
+  }
+
+  @Override
+  public Set<String> keys() {
+    return getView().values.keys();
+  }
+
+  @Override
+  public List<String> keysWithPrefix(String prefix) {
+    return getView().values.keysWithPrefix(prefix);
+  }
+
+  /**
+   * Gets the merged view, as a {@link PropertySnapshot}.
+   * @return The merged view of every layer.
+   */
+  public PropertySnapshot snapshot() {
+    return getView().values;
+  }
+
+  private MergedView getView() {
+    MergedView current = view;
+    return current == null ? merge() : current;
+  }
+
+  private synchronized MergedView merge() {
+    MergedView current = view;
+    if (current != null)
+      return current;
+
+    String[] keys = new String[64];
+    String[] values = new String[keys.length];
+    String[] origins = new String[keys.length];
+    int count = 0;
+    // The snapshot keeps the last value for each key, so the layers are added lowest first
+    for (int layer = 0; layer < layers.length; layer++) {
+      PropertySource source = layers[layer];
+      for (String key : source.keys()) {
+        String value = source.getProperty(key);
+        if (value == null)
+          continue;
+        if (count == keys.length) {
+          keys = Arrays.copyOf(keys, count * 2);
+          values = Arrays.copyOf(values, keys.length);
+          origins = Arrays.copyOf(origins, keys.length);
+        }
+        keys[count] = key;
+        values[count] = value;
+        origins[count++] = names[layer];
+      }
+    }
+
+    current = new MergedView(new PropertySnapshot(keys, values, count),
+                             new PropertySnapshot(keys, origins, count));
+    view = current;
+    return current;
+  }
+
+  private int indexOf(String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name))
+        return i;
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return "LayeredPropertySource" + getLayerNames();
+  }
+
+  /**
+   * The merged values of every layer, and the name of the layer that each value came from.
+   */
+  private static final class MergedView {
+
+    private final PropertySnapshot values;
+    private final PropertySnapshot origins;
+
+    private MergedView(PropertySnapshot values, PropertySnapshot origins) {
+      this.values = values;
+      this.origins = origins;
+    }
+
+  }
+
+}
@@ -0,0 +1,226 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Parses delimited lists, such as {@code 0.5, 0.25, 0.25}, straight into primitive arrays. Each
+ * element is parsed in place by {@link NumberParsers}, so no substrings are created and no element
+ * is boxed. Whitespace around each element is ignored.<br>
+ * <br>
+ * The parsers return {@code null} if any element cannot be parsed, including an empty element,
+ * so a {@link Property} that uses them routes straight to {@link DefaultCondition#PARSE_FAILS}.
+ * The parsers for the default delimiter, a comma, are held in constants. Parsers for other
+ * delimiters can be created with, e.g., {@link #intArray(char)}.<br>
+ * <br>
+ * The element constraints, such as {@link #eachInt(IntPredicate)}, turn a predicate for a single
+ * element into a constraint for a whole list, which can be passed to {@link
+ * Property#addConstraint(Predicate)}, e.g.:
+ * <pre>
+ * int[] ports = reader.getIntArray("ports")
+ *                     .addConstraint(ListParsers.eachInt(port -&gt; port &gt; 0))
+ *                     .get();</pre>
+ * @see PropertyReader#getIntArray(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class ListParsers {
+
+  /**
+   * The default delimiter between elements.
+   */
+  public static final char DEFAULT_DELIMITER = ',';
+
+  /**
+   * Parses comma-separated text to an {@code int[]}.
+   */
+  public static final PropertyParser<int[]> INT_ARRAY = intArray(DEFAULT_DELIMITER);
+
+  /**
+   * Parses comma-separated text to a {@code long[]}.
+   */
+  public static final PropertyParser<long[]> LONG_ARRAY = longArray(DEFAULT_DELIMITER);
+
+  /**
+   * Parses comma-separated text to a {@code double[]}.
+   */
+  public static final PropertyParser<double[]> DOUBLE_ARRAY = doubleArray(DEFAULT_DELIMITER);
+
+  /**
+   * Parses comma-separated text to an unmodifiable {@code List} of {@code String}s.
+   */
+  public static final PropertyParser<List<String>> STRING_LIST = stringList(DEFAULT_DELIMITER);
+
+  private ListParsers() {}
+
+  /**
+   * Creates a parser that parses text separated by the given delimiter to an {@code int[]}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<int[]> intArray(char delimiter) {
+    return text -> {
+      int[] values = new int[countElements(text, delimiter)];
+      int start = 0;
+      for (int i = 0; i < values.length; i++) {
+        int end = endOfElement(text, start, delimiter);
+        long value = NumberParsers.parseInt(text, start, end);
+        if (value == NumberParsers.INVALID_INT)
+          return null;
+        values[i] = (int) value;
+        start = end + 1;
+      }
+      return values;
+    };
+  }
+
+  /**
+   * Creates a parser that parses text separated by the given delimiter to a {@code long[]}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<long[]> longArray(char delimiter) {
+    return text -> {
+      long[] values = new long[countElements(text, delimiter)];
+      int start = 0;
+      for (int i = 0; i < values.length; i++) {
+        int end = endOfElement(text, start, delimiter);
+        long value = NumberParsers.parseLong(text, start, end);
+        if (value == Long.MIN_VALUE && !NumberParsers.isLong(text, start, end))
+          return null;
+        values[i] = value;
+        start = end + 1;
+      }
+      return values;
+    };
+  }
+
+  /**
+   * Creates a parser that parses text separated by the given delimiter to a {@code double[]}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<double[]> doubleArray(char delimiter) {
+    return text -> {
+      double[] values = new double[countElements(text, delimiter)];
+      int start = 0;
+      for (int i = 0; i < values.length; i++) {
+        int end = endOfElement(text, start, delimiter);
+        double value = NumberParsers.parseDouble(text, start, end);
+        if (Double.isNaN(value) && !NumberParsers.isNaN(text, start, end))
+          return null;
+        values[i] = value;
+        start = end + 1;
+      }
+      return values;
+    };
+  }
+
+  /**
+   * Creates a parser that parses text separated by the given delimiter to an unmodifiable {@code
+   * List} of {@code String}s. Whitespace around each element is removed, but empty elements are
+   * kept, so this parser never fails.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<List<String>> stringList(char delimiter) {
+    return text -> {
+      String[] values = new String[countElements(text, delimiter)];
+      int start = 0;
+      for (int i = 0; i < values.length; i++) {
+        int end = endOfElement(text, start, delimiter);
+        int from = start;
+        int to = end;
+        while (from < to && text.charAt(from) <= ' ')
+          from++;
+        while (to > from && text.charAt(to - 1) <= ' ')
+          to--;
+        values[i] = text.substring(from, to);
+        start = end + 1;
+      }
+      return Collections.unmodifiableList(Arrays.asList(values));
+    };
+  }
+
+  /**
+   * Creates a constraint that passes if every element of an {@code int[]} passes the given
+   * predicate.
+   * @param predicate The predicate for each element.
+   * @return The constraint.
+   */
+  public static Predicate<int[]> eachInt(IntPredicate predicate) {
+    return values -> {
+      for (int value : values) {
+        if (!predicate.test(value))
+          return false;
+      }
+      return true;
+    };
+  }
+
+  /**
+   * Creates a constraint that passes if every element of a {@code long[]} passes the given
+   * predicate.
+   * @param predicate The predicate for each element.
+   * @return The constraint.
+   */
+  public static Predicate<long[]> eachLong(LongPredicate predicate) {
+    return values -> {
+      for (long value : values) {
+        if (!predicate.test(value))
+          return false;
+      }
+      return true;
+    };
+  }
+
+  /**
+   * Creates a constraint that passes if every element of a {@code double[]} passes the given
+   * predicate.
+   * @param predicate The predicate for each element.
+   * @return The constraint.
+   */
+  public static Predicate<double[]> eachDouble(DoublePredicate predicate) {
+    return values -> {
+      for (double value : values) {
+        if (!predicate.test(value))
+          return false;
+      }
+      return true;
+    };
+  }
+
+  /**
+   * Creates a constraint that passes if every element of a list passes the given predicate.
+   * @param predicate The predicate for each element.
+   * @param <T> The type of the elements.
+   * @return The constraint.
+   */
+  public static <T> Predicate<List<? extends T>> each(Predicate<? super T> predicate) {
+    return values -> {
+      for (T value : values) {
+        if (!predicate.test(value))
+          return false;
+      }
+      return true;
+    };
+  }
+
+  private static int countElements(String text, char delimiter) {
+    int count = 1;
+    for (int i = text.indexOf(delimiter); i >= 0; i = text.indexOf(delimiter, i + 1))
+      count++;
+    return count;
+  }
+
+  private static int endOfElement(String text, int start, char delimiter) {
+    int end = text.indexOf(delimiter, start);
+    return end < 0 ? text.length() : end;
+  }
+
+}
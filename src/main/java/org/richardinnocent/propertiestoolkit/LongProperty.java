@@ -0,0 +1,149 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * The {@code long} equivalent of {@link Property}. The value is parsed, validated and returned as
+ * a {@code long}, so reading it does not require any boxing. Constraints are expressed as {@link
+ * LongPredicate}s, and default values are expressed with a {@link LongDefaultSettings}
+ * instance.
+ * @see Property
+ * @see PropertyReader#getLongValue(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class LongProperty {
+
+  private static final LongPredicate[] NO_CONSTRAINTS = new LongPredicate[0];
+
+  private final String value;
+  private final String key;
+  private final RangeParser parser;
+  private LongDefaultSettings defaultSettings;
+  private LongPredicate[] constraints = NO_CONSTRAINTS;
+
+  /**
+   * Creates a {@code LongProperty} for the given key and value.
+   * @param key The key name from the {@code Properties} file.
+   * @param value The value for the given key.
+   */
+  LongProperty(String key, String value) {
+    this(key, value, null);
+  }
+
+  /**
+   * Creates a {@code LongProperty} for the given key and value, which is parsed by the given
+   * parser rather than as a plain {@code long}.
+   * @param key The key name from the {@code Properties} file.
+   * @param value The value for the given key.
+   * @param parser The parser, which returns {@link Long#MIN_VALUE} if the value cannot be parsed,
+   *   or {@code null} to parse the value as a plain {@code long}.
+   */
+  LongProperty(String key, String value, RangeParser parser) {
+    this.key = key;
+    this.value = value;
+    this.parser = parser;
+  }
+
+  /**
+   * Sets the default settings for this property. The default settings specify what should be
+   * returned (and executed, if appropriate), if specific {@link DefaultCondition}s are encountered
+   * during processing. If no default is set for that specific condition, a {@code
+   * PropertiesException} will be thrown when calling {@link LongProperty#get()}.
+   * @param defaultSettings The default settings.
+   * @return This {@code LongProperty} object, for chaining.
+   */
+  public LongProperty withDefaultSettings(LongDefaultSettings defaultSettings) {
+    this.defaultSettings = defaultSettings;
+    return this;
+  }
+
+  /**
+   * Enforces that the returned value meets the given constraint. Repeated calls to this method
+   * will add additional validation checks, not replacing the previously added checks.
+   * @param constraint The constraint that should be applied.
+   * @return This {@code LongProperty} object, for chaining.
+   * @see Property#addConstraint(java.util.function.Predicate)
+   */
+  public LongProperty addConstraint(LongPredicate constraint) {
+    if (constraint != null) {
+      constraints = Arrays.copyOf(constraints, constraints.length + 1);
+      constraints[constraints.length - 1] = constraint;
+    }
+    return this;
+  }
+
+  /**
+   * Converts the property to a {@code long}, in the same manner as {@link Property#get()}.
+   * @return The property, converted to a {@code long}, or an appropriate default if there is a
+   *   return value specified for the triggered {@link DefaultCondition}.
+   * @throws MissingPropertyException Thrown if the property text is {@code null} or empty, and
+   *   there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if the property text cannot be converted to a {@code
+   *   long}, and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if any of the constraint checks for this property fail,
+   *   and there is no {@code defaultSetting} specifying behaviour for {@link
+   *   DefaultCondition#IS_INVALID}.
+   * @see Property#get()
+   */
+  public long get() throws MissingPropertyException, InvalidTypeException, ValidationException {
+    if (value == null || value.isEmpty())
+      return applyDefaultBehaviour(DefaultCondition.IS_EMPTY, null);
+
+    long parsedValue;
+    if (parser == null) {
+      parsedValue = NumberParsers.parseLong(value, 0, value.length());
+      if (parsedValue == Long.MIN_VALUE && !NumberParsers.isLong(value, 0, value.length()))
+        return applyDefaultBehaviour(DefaultCondition.PARSE_FAILS, null);
+    } else {
+      parsedValue = parser.parse(value, 0, value.length());
+      if (parsedValue == Long.MIN_VALUE)
+        return applyDefaultBehaviour(DefaultCondition.PARSE_FAILS, null);
+    }
+
+    for (LongPredicate constraint : constraints) {
+      try {
+        if (!constraint.test(parsedValue))
+          return applyDefaultBehaviour(DefaultCondition.IS_INVALID, null);
+      } catch (RuntimeException e) {
+        return applyDefaultBehaviour(DefaultCondition.IS_INVALID, e);
+      }
+    }
+
+    return parsedValue;
+  }
+
+  private long applyDefaultBehaviour(DefaultCondition condition, Exception cause)
+      throws PropertiesException {
+    if (defaultSettings == null || !defaultSettings.handles(condition))
+      throw PropertiesException.forCondition(condition, key, value, cause);
+    return defaultSettings.apply(condition, key, value);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s", key, value);
+  }
+
+  /**
+   * Parses a range of text to a {@code long}, such as {@link
+   * UnitParsers#parseDurationNanos(CharSequence, int, int)}.
+   */
+  @FunctionalInterface
+  interface RangeParser {
+
+    /**
+     * Parses the given range of the text.
+     * @param text The text to parse.
+     * @param start The index of the first character to parse.
+     * @param end The index after the last character to parse.
+     * @return The parsed value, or {@link Long#MIN_VALUE} if the text cannot be parsed.
+     */
+    long parse(CharSequence text, int start, int end);
+
+  }
+
+}
@@ -11,8 +11,11 @@ package org.richardinnocent.propertiestoolkit;
 @SuppressWarnings("WeakerAccess")
 public class MissingPropertyException extends PropertiesException {
 
-  private MissingPropertyException(String message) {
-    super(message);
+  private final String key;
+
+  private MissingPropertyException(String key) {
+    super(null, !isStackless());
+    this.key = key;
   }
 
   /**
@@ -21,7 +24,12 @@ public class MissingPropertyException extends PropertiesException {
    * @return A new {@code MissingPropertyException}, with an appropriate message.
    */
   public static MissingPropertyException forProperty(String key) {
-    return new MissingPropertyException(String.format("Property, %s, is missing", key));
+    return new MissingPropertyException(key);
+  }
+
+  @Override
+  protected String formatMessage() {
+    return String.format("Property, %s, is missing", key);
   }
 
 }
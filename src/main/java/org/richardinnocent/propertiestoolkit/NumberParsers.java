@@ -0,0 +1,478 @@
+package org.richardinnocent.propertiestoolkit;
+
+/**
+ * Parses numbers directly from a range of a {@code CharSequence}, without creating substrings and
+ * without throwing exceptions when the text cannot be parsed. The accepted formats are those
+ * accepted by {@link Long#parseLong(String)} and {@link Double#parseDouble(String)}, with two
+ * extensions:
+ * <ul>
+ *   <li>Leading and trailing whitespace is ignored, e.g. {@code " 42 "}.</li>
+ *   <li>Digits may be separated by underscores, as in Java literals, e.g. {@code "1_000_000"}.
+ *     Underscores may only appear between two digits.</li>
+ * </ul>
+ * Failure is reported with a sentinel value, as described by each method. The boxed parsers,
+ * such as {@link #INTEGER}, are {@link PropertyParser}s that return {@code null} on failure, so a
+ * {@link Property} that uses them can route straight to {@link DefaultCondition#PARSE_FAILS}.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class NumberParsers {
+
+  /**
+   * The value returned by {@link #parseInt(CharSequence, int, int)} when the text cannot be parsed
+   * to an {@code int}. As this is outside of the range of an {@code int}, it can never be returned
+   * for valid text.
+   */
+  public static final long INVALID_INT = Long.MIN_VALUE;
+
+  /**
+   * Parses text to a {@code Byte}, returning {@code null} if the text is not a valid {@code byte}.
+   */
+  public static final PropertyParser<Byte> BYTE = text -> {
+    long value = parseInt(text, 0, text.length());
+    return value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : (byte) value;
+  };
+
+  /**
+   * Parses text to a {@code Short}, returning {@code null} if the text is not a valid {@code
+   * short}.
+   */
+  public static final PropertyParser<Short> SHORT = text -> {
+    long value = parseInt(text, 0, text.length());
+    return value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : (short) value;
+  };
+
+  /**
+   * Parses text to an {@code Integer}, returning {@code null} if the text is not a valid {@code
+   * int}.
+   */
+  public static final PropertyParser<Integer> INTEGER = text -> {
+    long value = parseInt(text, 0, text.length());
+    return value == INVALID_INT ? null : (int) value;
+  };
+
+  /**
+   * Parses text to a {@code Long}, returning {@code null} if the text is not a valid {@code long}.
+   */
+  public static final PropertyParser<Long> LONG = text -> {
+    long value = parseLong(text, 0, text.length());
+    return value == Long.MIN_VALUE && !isLong(text, 0, text.length()) ? null : value;
+  };
+
+  /**
+   * Parses text to a {@code Float}, returning {@code null} if the text is not a valid {@code
+   * float}.
+   */
+  public static final PropertyParser<Float> FLOAT = text -> {
+    float value = parseFloat(text, 0, text.length());
+    return Float.isNaN(value) && !isNaN(text, 0, text.length()) ? null : value;
+  };
+
+  /**
+   * Parses text to a {@code Double}, returning {@code null} if the text is not a valid {@code
+   * double}.
+   */
+  public static final PropertyParser<Double> DOUBLE = text -> {
+    double value = parseDouble(text, 0, text.length());
+    return Double.isNaN(value) && !isNaN(text, 0, text.length()) ? null : value;
+  };
+
+  private static final long NOT_PARSED = 1L;
+  private static final int MAX_SIGNIFICANT_DIGITS = 18;
+  private static final int MAX_EXPONENT = 100_000;
+  private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+  private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+      1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+      1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  private NumberParsers() {}
+
+  /**
+   * Parses the text between {@code start} (inclusive) and {@code end} (exclusive) to an {@code
+   * int}.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The parsed value, widened to a {@code long}, or {@link #INVALID_INT} if the text is
+   *   not a valid {@code int}.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static long parseInt(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    long negated = parseNegated(text, start, end, Integer.MAX_VALUE);
+    if (negated == NOT_PARSED)
+      return INVALID_INT;
+    return isNegative(text, start, end) ? negated : -negated;
+  }
+
+  /**
+   * Parses the text between {@code start} (inclusive) and {@code end} (exclusive) to a {@code
+   * long}. As every {@code long} is a valid result, failure is reported by returning {@link
+   * Long#MIN_VALUE}. Callers that receive this value should use {@link #isLong(CharSequence, int,
+   * int)} to check whether the text really was {@code Long.MIN_VALUE}.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The parsed value, or {@code Long.MIN_VALUE} if the text is not a valid {@code long}.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static long parseLong(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    long negated = parseNegated(text, start, end, Long.MAX_VALUE);
+    if (negated == NOT_PARSED)
+      return Long.MIN_VALUE;
+    return isNegative(text, start, end) ? negated : -negated;
+  }
+
+  /**
+   * Checks whether the text between {@code start} (inclusive) and {@code end} (exclusive) can be
+   * parsed to a {@code long}.
+   * @param text The text to check.
+   * @param start The index of the first character to check.
+   * @param end The index after the last character to check.
+   * @return {@code true} if {@link #parseLong(CharSequence, int, int)} would succeed.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static boolean isLong(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    return parseNegated(text, start, end, Long.MAX_VALUE) != NOT_PARSED;
+  }
+
+  /**
+   * Parses the text between {@code start} (inclusive) and {@code end} (exclusive) to a {@code
+   * double}. Short decimal values are computed directly; longer values, and values in hexadecimal
+   * form, are validated and then delegated to {@link Double#parseDouble(String)}, so the result is
+   * always correctly rounded.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The parsed value, or {@code NaN} if the text is not a valid {@code double}. Callers
+   *   that receive {@code NaN} should use {@link #isNaN(CharSequence, int, int)} to check whether
+   *   the text was really {@code "NaN"}.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static double parseDouble(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    return parseFloatingPoint(text, start, end, false);
+  }
+
+  /**
+   * Parses the text between {@code start} (inclusive) and {@code end} (exclusive) to a {@code
+   * float}, in the same manner as {@link #parseDouble(CharSequence, int, int)}.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The parsed value, or {@code NaN} if the text is not a valid {@code float}.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static float parseFloat(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    return (float) parseFloatingPoint(text, start, end, true);
+  }
+
+  /**
+   * Checks whether the text between {@code start} (inclusive) and {@code end} (exclusive) is the
+   * literal {@code "NaN"}, ignoring surrounding whitespace and an optional sign.
+   * @param text The text to check.
+   * @param start The index of the first character to check.
+   * @param end The index after the last character to check.
+   * @return {@code true} if the text represents {@code NaN}.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static boolean isNaN(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    checkRange(text, start, end);
+    int from = skipLeadingWhitespace(text, start, end);
+    int to = skipTrailingWhitespace(text, from, end);
+    if (from < to && (text.charAt(from) == '-' || text.charAt(from) == '+'))
+      from++;
+    return matches(text, from, to, "NaN");
+  }
+
+  /**
+   * Accumulates the digits as a negative number, as this can represent the magnitude of every
+   * value from {@code -max - 1} to {@code max}.
+   * @return The negated magnitude, or {@link #NOT_PARSED} if the text is not valid or out of range.
+   */
+  private static long parseNegated(CharSequence text, int start, int end, long max) {
+    checkRange(text, start, end);
+    int from = skipLeadingWhitespace(text, start, end);
+    int to = skipTrailingWhitespace(text, from, end);
+    if (from == to)
+      return NOT_PARSED;
+
+    long limit = -max;
+    char first = text.charAt(from);
+    if (first == '-') {
+      limit = -max - 1;
+      from++;
+    } else if (first == '+') {
+      from++;
+    }
+
+    if (from == to)
+      return NOT_PARSED;
+
+    long multiplyLimit = limit / 10;
+    long result = 0;
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      int digit = digit(c);
+      if (digit < 0) {
+        if (isSeparator(text, i, from, to, false))
+          continue;
+        return NOT_PARSED;
+      }
+      if (result < multiplyLimit)
+        return NOT_PARSED;
+      result *= 10;
+      if (result < limit + digit)
+        return NOT_PARSED;
+      result -= digit;
+    }
+    return result;
+  }
+
+  private static double parseFloatingPoint(CharSequence text, int start, int end, boolean single) {
+    checkRange(text, start, end);
+    int from = skipLeadingWhitespace(text, start, end);
+    int to = skipTrailingWhitespace(text, from, end);
+
+    int i = from;
+    boolean negative = false;
+    if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = text.charAt(i) == '-';
+      i++;
+    }
+
+    if (matches(text, i, to, "Infinity"))
+      return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    if (matches(text, i, to, "NaN"))
+      return Double.NaN;
+    if (i + 1 < to && text.charAt(i) == '0' && (text.charAt(i + 1) | 0x20) == 'x') {
+      return isHexFloatingPoint(text, i + 2, to)
+          ? parseValidated(text, from, to, single)
+          : Double.NaN;
+    }
+
+    long significand = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean digitsSeen = false;
+    boolean truncated = false;
+
+    int runStart = i;
+    for (; i < to; i++) {
+      char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digitsSeen = true;
+        if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+          significand = significand * 10 + (c - '0');
+          if (significand != 0)
+            significantDigits++;
+        } else {
+          exponent++;
+          truncated |= c != '0';
+        }
+      } else if (!isSeparator(text, i, runStart, to, false)) {
+        break;
+      }
+    }
+
+    if (i < to && text.charAt(i) == '.') {
+      runStart = ++i;
+      for (; i < to; i++) {
+        char c = text.charAt(i);
+        if (c >= '0' && c <= '9') {
+          digitsSeen = true;
+          if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+            significand = significand * 10 + (c - '0');
+            if (significand != 0)
+              significantDigits++;
+            exponent--;
+          } else {
+            truncated |= c != '0';
+          }
+        } else if (!isSeparator(text, i, runStart, to, false)) {
+          break;
+        }
+      }
+    }
+
+    if (!digitsSeen)
+      return Double.NaN;
+
+    if (i < to && (text.charAt(i) | 0x20) == 'e') {
+      i++;
+      boolean negativeExponent = false;
+      if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+        negativeExponent = text.charAt(i) == '-';
+        i++;
+      }
+      runStart = i;
+      int explicitExponent = 0;
+      for (; i < to; i++) {
+        char c = text.charAt(i);
+        if (c >= '0' && c <= '9') {
+          explicitExponent = Math.min(explicitExponent * 10 + (c - '0'), MAX_EXPONENT);
+        } else if (!isSeparator(text, i, runStart, to, false)) {
+          break;
+        }
+      }
+      if (i == runStart)
+        return Double.NaN;
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    if (!isAtEndAfterSuffix(text, i, to))
+      return Double.NaN;
+
+    if (!truncated) {
+      if (significand == 0)
+        return negative ? -0d : 0d;
+      if (single) {
+        if (significand <= MAX_EXACT_FLOAT_SIGNIFICAND
+            && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length) {
+          float value = significand;
+          value = exponent < 0
+              ? value / FLOAT_POWERS_OF_TEN[-exponent]
+              : value * FLOAT_POWERS_OF_TEN[exponent];
+          return negative ? -value : value;
+        }
+      } else if (significand <= MAX_EXACT_DOUBLE_SIGNIFICAND
+          && Math.abs(exponent) < DOUBLE_POWERS_OF_TEN.length) {
+        double value = significand;
+        value = exponent < 0
+            ? value / DOUBLE_POWERS_OF_TEN[-exponent]
+            : value * DOUBLE_POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+      }
+    }
+
+    return parseValidated(text, from, to, single);
+  }
+
+  /**
+   * Checks the remainder of a hexadecimal floating point value, after the {@code 0x} prefix, e.g.
+   * {@code 1.8p1}.
+   */
+  private static boolean isHexFloatingPoint(CharSequence text, int from, int to) {
+    int i = from;
+    boolean digitsSeen = false;
+    for (; i < to; i++) {
+      if (Character.digit(text.charAt(i), 16) >= 0 && text.charAt(i) < 0x80)
+        digitsSeen = true;
+      else if (!isSeparator(text, i, from, to, true))
+        break;
+    }
+    if (i < to && text.charAt(i) == '.') {
+      int runStart = ++i;
+      for (; i < to; i++) {
+        if (Character.digit(text.charAt(i), 16) >= 0 && text.charAt(i) < 0x80)
+          digitsSeen = true;
+        else if (!isSeparator(text, i, runStart, to, true))
+          break;
+      }
+    }
+    if (!digitsSeen || i == to || (text.charAt(i) | 0x20) != 'p')
+      return false;
+
+    i++;
+    if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+      i++;
+    int runStart = i;
+    for (; i < to; i++) {
+      char c = text.charAt(i);
+      if ((c < '0' || c > '9') && !isSeparator(text, i, runStart, to, false))
+        break;
+    }
+    return i > runStart && isAtEndAfterSuffix(text, i, to);
+  }
+
+  /**
+   * Parses text that is known to be valid with the JDK, removing any digit separators.
+   */
+  private static double parseValidated(CharSequence text, int from, int to, boolean single) {
+    StringBuilder plain = new StringBuilder(to - from);
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      if (c != '_')
+        plain.append(c);
+    }
+    return single ? Float.parseFloat(plain.toString()) : Double.parseDouble(plain.toString());
+  }
+
+  private static boolean isAtEndAfterSuffix(CharSequence text, int i, int to) {
+    if (i < to) {
+      int suffix = text.charAt(i) | 0x20;
+      if (suffix == 'f' || suffix == 'd')
+        i++;
+    }
+    return i == to;
+  }
+
+  /**
+   * Checks whether the character at {@code i} is an underscore that separates two digits. As runs
+   * of underscores are allowed, the neighbouring characters must each be a digit or an underscore,
+   * and the underscore can't be at either end of the run of digits.
+   */
+  private static boolean isSeparator(CharSequence text, int i, int runStart, int to, boolean hex) {
+    return text.charAt(i) == '_'
+        && i > runStart
+        && i + 1 < to
+        && isDigitOrUnderscore(text.charAt(i - 1), hex)
+        && isDigitOrUnderscore(text.charAt(i + 1), hex);
+  }
+
+  private static boolean isDigitOrUnderscore(char c, boolean hex) {
+    if (c == '_')
+      return true;
+    return hex ? c < 0x80 && Character.digit(c, 16) >= 0 : digit(c) >= 0;
+  }
+
+  private static int digit(char c) {
+    if (c >= '0' && c <= '9')
+      return c - '0';
+    return c < 0x80 ? -1 : Character.digit(c, 10);
+  }
+
+  private static boolean matches(CharSequence text, int from, int to, String literal) {
+    if (to - from != literal.length())
+      return false;
+    for (int i = 0; i < literal.length(); i++) {
+      if (text.charAt(from + i) != literal.charAt(i))
+        return false;
+    }
+    return true;
+  }
+
+  private static boolean isNegative(CharSequence text, int start, int end) {
+    int from = skipLeadingWhitespace(text, start, end);
+    return from < end && text.charAt(from) == '-';
+  }
+
+  private static int skipLeadingWhitespace(CharSequence text, int from, int to) {
+    while (from < to && text.charAt(from) <= ' ')
+      from++;
+    return from;
+  }
+
+  private static int skipTrailingWhitespace(CharSequence text, int from, int to) {
+    while (to > from && text.charAt(to - 1) <= ' ')
+      to--;
+    return to;
+  }
+
+  private static void checkRange(CharSequence text, int start, int end) {
+    if (start < 0 || end > text.length() || start > end) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + start + ", " + end + ") is not within text of length " + text.length());
+    }
+  }
+
+}
@@ -0,0 +1,176 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A view of another {@link PropertyReader}, in which every key is relative to a prefix. Each read
+ * is passed to the parent reader with the prefix prepended, so the view reflects any changes to
+ * the parent's source, any caching that the parent carries out, and reports the full key in any
+ * exceptions.
+ * @see PropertyReader#withPrefix(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+final class PrefixedPropertyReader extends PropertyReader {
+
+  private final PropertyReader parent;
+  private final String prefix;
+
+  /**
+   * Creates a view of the parent reader.
+   * @param parent The reader to read from, which must not itself be a prefixed view.
+   * @param prefix The prefix to prepend to each key.
+   */
+  PrefixedPropertyReader(PropertyReader parent, String prefix) {
+    super(new PrefixedSource(parent, prefix));
+    this.parent = parent;
+    this.prefix = prefix;
+  }
+
+  @Override
+  public PropertyReader withPrefix(String prefix) throws NullPointerException {
+    if (prefix == null)
+      throw new NullPointerException("prefix");
+    return new PrefixedPropertyReader(parent, this.prefix + prefix);
+  }
+
+  @Override
+  public IntProperty getIntValue(String key) {
+    return parent.getIntValue(prefix + key);
+  }
+
+  @Override
+  public LongProperty getLongValue(String key) {
+    return parent.getLongValue(prefix + key);
+  }
+
+  @Override
+  public DoubleProperty getDoubleValue(String key) {
+    return parent.getDoubleValue(prefix + key);
+  }
+
+  @Override
+  public BooleanProperty getBooleanValue(String key) {
+    return parent.getBooleanValue(prefix + key);
+  }
+
+  @Override
+  public LongProperty getDurationNanos(String key) {
+    return parent.getDurationNanos(prefix + key);
+  }
+
+  @Override
+  public LongProperty getSizeBytes(String key) {
+    return parent.getSizeBytes(prefix + key);
+  }
+
+  @Override
+  String getRawValue(String key) {
+    return parent.getRawValue(prefix + key);
+  }
+
+  @Override
+  <T> Property<T> createProperty(String key, Function<String, T> parser) {
+    return parent.createProperty(prefix + key, parser);
+  }
+
+  @Override
+  <T> PropertyResult<T> evaluate(String key,
+                                 Function<String, T> parser,
+                                 Predicate<?>[] constraints,
+                                 DefaultSettings<T> defaultSettings) {
+    return evaluateSpec(parent, prefix + key, parser, constraints, defaultSettings);
+  }
+
+  @Override
+  <T> T read(String key,
+             Function<String, T> parser,
+             Predicate<?>[] constraints,
+             DefaultSettings<T> defaultSettings) {
+    return readSpec(parent, prefix + key, parser, constraints, defaultSettings);
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyReader[" + prefix + "]";
+  }
+
+  /**
+   * The keys of the parent reader that start with the prefix, with the prefix removed.
+   */
+  private static final class RelativeKeys extends AbstractList<String> {
+
+    private final List<String> keys;
+    private final int prefixLength;
+
+    private RelativeKeys(List<String> keys, int prefixLength) {
+      this.keys = keys;
+      this.prefixLength = prefixLength;
+    }
+
+    @Override
+    public String get(int index) {
+      return keys.get(index).substring(prefixLength);
+    }
+
+    @Override
+    public int size() {
+      return keys.size();
+    }
+
+  }
+
+  /**
+   * The source for the view, which reads through the parent reader.
+   */
+  private static final class PrefixedSource implements PropertySource {
+
+    private final PropertyReader parent;
+    private final String prefix;
+
+    private PrefixedSource(PropertyReader parent, String prefix) {
+      this.parent = parent;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public String getProperty(String key) {
+      return parent.getRawValue(prefix + key);
+    }
+
+    @Override
+    public Set<String> keys() {
+      List<String> relativeKeys = keysWithPrefix("");
+      return new AbstractSet<String>() {
+        @Override
+        public Iterator<String> iterator() {
+          return relativeKeys.iterator();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          return o instanceof String && getProperty((String) o) != null;
+        }
+
+        @Override
+        public int size() {
+          return relativeKeys.size();
+        }
+      };
+    }
+
+    @Override
+    public List<String> keysWithPrefix(String prefix) {
+      return new RelativeKeys(
+          parent.keysWithPrefix(this.prefix + prefix), this.prefix.length());
+    }
+
+  }
+
+}
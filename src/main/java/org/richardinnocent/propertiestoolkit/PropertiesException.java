@@ -1,12 +1,33 @@
 package org.richardinnocent.propertiestoolkit;
 
 /**
- * The parent class for all exceptions that can be thrown while calling {@link Property#get()}.
+ * The parent class for all exceptions that can be thrown while calling {@link Property#get()}.<br>
+ * <br>
+ * The exceptions thrown by {@code Property.get()} are only created once it is known that no default
+ * applies, and their messages are only formatted when {@link #getMessage()} is first called. If
+ * these exceptions are used for control flow, e.g. by code that probes many optional keys and
+ * catches the failures, the cost of capturing each stack trace can also be avoided by enabling
+ * stackless exceptions with {@link #setStackless(boolean)}, or by setting the system property
+ * {@value #STACKLESS_PROPERTY} to {@code true}. Stackless exceptions have an empty stack trace,
+ * so this is best suited to applications that handle these exceptions, rather than log them.
  * @since 1.0.0
  * @author RichardInnocent
  */
 public class PropertiesException extends RuntimeException {
 
+  /**
+   * The system property that determines whether stackless exceptions are enabled when this class is
+   * loaded.
+   * @see #setStackless(boolean)
+   * @since 3.1.0
+   */
+  public static final String STACKLESS_PROPERTY =
+      "org.richardinnocent.propertiestoolkit.stacklessExceptions";
+
+  private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+  private transient String formattedMessage;
+
   /**
    * Creates an empty {@code PropertiesException}.
    */
@@ -39,4 +60,88 @@ public class PropertiesException extends RuntimeException {
     super(e);
   }
 
+  /**
+   * Creates a {@code PropertiesException} with the specified cause, whose message is created by
+   * {@link #formatMessage()} when it is first requested.
+   * @param cause The cause of the exception, which may be {@code null}.
+   * @param writableStackTrace Whether the stack trace should be captured. Exceptions created for
+   *   {@link Property#get()} pass {@code !isStackless()}.
+   * @since 3.1.0
+   */
+  protected PropertiesException(Throwable cause, boolean writableStackTrace) {
+    super(null, cause, true, writableStackTrace);
+  }
+
+  /**
+   * Enables or disables stackless exceptions. When enabled, the {@link MissingPropertyException}s,
+   * {@link InvalidTypeException}s and {@link ValidationException}s thrown by {@link Property#get()}
+   * do not capture a stack trace, which makes them much cheaper to create.
+   * @param stackless {@code true} to stop capturing stack traces.
+   * @since 3.1.0
+   */
+  public static void setStackless(boolean stackless) {
+    PropertiesException.stackless = stackless;
+  }
+
+  /**
+   * Determines whether stackless exceptions are enabled.
+   * @return {@code true} if exceptions thrown by {@link Property#get()} do not capture a stack
+   *   trace.
+   * @see #setStackless(boolean)
+   * @since 3.1.0
+   */
+  public static boolean isStackless() {
+    return stackless;
+  }
+
+  /**
+   * Creates the exception that is thrown when the given condition is met, and no default applies.
+   * @param condition The condition that was met.
+   * @param key The property key.
+   * @param value The raw {@code String} value from the properties file.
+   * @param cause The exception that caused the condition, if any.
+   * @return The exception to throw.
+   */
+  static PropertiesException forCondition(DefaultCondition condition,
+                                          String key,
+                                          String value,
+                                          Exception cause) {
+    switch (condition) {
+      case IS_EMPTY:
+        return MissingPropertyException.forProperty(key);
+      case PARSE_FAILS:
+        return InvalidTypeException.forProperty(key, value, cause);
+      default:
+        return ValidationException.forProperty(key, value, (RuntimeException) cause);
+    }
+  }
+
+  /**
+   * Gets the message for this exception. If no message was given when the exception was created,
+   * the message is created by {@link #formatMessage()}, and then remembered.
+   * @return The message, or {@code null} if there is no message.
+   */
+  @Override
+  public String getMessage() {
+    String message = super.getMessage();
+    if (message == null) {
+      message = formattedMessage;
+      if (message == null) {
+        message = formatMessage();
+        formattedMessage = message;
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Creates the message for an exception that was created without one. Subclasses that hold the
+   * details of the failure override this, so that the message is only formatted if it is needed.
+   * @return The message, or {@code null} if there is no message.
+   * @since 3.1.0
+   */
+  protected String formatMessage() {
+    return null;
+  }
+
 }
@@ -0,0 +1,330 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Loads {@code .properties} files directly into a {@link PropertySnapshot}. The file format is the
+ * same as that read by {@link java.util.Properties#load(java.io.InputStream)}, including comments,
+ * escapes, {@code \}{@code uXXXX} sequences and continuation lines. The result is therefore the
+ * same as loading the file into a {@code Properties} object and taking a snapshot of it, e.g.:
+ * <pre>
+ * PropertyReader reader = new PropertyReader(PropertiesLoader.load(path));</pre>
+ * The file is read in a single pass over its bytes, without a {@code Reader} or an intermediate
+ * {@code Properties} object, which makes this considerably faster for large files. Most lines
+ * contain no escapes, and their keys and values are decoded straight from the file's bytes.<br>
+ * <br>
+ * Files may be encoded in ISO-8859-1, as expected by {@code Properties.load(InputStream)}, or in
+ * UTF-8, in which case the result is the same as {@code Properties.load(Reader)} with a UTF-8
+ * reader.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertiesLoader {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final byte[] data;
+  private final int length;
+  private final Charset charset;
+
+  private String[] keys = new String[INITIAL_CAPACITY];
+  private String[] values = new String[INITIAL_CAPACITY];
+  private int count;
+  private byte[] lineBuffer = new byte[128];
+
+  private PropertiesLoader(byte[] data, int length, Charset charset) {
+    this.data = data;
+    this.length = length;
+    this.charset = charset;
+  }
+
+  /**
+   * Loads an ISO-8859-1 encoded file.
+   * @param file The file to load.
+   * @return The properties in the file.
+   * @throws IOException Thrown if the file cannot be read.
+   * @throws IllegalArgumentException Thrown if the file contains a malformed {@code \}{@code
+   *   uXXXX} sequence.
+   */
+  public static PropertySnapshot load(Path file) throws IOException, IllegalArgumentException {
+    return load(file, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Loads a file in the given encoding.
+   * @param file The file to load.
+   * @param charset The encoding of the file, which must be either ISO-8859-1 or UTF-8.
+   * @return The properties in the file.
+   * @throws IOException Thrown if the file cannot be read.
+   * @throws IllegalArgumentException Thrown if the charset is not supported, or if the file
+   *   contains a malformed {@code \}{@code uXXXX} sequence.
+   */
+  public static PropertySnapshot load(Path file, Charset charset)
+      throws IOException, IllegalArgumentException {
+    checkCharset(charset);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE - 8)
+        throw new IOException("File is too large to load: " + file);
+
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // Keep reading until the buffer is full or the end of the file is reached
+      }
+      return new PropertiesLoader(buffer.array(), buffer.position(), charset).parse();
+    }
+  }
+
+  /**
+   * Loads properties from the given bytes.
+   * @param data The contents of a {@code .properties} file.
+   * @param charset The encoding of the data, which must be either ISO-8859-1 or UTF-8.
+   * @return The properties in the data.
+   * @throws IllegalArgumentException Thrown if the charset is not supported, or if the data
+   *   contains a malformed {@code \}{@code uXXXX} sequence.
+   */
+  public static PropertySnapshot load(byte[] data, Charset charset)
+      throws IllegalArgumentException {
+    checkCharset(charset);
+    return new PropertiesLoader(data, data.length, charset).parse();
+  }
+
+  private static void checkCharset(Charset charset) throws IllegalArgumentException {
+    if (!StandardCharsets.ISO_8859_1.equals(charset) && !StandardCharsets.UTF_8.equals(charset))
+      throw new IllegalArgumentException("Unsupported charset: " + charset);
+  }
+
+  private PropertySnapshot parse() {
+    int position = 0;
+    while (position < length) {
+      byte b = data[position];
+      if (isWhitespace(b) || b == '\r' || b == '\n') {
+        position++;
+      } else if (b == '#' || b == '!') {
+        position = endOfLine(position);
+      } else {
+        position = readLogicalLine(position);
+      }
+    }
+    return new PropertySnapshot(keys, values, count);
+  }
+
+  /**
+   * Reads the logical line that starts at the given position, which is not whitespace.
+   * @return The position after the line.
+   */
+  private int readLogicalLine(int start) {
+    int end = endOfLine(start);
+    if (indexOfBackslash(start, end) < 0) {
+      splitLine(start, end);
+      return end;
+    }
+
+    // The line contains escapes, and may continue onto the following lines, so the logical line
+    // is gathered into the line buffer first
+    int lineLength = 0;
+    int position = start;
+    while (true) {
+      lineLength = appendToLineBuffer(lineLength, position, end);
+      int trailingBackslashes = 0;
+      while (trailingBackslashes < end - position
+             && data[end - 1 - trailingBackslashes] == '\\')
+        trailingBackslashes++;
+      if (trailingBackslashes % 2 == 0)
+        break;
+
+      // A backslash at the very end of the data, or followed only by a single line terminator,
+      // ends the line, even if that leaves it empty
+      lineLength--;
+      if (end >= length - 1)
+        break;
+
+      position = skipNewLine(end);
+      while (position < length && isWhitespace(data[position]))
+        position++;
+      end = endOfLine(position);
+      if (lineLength == 0) {
+        // Nothing has been read yet, so, as with Properties.load, the continuation is ignored
+        // if it is followed by a blank line, and the next line may still be a comment
+        if (position == end || data[position] == '#' || data[position] == '!')
+          return end;
+      } else if (position == end) {
+        break;
+      }
+    }
+
+    char[] line = new String(lineBuffer, 0, lineLength, charset).toCharArray();
+    splitEscapedLine(line);
+    return end;
+  }
+
+  /**
+   * Splits a line with no escapes into its key and value, in the same manner as {@link
+   * #splitEscapedLine(char[])}.
+   */
+  private void splitLine(int start, int end) {
+    int keyEnd = start;
+    int valueStart = end;
+    boolean hasSeparator = false;
+    while (keyEnd < end) {
+      byte b = data[keyEnd];
+      if (b == '=' || b == ':') {
+        valueStart = keyEnd + 1;
+        hasSeparator = true;
+        break;
+      } else if (isWhitespace(b)) {
+        valueStart = keyEnd + 1;
+        break;
+      }
+      keyEnd++;
+    }
+    while (valueStart < end) {
+      byte b = data[valueStart];
+      if (!isWhitespace(b)) {
+        if (!hasSeparator && (b == '=' || b == ':'))
+          hasSeparator = true;
+        else
+          break;
+      }
+      valueStart++;
+    }
+    put(new String(data, start, keyEnd - start, charset),
+        new String(data, valueStart, end - valueStart, charset));
+  }
+
+  /**
+   * Splits a logical line into its key and value, and then converts any escapes, as {@code
+   * Properties.load} does.
+   */
+  private void splitEscapedLine(char[] line) {
+    int limit = line.length;
+    int keyLength = 0;
+    int valueStart = limit;
+    boolean hasSeparator = false;
+    boolean precedingBackslash = false;
+    while (keyLength < limit) {
+      char c = line[keyLength];
+      if ((c == '=' || c == ':') && !precedingBackslash) {
+        valueStart = keyLength + 1;
+        hasSeparator = true;
+        break;
+      } else if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+        valueStart = keyLength + 1;
+        break;
+      }
+      precedingBackslash = c == '\\' && !precedingBackslash;
+      keyLength++;
+    }
+    while (valueStart < limit) {
+      char c = line[valueStart];
+      if (c != ' ' && c != '\t' && c != '\f') {
+        if (!hasSeparator && (c == '=' || c == ':'))
+          hasSeparator = true;
+        else
+          break;
+      }
+      valueStart++;
+    }
+    put(unescape(line, 0, keyLength), unescape(line, valueStart, limit));
+  }
+
+  private static String unescape(char[] line, int start, int end) throws IllegalArgumentException {
+    StringBuilder builder = new StringBuilder(end - start);
+    int position = start;
+    while (position < end) {
+      char c = line[position++];
+      if (c != '\\' || position == end) {
+        builder.append(c);
+        continue;
+      }
+
+      c = line[position++];
+      if (c == 'u') {
+        if (end - position < 4)
+          throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+          int digit = hexDigit(line[position++]);
+          if (digit < 0)
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+          value = (value << 4) + digit;
+        }
+        builder.append((char) value);
+      } else if (c == 't') {
+        builder.append('\t');
+      } else if (c == 'r') {
+        builder.append('\r');
+      } else if (c == 'n') {
+        builder.append('\n');
+      } else if (c == 'f') {
+        builder.append('\f');
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9')
+      return c - '0';
+    if (c >= 'a' && c <= 'f')
+      return c - 'a' + 10;
+    if (c >= 'A' && c <= 'F')
+      return c - 'A' + 10;
+    return -1;
+  }
+
+  private void put(String key, String value) {
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count * 2);
+      values = Arrays.copyOf(values, count * 2);
+    }
+    keys[count] = key;
+    values[count++] = value;
+  }
+
+  private int appendToLineBuffer(int lineLength, int start, int end) {
+    int required = lineLength + end - start;
+    if (required > lineBuffer.length)
+      lineBuffer = Arrays.copyOf(lineBuffer, Math.max(required, lineBuffer.length * 2));
+    System.arraycopy(data, start, lineBuffer, lineLength, end - start);
+    return required;
+  }
+
+  private int endOfLine(int position) {
+    while (position < length && data[position] != '\n' && data[position] != '\r')
+      position++;
+    return position;
+  }
+
+  private int skipNewLine(int position) {
+    if (position < length && data[position] == '\r')
+      position++;
+    else if (position < length)
+      return position + 1;
+    if (position < length && data[position] == '\n')
+      position++;
+    return position;
+  }
+
+  private int indexOfBackslash(int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (data[i] == '\\')
+        return i;
+    }
+    return -1;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\f';
+  }
+
+}
@@ -1,7 +1,6 @@
 package org.richardinnocent.propertiestoolkit;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -17,11 +16,13 @@ import java.util.function.Predicate;
  */
 public class Property<T> {
 
+  private static final Predicate<?>[] NO_CONSTRAINTS = new Predicate<?>[0];
+
   private final String value;
   private final String key;
   private final Function<String, T> parser;
   private DefaultSettings<T> defaultSettings;
-  private List<Predicate<? super T>> constraints = new LinkedList<>();
+  private Predicate<?>[] constraints = NO_CONSTRAINTS;
 
   /**
    * Creates a {@code Property} for the given key and value.
@@ -63,8 +64,10 @@ public class Property<T> {
    * @return This {@code Property} object, for chaining.
    */
   public Property<T> addConstraint(Predicate<? super T> constraint) {
-    if (constraint != null)
-      this.constraints.add(constraint);
+    if (constraint != null) {
+      constraints = Arrays.copyOf(constraints, constraints.length + 1);
+      constraints[constraints.length - 1] = constraint;
+    }
     return this;
   }
 
@@ -80,7 +83,8 @@ public class Property<T> {
    *     setting. If no such setting is found, a {@link MissingPropertyException} is
    *     thrown.</li>
    *   <li><b>Attempt to parse the property to the expected type</b><br>
-   *     This parse is completed using the provided {@code Function<String, T>}.<br>
+   *     This parse is completed using the provided {@code Function<String, T>}. If the function
+   *     is a {@link PropertyParser}, a {@code null} result is treated as a failed parse.<br>
    *     <b>If the property is parsed successfully</b>, continue to step 3.<br>
    *     <b>If the property is not parsed successfully</b>, check if a {@code defaultSettings}
    *     object has been applied which contains the appropriate behaviour for {@link
@@ -104,46 +108,173 @@ public class Property<T> {
    * @throws ValidationException Thrown if any of the constraint checks for this property fail,
    *   and there is no {@code defaultSetting} specifying behaviour for {@link
    *   DefaultCondition#IS_INVALID}.
+   * @see #evaluate()
    */
   public T get() throws MissingPropertyException, InvalidTypeException, ValidationException {
+    return get(key, value, parser, constraints, defaultSettings);
+  }
+
+  /**
+   * Converts the {@code Property} to the expected type in the same manner as {@link #get()}, but
+   * reports failure as a {@link PropertyResult}, rather than by throwing an exception. If a default
+   * applies, the result is successful and holds the default value. Otherwise, if a {@link
+   * DefaultCondition} is met, the result holds that condition, and no exception is created. This
+   * makes {@code evaluate()} considerably cheaper than {@code get()} for keys that are often
+   * missing or invalid.
+   * @return The result of the evaluation.
+   * @since 3.1.0
+   */
+  public PropertyResult<T> evaluate() {
+    return evaluate(key, value, parser, constraints, defaultSettings);
+  }
+
+  /**
+   * Evaluates a value in the manner described by {@link #get()}. This is shared by {@code
+   * Property} and {@link PropertySpec}, so that both behave identically.
+   * @param key The property key.
+   * @param value The raw value, which may be {@code null}.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The result of the evaluation.
+   */
+  static <T> PropertyResult<T> evaluate(String key,
+                                        String value,
+                                        Function<String, T> parser,
+                                        Predicate<?>[] constraints,
+                                        DefaultSettings<T> defaultSettings) {
+    return process(key, value, parser, constraints, defaultSettings, Outcome.result());
+  }
+
+  /**
+   * Gets a value in the manner described by {@link #get()}. This follows the same steps as {@link
+   * #evaluate(String, String, Function, Predicate[], DefaultSettings)}, but returns the value
+   * directly, so that a successful read does not create a {@link PropertyResult}.
+   * @param key The property key.
+   * @param value The raw value, which may be {@code null}.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The value, or an appropriate default.
+   * @throws PropertiesException Thrown if a {@link DefaultCondition} is met, and there is no
+   *   default for it.
+   */
+  static <T> T get(String key,
+                   String value,
+                   Function<String, T> parser,
+                   Predicate<?>[] constraints,
+                   DefaultSettings<T> defaultSettings) throws PropertiesException {
+    return process(key, value, parser, constraints, defaultSettings, Outcome.value());
+  }
+
+  /**
+   * Walks the empty check, parse and constraint checks described by {@link #get()}, handing the
+   * parsed value or the first {@link DefaultCondition} that is met to the given {@code Outcome}.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, R> R process(String key,
+                                  String value,
+                                  Function<String, T> parser,
+                                  Predicate<?>[] constraints,
+                                  DefaultSettings<T> defaultSettings,
+                                  Outcome<T, R> outcome) {
     if (value == null || value.isEmpty())
-      return applyDefaultBehaviour(DefaultCondition.IS_EMPTY,
-                                   MissingPropertyException.forProperty(key));
+      return outcome.onCondition(key, value, defaultSettings, DefaultCondition.IS_EMPTY, null);
 
     T parsedValue;
-    try {
-      parsedValue = parse();
-    } catch (InvalidTypeException e) {
-      return applyDefaultBehaviour(DefaultCondition.PARSE_FAILS, e);
+    if (parser instanceof PropertyParser) {
+      parsedValue = ((PropertyParser<T>) parser).parseOrNull(value);
+      if (parsedValue == null) {
+        return outcome.onCondition(
+            key, value, defaultSettings, DefaultCondition.PARSE_FAILS, null);
+      }
+    } else {
+      try {
+        parsedValue = parser.apply(value);
+      } catch (Exception e) {
+        return outcome.onCondition(key, value, defaultSettings, DefaultCondition.PARSE_FAILS, e);
+      }
     }
 
-    for (Predicate<? super T> constraint : constraints) {
+    for (Predicate<?> constraint : constraints) {
       try {
-        if (!constraint.test(parsedValue))
-          return applyDefaultBehaviour(DefaultCondition.IS_INVALID,
-                                       ValidationException.forProperty(key, value));
+        if (!((Predicate<? super T>) constraint).test(parsedValue)) {
+          return outcome.onCondition(
+              key, value, defaultSettings, DefaultCondition.IS_INVALID, null);
+        }
       } catch (RuntimeException e) {
-        return applyDefaultBehaviour(DefaultCondition.IS_INVALID,
-                                     ValidationException.forProperty(key, value, e));
+        return outcome.onCondition(key, value, defaultSettings, DefaultCondition.IS_INVALID, e);
       }
     }
 
-    return parsedValue;
+    return outcome.onSuccess(key, value, parsedValue);
   }
 
-  private T applyDefaultBehaviour(DefaultCondition condition, PropertiesException e)
-      throws PropertiesException {
-    if (defaultSettings == null)
-      throw e;
-    return defaultSettings.apply(condition, key, value, e);
-  }
+  /**
+   * Determines how {@link #process(String, String, Function, Predicate[], DefaultSettings,
+   * Outcome)} finishes. {@link #get()} returns the value or throws, while {@link #evaluate()}
+   * wraps either in a {@link PropertyResult}. Both implementations are stateless, so a single
+   * instance of each is shared between every type.
+   * @param <T> The type that the value is parsed to.
+   * @param <R> The type that is returned.
+   */
+  private interface Outcome<T, R> {
+
+    Outcome<?, ?> VALUE = new Outcome<Object, Object>() {
+      @Override
+      public Object onSuccess(String key, String value, Object parsedValue) {
+        return parsedValue;
+      }
+
+      @Override
+      public Object onCondition(String key,
+                                String value,
+                                DefaultSettings<Object> defaultSettings,
+                                DefaultCondition condition,
+                                Exception cause) {
+        if (defaultSettings == null || !defaultSettings.handles(condition))
+          throw PropertiesException.forCondition(condition, key, value, cause);
+        return defaultSettings.apply(condition, key, value);
+      }
+    };
+
+    Outcome<?, ?> RESULT = new Outcome<Object, PropertyResult<Object>>() {
+      @Override
+      public PropertyResult<Object> onSuccess(String key, String value, Object parsedValue) {
+        return PropertyResult.success(key, value, parsedValue);
+      }
+
+      @Override
+      public PropertyResult<Object> onCondition(String key,
+                                                String value,
+                                                DefaultSettings<Object> defaultSettings,
+                                                DefaultCondition condition,
+                                                Exception cause) {
+        if (defaultSettings == null || !defaultSettings.handles(condition))
+          return PropertyResult.failure(key, value, condition, cause);
+        return PropertyResult.success(key, value, defaultSettings.apply(condition, key, value));
+      }
+    };
 
-  private T parse() {
-    try {
-      return parser.apply(value);
-    } catch (Exception e) {
-      throw InvalidTypeException.forProperty(key, value, e);
+    @SuppressWarnings("unchecked")
+    static <T> Outcome<T, T> value() {
+      return (Outcome<T, T>) VALUE;
     }
+
+    @SuppressWarnings("unchecked")
+    static <T> Outcome<T, PropertyResult<T>> result() {
+      return (Outcome<T, PropertyResult<T>>) RESULT;
+    }
+
+    R onSuccess(String key, String value, T parsedValue);
+
+    R onCondition(String key,
+                  String value,
+                  DefaultSettings<T> defaultSettings,
+                  DefaultCondition condition,
+                  Exception cause);
   }
 
   @Override
@@ -0,0 +1,59 @@
+package org.richardinnocent.propertiestoolkit;
+
+/**
+ * A property that has been declared up front in a {@link PropertyKeyRegistry}, and that can be
+ * read from any {@link CompiledProperties} that the registry has compiled. Each key has an
+ * ordinal that is unique within its registry, and which is used to locate the key's value in the
+ * compiled properties without hashing the key's name. Keys are created by {@link
+ * PropertyKeyRegistry#register(PropertySpec)}.
+ * @param <T> The type of the property's value.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertyKey<T> {
+
+  private final PropertyKeyRegistry registry;
+  private final PropertySpec<T> spec;
+  private final int ordinal;
+
+  PropertyKey(PropertyKeyRegistry registry, PropertySpec<T> spec, int ordinal) {
+    this.registry = registry;
+    this.spec = spec;
+    this.ordinal = ordinal;
+  }
+
+  /**
+   * Gets the name of the property, as it appears in the properties file.
+   * @return The property key.
+   */
+  public String getName() {
+    return spec.getKey();
+  }
+
+  /**
+   * Gets the spec that describes how the property is read.
+   * @return The spec.
+   */
+  public PropertySpec<T> getSpec() {
+    return spec;
+  }
+
+  /**
+   * Gets the ordinal of this key, which is its position in the order that the keys were
+   * registered.
+   * @return The ordinal.
+   */
+  public int getOrdinal() {
+    return ordinal;
+  }
+
+  PropertyKeyRegistry getRegistry() {
+    return registry;
+  }
+
+  @Override
+  public String toString() {
+    return spec.getKey();
+  }
+
+}
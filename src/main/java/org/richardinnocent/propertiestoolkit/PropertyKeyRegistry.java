@@ -0,0 +1,117 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Declares a fixed set of properties up front, so that their values can be read without looking
+ * up their keys, e.g.:
+ * <pre>
+ * static final PropertyKeyRegistry KEYS = new PropertyKeyRegistry();
+ * static final PropertyKey&lt;Boolean&gt; NEW_CHECKOUT =
+ *     KEYS.register("feature.newCheckout", Boolean::valueOf);
+ * static final PropertyKey&lt;Integer&gt; MAX_USERS =
+ *     KEYS.register(PropertySpec.of("maxUsers", NumberParsers.INTEGER)
+ *                               .withConstraint(value -&gt; value &gt; 0));
+ *
+ * CompiledProperties compiled = KEYS.compile(reader);
+ * if (compiled.get(NEW_CHECKOUT)) { ... }</pre>
+ * Each key is given the next ordinal as it is registered. {@link #compile(PropertyReader)} then
+ * reads every key once and stores the values in an array, indexed by ordinal, so each subsequent
+ * read is an array access rather than a hash lookup, and does not parse or validate the value
+ * again.<br>
+ * <br>
+ * Keys are usually registered in static initialisers, and compiled once the properties have been
+ * loaded. Registration is thread-safe, but keys that are registered after the properties have been
+ * compiled cannot be read from those compiled properties.
+ * @see CompiledProperties
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertyKeyRegistry {
+
+  private static final PropertyKey<?>[] NO_KEYS = new PropertyKey<?>[0];
+
+  private volatile PropertyKey<?>[] keys = NO_KEYS;
+
+  /**
+   * Registers a key that reads the given property with the given parser, and no constraints or
+   * default settings.
+   * @param key The property key.
+   * @param parser The method of converting the raw text to the desired type.
+   * @param <T> The type to parse the value to.
+   * @return The new key.
+   * @throws NullPointerException Thrown if the {@code key} or {@code parser} is {@code null}.
+   * @throws IllegalArgumentException Thrown if the key has already been registered.
+   */
+  public <T> PropertyKey<T> register(String key, Function<String, T> parser)
+      throws NullPointerException, IllegalArgumentException {
+    return register(PropertySpec.of(key, parser));
+  }
+
+  /**
+   * Registers a key that reads the property described by the given spec.
+   * @param spec The spec for the property.
+   * @param <T> The type of the property's value.
+   * @return The new key.
+   * @throws NullPointerException Thrown if the {@code spec} is {@code null}.
+   * @throws IllegalArgumentException Thrown if the spec's key has already been registered.
+   */
+  public synchronized <T> PropertyKey<T> register(PropertySpec<T> spec)
+      throws NullPointerException, IllegalArgumentException {
+    if (spec == null)
+      throw new NullPointerException("spec");
+    for (PropertyKey<?> existing : keys) {
+      if (existing.getName().equals(spec.getKey()))
+        throw new IllegalArgumentException("Key has already been registered: " + spec.getKey());
+    }
+
+    PropertyKey<T> key = new PropertyKey<>(this, spec, keys.length);
+    PropertyKey<?>[] extended = Arrays.copyOf(keys, keys.length + 1);
+    extended[key.getOrdinal()] = key;
+    keys = extended;
+    return key;
+  }
+
+  /**
+   * Gets the keys that have been registered, in the order that they were registered.
+   * @return An unmodifiable list of the keys.
+   */
+  public List<PropertyKey<?>> getKeys() {
+    return Collections.unmodifiableList(Arrays.asList(keys));
+  }
+
+  /**
+   * Gets the number of keys that have been registered.
+   * @return The number of keys.
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Reads every key that has been registered from the given reader. Each value is parsed,
+   * validated and defaulted as described by the key's spec, so an invalid value is reported here,
+   * rather than when it is read. The result reflects the reader's values at the time of this call,
+   * so the properties should be compiled again if they change.
+   * @param reader The reader to read from.
+   * @return The compiled properties.
+   * @throws MissingPropertyException Thrown if any property is missing and there is no default
+   *   for {@link DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if any property cannot be parsed and there is no default
+   *   for {@link DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if any property fails its constraints and there is no
+   *   default for {@link DefaultCondition#IS_INVALID}.
+   */
+  public CompiledProperties compile(PropertyReader reader)
+      throws MissingPropertyException, InvalidTypeException, ValidationException {
+    PropertyKey<?>[] current = keys;
+    Object[] values = new Object[current.length];
+    for (PropertyKey<?> key : current)
+      values[key.getOrdinal()] = key.getSpec().get(reader);
+    return new CompiledProperties(this, values);
+  }
+
+}
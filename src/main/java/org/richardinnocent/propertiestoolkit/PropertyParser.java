@@ -0,0 +1,43 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.function.Function;
+
+/**
+ * A parser that reports failure by returning {@code null}, rather than by throwing an exception.
+ * When a {@link Property} is given a {@code PropertyParser}, a {@code null} result is routed
+ * straight to {@link DefaultCondition#PARSE_FAILS}, so properties that frequently fail to parse do
+ * not pay for the construction of an exception (and its stack trace) on every read.<br>
+ * <br>
+ * As a {@code PropertyParser} is also a {@code Function}, it can be used anywhere that a {@code
+ * Function<String, T>} parser is expected. When used as a {@code Function}, failure is reported
+ * with an {@link IllegalArgumentException}.
+ * @param <T> The type that the text is parsed to.
+ * @see NumberParsers
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+@FunctionalInterface
+public interface PropertyParser<T> extends Function<String, T> {
+
+  /**
+   * Parses the text.
+   * @param text The raw text from the {@code Properties} file. This will never be {@code null}.
+   * @return The parsed value, or {@code null} if the text cannot be parsed.
+   */
+  T parseOrNull(String text);
+
+  /**
+   * Parses the text, throwing an exception if the text cannot be parsed.
+   * @param text The raw text from the {@code Properties} file.
+   * @return The parsed value.
+   * @throws IllegalArgumentException Thrown if the text cannot be parsed.
+   */
+  @Override
+  default T apply(String text) throws IllegalArgumentException {
+    T value = parseOrNull(text);
+    if (value == null)
+      throw new IllegalArgumentException("Could not parse value: " + text);
+    return value;
+  }
+
+}
@@ -1,7 +1,16 @@
 package org.richardinnocent.propertiestoolkit;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.richardinnocent.propertiestoolkit.types.CidrSet;
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+import org.richardinnocent.propertiestoolkit.types.IntSet;
+import org.richardinnocent.propertiestoolkit.types.LongSet;
+import org.richardinnocent.propertiestoolkit.types.StringSet;
 
 /**
  * The {@code PropertyReader} is the instance that is used to convert properties from a populated
@@ -65,23 +74,90 @@ import java.util.function.Function;
 @SuppressWarnings("WeakerAccess")
 public class PropertyReader {
 
-  private static final Function<String, Byte> BYTE_PARSER = Byte::valueOf;
-  private static final Function<String, Short> SHORT_PARSER = Short::valueOf;
-  private static final Function<String, Integer> INT_PARSER = Integer::valueOf;
-  private static final Function<String, Long> LONG_PARSER = Long::valueOf;
-  private static final Function<String, Float> FLOAT_PARSER = Float::valueOf;
-  private static final Function<String, Double> DOUBLE_PARSER = Double::valueOf;
+  private static final Function<String, Byte> BYTE_PARSER = NumberParsers.BYTE;
+  private static final Function<String, Short> SHORT_PARSER = NumberParsers.SHORT;
+  private static final Function<String, Integer> INT_PARSER = NumberParsers.INTEGER;
+  private static final Function<String, Long> LONG_PARSER = NumberParsers.LONG;
+  private static final Function<String, Float> FLOAT_PARSER = NumberParsers.FLOAT;
+  private static final Function<String, Double> DOUBLE_PARSER = NumberParsers.DOUBLE;
   private static final Function<String, Boolean> BOOLEAN_PARSER = Boolean::valueOf;
   private static final Function<String, String> STRING_PARSER = value -> value;
+  private static final Function<String, int[]> INT_ARRAY_PARSER = ListParsers.INT_ARRAY;
+  private static final Function<String, long[]> LONG_ARRAY_PARSER = ListParsers.LONG_ARRAY;
+  private static final Function<String, double[]> DOUBLE_ARRAY_PARSER = ListParsers.DOUBLE_ARRAY;
+  private static final Function<String, List<String>> STRING_LIST_PARSER = ListParsers.STRING_LIST;
+  private static final Function<String, IntSet> INT_SET_PARSER = IntSet.PARSER;
+  private static final Function<String, LongSet> LONG_SET_PARSER = LongSet.PARSER;
+  private static final Function<String, StringSet> STRING_SET_PARSER = StringSet.PARSER;
+  private static final Function<String, CidrSet> CIDR_SET_PARSER = CidrSet.PARSER;
+  private static final Function<String, Duration> DURATION_PARSER = UnitParsers.DURATION;
+  private static final Function<String, DataSize> DATA_SIZE_PARSER = UnitParsers.DATA_SIZE;
 
-  private final Properties properties;
+  private final PropertySource source;
 
   /**
-   * Initialises a {@code PropertyReader} to read from the given {@code Properties} file.
+   * Initialises a {@code PropertyReader} to read from the given {@code Properties} file. Changes
+   * made to the {@code properties} will be visible to this reader.
    * @param properties The object to read from.
+   * @see #snapshot(Properties)
    */
   public PropertyReader(Properties properties) {
-    this.properties = properties;
+    this(PropertySource.of(properties));
+  }
+
+  /**
+   * Initialises a {@code PropertyReader} to read from the given source.
+   * @param source The source to read from.
+   * @since 3.1.0
+   */
+  public PropertyReader(PropertySource source) {
+    this.source = source;
+  }
+
+  /**
+   * Creates a {@code PropertyReader} that reads from an immutable {@link PropertySnapshot} of the
+   * given {@code Properties}, including any defaults. Reads from the snapshot do not lock, so this
+   * is preferable to {@link #PropertyReader(Properties)} when the properties are read by many
+   * threads and do not change after the reader has been created.
+   * @param properties The properties to copy.
+   * @return A reader for a snapshot of the {@code properties}.
+   * @since 3.1.0
+   */
+  public static PropertyReader snapshot(Properties properties) {
+    return new PropertyReader(PropertySnapshot.of(properties));
+  }
+
+  /**
+   * Creates a view of this reader in which every key is relative to the given prefix. For example,
+   * {@code reader.withPrefix("db.primary.").getString("url")} reads the key {@code
+   * db.primary.url}. The view reads through this reader, so it sees any changes to this reader's
+   * source, and exceptions report the full key.
+   * @param prefix The prefix to prepend to each key.
+   * @return A view of this reader.
+   * @throws NullPointerException Thrown if the {@code prefix} is {@code null}.
+   * @see #keysWithPrefix(String)
+   * @since 3.1.0
+   */
+  public PropertyReader withPrefix(String prefix) throws NullPointerException {
+    if (prefix == null)
+      throw new NullPointerException("prefix");
+    return new PrefixedPropertyReader(this, prefix);
+  }
+
+  /**
+   * Gets the keys that this reader can read which start with the given prefix, in sorted order.
+   * For a view created by {@link #withPrefix(String)}, the keys are relative to the view's prefix.
+   * If this reader reads from a {@link PropertySnapshot}, the keys are found with a sorted index,
+   * in time proportional to the number of keys returned. Otherwise, every key is checked.
+   * @param prefix The prefix, which may be empty to get every key.
+   * @return The keys that start with the {@code prefix}. This list should not be modified.
+   * @throws NullPointerException Thrown if the {@code prefix} is {@code null}.
+   * @since 3.1.0
+   */
+  public List<String> keysWithPrefix(String prefix) throws NullPointerException {
+    if (prefix == null)
+      throw new NullPointerException("prefix");
+    return getSource().keysWithPrefix(prefix);
   }
 
   /**
@@ -94,7 +170,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Byte> getByte(String key) {
-    return new Property<>(key, properties.getProperty(key), BYTE_PARSER);
+    return createProperty(key, BYTE_PARSER);
   }
 
   /**
@@ -107,7 +183,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Short> getShort(String key) {
-    return new Property<>(key, properties.getProperty(key), SHORT_PARSER);
+    return createProperty(key, SHORT_PARSER);
   }
 
   /**
@@ -120,7 +196,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Integer> getInt(String key) {
-    return new Property<>(key, properties.getProperty(key), INT_PARSER);
+    return createProperty(key, INT_PARSER);
   }
 
   /**
@@ -133,7 +209,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Long> getLong(String key) {
-    return new Property<>(key, properties.getProperty(key), LONG_PARSER);
+    return createProperty(key, LONG_PARSER);
   }
 
   /**
@@ -146,7 +222,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Float> getFloat(String key) {
-    return new Property<>(key, properties.getProperty(key), FLOAT_PARSER);
+    return createProperty(key, FLOAT_PARSER);
   }
 
   /**
@@ -159,7 +235,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Double> getDouble(String key) {
-    return new Property<>(key, properties.getProperty(key), DOUBLE_PARSER);
+    return createProperty(key, DOUBLE_PARSER);
   }
 
   /**
@@ -172,7 +248,7 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<Boolean> getBoolean(String key) {
-    return new Property<>(key, properties.getProperty(key), BOOLEAN_PARSER);
+    return createProperty(key, BOOLEAN_PARSER);
   }
 
   /**
@@ -188,7 +264,144 @@ public class PropertyReader {
    * @see Property#get()
    */
   public Property<String> getString(String key) {
-    return new Property<>(key, properties.getProperty(key), STRING_PARSER);
+    return createProperty(key, STRING_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated value, such as {@code
+   * 1, 2, 3}, as an {@code int[]} when the {@link Property#get()} method is called. The elements
+   * are parsed straight into the array, without being boxed. If any element cannot be parsed to an
+   * {@code int}, an {@code InvalidTypeException} will be thrown when the {@link Property#get()}
+   * method is called, unless suitable default behaviour has been defined. Constraints on each
+   * element can be added with {@link ListParsers#eachInt(java.util.function.IntPredicate)}.
+   * @param key The property key.
+   * @return A {@code Property} for an {@code int[]}.
+   * @see ListParsers
+   * @since 3.1.0
+   */
+  public Property<int[]> getIntArray(String key) {
+    return createProperty(key, INT_ARRAY_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated value as a {@code
+   * long[]} when the {@link Property#get()} method is called, in the same manner as {@link
+   * #getIntArray(String)}.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code long[]}.
+   * @see ListParsers
+   * @since 3.1.0
+   */
+  public Property<long[]> getLongArray(String key) {
+    return createProperty(key, LONG_ARRAY_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated value as a {@code
+   * double[]} when the {@link Property#get()} method is called, in the same manner as {@link
+   * #getIntArray(String)}.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code double[]}.
+   * @see ListParsers
+   * @since 3.1.0
+   */
+  public Property<double[]> getDoubleArray(String key) {
+    return createProperty(key, DOUBLE_ARRAY_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will read a comma-separated value as an unmodifiable {@code
+   * List} of {@code String}s when the {@link Property#get()} method is called. Whitespace around
+   * each element is removed.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code List} of {@code String}s.
+   * @see ListParsers
+   * @since 3.1.0
+   */
+  public Property<List<String>> getStringList(String key) {
+    return createProperty(key, STRING_LIST_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated value, such as a list of
+   * blocked IDs, as an {@link IntSet} when the {@link Property#get()} method is called. The set is
+   * optimised for checking membership, which doesn't allocate. If any element cannot be parsed to
+   * an {@code int}, an {@code InvalidTypeException} will be thrown when the {@link Property#get()}
+   * method is called, unless suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code Property} for an {@code IntSet}.
+   * @since 3.1.0
+   */
+  public Property<IntSet> getIntSet(String key) {
+    return createProperty(key, INT_SET_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated value as a {@link
+   * LongSet} when the {@link Property#get()} method is called, in the same manner as {@link
+   * #getIntSet(String)}.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code LongSet}.
+   * @since 3.1.0
+   */
+  public Property<LongSet> getLongSet(String key) {
+    return createProperty(key, LONG_SET_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will read a comma-separated value as a {@link StringSet} when
+   * the {@link Property#get()} method is called. The set is optimised for checking membership,
+   * which doesn't allocate.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code StringSet}.
+   * @since 3.1.0
+   */
+  public Property<StringSet> getStringSet(String key) {
+    return createProperty(key, STRING_SET_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read a comma-separated list of IP address
+   * ranges in CIDR notation, such as {@code 10.0.0.0/8, 2001:db8::/32}, as a {@link CidrSet} when
+   * the {@link Property#get()} method is called. If any element is not a valid range, an {@code
+   * InvalidTypeException} will be thrown when the {@link Property#get()} method is called, unless
+   * suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code CidrSet}.
+   * @since 3.1.0
+   */
+  public Property<CidrSet> getCidrSet(String key) {
+    return createProperty(key, CIDR_SET_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read the value as a {@code Duration}, such as
+   * {@code 250ms} or {@code 30s}, when the {@link Property#get()} method is called. The accepted
+   * formats are described in {@link UnitParsers}. If the value is not a valid duration, an {@code
+   * InvalidTypeException} will be thrown when the {@link Property#get()} method is called, unless
+   * suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code Duration}.
+   * @see #getDurationNanos(String)
+   * @since 3.1.0
+   */
+  public Property<Duration> getDuration(String key) {
+    return createProperty(key, DURATION_PARSER);
+  }
+
+  /**
+   * Creates a {@code Property} that will attempt to read the value as a {@link DataSize}, such as
+   * {@code 512MB}, when the {@link Property#get()} method is called. The accepted formats are
+   * described in {@link UnitParsers}. If the value is not a valid size, an {@code
+   * InvalidTypeException} will be thrown when the {@link Property#get()} method is called, unless
+   * suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code Property} for a {@code DataSize}.
+   * @see #getSizeBytes(String)
+   * @since 3.1.0
+   */
+  public Property<DataSize> getDataSize(String key) {
+    return createProperty(key, DATA_SIZE_PARSER);
   }
 
   /**
@@ -205,7 +418,218 @@ public class PropertyReader {
    * @see Property#get()
    */
   public <T> Property<T> getCustom(String key, Function<String, T> parser) {
-    return new Property<>(key, properties.getProperty(key), parser);
+    return createProperty(key, parser);
+  }
+
+  /**
+   * Creates an {@code IntProperty} that will attempt to read the value as an {@code int} when the
+   * {@link IntProperty#get()} method is called. Unlike {@link #getInt(String)}, the value is parsed
+   * and validated without being boxed. If the value cannot be parsed to an {@code int}, an {@code
+   * InvalidTypeException} will be thrown when the {@link IntProperty#get()} method is called,
+   * unless suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return An {@code IntProperty}.
+   * @see IntProperty#get()
+   */
+  public IntProperty getIntValue(String key) {
+    return new IntProperty(key, getRawValue(key));
+  }
+
+  /**
+   * Creates a {@code LongProperty} that will attempt to read the value as a {@code long} when the
+   * {@link LongProperty#get()} method is called. Unlike {@link #getLong(String)}, the value is
+   * parsed and validated without being boxed. If the value cannot be parsed to a {@code long}, an
+   * {@code InvalidTypeException} will be thrown when the {@link LongProperty#get()} method is
+   * called, unless suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code LongProperty}.
+   * @see LongProperty#get()
+   */
+  public LongProperty getLongValue(String key) {
+    return new LongProperty(key, getRawValue(key));
+  }
+
+  /**
+   * Creates a {@code DoubleProperty} that will attempt to read the value as a {@code double} when
+   * the {@link DoubleProperty#get()} method is called. Unlike {@link #getDouble(String)}, the value
+   * is parsed and validated without being boxed. If the value cannot be parsed to a {@code double},
+   * an {@code InvalidTypeException} will be thrown when the {@link DoubleProperty#get()} method is
+   * called, unless suitable default behaviour has been defined.
+   * @param key The property key.
+   * @return A {@code DoubleProperty}.
+   * @see DoubleProperty#get()
+   */
+  public DoubleProperty getDoubleValue(String key) {
+    return new DoubleProperty(key, getRawValue(key));
+  }
+
+  /**
+   * Creates a {@code BooleanProperty} that will attempt to read the value as a {@code boolean} when
+   * the {@link BooleanProperty#get()} method is called. Unlike {@link #getBoolean(String)}, the
+   * value is parsed and validated without being boxed.
+   * @param key The property key.
+   * @return A {@code BooleanProperty}.
+   * @see BooleanProperty#get()
+   */
+  public BooleanProperty getBooleanValue(String key) {
+    return new BooleanProperty(key, getRawValue(key));
+  }
+
+  /**
+   * Creates a {@code LongProperty} that will attempt to read the value as a duration, such as
+   * {@code 250ms}, in nanoseconds, when the {@link LongProperty#get()} method is called. Unlike
+   * {@link #getDuration(String)}, no {@code Duration} is created, so this is suitable for values
+   * that are read on hot paths. The accepted formats are described in {@link UnitParsers}.
+   * @param key The property key.
+   * @return A {@code LongProperty} for the number of nanoseconds.
+   * @see LongProperty#get()
+   * @since 3.1.0
+   */
+  public LongProperty getDurationNanos(String key) {
+    return new LongProperty(key, getRawValue(key), UnitParsers::parseDurationNanos);
+  }
+
+  /**
+   * Creates a {@code LongProperty} that will attempt to read the value as a data size, such as
+   * {@code 512MB}, in bytes, when the {@link LongProperty#get()} method is called. Unlike {@link
+   * #getDataSize(String)}, no {@code DataSize} is created. The accepted formats are described in
+   * {@link UnitParsers}.
+   * @param key The property key.
+   * @return A {@code LongProperty} for the number of bytes.
+   * @see LongProperty#get()
+   * @since 3.1.0
+   */
+  public LongProperty getSizeBytes(String key) {
+    return new LongProperty(key, getRawValue(key), UnitParsers::parseSizeBytes);
+  }
+
+  /**
+   * Gets the source that this reader currently reads from.
+   * @return The source.
+   */
+  PropertySource getSource() {
+    return source;
+  }
+
+  /**
+   * Reads the raw value for the given key.
+   * @param key The property key.
+   * @return The raw value, or {@code null} if there is no such key.
+   */
+  String getRawValue(String key) {
+    return source.getProperty(key);
+  }
+
+  /**
+   * Creates the {@code Property} that is returned by each of the getters that produce a {@code
+   * Property}.
+   * @param key The property key.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param <T> The type to parse the value to.
+   * @return A new {@code Property} for the key.
+   */
+  <T> Property<T> createProperty(String key, Function<String, T> parser) {
+    return new Property<>(key, getRawValue(key), parser);
+  }
+
+  /**
+   * Evaluates a {@link PropertySpec} against this reader. This is the counterpart of {@link
+   * #createProperty(String, Function)} for specs, and is overridden in the same way.
+   * @param key The property key.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The result of the evaluation.
+   */
+  <T> PropertyResult<T> evaluate(String key,
+                                 Function<String, T> parser,
+                                 Predicate<?>[] constraints,
+                                 DefaultSettings<T> defaultSettings) {
+    return Property.evaluate(key, getRawValue(key), parser, constraints, defaultSettings);
+  }
+
+  /**
+   * Reads a {@link PropertySpec} from this reader, throwing an exception on failure rather than
+   * creating a {@link PropertyResult}. This is overridden in the same way as {@link
+   * #evaluate(String, Function, Predicate[], DefaultSettings)}.
+   * @param key The property key.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The value, or an appropriate default.
+   * @throws PropertiesException Thrown if the value cannot be read, and there is no default.
+   */
+  <T> T read(String key,
+             Function<String, T> parser,
+             Predicate<?>[] constraints,
+             DefaultSettings<T> defaultSettings) throws PropertiesException {
+    return Property.get(key, getRawValue(key), parser, constraints, defaultSettings);
+  }
+
+  /**
+   * Reads a {@link PropertySpec} from the given reader. The library's own readers are read through
+   * {@link #read(String, Function, Predicate[], DefaultSettings)}, which creates nothing beyond the
+   * parsed value. Any other subclass may have overridden {@link #getCustom(String, Function)}, so
+   * it is read through {@code getCustom}, in the same way as before specs were introduced.
+   * @param reader The reader to read from.
+   * @param key The property key.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The value, or an appropriate default.
+   * @throws PropertiesException Thrown if the value cannot be read, and there is no default.
+   */
+  static <T> T readSpec(PropertyReader reader,
+                        String key,
+                        Function<String, T> parser,
+                        Predicate<?>[] constraints,
+                        DefaultSettings<T> defaultSettings) throws PropertiesException {
+    return isOwnReader(reader) ?
+        reader.read(key, parser, constraints, defaultSettings) :
+        getCustom(reader, key, parser, constraints, defaultSettings).get();
+  }
+
+  /**
+   * Evaluates a {@link PropertySpec} against the given reader, in the manner described by {@link
+   * #readSpec(PropertyReader, String, Function, Predicate[], DefaultSettings)}.
+   * @param reader The reader to read from.
+   * @param key The property key.
+   * @param parser The method of converting the raw value to the desired type.
+   * @param constraints The constraints, each of which accepts a {@code <T>}.
+   * @param defaultSettings The default settings, which may be {@code null}.
+   * @param <T> The type to parse the value to.
+   * @return The result of the evaluation.
+   */
+  static <T> PropertyResult<T> evaluateSpec(PropertyReader reader,
+                                            String key,
+                                            Function<String, T> parser,
+                                            Predicate<?>[] constraints,
+                                            DefaultSettings<T> defaultSettings) {
+    return isOwnReader(reader) ?
+        reader.evaluate(key, parser, constraints, defaultSettings) :
+        getCustom(reader, key, parser, constraints, defaultSettings).evaluate();
+  }
+
+  private static boolean isOwnReader(PropertyReader reader) {
+    Class<?> type = reader.getClass();
+    return type == PropertyReader.class
+        || type == CachingPropertyReader.class
+        || type == PrefixedPropertyReader.class;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Property<T> getCustom(PropertyReader reader,
+                                           String key,
+                                           Function<String, T> parser,
+                                           Predicate<?>[] constraints,
+                                           DefaultSettings<T> defaultSettings) {
+    Property<T> property = reader.getCustom(key, parser).withDefaultSettings(defaultSettings);
+    for (Predicate<?> constraint : constraints)
+      property.addConstraint((Predicate<? super T>) constraint);
+    return property;
   }
 
 }
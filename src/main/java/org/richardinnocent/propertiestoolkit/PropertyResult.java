@@ -0,0 +1,143 @@
+package org.richardinnocent.propertiestoolkit;
+
+/**
+ * The outcome of evaluating a {@link Property} with {@link Property#evaluate()}. A result is either
+ * successful, in which case it holds the value that {@link Property#get()} would have returned, or
+ * it holds the {@link DefaultCondition} that was met, in which case {@code get()} would have
+ * thrown an exception. No exception is created for a failed result unless {@link #orElseThrow()}
+ * is called, which makes this the cheapest way to read keys that are often missing or invalid,
+ * e.g.:
+ * <pre>
+ * PropertyResult&lt;Boolean&gt; flag = reader.getBoolean("feature.enabled").evaluate();
+ * if (flag.isSuccessful())
+ *   features.put("feature", flag.orElse(false));
+ * else
+ *   LOGGER.debug("Ignoring {}: {}", flag.getKey(), flag.getCondition());</pre>
+ * @param <T> The type of the value.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertyResult<T> {
+
+  private final String key;
+  private final String rawValue;
+  private final T value;
+  private final DefaultCondition condition;
+  private final Exception cause;
+
+  private PropertyResult(String key,
+                         String rawValue,
+                         T value,
+                         DefaultCondition condition,
+                         Exception cause) {
+    this.key = key;
+    this.rawValue = rawValue;
+    this.value = value;
+    this.condition = condition;
+    this.cause = cause;
+  }
+
+  /**
+   * Creates a successful result.
+   * @param key The property key.
+   * @param rawValue The raw {@code String} value from the properties file.
+   * @param value The value of the property.
+   * @param <T> The type of the value.
+   * @return A successful result holding the {@code value}.
+   */
+  public static <T> PropertyResult<T> success(String key, String rawValue, T value) {
+    return new PropertyResult<>(key, rawValue, value, null, null);
+  }
+
+  /**
+   * Creates a failed result.
+   * @param key The property key.
+   * @param rawValue The raw {@code String} value from the properties file.
+   * @param condition The condition that was met.
+   * @param cause The exception that caused the condition, if any. This is the exception thrown by
+   *   the parser or constraint, and may be {@code null}.
+   * @param <T> The type of the value.
+   * @return A failed result.
+   * @throws NullPointerException Thrown if {@code condition} is {@code null}.
+   */
+  public static <T> PropertyResult<T> failure(String key,
+                                              String rawValue,
+                                              DefaultCondition condition,
+                                              Exception cause) throws NullPointerException {
+    if (condition == null)
+      throw new NullPointerException("condition");
+    return new PropertyResult<>(key, rawValue, null, condition, cause);
+  }
+
+  /**
+   * Determines whether the property was evaluated successfully.
+   * @return {@code true} if this result holds a value.
+   */
+  public boolean isSuccessful() {
+    return condition == null;
+  }
+
+  /**
+   * Gets the value, or the given value if the evaluation failed.
+   * @param other The value to return if the evaluation failed.
+   * @return The value of the property, or {@code other} if the evaluation failed.
+   */
+  public T orElse(T other) {
+    return condition == null ? value : other;
+  }
+
+  /**
+   * Gets the value, or throws the exception that {@link Property#get()} would have thrown if the
+   * evaluation failed.
+   * @return The value of the property.
+   * @throws MissingPropertyException Thrown if the condition is {@link DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if the condition is {@link DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if the condition is {@link DefaultCondition#IS_INVALID}.
+   */
+  public T orElseThrow()
+      throws MissingPropertyException, InvalidTypeException, ValidationException {
+    if (condition != null)
+      throw PropertiesException.forCondition(condition, key, rawValue, cause);
+    return value;
+  }
+
+  /**
+   * Gets the key that was evaluated.
+   * @return The property key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the raw value that was evaluated.
+   * @return The raw {@code String} value from the properties file, which may be {@code null}.
+   */
+  public String getRawValue() {
+    return rawValue;
+  }
+
+  /**
+   * Gets the condition that caused the evaluation to fail.
+   * @return The condition, or {@code null} if the evaluation was successful.
+   */
+  public DefaultCondition getCondition() {
+    return condition;
+  }
+
+  /**
+   * Gets the exception thrown by the parser or a constraint, if that is why the evaluation failed.
+   * @return The exception, or {@code null} if there is no such exception.
+   */
+  public Exception getCause() {
+    return cause;
+  }
+
+  @Override
+  public String toString() {
+    return condition == null ?
+        String.format("%s: %s", key, value) :
+        String.format("%s: %s (%s)", key, rawValue, condition);
+  }
+
+}
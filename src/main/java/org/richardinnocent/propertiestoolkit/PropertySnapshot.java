@@ -0,0 +1,232 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable copy of a set of properties. Unlike {@code Properties}, whose {@code getProperty}
+ * method is synchronized and may walk a chain of defaults, a {@code PropertySnapshot} can be read
+ * concurrently by any number of threads without locking: the values are held in an open-addressing
+ * hash table, so each read is usually a single probe.<br>
+ * <br>
+ * The keys with a given prefix are found with {@link #keysWithPrefix(String)} using a sorted index
+ * of the keys, which is built the first time that it is needed, so enumerating the keys under a
+ * prefix does not scan every key in the snapshot.<br>
+ * <br>
+ * A snapshot of a {@code Properties} object includes its defaults. Changes made to the source
+ * after the snapshot has been taken are not visible through the snapshot.
+ * @see PropertyReader#snapshot(Properties)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertySnapshot implements PropertySource {
+
+  private final String[] keys;
+  private final String[] values;
+  private final int[] hashes;
+  private final int mask;
+  private final int size;
+  private final Set<String> keySet = new KeySet();
+  private volatile SortedKeyIndex index;
+
+  /**
+   * Creates a snapshot from parallel arrays of keys and values. If a key appears more than once,
+   * the last value for that key is used.
+   * @param sourceKeys The keys, none of which may be {@code null}.
+   * @param sourceValues The values, none of which may be {@code null}.
+   * @param length The number of entries to read from each array.
+   */
+  PropertySnapshot(String[] sourceKeys, String[] sourceValues, int length) {
+    int capacity = Integer.highestOneBit(Math.max(length, 1) * 2 - 1) << 1;
+    keys = new String[capacity];
+    values = new String[capacity];
+    hashes = new int[capacity];
+    mask = capacity - 1;
+
+    int count = 0;
+    for (int i = 0; i < length; i++) {
+      if (insert(sourceKeys[i], sourceValues[i]))
+        count++;
+    }
+    size = count;
+  }
+
+  private static PropertySnapshot copy(Set<String> sourceKeys, Function<String, String> lookup) {
+    String[] copiedKeys = new String[sourceKeys.size()];
+    String[] copiedValues = new String[copiedKeys.length];
+    int length = 0;
+    for (String key : sourceKeys) {
+      String value = lookup.apply(key);
+      if (value != null) {
+        if (length == copiedKeys.length) {
+          copiedKeys = Arrays.copyOf(copiedKeys, length * 2 + 1);
+          copiedValues = Arrays.copyOf(copiedValues, copiedKeys.length);
+        }
+        copiedKeys[length] = key;
+        copiedValues[length++] = value;
+      }
+    }
+    return new PropertySnapshot(copiedKeys, copiedValues, length);
+  }
+
+  /**
+   * Takes a snapshot of the given {@code Properties}, including any defaults.
+   * @param properties The properties to copy.
+   * @return A snapshot of the {@code properties}.
+   */
+  public static PropertySnapshot of(Properties properties) {
+    return copy(properties.stringPropertyNames(), properties::getProperty);
+  }
+
+  /**
+   * Takes a snapshot of the given map of keys to values. Entries with a {@code null} value are
+   * ignored.
+   * @param properties The keys and values to copy.
+   * @return A snapshot of the {@code properties}.
+   * @throws NullPointerException Thrown if the map contains a {@code null} key.
+   */
+  public static PropertySnapshot of(Map<String, String> properties) throws NullPointerException {
+    return copy(properties.keySet(), properties::get);
+  }
+
+  /**
+   * Takes a snapshot of the given source. If the source is already a {@code PropertySnapshot}, it
+   * is returned as it is.
+   * @param source The source to copy.
+   * @return A snapshot of the {@code source}.
+   */
+  public static PropertySnapshot of(PropertySource source) {
+    if (source instanceof PropertySnapshot)
+      return (PropertySnapshot) source;
+    return copy(source.keys(), source::getProperty);
+  }
+
+  @Override
+  public String getProperty(String key) {
+    int hash = hash(key);
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      String candidate = keys[i];
+      if (candidate == null)
+        return null;
+      if (candidate == key || (hashes[i] == hash && candidate.equals(key)))
+        return values[i];
+    }
+  }
+
+  @Override
+  public Set<String> keys() {
+    return keySet;
+  }
+
+  @Override
+  public List<String> keysWithPrefix(String prefix) {
+    SortedKeyIndex current = index;
+    if (current == null) {
+      // Building the index twice is harmless, as both threads build the same index
+      current = new SortedKeyIndex(keySet);
+      index = current;
+    }
+    return current.keysWithPrefix(prefix);
+  }
+
+  /**
+   * Gets the number of keys in this snapshot.
+   * @return The number of keys.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Inserts the key and value, replacing any existing value for the key.
+   * @return {@code true} if the key was not already present.
+   */
+  private boolean insert(String key, String value) {
+    int hash = hash(key);
+    int i = hash & mask;
+    for (String existing; (existing = keys[i]) != null; i = (i + 1) & mask) {
+      if (hashes[i] == hash && existing.equals(key)) {
+        values[i] = value;
+        return false;
+      }
+    }
+    keys[i] = key;
+    values[i] = value;
+    hashes[i] = hash;
+    return true;
+  }
+
+  /**
+   * Spreads the key's hash code across all of its bits. Keys such as {@code key1}, {@code key2},
+   * etc. have consecutive hash codes, which would otherwise fill consecutive slots of the table,
+   * and make any probe that lands among them, in particular for a missing key, walk the whole run.
+   * @param key The key.
+   * @return The spread hash code.
+   */
+  static int hash(String key) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        if (builder.length() > 1)
+          builder.append(", ");
+        builder.append(keys[i]).append('=').append(values[i]);
+      }
+    }
+    return builder.append('}').toString();
+  }
+
+  private class KeySet extends AbstractSet<String> {
+
+    @Override
+    public Iterator<String> iterator() {
+      return new Iterator<String>() {
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+          return next < keys.length;
+        }
+
+        @Override
+        public String next() {
+          if (!hasNext())
+            throw new NoSuchElementException();
+          String key = keys[next];
+          next = advance(next + 1);
+          return key;
+        }
+
+        private int advance(int from) {
+          while (from < keys.length && keys[from] == null)
+            from++;
+          return from;
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof String && getProperty((String) o) != null;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+  }
+
+}
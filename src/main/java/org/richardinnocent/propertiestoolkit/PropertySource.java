@@ -0,0 +1,94 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A source of raw property values, from which a {@link PropertyReader} can read. A {@code
+ * Properties} object can be read directly with {@link #of(Properties)}, or copied into an
+ * immutable {@link PropertySnapshot}, which can be read without locking.
+ * @see PropertyReader#PropertyReader(PropertySource)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public interface PropertySource {
+
+  /**
+   * Gets the raw value for the given key.
+   * @param key The property key.
+   * @return The value for the key, or {@code null} if there is no such key.
+   */
+  String getProperty(String key);
+
+  /**
+   * Gets the keys that have a value in this source.
+   * @return The keys in this source. This set should not be modified.
+   */
+  Set<String> keys();
+
+  /**
+   * Gets the keys in this source that start with the given prefix, in sorted order. By default,
+   * this checks every key in the source, but sources with an index of their keys, such as {@link
+   * PropertySnapshot}, find the keys in time proportional to the number of keys returned.
+   * @param prefix The prefix.
+   * @return The keys that start with the {@code prefix}. This list should not be modified.
+   * @since 3.1.0
+   */
+  default List<String> keysWithPrefix(String prefix) {
+    List<String> matches = new ArrayList<>();
+    for (String key : keys()) {
+      if (key.startsWith(prefix))
+        matches.add(key);
+    }
+    Collections.sort(matches);
+    return matches;
+  }
+
+  /**
+   * Creates a {@code PropertySource} that reads directly from the given {@code Properties} object,
+   * including its defaults. Any changes made to the {@code Properties} object will be visible
+   * through the returned source.
+   * @param properties The properties to read from.
+   * @return A live view of the {@code properties}.
+   */
+  static PropertySource of(Properties properties) {
+    return new PropertySource() {
+      @Override
+      public String getProperty(String key) {
+        return properties.getProperty(key);
+      }
+
+      @Override
+      public Set<String> keys() {
+        return properties.stringPropertyNames();
+      }
+    };
+  }
+
+  /**
+   * Creates a {@code PropertySource} that reads directly from the given map of keys to values, such
+   * as {@code System.getenv()}. Any changes made to the map will be visible through the returned
+   * source.
+   * @param properties The keys and values to read from.
+   * @return A live view of the {@code properties}.
+   * @since 3.1.0
+   */
+  static PropertySource of(Map<String, String> properties) {
+    return new PropertySource() {
+      @Override
+      public String getProperty(String key) {
+        return properties.get(key);
+      }
+
+      @Override
+      public Set<String> keys() {
+        return properties.keySet();
+      }
+    };
+  }
+
+}
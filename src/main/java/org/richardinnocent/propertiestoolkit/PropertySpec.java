@@ -0,0 +1,144 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable description of how to read a property: its key, its parser, its constraints and
+ * its default settings. Unlike a {@link Property}, which is created for a single read of a single
+ * value, a {@code PropertySpec} is built once and can then be evaluated against any number of
+ * {@link PropertyReader}s, from any number of threads. Reading a spec with {@link
+ * #get(PropertyReader)} creates nothing beyond the parsed value, unless the read fails, so a
+ * configuration schema can be declared as constants and read on every request. If the reader is a
+ * subclass of {@code PropertyReader} other than the library's own readers, the spec is instead read
+ * through {@link PropertyReader#getCustom(String, Function)}, so that any override of that method
+ * is still used. For example:
+ * <pre>
+ * static final PropertySpec&lt;Integer&gt; MAX_USERS =
+ *     PropertySpec.of("maxUsers", NumberParsers.INTEGER)
+ *                 .withConstraint(value -&gt; value &gt; 0)
+ *                 .withDefaultSettings(new DefaultSettings&lt;Integer&gt;()
+ *                                          .when(DefaultCondition.IS_EMPTY)
+ *                                          .thenReturn(100));
+ *
+ * int maxUsers = MAX_USERS.get(reader);</pre>
+ * Each {@code with} method returns a new spec, leaving the original unchanged. A spec is
+ * evaluated in exactly the same way as a {@code Property} with the same parser, constraints and
+ * default settings, as described in {@link Property#get()}. The {@code DefaultSettings} are copied
+ * when they are given to a spec, so changing them afterwards does not affect the spec.
+ * @param <T> The type that the property should be converted to.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class PropertySpec<T> {
+
+  private static final Predicate<?>[] NO_CONSTRAINTS = new Predicate<?>[0];
+
+  private final String key;
+  private final Function<String, T> parser;
+  private final Predicate<?>[] constraints;
+  private final DefaultSettings<T> defaultSettings;
+
+  private PropertySpec(String key,
+                       Function<String, T> parser,
+                       Predicate<?>[] constraints,
+                       DefaultSettings<T> defaultSettings) {
+    this.key = key;
+    this.parser = parser;
+    this.constraints = constraints;
+    this.defaultSettings = defaultSettings;
+  }
+
+  /**
+   * Creates a spec for the given key, with no constraints or default settings.
+   * @param key The property key.
+   * @param parser The method of converting the raw text to the desired type. The parsers in
+   *   {@link NumberParsers}, {@link ListParsers} and {@link UnitParsers} may be used here.
+   * @param <T> The type to parse the value to.
+   * @return The new spec.
+   * @throws NullPointerException Thrown if the {@code key} or {@code parser} is {@code null}.
+   */
+  public static <T> PropertySpec<T> of(String key, Function<String, T> parser)
+      throws NullPointerException {
+    if (key == null)
+      throw new NullPointerException("key");
+    if (parser == null)
+      throw new NullPointerException("parser");
+    return new PropertySpec<>(key, parser, NO_CONSTRAINTS, null);
+  }
+
+  /**
+   * Creates a spec that is the same as this one, but which also enforces the given constraint, in
+   * the manner described by {@link Property#addConstraint(Predicate)}.
+   * @param constraint The constraint that should be applied. The value passed to the predicate
+   *   will never be {@code null}.
+   * @return The new spec.
+   * @throws NullPointerException Thrown if the {@code constraint} is {@code null}.
+   */
+  public PropertySpec<T> withConstraint(Predicate<? super T> constraint)
+      throws NullPointerException {
+    if (constraint == null)
+      throw new NullPointerException("constraint");
+    Predicate<?>[] extended = Arrays.copyOf(constraints, constraints.length + 1);
+    extended[constraints.length] = constraint;
+    return new PropertySpec<>(key, parser, extended, defaultSettings);
+  }
+
+  /**
+   * Creates a spec that is the same as this one, but with the given default settings, replacing
+   * any that were previously set. The settings are copied, so any behaviour added to them later
+   * is not seen by the new spec.
+   * @param defaultSettings The default settings, or {@code null} to remove them.
+   * @return The new spec.
+   * @see Property#withDefaultSettings(DefaultSettings)
+   */
+  public PropertySpec<T> withDefaultSettings(DefaultSettings<T> defaultSettings) {
+    return new PropertySpec<>(key, parser, constraints,
+                              defaultSettings == null ? null : defaultSettings.snapshot());
+  }
+
+  /**
+   * Gets the key that this spec reads.
+   * @return The property key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Reads the value for this spec from the given reader, in the manner described by {@link
+   * Property#get()}.
+   * @param reader The reader to read from.
+   * @return The property, converted to the required type, or an appropriate default if there is a
+   *   return value specified for the triggered {@link DefaultCondition}.
+   * @throws MissingPropertyException Thrown if the property text is {@code null} or empty, and
+   *   there is no default for {@link DefaultCondition#IS_EMPTY}.
+   * @throws InvalidTypeException Thrown if the property text cannot be converted to the correct
+   *   type, and there is no default for {@link DefaultCondition#PARSE_FAILS}.
+   * @throws ValidationException Thrown if any of the constraints fail, and there is no default for
+   *   {@link DefaultCondition#IS_INVALID}.
+   * @see #evaluate(PropertyReader)
+   */
+  public T get(PropertyReader reader)
+      throws MissingPropertyException, InvalidTypeException, ValidationException {
+    return PropertyReader.readSpec(reader, key, parser, constraints, defaultSettings);
+  }
+
+  /**
+   * Reads the value for this spec from the given reader, reporting failure as a {@link
+   * PropertyResult}, rather than by throwing an exception.
+   * @param reader The reader to read from.
+   * @return The result of the evaluation.
+   * @see Property#evaluate()
+   */
+  public PropertyResult<T> evaluate(PropertyReader reader) {
+    return PropertyReader.evaluateSpec(reader, key, parser, constraints, defaultSettings);
+  }
+
+  @Override
+  public String toString() {
+    return "PropertySpec[" + key + "]";
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, sorted array of property keys. As the keys that share a prefix are adjacent once
+ * sorted, every key with a given prefix can be found with two binary searches, and returned as a
+ * view of the array, without looking at any of the other keys.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+final class SortedKeyIndex {
+
+  private final List<String> keys;
+
+  /**
+   * Creates an index of the given keys.
+   * @param keys The keys to index, none of which may be {@code null}.
+   */
+  SortedKeyIndex(Collection<String> keys) {
+    String[] sorted = keys.toArray(new String[0]);
+    Arrays.sort(sorted);
+    this.keys = Collections.unmodifiableList(Arrays.asList(sorted));
+  }
+
+  /**
+   * Gets every key that starts with the given prefix, in sorted order. This takes time
+   * proportional to the logarithm of the number of keys, and the returned list is a view of the
+   * index, so it is not copied.
+   * @param prefix The prefix.
+   * @return The keys that start with the {@code prefix}.
+   */
+  List<String> keysWithPrefix(String prefix) {
+    int from = Collections.binarySearch(keys, prefix);
+    if (from < 0)
+      from = -from - 1;
+
+    // The keys from 'from' that start with the prefix are adjacent, so find the first that doesn't
+    int low = from;
+    int high = keys.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (keys.get(middle).startsWith(prefix))
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return keys.subList(from, low);
+  }
+
+  /**
+   * Gets the number of keys in the index.
+   * @return The number of keys.
+   */
+  int size() {
+    return keys.size();
+  }
+
+}
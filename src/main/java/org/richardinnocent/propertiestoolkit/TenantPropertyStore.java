@@ -0,0 +1,318 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the properties of many tenants that share largely the same set of keys, using far less
+ * memory than a {@code Properties} object per tenant, e.g.:
+ * <pre>
+ * TenantPropertyStore store = new TenantPropertyStore();
+ * store.put("acme", acmeProperties);
+ * int threads = store.getReader("acme").getInt("pool.threads").get();</pre>
+ * Every key is held once, in a dictionary that is shared by all tenants and that assigns each key
+ * an ordinal. Each tenant is then just an array of values, indexed by ordinal, so there are no
+ * per-entry objects and no per-tenant copies of the keys. Values are also deduplicated across
+ * tenants, so a value that many tenants share, such as {@code true} or a common host name, is
+ * held once.<br>
+ * <br>
+ * Each tenant is read through an immutable {@link PropertySource}, which reflects the tenant's
+ * properties at the time that they were {@link #put(String, PropertySource) put} into the store
+ * and which can be read concurrently without locking. Each read is a lookup in the shared
+ * dictionary followed by an array access.<br>
+ * <br>
+ * The dictionary and the pool of deduplicated values only grow, so this is best suited to tenants
+ * whose keys and values are broadly similar and long-lived. A tenant that holds only a few of the
+ * store's keys still has an array slot for each key that precedes its last one.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class TenantPropertyStore {
+
+  private final Map<String, TenantSource> tenants = new ConcurrentHashMap<>();
+  private final Map<String, String> valuePool = new HashMap<>();
+  private volatile KeyDictionary dictionary = KeyDictionary.EMPTY;
+
+  /**
+   * Stores a copy of the given properties, including any defaults, for the tenant, replacing any
+   * properties that were previously stored for the tenant.
+   * @param tenant The tenant's ID.
+   * @param properties The tenant's properties.
+   * @return A source for the tenant's properties, as they are stored.
+   * @throws NullPointerException Thrown if the tenant is {@code null}.
+   */
+  public PropertySource put(String tenant, Properties properties) throws NullPointerException {
+    return put(tenant, PropertySource.of(properties));
+  }
+
+  /**
+   * Stores a copy of the properties in the given source for the tenant, replacing any properties
+   * that were previously stored for the tenant.
+   * @param tenant The tenant's ID.
+   * @param source The tenant's properties.
+   * @return A source for the tenant's properties, as they are stored.
+   * @throws NullPointerException Thrown if the tenant is {@code null}.
+   */
+  public synchronized PropertySource put(String tenant, PropertySource source)
+      throws NullPointerException {
+    if (tenant == null)
+      throw new NullPointerException("tenant");
+
+    Set<String> sourceKeys = source.keys();
+    String[] keys = new String[sourceKeys.size()];
+    String[] values = new String[keys.length];
+    int count = 0;
+    for (String key : sourceKeys) {
+      String value = source.getProperty(key);
+      if (value != null && count < keys.length) {
+        keys[count] = key;
+        values[count++] = value;
+      }
+    }
+
+    KeyDictionary updatedDictionary = dictionary.withKeys(keys, count);
+    int[] ordinals = new int[count];
+    int length = 0;
+    for (int i = 0; i < count; i++) {
+      ordinals[i] = updatedDictionary.ordinalOf(keys[i]);
+      length = Math.max(length, ordinals[i] + 1);
+    }
+    String[] tenantValues = new String[length];
+    for (int i = 0; i < count; i++) {
+      tenantValues[ordinals[i]] = deduplicate(values[i]);
+    }
+
+    // Publish the dictionary before the tenant, so that its ordinals are always resolvable
+    dictionary = updatedDictionary;
+    TenantSource tenantSource = new TenantSource(tenantValues, count);
+    tenants.put(tenant, tenantSource);
+    return tenantSource;
+  }
+
+  private String deduplicate(String value) {
+    String existing = valuePool.putIfAbsent(value, value);
+    return existing == null ? value : existing;
+  }
+
+  /**
+   * Gets the source for the tenant's properties.
+   * @param tenant The tenant's ID.
+   * @return The tenant's properties, or {@code null} if there is no such tenant.
+   */
+  public PropertySource getSource(String tenant) {
+    return tenants.get(tenant);
+  }
+
+  /**
+   * Gets a reader for the tenant's properties.
+   * @param tenant The tenant's ID.
+   * @return A reader for the tenant's properties, or {@code null} if there is no such tenant.
+   */
+  public PropertyReader getReader(String tenant) {
+    TenantSource source = tenants.get(tenant);
+    return source == null ? null : new PropertyReader(source);
+  }
+
+  /**
+   * Removes the tenant's properties from the store. Any sources or readers that have already been
+   * obtained for the tenant can still be read.
+   * @param tenant The tenant's ID.
+   * @return The source for the removed properties, or {@code null} if there was no such tenant.
+   */
+  public PropertySource remove(String tenant) {
+    return tenants.remove(tenant);
+  }
+
+  /**
+   * Gets the IDs of every tenant in the store.
+   * @return A live, unmodifiable view of the tenant IDs.
+   */
+  public Set<String> tenants() {
+    return Collections.unmodifiableSet(tenants.keySet());
+  }
+
+  /**
+   * Gets the number of tenants in the store.
+   * @return The number of tenants.
+   */
+  public int size() {
+    return tenants.size();
+  }
+
+  /**
+   * Gets the number of distinct keys that have been stored for any tenant.
+   * @return The number of keys in the shared dictionary.
+   */
+  public int getKeyCount() {
+    return dictionary.size;
+  }
+
+  /**
+   * Gets the number of distinct values that have been stored for any tenant.
+   * @return The number of values in the shared pool.
+   */
+  public synchronized int getValueCount() {
+    return valuePool.size();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TenantPropertyStore[%d tenants, %d keys]", size(), getKeyCount());
+  }
+
+  /**
+   * The properties of a single tenant, held as an array of values indexed by the ordinal of their
+   * key in the store's dictionary.
+   */
+  private final class TenantSource implements PropertySource {
+
+    private final String[] values;
+    private final int size;
+
+    private TenantSource(String[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    public String getProperty(String key) {
+      int ordinal = dictionary.ordinalOf(key);
+      return ordinal >= 0 && ordinal < values.length ? values[ordinal] : null;
+    }
+
+    @Override
+    public Set<String> keys() {
+      return new KeySet();
+    }
+
+    @Override
+    public String toString() {
+      String[] keys = dictionary.keys;
+      StringBuilder builder = new StringBuilder("{");
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] != null) {
+          if (builder.length() > 1)
+            builder.append(", ");
+          builder.append(keys[i]).append('=').append(values[i]);
+        }
+      }
+      return builder.append('}').toString();
+    }
+
+    private class KeySet extends AbstractSet<String> {
+
+      @Override
+      public Iterator<String> iterator() {
+        String[] keys = dictionary.keys;
+        return new Iterator<String>() {
+          private int next = advance(0);
+
+          @Override
+          public boolean hasNext() {
+            return next < values.length;
+          }
+
+          @Override
+          public String next() {
+            if (!hasNext())
+              throw new NoSuchElementException();
+            String key = keys[next];
+            next = advance(next + 1);
+            return key;
+          }
+
+          private int advance(int from) {
+            while (from < values.length && values[from] == null)
+              from++;
+            return from;
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return o instanceof String && getProperty((String) o) != null;
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+    }
+
+  }
+
+  /**
+   * An immutable mapping from each key to its ordinal. Keys are only ever added, by creating a new
+   * dictionary, so an ordinal never changes once assigned.
+   */
+  private static final class KeyDictionary {
+
+    private static final KeyDictionary EMPTY = new KeyDictionary(new String[0]);
+
+    private final String[] keys;
+    private final int size;
+    private final String[] table;
+    private final int[] tableOrdinals;
+    private final int[] hashes;
+    private final int mask;
+
+    private KeyDictionary(String[] keys) {
+      this.keys = keys;
+      this.size = keys.length;
+      int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+      table = new String[capacity];
+      tableOrdinals = new int[capacity];
+      hashes = new int[capacity];
+      mask = capacity - 1;
+      for (int ordinal = 0; ordinal < size; ordinal++) {
+        int hash = PropertySnapshot.hash(keys[ordinal]);
+        int i = hash & mask;
+        while (table[i] != null)
+          i = (i + 1) & mask;
+        table[i] = keys[ordinal];
+        tableOrdinals[i] = ordinal;
+        hashes[i] = hash;
+      }
+    }
+
+    private int ordinalOf(String key) {
+      int hash = PropertySnapshot.hash(key);
+      for (int i = hash & mask; ; i = (i + 1) & mask) {
+        String candidate = table[i];
+        if (candidate == null)
+          return -1;
+        if (candidate == key || (hashes[i] == hash && candidate.equals(key)))
+          return tableOrdinals[i];
+      }
+    }
+
+    /**
+     * Gets a dictionary that contains every key in this dictionary, followed by any of the given
+     * keys that it does not contain.
+     */
+    private KeyDictionary withKeys(String[] candidates, int count) {
+      String[] added = null;
+      int addedCount = 0;
+      for (int i = 0; i < count; i++) {
+        if (ordinalOf(candidates[i]) < 0) {
+          if (added == null)
+            added = Arrays.copyOf(keys, size + count - i);
+          added[size + addedCount++] = candidates[i];
+        }
+      }
+      return added == null ? this : new KeyDictionary(Arrays.copyOf(added, size + addedCount));
+    }
+
+  }
+
+}
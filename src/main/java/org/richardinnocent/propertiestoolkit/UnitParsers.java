@@ -0,0 +1,229 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+
+/**
+ * Parses durations, such as {@code 250ms}, and data sizes, such as {@code 512MB}, directly from a
+ * range of a {@code CharSequence}. Each value is a number followed by an optional unit, which may
+ * be separated by whitespace. The number is parsed by {@link NumberParsers}, so it may contain
+ * underscores, and it may have a fractional part, e.g. {@code 1.5s}. The unit is matched in place
+ * and without regard to case, so no regular expressions or substrings are involved.<br>
+ * <br>
+ * The duration units are:
+ * <ul>
+ *   <li>{@code ns}: nanoseconds</li>
+ *   <li>{@code us} or <code>&micro;s</code>: microseconds</li>
+ *   <li>{@code ms}: milliseconds, which is assumed if there is no unit</li>
+ *   <li>{@code s}: seconds</li>
+ *   <li>{@code m} or {@code min}: minutes</li>
+ *   <li>{@code h}: hours</li>
+ *   <li>{@code d}: days</li>
+ * </ul>
+ * Durations may also be written in the ISO-8601 format accepted by {@link
+ * Duration#parse(CharSequence)}, such as {@code PT30S}, although these are parsed by that method
+ * rather than in place. As durations are held as a number of nanoseconds, they are limited to
+ * about 292 years.<br>
+ * <br>
+ * The data size units are {@code B} (bytes, which is assumed if there is no unit), {@code KB},
+ * {@code MB}, {@code GB} and {@code TB}, which are binary, as described in {@link DataSize}. The
+ * shorter forms {@code K}, {@code M}, {@code G} and {@code T} and the forms {@code KiB}, {@code
+ * MiB}, {@code GiB} and {@code TiB} are accepted too. Sizes cannot be negative.
+ * @see PropertyReader#getDuration(String)
+ * @see PropertyReader#getDurationNanos(String)
+ * @see PropertyReader#getDataSize(String)
+ * @see PropertyReader#getSizeBytes(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class UnitParsers {
+
+  /**
+   * The value returned by {@link #parseDurationNanos(CharSequence, int, int)} and {@link
+   * #parseSizeBytes(CharSequence, int, int)} when the text cannot be parsed.
+   */
+  public static final long INVALID = Long.MIN_VALUE;
+
+  /**
+   * Parses text to a {@code Duration}, returning {@code null} if the text is not a valid duration.
+   */
+  public static final PropertyParser<Duration> DURATION = text -> {
+    long nanos = parseDurationNanos(text, 0, text.length());
+    return nanos == INVALID ? null : Duration.ofNanos(nanos);
+  };
+
+  /**
+   * Parses text to a {@link DataSize}, returning {@code null} if the text is not a valid size.
+   */
+  public static final PropertyParser<DataSize> DATA_SIZE = text -> {
+    long bytes = parseSizeBytes(text, 0, text.length());
+    return bytes == INVALID ? null : DataSize.ofBytes(bytes);
+  };
+
+  private static final long NANOS_PER_MICROSECOND = 1_000L;
+  private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+  private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+  private static final long NANOS_PER_DAY = 24 * NANOS_PER_HOUR;
+
+  private UnitParsers() {}
+
+  /**
+   * Parses the given range of text to a duration, in nanoseconds.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The duration in nanoseconds, or {@link #INVALID} if the text is not a valid duration.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static long parseDurationNanos(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    checkRange(text, start, end);
+    if (isIsoDuration(text, start, end))
+      return parseIsoDuration(text, start, end);
+
+    int numberEnd = findUnitStart(text, start, end);
+    int unitEnd = skipTrailingWhitespace(text, numberEnd, end);
+    long factor;
+    if (unitEnd == numberEnd) {
+      factor = NANOS_PER_MILLISECOND;
+    } else if (matches(text, numberEnd, unitEnd, "ns")) {
+      factor = 1L;
+    } else if (matches(text, numberEnd, unitEnd, "us")
+        || matches(text, numberEnd, unitEnd, "\u00B5s")) {
+      factor = NANOS_PER_MICROSECOND;
+    } else if (matches(text, numberEnd, unitEnd, "ms")) {
+      factor = NANOS_PER_MILLISECOND;
+    } else if (matches(text, numberEnd, unitEnd, "s")) {
+      factor = NANOS_PER_SECOND;
+    } else if (matches(text, numberEnd, unitEnd, "m")
+        || matches(text, numberEnd, unitEnd, "min")) {
+      factor = NANOS_PER_MINUTE;
+    } else if (matches(text, numberEnd, unitEnd, "h")) {
+      factor = NANOS_PER_HOUR;
+    } else if (matches(text, numberEnd, unitEnd, "d")) {
+      factor = NANOS_PER_DAY;
+    } else {
+      return INVALID;
+    }
+    return scale(text, start, numberEnd, factor);
+  }
+
+  /**
+   * Parses the given range of text to a data size, in bytes.
+   * @param text The text to parse.
+   * @param start The index of the first character to parse.
+   * @param end The index after the last character to parse.
+   * @return The size in bytes, or {@link #INVALID} if the text is not a valid size.
+   * @throws IndexOutOfBoundsException Thrown if the range is not within the text.
+   */
+  public static long parseSizeBytes(CharSequence text, int start, int end)
+      throws IndexOutOfBoundsException {
+    checkRange(text, start, end);
+    int numberEnd = findUnitStart(text, start, end);
+    int unitEnd = skipTrailingWhitespace(text, numberEnd, end);
+    long factor;
+    if (unitEnd == numberEnd || matches(text, numberEnd, unitEnd, "B")) {
+      factor = 1L;
+    } else if (matchesSizeUnit(text, numberEnd, unitEnd, 'K')) {
+      factor = DataSize.BYTES_PER_KB;
+    } else if (matchesSizeUnit(text, numberEnd, unitEnd, 'M')) {
+      factor = DataSize.BYTES_PER_MB;
+    } else if (matchesSizeUnit(text, numberEnd, unitEnd, 'G')) {
+      factor = DataSize.BYTES_PER_GB;
+    } else if (matchesSizeUnit(text, numberEnd, unitEnd, 'T')) {
+      factor = DataSize.BYTES_PER_TB;
+    } else {
+      return INVALID;
+    }
+    long bytes = scale(text, start, numberEnd, factor);
+    return bytes < 0 ? INVALID : bytes;
+  }
+
+  /**
+   * Multiplies the number in the given range by the factor, returning {@link #INVALID} if the
+   * number is not valid or the result would overflow.
+   */
+  private static long scale(CharSequence text, int start, int end, long factor) {
+    long whole = NumberParsers.parseLong(text, start, end);
+    if (whole != Long.MIN_VALUE || NumberParsers.isLong(text, start, end)) {
+      if (whole > Long.MAX_VALUE / factor || whole < -(Long.MAX_VALUE / factor))
+        return INVALID;
+      return whole * factor;
+    }
+
+    double fractional = NumberParsers.parseDouble(text, start, end);
+    double scaled = fractional * factor;
+    // Long.MAX_VALUE rounds up to 2^63 as a double, so a scaled value must be strictly below it
+    if (Double.isNaN(scaled) || Math.abs(scaled) >= 0x1p63)
+      return INVALID;
+    return Math.round(scaled);
+  }
+
+  /**
+   * Finds the start of the unit, which is the run of letters at the end of the range, ignoring
+   * trailing whitespace.
+   */
+  private static int findUnitStart(CharSequence text, int start, int end) {
+    int i = skipTrailingWhitespace(text, start, end);
+    while (i > start && Character.isLetter(text.charAt(i - 1)))
+      i--;
+    return i;
+  }
+
+  private static boolean matchesSizeUnit(CharSequence text, int from, int to, char prefix) {
+    if (Character.toUpperCase(text.charAt(from)) != prefix)
+      return false;
+    int length = to - from;
+    return length == 1
+        || length == 2 && Character.toUpperCase(text.charAt(from + 1)) == 'B'
+        || length == 3 && matches(text, from + 1, to, "iB");
+  }
+
+  private static boolean matches(CharSequence text, int from, int to, String unit) {
+    if (to - from != unit.length())
+      return false;
+    for (int i = 0; i < unit.length(); i++) {
+      char c = text.charAt(from + i);
+      char expected = unit.charAt(i);
+      if (c != expected && Character.toLowerCase(c) != Character.toLowerCase(expected))
+        return false;
+    }
+    return true;
+  }
+
+  private static boolean isIsoDuration(CharSequence text, int start, int end) {
+    int i = start;
+    while (i < end && text.charAt(i) <= ' ')
+      i++;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+      i++;
+    return i < end && (text.charAt(i) == 'P' || text.charAt(i) == 'p');
+  }
+
+  private static long parseIsoDuration(CharSequence text, int start, int end) {
+    try {
+      long nanos = Duration.parse(text.subSequence(start, end).toString().trim()).toNanos();
+      return nanos == INVALID ? INVALID : nanos;
+    } catch (DateTimeParseException | ArithmeticException e) {
+      return INVALID;
+    }
+  }
+
+  private static int skipTrailingWhitespace(CharSequence text, int from, int to) {
+    while (to > from && text.charAt(to - 1) <= ' ')
+      to--;
+    return to;
+  }
+
+  private static void checkRange(CharSequence text, int start, int end) {
+    if (start < 0 || end > text.length() || start > end) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + start + ", " + end + ") is not within text of length " + text.length());
+    }
+  }
+
+}
@@ -11,12 +11,13 @@ package org.richardinnocent.propertiestoolkit;
 @SuppressWarnings("WeakerAccess")
 public class ValidationException extends PropertiesException {
 
-  private ValidationException(String message) {
-    super(message);
-  }
+  private final String key;
+  private final String value;
 
-  private ValidationException(String message, RuntimeException e) {
-    super(message, e);
+  private ValidationException(String key, String value, RuntimeException e) {
+    super(e, !isStackless());
+    this.key = key;
+    this.value = value;
   }
 
   /**
@@ -27,7 +28,7 @@ public class ValidationException extends PropertiesException {
    * @return A new {@code ValidationException} with an appropriate message.
    */
   public static ValidationException forProperty(String key, String value) {
-    return new ValidationException(getExceptionMessage(key, value));
+    return forProperty(key, value, null);
   }
 
   /**
@@ -39,10 +40,11 @@ public class ValidationException extends PropertiesException {
    * @return A new, appropriately initialised {@code ValidationException}.
    */
   public static ValidationException forProperty(String key, String value, RuntimeException cause) {
-    return new ValidationException(getExceptionMessage(key, value), cause);
+    return new ValidationException(key, value, cause);
   }
 
-  private static String getExceptionMessage(String key, String value) {
+  @Override
+  protected String formatMessage() {
     return String.format("Key, %s, contains an invalid value, %s", key, value);
   }
 
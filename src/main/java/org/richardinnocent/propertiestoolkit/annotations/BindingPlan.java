@@ -0,0 +1,635 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint;
+import org.richardinnocent.propertiestoolkit.annotations.propertyHelpers.GenericExtractor;
+
+/**
+ * The compiled set of instructions required to populate a {@link PropertiesBean} of a specific
+ * class. If a {@link PropertiesBinder} has been generated for the class, the plan simply delegates
+ * to it. Otherwise, all of the reflective work (finding the annotated fields, validating the
+ * annotations, instantiating the extractors and constraints, and resolving a {@code MethodHandle}
+ * setter for each field) is carried out once per class, when the plan is first requested. Each
+ * subsequent construction of a bean of that class simply executes the plan against the given
+ * {@link PropertyReader}.<br>
+ * <br>
+ * Fields of type {@link LazyValue} are assigned a {@code LazyValue} that runs the field's binding
+ * when it is first read, so creating the bean does not parse them.
+ * @since 3.1.0
+ */
+final class BindingPlan {
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodHandle[] NO_GETTERS = new MethodHandle[0];
+  private static final MethodHandle IS_NULL;
+  private static final MethodHandle IS_INSTANCE;
+  private static final MethodHandle IS_NULL_OR_INSTANCE;
+  private static final MethodHandle REJECT;
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodType test = MethodType.methodType(boolean.class, Class.class, Object.class);
+    try {
+      IS_NULL = lookup.findStatic(
+          BindingPlan.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+      IS_INSTANCE = lookup.findStatic(BindingPlan.class, "isInstance", test);
+      IS_NULL_OR_INSTANCE = lookup.findStatic(BindingPlan.class, "isNullOrInstance", test);
+      REJECT = lookup.findStatic(
+          BindingPlan.class, "reject",
+          MethodType.methodType(Object.class, String.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static final ClassValue<BindingPlan> PLANS = new ClassValue<BindingPlan>() {
+    @Override
+    protected BindingPlan computeValue(Class<?> beanClass) {
+      return compile(beanClass);
+    }
+  };
+
+  private final PropertiesBinder<Object> binder;
+  private final MethodHandle[] lazyFieldGetters;
+
+  private BindingPlan(PropertiesBinder<Object> binder, MethodHandle[] lazyFieldGetters) {
+    this.binder = binder;
+    this.lazyFieldGetters = lazyFieldGetters;
+  }
+
+  /**
+   * Gets the plan for the given bean class, compiling it if this is the first time that the plan
+   * has been requested.
+   * @param beanClass The class of the bean.
+   * @return The plan for the bean class.
+   * @throws InvalidAnnotationException Thrown if any of the {@link FromProperty} annotations on the
+   *   class are invalid.
+   */
+  static BindingPlan forClass(Class<?> beanClass) throws InvalidAnnotationException {
+    return PLANS.get(beanClass);
+  }
+
+  /**
+   * Populates each of the annotated fields on the bean, with the values read using the reader.
+   * @param bean The bean to populate.
+   * @param reader The reader that will parse values from the properties.
+   */
+  void bind(Object bean, PropertyReader reader) {
+    binder.bind(bean, reader);
+  }
+
+  /**
+   * Reads every {@link LazyValue} field on the bean that has not yet been read.
+   * @param bean The bean to validate.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown by the first lazy
+   *   value that cannot be read.
+   */
+  void validateAll(Object bean) {
+    for (MethodHandle getter : lazyFieldGetters) {
+      Object value;
+      try {
+        value = getter.invokeExact(bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvalidAnnotationException("Cannot read value of lazy field", e);
+      }
+      if (value != null) {
+        ((LazyValue<?>) value).get();
+      }
+    }
+  }
+
+  /**
+   * Gets the name of the generated {@link PropertiesBinder} for the bean class.
+   * @param beanClass The class of the bean.
+   * @return The fully qualified name of the generated binder.
+   */
+  static String getBinderName(Class<?> beanClass) {
+    String name = beanClass.getName();
+    int packageEnd = name.lastIndexOf('.');
+    return name.substring(0, packageEnd + 1)
+        + name.substring(packageEnd + 1).replace('$', '_')
+        + PropertiesBinder.BINDER_SUFFIX;
+  }
+
+  private static BindingPlan compile(Class<?> beanClass) throws InvalidAnnotationException {
+    PropertiesBinder<Object> generatedBinder = findGeneratedBinder(beanClass);
+    return generatedBinder == null ?
+        compileReflectively(beanClass) : new BindingPlan(generatedBinder, NO_GETTERS);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PropertiesBinder<Object> findGeneratedBinder(Class<?> beanClass)
+      throws InvalidAnnotationException {
+    Class<?> binderClass;
+    try {
+      binderClass = Class.forName(getBinderName(beanClass), false, beanClass.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+
+    if (!PropertiesBinder.class.isAssignableFrom(binderClass)) {
+      return null;
+    }
+
+    try {
+      return (PropertiesBinder<Object>) binderClass.getConstructor().newInstance();
+    } catch (InvocationTargetException e) {
+      throw new InvalidAnnotationException(
+          "The generated binder, " + binderClass.getName() + ", cannot be instantiated",
+          e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new InvalidAnnotationException(
+          "The generated binder, " + binderClass.getName() + ", cannot be instantiated. Ensure "
+              + "the class has a public no-argument constructor", e);
+    } catch (ExceptionInInitializerError e) {
+      throw new InvalidAnnotationException(
+          "The generated binder, " + binderClass.getName() + ", cannot be initialised",
+          e.getCause());
+    }
+  }
+
+  private static BindingPlan compileReflectively(Class<?> beanClass)
+      throws InvalidAnnotationException {
+    List<FieldBinding> bindings = new ArrayList<>();
+    List<MethodHandle> lazyFieldGetters = new ArrayList<>();
+    for (Field field : beanClass.getDeclaredFields()) {
+      FromProperty propertySettings = field.getAnnotation(FromProperty.class);
+
+      if (propertySettings == null) {
+        continue;
+      }
+
+      ensureFieldIsSettable(field);
+      ValueBinding value = compileValue(
+          field.getName(), field.getType(), field.getGenericType(), propertySettings);
+      bindings.add(new FieldBinding(field, buildSetter(field), value));
+      if (value.lazy) {
+        lazyFieldGetters.add(buildGetter(field));
+      }
+    }
+    return new BindingPlan(new ReflectiveBinder(bindings.toArray(new FieldBinding[0])),
+                           lazyFieldGetters.toArray(NO_GETTERS));
+  }
+
+  private static void ensureFieldIsSettable(Field field) {
+    int modifiers = field.getModifiers();
+    if (Modifier.isFinal(modifiers)) {
+      throw new InvalidAnnotationException(
+          "Field, " + field.getName() + ", is final. Final fields can be set through a "
+              + "constructor, using a " + ConstructorBinder.class.getSimpleName());
+    }
+
+    if (Modifier.isStatic(modifiers)) {
+      throw new InvalidAnnotationException(
+          "Field, " + field.getName() + ", is static. Setting static fields is not supported");
+    }
+  }
+
+  /**
+   * Compiles the instructions for reading a single annotated value, which may be a field or a
+   * constructor parameter. If the value is a {@link LazyValue}, the binding produces a {@code
+   * LazyValue} that reads the property when it is first accessed.
+   * @param name The name of the field or parameter, which is used as the key if the annotation
+   *   does not specify one, and in any error messages.
+   * @param type The declared type of the field or parameter.
+   * @param genericType The declared generic type of the field or parameter.
+   * @param propertySettings The annotation on the field or parameter.
+   * @return The binding for the value.
+   * @throws InvalidAnnotationException Thrown if the annotation is invalid for the value.
+   */
+  static ValueBinding compileValue(String name,
+                                   Class<?> type,
+                                   Type genericType,
+                                   FromProperty propertySettings)
+      throws InvalidAnnotationException {
+    return type == LazyValue.class ?
+        compileValue(name, getLazyValueType(name, genericType), genericType, propertySettings, true)
+        : compileValue(name, type, genericType, propertySettings, false);
+  }
+
+  /**
+   * Gets the type argument of a {@link LazyValue} field, which is the type that the property is
+   * parsed to.
+   */
+  private static Class<?> getLazyValueType(String name, Type type)
+      throws InvalidAnnotationException {
+    if (type instanceof ParameterizedType) {
+      Type valueType = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (valueType instanceof Class) {
+        return (Class<?>) valueType;
+      } else if (valueType instanceof ParameterizedType) {
+        return (Class<?>) ((ParameterizedType) valueType).getRawType();
+      }
+    }
+    throw new InvalidAnnotationException(
+        "Field, " + name + ", must specify the type of its LazyValue");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ValueBinding compileValue(String name,
+                                               Class<T> valueType,
+                                               Type genericType,
+                                               FromProperty propertySettings,
+                                               boolean lazy) {
+    PropertyExtractor<T> extractor = getPropertyExtractor(propertySettings);
+    if (extractor instanceof GenericExtractor) {
+      ensureListIsOfStrings(name, genericType, valueType);
+    }
+    String key = propertySettings.key().isEmpty() ? name : propertySettings.key();
+    Function<String, T> extractionMethod = getExtractionMethod(extractor, valueType);
+    if (extractionMethod == null) {
+      throw new InvalidAnnotationException(
+          "The extractor, " + extractor.getClass().getName() + ", for field " + name
+              + " does not provide an extraction method");
+    }
+    PropertySpec<T> spec = PropertySpec.of(key, extractionMethod);
+    for (Predicate constraint : buildConstraints(propertySettings, name, genericType, valueType)) {
+      if (constraint != null) {
+        spec = spec.withConstraint(constraint);
+      }
+    }
+    return new ValueBinding(spec.withDefaultSettings(extractor.getDefaultSettings()), lazy);
+  }
+
+  /**
+   * Ensures that a list value, which the {@link GenericExtractor} parses as a list of strings, is
+   * declared as a {@code List<String>}, so a list of any other type cannot be populated with
+   * strings.
+   */
+  private static void ensureListIsOfStrings(String name, Type genericType, Class<?> valueType)
+      throws InvalidAnnotationException {
+    if (valueType == List.class && getElementType(genericType, valueType) != String.class) {
+      throw new InvalidAnnotationException(
+          "Field, " + name + ", must be declared as a List<String>. Lists of other types can be "
+              + "read with a custom PropertyExtractor");
+    }
+  }
+
+  /**
+   * Builds a setter for the field, of the type {@code (Object bean, Object value)void}. The value
+   * is converted to the field's type by a handle from {@link #buildConverter(Class, String)}, so
+   * any widening is resolved here, rather than when the field is set.
+   */
+  private static MethodHandle buildSetter(Field field) throws InvalidAnnotationException {
+    MethodHandle setter;
+    try {
+      field.setAccessible(true);
+      setter = MethodHandles.lookup().unreflectSetter(field);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new InvalidAnnotationException("Cannot set value of field " + field.getName(), e);
+    }
+
+    MethodHandle converter = buildConverter(field.getType(), "field " + field.getName());
+    return MethodHandles.filterArguments(setter, 1, converter).asType(SETTER_TYPE);
+  }
+
+  /**
+   * Builds a handle of the type {@code (Object value)type}, which converts a value to the given
+   * type, for assignment to a field or constructor parameter. For a primitive type, {@code null} is
+   * converted to the primitive's zero value, and a value of any wrapper type that can be unboxed
+   * and widened to the primitive type, e.g. an {@code Integer} for a {@code long}, is accepted.
+   * For any other type, {@code null} or an instance of the type is accepted. Each accepted type is
+   * checked in turn by a {@code guardWithTest}, and a value of any other type is rejected with an
+   * {@code IllegalArgumentException}.
+   * @param type The type to convert to.
+   * @param target A description of the field or parameter, such as {@code "field maxUsers"}, for
+   *   use in error messages.
+   * @return The converter.
+   */
+  static MethodHandle buildConverter(Class<?> type, String target) {
+    MethodHandle converter = MethodHandles.insertArguments(REJECT, 0, target)
+                                          .asType(MethodType.methodType(type, Object.class));
+    if (!type.isPrimitive()) {
+      return MethodHandles.guardWithTest(
+          MethodHandles.insertArguments(IS_NULL_OR_INSTANCE, 0, type),
+          MethodHandles.identity(Object.class).asType(MethodType.methodType(type, Object.class)),
+          converter);
+    }
+
+    Class<?>[] sources = getWideningSources(type);
+    for (int i = sources.length - 1; i >= 0; i--) {
+      converter = MethodHandles.guardWithTest(
+          MethodHandles.insertArguments(IS_INSTANCE, 0, sources[i]),
+          MethodHandles.identity(Object.class)
+                       .asType(MethodType.methodType(sources[i], Object.class))
+                       .asType(MethodType.methodType(type, Object.class)),
+          converter);
+    }
+    Object zero = Array.get(Array.newInstance(type, 1), 0);
+    return MethodHandles.guardWithTest(
+        IS_NULL,
+        MethodHandles.dropArguments(MethodHandles.constant(type, zero), 0, Object.class),
+        converter);
+  }
+
+  /**
+   * Gets the wrapper types that can be unboxed and widened to the given primitive type, starting
+   * with the primitive's own wrapper type.
+   */
+  private static Class<?>[] getWideningSources(Class<?> type) {
+    if (type == Boolean.TYPE) {
+      return new Class<?>[] {Boolean.class};
+    } else if (type == Byte.TYPE) {
+      return new Class<?>[] {Byte.class};
+    } else if (type == Short.TYPE) {
+      return new Class<?>[] {Short.class, Byte.class};
+    } else if (type == Character.TYPE) {
+      return new Class<?>[] {Character.class};
+    } else if (type == Integer.TYPE) {
+      return new Class<?>[] {Integer.class, Short.class, Character.class, Byte.class};
+    } else if (type == Long.TYPE) {
+      return new Class<?>[] {Long.class, Integer.class, Short.class, Character.class, Byte.class};
+    } else if (type == Float.TYPE) {
+      return new Class<?>[] {
+          Float.class, Long.class, Integer.class, Short.class, Character.class, Byte.class};
+    }
+    return new Class<?>[] {Double.class, Float.class, Long.class, Integer.class, Short.class,
+                           Character.class, Byte.class};
+  }
+
+  private static boolean isNull(Object value) {
+    return value == null;
+  }
+
+  private static boolean isInstance(Class<?> type, Object value) {
+    return type.isInstance(value);
+  }
+
+  private static boolean isNullOrInstance(Class<?> type, Object value) {
+    return value == null || type.isInstance(value);
+  }
+
+  private static Object reject(String target, Object value) {
+    throw new IllegalArgumentException(
+        "Cannot set " + target + " to a value of type " + value.getClass().getName());
+  }
+
+  /**
+   * Builds a getter for the field, of the type {@code (Object bean)Object}.
+   */
+  private static MethodHandle buildGetter(Field field) throws InvalidAnnotationException {
+    try {
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new InvalidAnnotationException("Cannot read value of field " + field.getName(), e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PropertyExtractor getPropertyExtractor(FromProperty settings)
+      throws InvalidAnnotationException {
+    if (PropertyExtractor.class.isAssignableFrom(settings.extractor())) {
+      return initialiseExtractor(settings.extractor());
+    } else {
+      throw new InvalidAnnotationException(
+          "The specified extractor, " + settings.extractor()
+              + ", does not extend PropertyExtractor");
+    }
+  }
+
+  private static PropertyExtractor initialiseExtractor(
+      Class<? extends PropertyExtractor> extractorClass) throws InvalidAnnotationException {
+    try {
+      return extractorClass.newInstance();
+    } catch (Exception e) {
+      throw new InvalidAnnotationException(
+          "The extractor class, " + extractorClass + ", cannot be instantiated. "
+              + "Ensure the class is public and static.", e);
+    }
+  }
+
+  private static <T> Function<String, T> getExtractionMethod(PropertyExtractor<T> extractor,
+                                                             Class<T> fieldType) {
+    return extractor instanceof GenericExtractor ?
+        ((GenericExtractor) extractor).getExtractionMethod(fieldType) :
+        extractor.getExtractionMethod();
+  }
+
+  private static Predicate[] buildConstraints(FromProperty settings,
+                                              String name,
+                                              Type genericType,
+                                              Class valueType)
+      throws InvalidAnnotationException {
+    Class[] constraintClasses = settings.constraints();
+    Predicate[] constraints = new Predicate[constraintClasses.length];
+    for (int i = 0; i < constraintClasses.length; i++) {
+      constraints[i] = buildConstraint(constraintClasses[i], name, genericType, valueType);
+    }
+    return constraints;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Predicate buildConstraint(Class constraintClass,
+                                           String name,
+                                           Type genericType,
+                                           Class valueType) {
+    checkClassIsAConstraint(constraintClass);
+    PropertyConstraint constraintInstance = buildConstraintInstance(constraintClass);
+    Class elementType = getElementType(genericType, valueType);
+    if (elementType != null
+        && !constraintInstance.getType().isAssignableFrom(valueType)
+        && constraintInstance.getType().isAssignableFrom(elementType)) {
+      return eachElement(constraintInstance.getConstraint(), valueType);
+    }
+    ensureConstraintTypeIsApplicableToField(constraintInstance, name, valueType);
+    return constraintInstance.getConstraint();
+  }
+
+  /**
+   * Gets the type of each element of a list field, to which a constraint can be applied if it is
+   * not applicable to the list as a whole.
+   * @return The (boxed) element type, or {@code null} if the field is not a list.
+   */
+  private static Class getElementType(Type genericType, Class valueType) {
+    if (valueType == int[].class) {
+      return Integer.class;
+    } else if (valueType == long[].class) {
+      return Long.class;
+    } else if (valueType == double[].class) {
+      return Double.class;
+    } else if (valueType == List.class) {
+      Type type = genericType;
+      if (type instanceof ParameterizedType
+          && ((ParameterizedType) type).getRawType() == LazyValue.class)
+        type = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (type instanceof ParameterizedType) {
+        Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (elementType instanceof Class)
+          return (Class) elementType;
+      }
+      return Object.class;
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Predicate eachElement(Predicate constraint, Class valueType) {
+    if (valueType == int[].class) {
+      return ListParsers.eachInt(constraint::test);
+    } else if (valueType == long[].class) {
+      return ListParsers.eachLong(constraint::test);
+    } else if (valueType == double[].class) {
+      return ListParsers.eachDouble(constraint::test);
+    }
+    return ListParsers.each(constraint);
+  }
+
+  private static void checkClassIsAConstraint(Class constraint)
+      throws InvalidAnnotationException {
+    if (!PropertyConstraint.class.isAssignableFrom(constraint)) {
+      throw new InvalidAnnotationException(
+          constraint.getName() + " does not extend " + PropertyConstraint.class.getName());
+    }
+  }
+
+  private static PropertyConstraint buildConstraintInstance(
+      Class<? extends PropertyConstraint> constraintClass) throws InvalidAnnotationException {
+    try {
+      return constraintClass.newInstance();
+    } catch (Exception e) {
+      throw new InvalidAnnotationException(
+          "The extractor class, " + constraintClass + ", cannot be instantiated. "
+              + "Ensure the class is public and static.", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void ensureConstraintTypeIsApplicableToField(PropertyConstraint constraint,
+                                                              String name,
+                                                              Class valueType) {
+    Class type = getWrapperType(valueType);
+    if (!constraint.getType().isAssignableFrom(type)) {
+      throw new InvalidAnnotationException(
+          "The type of constraint " + constraint.getClass().getName() + " on field "
+              + name + " (" + constraint.getType()
+              + ") is not assignable from the field type (" + type.getName() + ")");
+    }
+  }
+
+  static Class getWrapperType(Class type) throws InvalidAnnotationException {
+    if (!type.isPrimitive()) {
+      return type;
+    } else if (type == Byte.TYPE) {
+      return Byte.class;
+    } else if (type == Short.TYPE) {
+      return Short.class;
+    } else if (type == Integer.TYPE) {
+      return Integer.class;
+    } else if (type == Long.TYPE) {
+      return Long.class;
+    } else if (type == Float.TYPE) {
+      return Float.class;
+    } else if (type == Double.TYPE) {
+      return Double.class;
+    } else if (type == Boolean.TYPE) {
+      return Boolean.class;
+    } else if (type == Character.TYPE) {
+      return Character.class;
+    }
+    throw new InvalidAnnotationException("Primitive type " + type.getName() + " is not supported");
+  }
+
+  /**
+   * Populates a bean using the field bindings resolved by reflection.
+   */
+  private static final class ReflectiveBinder implements PropertiesBinder<Object> {
+
+    private final FieldBinding[] bindings;
+
+    private ReflectiveBinder(FieldBinding[] bindings) {
+      this.bindings = bindings;
+    }
+
+    @Override
+    public void bind(Object bean, PropertyReader reader) {
+      for (FieldBinding binding : bindings) {
+        binding.bind(bean, reader);
+      }
+    }
+
+  }
+
+  /**
+   * The resolved instructions for populating a single field.
+   */
+  private static final class FieldBinding {
+
+    private final Field field;
+    private final MethodHandle setter;
+    private final ValueBinding value;
+
+    private FieldBinding(Field field, MethodHandle setter, ValueBinding value) {
+      this.field = field;
+      this.setter = setter;
+      this.value = value;
+    }
+
+    private void bind(Object bean, PropertyReader reader) {
+      setField(bean, value.read(reader));
+    }
+
+    private void setField(Object bean, Object value) {
+      try {
+        setter.invokeExact(bean, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvalidAnnotationException("Cannot set value of field " + field.getName(), e);
+      }
+    }
+
+  }
+
+  /**
+   * The resolved instructions for reading a single annotated value. As a function, the binding
+   * reads the value from a reader, which is how a {@link LazyValue} is evaluated. The key, parser,
+   * constraints and default settings are compiled into a single {@link PropertySpec}, so reading
+   * the value creates nothing beyond the parsed value.
+   */
+  static final class ValueBinding implements Function<PropertyReader, Object> {
+
+    private final PropertySpec<?> spec;
+    private final boolean lazy;
+
+    private ValueBinding(PropertySpec<?> spec, boolean lazy) {
+      this.spec = spec;
+      this.lazy = lazy;
+    }
+
+    /**
+     * Reads the value to assign, which is a {@link LazyValue} if the value is lazy.
+     * @param reader The reader to read from.
+     * @return The value to assign.
+     */
+    Object read(PropertyReader reader) {
+      return lazy ? new LazyValue<>(this, reader) : apply(reader);
+    }
+
+    @Override
+    public Object apply(PropertyReader reader) {
+      return spec.get(reader);
+    }
+
+  }
+
+}
@@ -0,0 +1,113 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of binding many beans with a {@link BulkBinder}. For each input, in the order that
+ * they were given, the result holds either the bean or the exception that was thrown while
+ * creating it.
+ * @param <B> The type of the beans.
+ * @since 3.1.0
+ */
+public final class BulkBindResult<B extends PropertiesBean> {
+
+  private final Object[] beans;
+  private final RuntimeException[] failures;
+  private final int failureCount;
+
+  /**
+   * Creates a result.
+   * @param beans The bean created from each input, or {@code null} where binding failed.
+   * @param failures The exception thrown for each input, or {@code null} where binding succeeded.
+   */
+  BulkBindResult(Object[] beans, RuntimeException[] failures) {
+    this.beans = beans;
+    this.failures = failures;
+    int count = 0;
+    for (RuntimeException failure : failures) {
+      if (failure != null)
+        count++;
+    }
+    this.failureCount = count;
+  }
+
+  /**
+   * Gets the number of inputs.
+   * @return The number of inputs.
+   */
+  public int size() {
+    return beans.length;
+  }
+
+  /**
+   * Determines whether every bean was bound successfully.
+   * @return {@code true} if there were no failures.
+   */
+  public boolean isSuccessful() {
+    return failureCount == 0;
+  }
+
+  /**
+   * Gets the number of inputs that could not be bound.
+   * @return The number of failures.
+   */
+  public int getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Gets the bean created from the input at the given index.
+   * @param index The index of the input.
+   * @return The bean, or {@code null} if it could not be bound.
+   * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+   */
+  @SuppressWarnings("unchecked")
+  public B getBean(int index) throws IndexOutOfBoundsException {
+    return (B) beans[index];
+  }
+
+  /**
+   * Gets the exception thrown while binding the input at the given index.
+   * @param index The index of the input.
+   * @return The exception, or {@code null} if the bean was bound successfully.
+   * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+   */
+  public RuntimeException getFailure(int index) throws IndexOutOfBoundsException {
+    return failures[index];
+  }
+
+  /**
+   * Gets every failure, keyed by the index of its input.
+   * @return The failures, in index order.
+   */
+  public Map<Integer, RuntimeException> getFailures() {
+    Map<Integer, RuntimeException> map = new LinkedHashMap<>();
+    for (int i = 0; i < failures.length && map.size() < failureCount; i++) {
+      if (failures[i] != null)
+        map.put(i, failures[i]);
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Gets the beans, in the same order as the inputs.
+   * @return The beans.
+   * @throws BulkBindingException Thrown if any of the beans could not be bound.
+   */
+  @SuppressWarnings("unchecked")
+  public List<B> getBeans() throws BulkBindingException {
+    if (failureCount > 0)
+      throw new BulkBindingException(beans.length, getFailures());
+    return Collections.unmodifiableList((List<B>) (List<?>) Arrays.asList(beans));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BulkBindResult[%d beans, %d failures]", beans.length, failureCount);
+  }
+
+}
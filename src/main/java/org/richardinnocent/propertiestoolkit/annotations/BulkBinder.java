@@ -0,0 +1,185 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Creates many {@link PropertiesBean}s of the same class in parallel, e.g. one bean per tenant at
+ * startup:
+ * <pre>
+ * BulkBinder&lt;TenantConfig&gt; binder = BulkBinder.forClass(TenantConfig.class);
+ * List&lt;TenantConfig&gt; configs = binder.bindAll(readers).getBeans();</pre>
+ * The bean class's annotations are compiled once, when the binder is created, so every bean shares
+ * the same compiled set of field bindings and any {@link InvalidAnnotationException} is thrown
+ * straight away. The inputs are then split into contiguous chunks, which are bound on the {@link
+ * ForkJoinPool#commonPool() common pool} by default, or on any other {@link Executor}, such as a
+ * dedicated {@code ForkJoinPool} or, on newer JDKs, a virtual thread per task executor.<br>
+ * <br>
+ * A bean that cannot be bound does not stop the others. Each failure is recorded against the index
+ * of its input in the returned {@link BulkBindResult}, which can report every failure at once.
+ * @param <B> The type of the beans.
+ * @since 3.1.0
+ */
+public final class BulkBinder<B extends PropertiesBean> {
+
+  private static final int CHUNKS_PER_THREAD = 4;
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(Object.class, PropertyReader.class);
+
+  private final Function<PropertyReader, ? extends B> constructor;
+
+  private BulkBinder(Function<PropertyReader, ? extends B> constructor) {
+    this.constructor = constructor;
+  }
+
+  /**
+   * Creates a binder for the given bean class, which must declare a constructor that takes a
+   * {@link PropertyReader}.
+   * @param beanClass The class of the beans.
+   * @param <B> The type of the beans.
+   * @return A binder for the bean class.
+   * @throws InvalidAnnotationException Thrown if any of the {@link FromProperty} annotations on the
+   *   class are invalid, or if the class has no suitable constructor.
+   */
+  public static <B extends PropertiesBean> BulkBinder<B> forClass(Class<B> beanClass)
+      throws InvalidAnnotationException {
+    return forClass(beanClass, findConstructor(beanClass));
+  }
+
+  /**
+   * Creates a binder for the given bean class, which creates each bean with the given constructor,
+   * e.g. {@code BulkBinder.forClass(TenantConfig.class, TenantConfig::new)}.
+   * @param beanClass The class of the beans.
+   * @param constructor Creates a bean from a reader.
+   * @param <B> The type of the beans.
+   * @return A binder for the bean class.
+   * @throws InvalidAnnotationException Thrown if any of the {@link FromProperty} annotations on the
+   *   class are invalid.
+   */
+  public static <B extends PropertiesBean> BulkBinder<B> forClass(
+      Class<B> beanClass, Function<PropertyReader, ? extends B> constructor)
+      throws InvalidAnnotationException {
+    // Compile the plan up front, rather than letting every worker race to compile it
+    BindingPlan.forClass(beanClass);
+    return new BulkBinder<>(constructor);
+  }
+
+  /**
+   * Creates a bean from each of the readers on the common pool.
+   * @param readers The readers to create the beans from.
+   * @return The beans, and any failures, in the same order as the {@code readers}.
+   */
+  public BulkBindResult<B> bindAll(Collection<? extends PropertyReader> readers) {
+    return bindAll(readers, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a bean from each of the readers on the given executor.
+   * @param readers The readers to create the beans from.
+   * @param executor The executor to bind the beans on.
+   * @return The beans, and any failures, in the same order as the {@code readers}.
+   */
+  public BulkBindResult<B> bindAll(Collection<? extends PropertyReader> readers,
+                                   Executor executor) {
+    return bind(readers.toArray(), executor, input -> (PropertyReader) input);
+  }
+
+  /**
+   * Creates a bean from each of the properties instances on the common pool.
+   * @param properties The properties instances to create the beans from.
+   * @return The beans, and any failures, in the same order as the {@code properties}.
+   */
+  public BulkBindResult<B> bindAllProperties(Collection<? extends Properties> properties) {
+    return bindAllProperties(properties, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a bean from each of the properties instances on the given executor.
+   * @param properties The properties instances to create the beans from.
+   * @param executor The executor to bind the beans on.
+   * @return The beans, and any failures, in the same order as the {@code properties}.
+   */
+  public BulkBindResult<B> bindAllProperties(Collection<? extends Properties> properties,
+                                             Executor executor) {
+    return bind(properties.toArray(), executor, input -> new PropertyReader((Properties) input));
+  }
+
+  private BulkBindResult<B> bind(Object[] inputs,
+                                 Executor executor,
+                                 Function<Object, PropertyReader> toReader) {
+    Object[] beans = new Object[inputs.length];
+    RuntimeException[] failures = new RuntimeException[inputs.length];
+
+    int parallelism = executor instanceof ForkJoinPool ?
+        ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    int chunkCount = Math.min(inputs.length, parallelism * CHUNKS_PER_THREAD);
+    CompletableFuture<?>[] chunks = new CompletableFuture<?>[chunkCount];
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      int start = (int) ((long) inputs.length * chunk / chunkCount);
+      int end = (int) ((long) inputs.length * (chunk + 1) / chunkCount);
+      chunks[chunk] = CompletableFuture.runAsync(
+          () -> bindRange(inputs, start, end, toReader, beans, failures), executor);
+    }
+
+    try {
+      CompletableFuture.allOf(chunks).join();
+    } catch (CompletionException e) {
+      // Failures to bind a bean are recorded, so only errors can escape a chunk
+      if (e.getCause() instanceof Error)
+        throw (Error) e.getCause();
+      throw e;
+    }
+    return new BulkBindResult<>(beans, failures);
+  }
+
+  private void bindRange(Object[] inputs,
+                         int start,
+                         int end,
+                         Function<Object, PropertyReader> toReader,
+                         Object[] beans,
+                         RuntimeException[] failures) {
+    for (int i = start; i < end; i++) {
+      try {
+        beans[i] = constructor.apply(toReader.apply(inputs[i]));
+      } catch (RuntimeException e) {
+        failures[i] = e;
+      }
+    }
+  }
+
+  private static <B> Function<PropertyReader, B> findConstructor(Class<B> beanClass)
+      throws InvalidAnnotationException {
+    MethodHandle handle;
+    try {
+      Constructor<B> constructor = beanClass.getDeclaredConstructor(PropertyReader.class);
+      constructor.setAccessible(true);
+      handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      throw new InvalidAnnotationException(
+          "The bean class, " + beanClass + ", cannot be constructed from a PropertyReader. "
+              + "Declare a constructor that takes a PropertyReader, or supply a constructor.", e);
+    }
+
+    return reader -> {
+      try {
+        return beanClass.cast(handle.invokeExact(reader));
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvalidAnnotationException("Cannot construct " + beanClass, e);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,43 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.Map;
+
+import org.richardinnocent.propertiestoolkit.PropertiesException;
+
+/**
+ * Thrown by {@link BulkBindResult#getBeans()} if any of the beans could not be bound. The first
+ * failure is the cause of this exception, and the others are added as suppressed exceptions, so
+ * that every failure is reported when the exception is logged.
+ * @since 3.1.0
+ */
+public class BulkBindingException extends PropertiesException {
+
+  private final transient Map<Integer, RuntimeException> failures;
+
+  /**
+   * Creates an exception for the given failures.
+   * @param inputCount The number of inputs that were bound.
+   * @param failures The failures, keyed by the index of their input. There must be at least one.
+   */
+  BulkBindingException(int inputCount, Map<Integer, RuntimeException> failures) {
+    super(String.format("%d of %d beans could not be bound. The first failure was at index %d",
+                        failures.size(), inputCount, failures.keySet().iterator().next()),
+          failures.values().iterator().next());
+    this.failures = failures;
+    boolean first = true;
+    for (RuntimeException failure : failures.values()) {
+      if (!first)
+        addSuppressed(failure);
+      first = false;
+    }
+  }
+
+  /**
+   * Gets every failure, keyed by the index of its input.
+   * @return The failures, in index order.
+   */
+  public Map<Integer, RuntimeException> getFailures() {
+    return failures;
+  }
+
+}
@@ -0,0 +1,198 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Exposes the fields of a bound object as constants that the JIT compiler can fold into the code
+ * that reads them. This is intended for values, such as feature flags, that guard code on the
+ * hottest paths: if a flag is {@code false}, the code that it guards is removed from the compiled
+ * method entirely, rather than being skipped after a field load and a branch.<br>
+ * <br>
+ * Each field is exposed as a {@code MethodHandle} that takes no arguments and returns the field's
+ * current value. The handle must be held in a {@code static final} field and called with {@code
+ * invokeExact}, casting to the field's exact type, for the JIT to treat it as a constant, e.g.:
+ * <pre>
+ * static final ConstantBinder&lt;AppConfig&gt; CONFIG =
+ *     ConstantBinder.link(AppConfig.class, AppConfig::new, reader);
+ * static final MethodHandle DEBUG_ENABLED = CONFIG.constant("debugEnabled");
+ *
+ * if ((boolean) DEBUG_ENABLED.invokeExact()) {
+ *   LOGGER.debug(describe(request));
+ * }</pre>
+ * Each handle is backed by a {@link MutableCallSite}, whose target always returns the value from
+ * the most recently linked object. {@link #relink(PropertyReader)} binds a new object, then points
+ * every call site at the new values, which causes any compiled code that depends on them to be
+ * discarded and recompiled. Relinking is therefore expensive, and suits values that change rarely,
+ * e.g. when the properties are reloaded:
+ * <pre>
+ * ReloadingProperties.watching(path)
+ *     .onReload(generation -&gt; CONFIG.relink(generation.getReader()))
+ *     .start();</pre>
+ * The call sites are updated one after another, so a thread may briefly see some values from the
+ * new object and some from the old one. Use {@link #getBean()} if values must be consistent with
+ * each other.
+ * @param <B> The type of the bound object.
+ * @since 3.1.0
+ */
+public final class ConstantBinder<B> {
+
+  private final Class<B> type;
+  private final Function<PropertyReader, ? extends B> binder;
+  private final Map<String, Constant> constants = new LinkedHashMap<>();
+  private volatile B bean;
+
+  private ConstantBinder(Class<B> type, Function<PropertyReader, ? extends B> binder, B bean) {
+    this.type = type;
+    this.binder = binder;
+    this.bean = bean;
+  }
+
+  /**
+   * Binds an immutable object through its constructor, as described in {@link ConstructorBinder},
+   * and exposes its fields as constants.
+   * @param type The class of the object to bind.
+   * @param reader The reader to read the values from.
+   * @param <B> The type of the object to bind.
+   * @return The new binder, linked to the object.
+   * @throws InvalidAnnotationException Thrown if the class cannot be bound through its
+   *   constructor.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown if any value cannot be
+   *   read.
+   */
+  public static <B> ConstantBinder<B> link(Class<B> type, PropertyReader reader)
+      throws InvalidAnnotationException {
+    return link(type, ConstructorBinder.forClass(type), reader);
+  }
+
+  /**
+   * Binds an object with the given function, such as the constructor of a {@link PropertiesBean},
+   * and exposes its fields as constants.
+   * @param type The class of the object to bind.
+   * @param binder Creates the object from a reader, e.g. {@code AppConfig::new}.
+   * @param reader The reader to read the values from.
+   * @param <B> The type of the object to bind.
+   * @return The new binder, linked to the object.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown if any value cannot be
+   *   read.
+   */
+  public static <B> ConstantBinder<B> link(Class<B> type,
+                                           Function<PropertyReader, ? extends B> binder,
+                                           PropertyReader reader) {
+    return new ConstantBinder<>(type, binder, type.cast(binder.apply(reader)));
+  }
+
+  /**
+   * Gets a handle that returns the current value of the given field. The handle's type is {@code
+   * ()T}, where {@code T} is the exact type of the field, and the same handle is returned each
+   * time this is called for the same field.
+   * @param fieldName The name of an instance field declared by the bound class.
+   * @return The handle, which should be stored in a {@code static final} field.
+   * @throws IllegalArgumentException Thrown if the class declares no such instance field.
+   */
+  public synchronized MethodHandle constant(String fieldName) throws IllegalArgumentException {
+    Constant constant = constants.get(fieldName);
+    if (constant == null) {
+      constant = new Constant(findGetter(fieldName));
+      constant.site.setTarget(constant.targetFor(bean));
+      constants.put(fieldName, constant);
+    }
+    return constant.invoker;
+  }
+
+  /**
+   * Binds a new object from the given reader, and points every constant at its values. If the new
+   * object cannot be bound, the constants keep their current values.
+   * @param reader The reader to read the new values from.
+   * @return The new object.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown if any value cannot be
+   *   read.
+   */
+  public synchronized B relink(PropertyReader reader) {
+    B relinked = type.cast(binder.apply(reader));
+    MutableCallSite[] sites = new MutableCallSite[constants.size()];
+    MethodHandle[] targets = new MethodHandle[sites.length];
+    int i = 0;
+    for (Constant constant : constants.values()) {
+      sites[i] = constant.site;
+      targets[i++] = constant.targetFor(relinked);
+    }
+
+    for (i = 0; i < sites.length; i++)
+      sites[i].setTarget(targets[i]);
+    bean = relinked;
+    MutableCallSite.syncAll(sites);
+    return relinked;
+  }
+
+  /**
+   * Gets the most recently linked object.
+   * @return The current object.
+   */
+  public B getBean() {
+    return bean;
+  }
+
+  private MethodHandle findGetter(String fieldName) throws IllegalArgumentException {
+    Field field;
+    try {
+      field = type.getDeclaredField(fieldName);
+    } catch (NoSuchFieldException e) {
+      throw new IllegalArgumentException(
+          type.getName() + " does not declare a field called " + fieldName, e);
+    }
+    if (Modifier.isStatic(field.getModifiers())) {
+      throw new IllegalArgumentException("Field, " + fieldName + ", is static");
+    }
+
+    try {
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectGetter(field);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException("Cannot read value of field " + fieldName, e);
+    }
+  }
+
+  /**
+   * The call site for a single field.
+   */
+  private static final class Constant {
+
+    private final MethodHandle getter;
+    private final MutableCallSite site;
+    private final MethodHandle invoker;
+
+    private Constant(MethodHandle getter) {
+      this.getter = getter;
+      this.site = new MutableCallSite(MethodType.methodType(getter.type().returnType()));
+      this.invoker = site.dynamicInvoker();
+    }
+
+    /**
+     * Creates a target for the call site that always returns the field's value in the given
+     * object.
+     */
+    private MethodHandle targetFor(Object bean) {
+      Object value;
+      try {
+        value = getter.invoke(bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException("Cannot read value of field", e);
+      }
+      return MethodHandles.constant(site.type().returnType(), value);
+    }
+
+  }
+
+}
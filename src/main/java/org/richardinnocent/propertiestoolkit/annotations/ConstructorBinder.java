@@ -0,0 +1,233 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Properties;
+import java.util.function.Function;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Creates immutable objects, whose fields can be {@code final}, by passing values read from a
+ * properties instance to their constructor. Each constructor parameter is marked with a {@link
+ * FromProperty} annotation, in the same way as the fields of a {@link PropertiesBean}, e.g.:
+ * <pre>
+ * public final class PoolConfig {
+ *
+ *   private final int size;
+ *   private final Duration timeout;
+ *
+ *   public PoolConfig(&#64;FromProperty(key = "pool.size",
+ *                                     constraints = NumberMustBePositive.class) int size,
+ *                     &#64;FromProperty(key = "pool.timeout") Duration timeout) {
+ *     this.size = size;
+ *     this.timeout = timeout;
+ *   }
+ *
+ * }
+ *
+ * PoolConfig config = ConstructorBinder.forClass(PoolConfig.class).bind(reader);</pre>
+ * The constructor that is used is the only constructor whose parameters are all annotated. On Java
+ * 16 and above, records are supported too, in which case the canonical constructor is used, and
+ * the annotations are placed on the record components:
+ * <pre>
+ * public record PoolConfig(&#64;FromProperty(key = "pool.size") int size,
+ *                          &#64;FromProperty(key = "pool.timeout") Duration timeout) {}</pre>
+ * If an annotation does not specify a key, the name of the record component is used. For other
+ * classes, the name of the parameter is used, which is only available if the class was compiled
+ * with the {@code -parameters} flag.<br>
+ * <br>
+ * The constructor and annotations are resolved once per class, when the binder is first
+ * requested, into a {@code MethodHandle} and a set of compiled value bindings, so each call to
+ * {@link #bind(PropertyReader)} only reads the values and invokes the constructor. As the objects
+ * are immutable, one instance can be shared safely between threads. A binder is also a {@code
+ * Function}, so it can be passed to {@link
+ * org.richardinnocent.propertiestoolkit.reload.ReloadingProperties.Builder#bind(Class, Function)}.
+ * @param <T> The type of object that is created.
+ * @since 3.1.0
+ */
+public final class ConstructorBinder<T> implements Function<PropertyReader, T> {
+
+  private static final ClassValue<ConstructorBinder<?>> BINDERS =
+      new ClassValue<ConstructorBinder<?>>() {
+        @Override
+        protected ConstructorBinder<?> computeValue(Class<?> type) {
+          return compile(type);
+        }
+      };
+
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final BindingPlan.ValueBinding[] parameters;
+
+  private ConstructorBinder(Class<T> type,
+                            MethodHandle constructor,
+                            BindingPlan.ValueBinding[] parameters) {
+    this.type = type;
+    this.constructor = constructor;
+    this.parameters = parameters;
+  }
+
+  /**
+   * Gets the binder for the given class, resolving its constructor if this is the first time that
+   * the binder has been requested.
+   * @param type The class of the objects to create.
+   * @param <T> The type of the objects to create.
+   * @return The binder for the class.
+   * @throws InvalidAnnotationException Thrown if the class has no suitable constructor, or if any
+   *   of its {@link FromProperty} annotations are invalid.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ConstructorBinder<T> forClass(Class<T> type)
+      throws InvalidAnnotationException {
+    return (ConstructorBinder<T>) BINDERS.get(type);
+  }
+
+  /**
+   * Creates an object from the values in the given properties instance.
+   * @param properties The properties instance that values will be read from.
+   * @return The new object.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown if any value cannot be
+   *   read.
+   */
+  public T bind(Properties properties) {
+    return bind(new PropertyReader(properties));
+  }
+
+  /**
+   * Creates an object from the values read using the reader.
+   * @param reader The reader that will parse values from the properties.
+   * @return The new object.
+   * @throws org.richardinnocent.propertiestoolkit.PropertiesException Thrown if any value cannot be
+   *   read.
+   */
+  public T bind(PropertyReader reader) {
+    Object[] arguments = new Object[parameters.length];
+    for (int i = 0; i < arguments.length; i++)
+      arguments[i] = parameters[i].read(reader);
+
+    try {
+      return type.cast(constructor.invokeExact(arguments));
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new InvalidAnnotationException("Cannot create instance of " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Creates an object from the values read using the reader.
+   * @param reader The reader that will parse values from the properties.
+   * @return The new object.
+   * @see #bind(PropertyReader)
+   */
+  @Override
+  public T apply(PropertyReader reader) {
+    return bind(reader);
+  }
+
+  private static <T> ConstructorBinder<T> compile(Class<T> type)
+      throws InvalidAnnotationException {
+    boolean record = Records.isRecord(type);
+    Constructor<?> constructor = record ? Records.getCanonicalConstructor(type) : find(type);
+    String[] names = record ? Records.getComponentNames(type) : null;
+
+    Parameter[] parameters = constructor.getParameters();
+    BindingPlan.ValueBinding[] bindings = new BindingPlan.ValueBinding[parameters.length];
+    MethodHandle[] converters = new MethodHandle[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter parameter = parameters[i];
+      FromProperty propertySettings = parameter.getAnnotation(FromProperty.class);
+      String name = record ? names[i] : parameter.getName();
+      if (propertySettings == null) {
+        throw new InvalidAnnotationException(
+            "Parameter, " + name + ", of " + type.getName() + " is not annotated with "
+                + FromProperty.class.getSimpleName());
+      }
+      if (!record && propertySettings.key().isEmpty() && !parameter.isNamePresent()) {
+        throw new InvalidAnnotationException(
+            "Parameter " + i + " of " + type.getName() + " must specify a key, as parameter "
+                + "names are not available. Alternatively, compile with -parameters");
+      }
+      bindings[i] = BindingPlan.compileValue(
+          name, parameter.getType(), parameter.getParameterizedType(), propertySettings);
+      converters[i] = BindingPlan.buildConverter(parameter.getType(), "parameter " + name);
+    }
+    return new ConstructorBinder<>(type, buildConstructor(constructor, converters), bindings);
+  }
+
+  /**
+   * Finds the only constructor whose parameters are all annotated with {@link FromProperty}.
+   */
+  private static Constructor<?> find(Class<?> type) throws InvalidAnnotationException {
+    if (Modifier.isAbstract(type.getModifiers())) {
+      throw new InvalidAnnotationException(type.getName() + " cannot be instantiated");
+    }
+    if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+      throw new InvalidAnnotationException(
+          type.getName() + " is an inner class. Ensure the class is static.");
+    }
+
+    Constructor<?> found = null;
+    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+      if (isAnnotated(constructor)) {
+        if (found != null) {
+          throw new InvalidAnnotationException(
+              type.getName() + " has more than one constructor whose parameters are all "
+                  + "annotated with " + FromProperty.class.getSimpleName());
+        }
+        found = constructor;
+      }
+    }
+    if (found == null) {
+      throw new InvalidAnnotationException(
+          type.getName() + " has no constructor whose parameters are all annotated with "
+              + FromProperty.class.getSimpleName());
+    }
+    return found;
+  }
+
+  private static boolean isAnnotated(Constructor<?> constructor) {
+    Parameter[] parameters = constructor.getParameters();
+    if (parameters.length == 0) {
+      return false;
+    }
+    for (Parameter parameter : parameters) {
+      if (!parameter.isAnnotationPresent(FromProperty.class)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Builds a handle for the constructor, of the type {@code (Object[] arguments)Object}. Each
+   * argument is passed through its converter from {@link BindingPlan#buildConverter(Class,
+   * String)}, so, as with fields, {@code null} is passed to a primitive parameter as the
+   * primitive's zero value, narrower wrapper types are widened, and a value of any other type is
+   * rejected with an {@code IllegalArgumentException} that names the parameter.
+   */
+  private static MethodHandle buildConstructor(Constructor<?> constructor,
+                                               MethodHandle[] converters)
+      throws InvalidAnnotationException {
+    MethodHandle handle;
+    try {
+      constructor.setAccessible(true);
+      handle = MethodHandles.lookup().unreflectConstructor(constructor);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new InvalidAnnotationException(
+          "Cannot call constructor of " + constructor.getDeclaringClass().getName(), e);
+    }
+
+    int parameterCount = converters.length;
+    return MethodHandles.filterArguments(handle, 0, converters)
+                        .asType(MethodType.genericMethodType(parameterCount))
+                        .asSpreader(Object[].class, parameterCount)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+  }
+
+}
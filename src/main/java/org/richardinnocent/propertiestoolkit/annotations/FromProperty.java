@@ -11,21 +11,24 @@ import org.richardinnocent.propertiestoolkit.annotations.propertyHelpers.Generic
 /**
  * Indicates that the specified field should be set from the value specified in a properties file.
  * If this annotation is applied to any instance field within a {@link PropertiesBean} instance,
- * the value will be set at initialisation, depending on the way in which it is specified.
+ * the value will be set at initialisation, depending on the way in which it is specified. It can
+ * also be applied to constructor parameters and record components, which are bound by a {@link
+ * ConstructorBinder}.
  * @see #key()
  * @see #extractor()
  * @see #constraints()
  * @see PropertiesBean
+ * @see ConstructorBinder
  * @since 3.0.0
  */
 @Documented
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface FromProperty {
 
   /**
    * The key in the properties instance that should be used to determine the value. If this is left
-   * blank, the name of the field is used.
+   * blank, the name of the field, parameter or record component is used.
    * @return The object key.
    */
   String key() default "";
@@ -40,7 +43,9 @@ public @interface FromProperty {
   /**
    * The constraints that the parsed value must meet to be valid. Each class used in this method
    * must extend {@link
-   * org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint}.
+   * org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint}. On an array
+   * or {@code List} field, a constraint that applies to the element type, rather than to the field
+   * type, must be met by every element.
    * @return The constraints that must be met for the value to be valid.
    */
   Class[] constraints() default {};
@@ -0,0 +1,88 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.richardinnocent.propertiestoolkit.PropertiesException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * A value that is read from the properties the first time that it is requested, rather than when
+ * the bean is created. A {@link PropertiesBean} field is bound lazily by declaring it as a {@code
+ * LazyValue} of the desired type, e.g.:
+ * <pre>
+ * &#64;FromProperty(key = "report.retention.days", constraints = NumberMustBePositive.class)
+ * private LazyValue&lt;Integer&gt; retentionDays;</pre>
+ * When the bean is created, the field is assigned a {@code LazyValue}, but the property is not
+ * parsed or validated. The first call to {@link #get()} parses the value, applies the extractor's
+ * default settings and any constraints exactly as an eager field would, and then remembers the
+ * result, so subsequent calls are a single volatile read. The extractor and constraints are
+ * checked against the type argument, so {@code Integer} in the example above.<br>
+ * <br>
+ * If the value cannot be read, {@code get()} throws the same exception that an eager field would
+ * have thrown from the constructor. Nothing is remembered in that case, so every call to {@code
+ * get()} throws. Use {@link PropertiesBean#validateAll()} to find such failures at startup.<br>
+ * <br>
+ * A {@code LazyValue} is safe to share between threads. The value is computed at most once, and
+ * every thread sees the same result.
+ * @param <T> The type of the value.
+ * @since 3.1.0
+ */
+public final class LazyValue<T> implements Supplier<T> {
+
+  private static final Object UNSET = new Object();
+
+  private volatile Object value = UNSET;
+  private Function<PropertyReader, ? extends T> evaluation;
+  private PropertyReader reader;
+
+  /**
+   * Creates a value that will be read from the reader by the given evaluation.
+   * @param evaluation Reads, parses and validates the value.
+   * @param reader The reader to pass to the {@code evaluation}.
+   */
+  LazyValue(Function<PropertyReader, ? extends T> evaluation, PropertyReader reader) {
+    this.evaluation = evaluation;
+    this.reader = reader;
+  }
+
+  /**
+   * Gets the value, reading it from the properties if this is the first call.
+   * @return The value.
+   * @throws PropertiesException Thrown if the value cannot be read, in the same manner as {@link
+   *   org.richardinnocent.propertiestoolkit.Property#get()}.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get() throws PropertiesException {
+    Object current = value;
+    if (current == UNSET) {
+      synchronized (this) {
+        current = value;
+        if (current == UNSET) {
+          current = evaluation.apply(reader);
+          value = current;
+          // The reader is no longer needed, so don't keep its properties reachable
+          evaluation = null;
+          reader = null;
+        }
+      }
+    }
+    return (T) current;
+  }
+
+  /**
+   * Determines whether the value has been read successfully.
+   * @return {@code true} if {@link #get()} has returned a value.
+   */
+  public boolean isEvaluated() {
+    return value != UNSET;
+  }
+
+  @Override
+  public String toString() {
+    Object current = value;
+    return current == UNSET ? "LazyValue[unevaluated]" : "LazyValue[" + current + "]";
+  }
+
+}
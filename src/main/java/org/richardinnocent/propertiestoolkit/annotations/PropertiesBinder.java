@@ -0,0 +1,37 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Populates the {@link FromProperty} fields of a {@link PropertiesBean} without reflection.
+ * Implementations are not normally written by hand, but generated at compile time by the
+ * Properties Toolkit annotation processor.<br>
+ * <br>
+ * When a bean class is first instantiated, {@code PropertiesBean} looks for a binder in the same
+ * package as the bean, named after the bean's binary name with any {@code $} replaced by {@code _}
+ * and the suffix {@code Binder} appended. For example, the binder for {@code com.example.AppConfig}
+ * is {@code com.example.AppConfigBinder}, and the binder for the nested class {@code
+ * com.example.Outer.Config} is {@code com.example.Outer_ConfigBinder}. If such a class exists and
+ * implements this interface, it is used to populate all beans of that class, and it must have a
+ * public no-argument constructor, or an {@link InvalidAnnotationException} is thrown. Otherwise,
+ * the fields are populated reflectively.
+ * @param <B> The type of bean that this binder populates.
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface PropertiesBinder<B> {
+
+  /**
+   * The suffix appended to the bean name to produce the name of its generated binder.
+   */
+  String BINDER_SUFFIX = "Binder";
+
+  /**
+   * Populates each of the {@link FromProperty} fields on the bean, with the values read using the
+   * reader.
+   * @param bean The bean to populate.
+   * @param reader The reader that will parse values from the properties.
+   */
+  void bind(B bean, PropertyReader reader);
+
+}
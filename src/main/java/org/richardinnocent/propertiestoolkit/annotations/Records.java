@@ -0,0 +1,98 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Finds the components of record classes. Records were added in Java 16, whereas this library
+ * targets Java 8, so the record methods on {@code Class} are looked up reflectively, once, and
+ * every class is treated as a non-record on older JDKs.
+ * @since 3.1.0
+ */
+final class Records {
+
+  private static final Method IS_RECORD;
+  private static final Method GET_RECORD_COMPONENTS;
+  private static final Method GET_NAME;
+  private static final Method GET_TYPE;
+
+  static {
+    Method isRecord = null;
+    Method getRecordComponents = null;
+    Method getName = null;
+    Method getType = null;
+    try {
+      isRecord = Class.class.getMethod("isRecord");
+      getRecordComponents = Class.class.getMethod("getRecordComponents");
+      Class<?> recordComponent = getRecordComponents.getReturnType().getComponentType();
+      getName = recordComponent.getMethod("getName");
+      getType = recordComponent.getMethod("getType");
+    } catch (NoSuchMethodException e) {
+      isRecord = null;
+    }
+    IS_RECORD = isRecord;
+    GET_RECORD_COMPONENTS = getRecordComponents;
+    GET_NAME = getName;
+    GET_TYPE = getType;
+  }
+
+  private Records() {}
+
+  /**
+   * Determines whether the given class is a record.
+   * @param type The class.
+   * @return {@code true} if the class is a record, which is never the case before Java 16.
+   */
+  static boolean isRecord(Class<?> type) {
+    return IS_RECORD != null && (Boolean) invoke(IS_RECORD, type);
+  }
+
+  /**
+   * Gets the names of the components of the given record, in declaration order.
+   * @param record The record class.
+   * @return The component names.
+   * @throws IllegalArgumentException Thrown if the class is not a record.
+   */
+  static String[] getComponentNames(Class<?> record) throws IllegalArgumentException {
+    Object components = getComponents(record);
+    String[] names = new String[Array.getLength(components)];
+    for (int i = 0; i < names.length; i++)
+      names[i] = (String) invoke(GET_NAME, Array.get(components, i));
+    return names;
+  }
+
+  /**
+   * Gets the canonical constructor of the given record, whose parameters match its components.
+   * @param record The record class.
+   * @return The canonical constructor.
+   * @throws IllegalArgumentException Thrown if the class is not a record.
+   */
+  static Constructor<?> getCanonicalConstructor(Class<?> record) throws IllegalArgumentException {
+    Object components = getComponents(record);
+    Class<?>[] types = new Class<?>[Array.getLength(components)];
+    for (int i = 0; i < types.length; i++)
+      types[i] = (Class<?>) invoke(GET_TYPE, Array.get(components, i));
+    try {
+      return record.getDeclaredConstructor(types);
+    } catch (NoSuchMethodException e) {
+      // Every record has a canonical constructor
+      throw new IllegalStateException("No canonical constructor found for " + record.getName(), e);
+    }
+  }
+
+  private static Object getComponents(Class<?> record) throws IllegalArgumentException {
+    if (!isRecord(record))
+      throw new IllegalArgumentException(record.getName() + " is not a record");
+    return invoke(GET_RECORD_COMPONENTS, record);
+  }
+
+  private static Object invoke(Method method, Object target) {
+    try {
+      return method.invoke(target);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot call " + method.getName(), e);
+    }
+  }
+
+}
@@ -1,10 +1,20 @@
 package org.richardinnocent.propertiestoolkit.annotations.propertyHelpers;
 
 import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
 
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.NumberParsers;
+import org.richardinnocent.propertiestoolkit.UnitParsers;
 import org.richardinnocent.propertiestoolkit.annotations.InvalidAnnotationException;
 import org.richardinnocent.propertiestoolkit.annotations.PropertyExtractor;
+import org.richardinnocent.propertiestoolkit.types.CidrSet;
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+import org.richardinnocent.propertiestoolkit.types.IntSet;
+import org.richardinnocent.propertiestoolkit.types.LongSet;
+import org.richardinnocent.propertiestoolkit.types.StringSet;
 
 /**
  * The {@code GenericExtractor} makes a best attempt at instantiating the desired object type from
@@ -19,6 +29,12 @@ import org.richardinnocent.propertiestoolkit.annotations.PropertyExtractor;
  *   <li>{@code boolean} (and {@code Boolean}</li>
  *   <li>{@code char} (and {@code Character})</li>
  *   <li>{@code String}</li>
+ *   <li>{@code int[]}, {@code long[]} and {@code double[]}, from comma-separated values</li>
+ *   <li>{@code List<String>}, from comma-separated values</li>
+ *   <li>{@code IntSet}, {@code LongSet}, {@code StringSet} and {@code CidrSet}, from
+ *     comma-separated values</li>
+ *   <li>{@code Duration} and {@code DataSize}, from values such as {@code 250ms} and {@code
+ *     512MB}</li>
  * </ul>
  * For all other object types, a public constructor that consume a {@code String} is searched for.
  * If a constructor is found, the object type will attempt to be instantiated using that
@@ -30,15 +46,25 @@ import org.richardinnocent.propertiestoolkit.annotations.PropertyExtractor;
  */
 public class GenericExtractor implements PropertyExtractor<Object> {
 
-  private static final Function<String, Byte> BYTE_PARSER = Byte::valueOf;
-  private static final Function<String, Short> SHORT_PARSER = Short::valueOf;
-  private static final Function<String, Integer> INT_PARSER = Integer::valueOf;
-  private static final Function<String, Long> LONG_PARSER = Long::valueOf;
-  private static final Function<String, Float> FLOAT_PARSER = Float::valueOf;
-  private static final Function<String, Double> DOUBLE_PARSER = Double::valueOf;
+  private static final Function<String, Byte> BYTE_PARSER = NumberParsers.BYTE;
+  private static final Function<String, Short> SHORT_PARSER = NumberParsers.SHORT;
+  private static final Function<String, Integer> INT_PARSER = NumberParsers.INTEGER;
+  private static final Function<String, Long> LONG_PARSER = NumberParsers.LONG;
+  private static final Function<String, Float> FLOAT_PARSER = NumberParsers.FLOAT;
+  private static final Function<String, Double> DOUBLE_PARSER = NumberParsers.DOUBLE;
   private static final Function<String, Boolean> BOOLEAN_PARSER = Boolean::valueOf;
   private static final Function<String, Character> CHAR_PARSER = value -> value.charAt(0);
   private static final Function<String, String> STRING_PARSER = value -> value;
+  private static final Function<String, int[]> INT_ARRAY_PARSER = ListParsers.INT_ARRAY;
+  private static final Function<String, long[]> LONG_ARRAY_PARSER = ListParsers.LONG_ARRAY;
+  private static final Function<String, double[]> DOUBLE_ARRAY_PARSER = ListParsers.DOUBLE_ARRAY;
+  private static final Function<String, List<String>> STRING_LIST_PARSER = ListParsers.STRING_LIST;
+  private static final Function<String, IntSet> INT_SET_PARSER = IntSet.PARSER;
+  private static final Function<String, LongSet> LONG_SET_PARSER = LongSet.PARSER;
+  private static final Function<String, StringSet> STRING_SET_PARSER = StringSet.PARSER;
+  private static final Function<String, CidrSet> CIDR_SET_PARSER = CidrSet.PARSER;
+  private static final Function<String, Duration> DURATION_PARSER = UnitParsers.DURATION;
+  private static final Function<String, DataSize> DATA_SIZE_PARSER = UnitParsers.DATA_SIZE;
 
   /**
    * This should not be used.
@@ -62,6 +88,12 @@ public class GenericExtractor implements PropertyExtractor<Object> {
    *   <li>{@code boolean} (and {@code Boolean}</li>
    *   <li>{@code char} (and {@code Character})</li>
    *   <li>{@code String}</li>
+   *   <li>{@code int[]}, {@code long[]} and {@code double[]}, from comma-separated values</li>
+   *   <li>{@code List<String>}, from comma-separated values</li>
+   *   <li>{@code IntSet}, {@code LongSet}, {@code StringSet} and {@code CidrSet}, from
+   *     comma-separated values</li>
+   *   <li>{@code Duration} and {@code DataSize}, from values such as {@code 250ms} and {@code
+   *     512MB}</li>
    * </ul>
    * For all other object types, a public constructor that consume a {@code String} is searched for.
    * If a constructor is found, the object type will attempt to be instantiated using that
@@ -84,24 +116,44 @@ public class GenericExtractor implements PropertyExtractor<Object> {
   @SuppressWarnings("unchecked")
   public <T> Function<String, T> getExtractionMethod(Class<T> type)
       throws InvalidAnnotationException, IllegalArgumentException {
-    if (type == Byte.TYPE) {
+    if (type == Byte.TYPE || type == Byte.class) {
       return (Function<String, T>) BYTE_PARSER;
-    } else if (type == Short.TYPE) {
+    } else if (type == Short.TYPE || type == Short.class) {
       return (Function<String, T>) SHORT_PARSER;
-    } else if (type == Integer.TYPE) {
+    } else if (type == Integer.TYPE || type == Integer.class) {
       return (Function<String, T>) INT_PARSER;
-    } else if (type == Long.TYPE) {
+    } else if (type == Long.TYPE || type == Long.class) {
       return (Function<String, T>) LONG_PARSER;
-    } else if (type == Float.TYPE) {
+    } else if (type == Float.TYPE || type == Float.class) {
       return (Function<String, T>) FLOAT_PARSER;
-    } else if (type == Double.TYPE) {
+    } else if (type == Double.TYPE || type == Double.class) {
       return (Function<String, T>) DOUBLE_PARSER;
-    } else if (type == Boolean.TYPE) {
+    } else if (type == Boolean.TYPE || type == Boolean.class) {
       return (Function<String, T>) BOOLEAN_PARSER;
     } else if (type == String.class) {
       return (Function<String, T>) STRING_PARSER;
-    } else if (type == Character.TYPE) {
+    } else if (type == Character.TYPE || type == Character.class) {
       return (Function<String, T>) CHAR_PARSER;
+    } else if (type == int[].class) {
+      return (Function<String, T>) INT_ARRAY_PARSER;
+    } else if (type == long[].class) {
+      return (Function<String, T>) LONG_ARRAY_PARSER;
+    } else if (type == double[].class) {
+      return (Function<String, T>) DOUBLE_ARRAY_PARSER;
+    } else if (type == List.class) {
+      return (Function<String, T>) STRING_LIST_PARSER;
+    } else if (type == IntSet.class) {
+      return (Function<String, T>) INT_SET_PARSER;
+    } else if (type == LongSet.class) {
+      return (Function<String, T>) LONG_SET_PARSER;
+    } else if (type == StringSet.class) {
+      return (Function<String, T>) STRING_SET_PARSER;
+    } else if (type == CidrSet.class) {
+      return (Function<String, T>) CIDR_SET_PARSER;
+    } else if (type == Duration.class) {
+      return (Function<String, T>) DURATION_PARSER;
+    } else if (type == DataSize.class) {
+      return (Function<String, T>) DATA_SIZE_PARSER;
     } else {
       return buildOtherType(type);
     }
@@ -0,0 +1,67 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Holds a value that has been read from a {@link ReloadingProperties}, and that is read again
+ * each time the properties are reloaded. The value is parsed and validated once per reload, so
+ * {@link #get()} is a single volatile read, which makes handles suitable for live-tunable values
+ * that are read in hot loops, e.g.:
+ * <pre>
+ * ConfigHandle&lt;Duration&gt; timeout =
+ *     config.handle(reader -&gt; reader.getDuration("timeout").get());
+ * ...
+ * client.call(request, timeout.get());</pre>
+ * If the value cannot be read from the new properties, the reload is rejected, so the handle, and
+ * the rest of the {@code ReloadingProperties}, keeps its previous value. For {@code int}, {@code
+ * long} and {@code double} values, {@link IntHandle}, {@link LongHandle} and {@link DoubleHandle}
+ * avoid boxing. A handle that is no longer needed should be {@link #close() closed}, so that it
+ * is no longer read on each reload, and can be garbage collected.
+ * @param <T> The type of the value.
+ * @see ReloadingProperties#handle(Function)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class ConfigHandle<T> extends ReloadableHandle implements Supplier<T> {
+
+  private final Function<PropertyReader, ? extends T> reading;
+  private volatile T value;
+  private T staged;
+
+  ConfigHandle(ReloadingProperties owner,
+               Function<PropertyReader, ? extends T> reading,
+               PropertyReader reader) {
+    super(owner);
+    this.reading = reading;
+    this.value = reading.apply(reader);
+  }
+
+  /**
+   * Gets the value from the most recently published properties.
+   * @return The current value.
+   */
+  @Override
+  public T get() {
+    return value;
+  }
+
+  @Override
+  void stage(PropertyReader reader) {
+    staged = reading.apply(reader);
+  }
+
+  @Override
+  void publish() {
+    value = staged;
+    staged = null;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
@@ -0,0 +1,57 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * The {@code double} equivalent of {@link ConfigHandle}. This holds a {@code double} that is read
+ * again each time a {@link ReloadingProperties} is reloaded, without boxing it.
+ * @see ReloadingProperties#doubleHandle(ToDoubleFunction)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class DoubleHandle extends ReloadableHandle implements DoubleSupplier {
+
+  private final ToDoubleFunction<PropertyReader> reading;
+  private volatile double value;
+  private double staged;
+
+  DoubleHandle(ReloadingProperties owner,
+               ToDoubleFunction<PropertyReader> reading,
+               PropertyReader reader) {
+    super(owner);
+    this.reading = reading;
+    this.value = reading.applyAsDouble(reader);
+  }
+
+  /**
+   * Gets the value from the most recently published properties.
+   * @return The current value.
+   */
+  public double get() {
+    return value;
+  }
+
+  @Override
+  public double getAsDouble() {
+    return value;
+  }
+
+  @Override
+  void stage(PropertyReader reader) {
+    staged = reading.applyAsDouble(reader);
+  }
+
+  @Override
+  void publish() {
+    value = staged;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
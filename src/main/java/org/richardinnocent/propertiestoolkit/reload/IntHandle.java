@@ -0,0 +1,57 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * The {@code int} equivalent of {@link ConfigHandle}. This holds an {@code int} that is read again
+ * each time a {@link ReloadingProperties} is reloaded, without boxing it.
+ * @see ReloadingProperties#intHandle(ToIntFunction)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class IntHandle extends ReloadableHandle implements IntSupplier {
+
+  private final ToIntFunction<PropertyReader> reading;
+  private volatile int value;
+  private int staged;
+
+  IntHandle(ReloadingProperties owner,
+            ToIntFunction<PropertyReader> reading,
+            PropertyReader reader) {
+    super(owner);
+    this.reading = reading;
+    this.value = reading.applyAsInt(reader);
+  }
+
+  /**
+   * Gets the value from the most recently published properties.
+   * @return The current value.
+   */
+  public int get() {
+    return value;
+  }
+
+  @Override
+  public int getAsInt() {
+    return value;
+  }
+
+  @Override
+  void stage(PropertyReader reader) {
+    staged = reading.applyAsInt(reader);
+  }
+
+  @Override
+  void publish() {
+    value = staged;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
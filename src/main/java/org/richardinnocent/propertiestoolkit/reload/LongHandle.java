@@ -0,0 +1,57 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * The {@code long} equivalent of {@link ConfigHandle}. This holds a {@code long} that is read again
+ * each time a {@link ReloadingProperties} is reloaded, without boxing it.
+ * @see ReloadingProperties#longHandle(ToLongFunction)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class LongHandle extends ReloadableHandle implements LongSupplier {
+
+  private final ToLongFunction<PropertyReader> reading;
+  private volatile long value;
+  private long staged;
+
+  LongHandle(ReloadingProperties owner,
+             ToLongFunction<PropertyReader> reading,
+             PropertyReader reader) {
+    super(owner);
+    this.reading = reading;
+    this.value = reading.applyAsLong(reader);
+  }
+
+  /**
+   * Gets the value from the most recently published properties.
+   * @return The current value.
+   */
+  public long get() {
+    return value;
+  }
+
+  @Override
+  public long getAsLong() {
+    return value;
+  }
+
+  @Override
+  void stage(PropertyReader reader) {
+    staged = reading.applyAsLong(reader);
+  }
+
+  @Override
+  void publish() {
+    value = staged;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
@@ -0,0 +1,55 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * A handle whose value is read again each time a {@link ReloadingProperties} reloads. Reloading
+ * happens in two steps, so that a handle that cannot be read causes the whole reload to be
+ * rejected, without any handle having been changed: every handle first {@link
+ * #stage(PropertyReader) stages} its new value, then, once all of them have succeeded, every
+ * handle {@link #publish() publishes} it.<br>
+ * <br>
+ * A handle is updated until it is {@link #close() closed}, after which it keeps its last value,
+ * and is no longer referenced by the {@code ReloadingProperties}.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+abstract class ReloadableHandle implements AutoCloseable {
+
+  private final ReloadingProperties owner;
+
+  /**
+   * Creates a handle that is updated by the given {@code ReloadingProperties}.
+   * @param owner The owner of this handle.
+   */
+  ReloadableHandle(ReloadingProperties owner) {
+    this.owner = owner;
+  }
+
+  /**
+   * Stops this handle from being updated when the properties are reloaded, so that it is no
+   * longer referenced by the {@link ReloadingProperties} that created it. The handle keeps the
+   * value that was most recently published to it. Closing a handle more than once has no further
+   * effect.
+   */
+  @Override
+  public void close() {
+    owner.unregister(this);
+  }
+
+  /**
+   * Reads the new value from the reader, without making it visible. This is only called while
+   * the reload lock is held.
+   * @param reader The reader for the new values.
+   * @throws RuntimeException Thrown if the value cannot be read, in which case the reload is
+   *   rejected.
+   */
+  abstract void stage(PropertyReader reader) throws RuntimeException;
+
+  /**
+   * Makes the most recently staged value visible. This is only called while the reload lock is
+   * held, after every handle has staged its value successfully.
+   */
+  abstract void publish();
+
+}
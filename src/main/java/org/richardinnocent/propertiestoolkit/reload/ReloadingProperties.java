@@ -0,0 +1,550 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.richardinnocent.propertiestoolkit.PropertiesLoader;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySnapshot;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+
+/**
+ * Reads one or more {@code .properties} files, and reloads them when they change. Each time the
+ * files are loaded, every registered validation is run and every registered bean is bound against
+ * the new values. The new {@link PropertyReader} and beans are only published if all of these
+ * succeed; otherwise, the previous values remain in place and the failure is reported to the
+ * failure listener. For example:
+ * <pre>
+ * ReloadingProperties config = ReloadingProperties.watching(Paths.get("app.properties"))
+ *     .bind(AppConfig.class, AppConfig::new)
+ *     .validate(reader -&gt; reader.getInt("maxUsers").addConstraint(i -&gt; i &gt; 0).get())
+ *     .onFailure(e -&gt; LOGGER.warn("Could not reload app.properties", e))
+ *     .start();
+ *
+ * AppConfig appConfig = config.getBean(AppConfig.class);</pre>
+ * When several files are given, a key in a later file overrides the same key in an earlier
+ * file.<br>
+ * <br>
+ * Changes are detected with a {@link WatchService} on the files' directories. As editors and
+ * deployment tools often write a file in several steps, a reload only happens once no further
+ * changes have been seen for the debounce period.<br>
+ * <br>
+ * The reader and the beans are published together as a single immutable generation, so callers
+ * never see the reader from one load with the beans from another, and never block while a reload is
+ * in progress. Note that separate calls to {@link #getReader()} and {@link #getBean(Class)} may
+ * straddle a reload; use {@link #getGeneration()} or a single bean if values must be consistent
+ * with each other.<br>
+ * <br>
+ * Values that are read in hot loops can be held in a {@link ConfigHandle}, or one of its primitive
+ * equivalents, which is updated whenever new values are published, e.g.:
+ * <pre>
+ * IntHandle poolSize = config.intHandle(reader -&gt; reader.getIntValue("pool.size").get());
+ * ...
+ * int size = poolSize.get(); // A single volatile read</pre>
+ * Each handle is updated just after the generation that it was read from is published, and
+ * handles are not updated together, so use a bean if several values must be consistent. A handle
+ * is updated until it is closed, so short-lived handles, such as one per request or per tenant,
+ * should be closed once they are no longer needed, e.g. with try-with-resources.
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public class ReloadingProperties implements Closeable {
+
+  private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private final List<Path> files;
+  private final Duration debounce;
+  private final Map<Class<?>, Function<PropertyReader, ?>> beanFactories;
+  private final List<Consumer<PropertyReader>> validations;
+  private final List<Consumer<? super Generation>> reloadListeners;
+  private final Consumer<? super Exception> failureListener;
+  private final List<ReloadableHandle> handles = new CopyOnWriteArrayList<>();
+  private final Object reloadLock = new Object();
+
+  private volatile Generation generation;
+  private boolean closed;
+  private WatchService watchService;
+  private Thread watchThread;
+
+  private ReloadingProperties(Builder builder) {
+    this.files = Collections.unmodifiableList(new ArrayList<>(builder.files));
+    this.debounce = builder.debounce;
+    this.beanFactories = Collections.unmodifiableMap(new LinkedHashMap<>(builder.beanFactories));
+    this.validations = Collections.unmodifiableList(new ArrayList<>(builder.validations));
+    this.reloadListeners = Collections.unmodifiableList(new ArrayList<>(builder.reloadListeners));
+    this.failureListener = builder.failureListener;
+  }
+
+  /**
+   * Starts building a {@code ReloadingProperties} for the given files.
+   * @param files The files to read. If the same key appears in more than one file, the value from
+   *   the last of these files is used.
+   * @return A builder, for chaining.
+   * @throws IllegalArgumentException Thrown if no files are provided.
+   */
+  public static Builder watching(Path... files) throws IllegalArgumentException {
+    if (files == null || files.length < 1)
+      throw new IllegalArgumentException("At least one file must be provided");
+    return new Builder(files);
+  }
+
+  /**
+   * Gets the reader for the most recently published values.
+   * @return The current reader.
+   */
+  public PropertyReader getReader() {
+    return generation.reader;
+  }
+
+  /**
+   * Gets the bean of the given type, bound from the most recently published values.
+   * @param type The type of the bean, as registered with {@link Builder#bind(Class, Function)}.
+   * @param <B> The type of the bean.
+   * @return The current bean of the given type.
+   * @throws IllegalArgumentException Thrown if no bean of this type has been registered.
+   */
+  public <B> B getBean(Class<B> type) throws IllegalArgumentException {
+    return generation.getBean(type);
+  }
+
+  /**
+   * Gets the most recently published reader and beans, which were all produced from the same
+   * load of the files.
+   * @return The current generation.
+   */
+  public Generation getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Creates a handle that holds the value read by the given function, and that is updated each
+   * time new values are published. The function is called now, for the current values, and then
+   * once for each reload. If it throws an exception for the new values, the reload is rejected.
+   * @param reading Reads the value from a reader, e.g. {@code reader ->
+   *   reader.getDuration("timeout").get()}.
+   * @param <T> The type of the value.
+   * @return The new handle, which should be closed once it is no longer needed.
+   * @throws RuntimeException Thrown if the value cannot be read from the current values.
+   */
+  public <T> ConfigHandle<T> handle(Function<PropertyReader, ? extends T> reading)
+      throws RuntimeException {
+    synchronized (reloadLock) {
+      return register(new ConfigHandle<>(this, reading, generation.reader));
+    }
+  }
+
+  /**
+   * Creates a handle that holds the value described by the given spec, and that is updated each
+   * time new values are published.
+   * @param spec The spec for the value.
+   * @param <T> The type of the value.
+   * @return The new handle, which should be closed once it is no longer needed.
+   * @throws RuntimeException Thrown if the value cannot be read from the current values.
+   * @see #handle(Function)
+   */
+  public <T> ConfigHandle<T> handle(PropertySpec<T> spec) throws RuntimeException {
+    return handle(spec::get);
+  }
+
+  /**
+   * Creates a handle that holds the {@code int} read by the given function, and that is updated
+   * each time new values are published.
+   * @param reading Reads the value from a reader, e.g. {@code reader -> reader.getIntValue("size")
+   *   .get()}.
+   * @return The new handle, which should be closed once it is no longer needed.
+   * @throws RuntimeException Thrown if the value cannot be read from the current values.
+   * @see #handle(Function)
+   */
+  public IntHandle intHandle(ToIntFunction<PropertyReader> reading) throws RuntimeException {
+    synchronized (reloadLock) {
+      return register(new IntHandle(this, reading, generation.reader));
+    }
+  }
+
+  /**
+   * Creates a handle that holds the {@code long} read by the given function, and that is updated
+   * each time new values are published.
+   * @param reading Reads the value from a reader, e.g. {@code reader ->
+   *   reader.getDurationNanos("timeout").get()}.
+   * @return The new handle, which should be closed once it is no longer needed.
+   * @throws RuntimeException Thrown if the value cannot be read from the current values.
+   * @see #handle(Function)
+   */
+  public LongHandle longHandle(ToLongFunction<PropertyReader> reading) throws RuntimeException {
+    synchronized (reloadLock) {
+      return register(new LongHandle(this, reading, generation.reader));
+    }
+  }
+
+  /**
+   * Creates a handle that holds the {@code double} read by the given function, and that is
+   * updated each time new values are published.
+   * @param reading Reads the value from a reader, e.g. {@code reader ->
+   *   reader.getDoubleValue("ratio").get()}.
+   * @return The new handle, which should be closed once it is no longer needed.
+   * @throws RuntimeException Thrown if the value cannot be read from the current values.
+   * @see #handle(Function)
+   */
+  public DoubleHandle doubleHandle(ToDoubleFunction<PropertyReader> reading)
+      throws RuntimeException {
+    synchronized (reloadLock) {
+      return register(new DoubleHandle(this, reading, generation.reader));
+    }
+  }
+
+  /**
+   * Reads the files again, and publishes the new values if they are valid. This happens
+   * automatically when the files change, but can also be triggered manually.
+   * @return {@code true} if the new values were published, or {@code false} if they were rejected.
+   *   If the values were rejected, the reason is passed to the failure listener. If a reload
+   *   listener throws an exception, the exception is passed to the failure listener too, but the
+   *   values remain published, and the remaining listeners are still called.
+   */
+  public boolean reload() {
+    synchronized (reloadLock) {
+      Generation loaded;
+      try {
+        loaded = load();
+        for (ReloadableHandle handle : handles)
+          handle.stage(loaded.reader);
+      } catch (IOException | RuntimeException e) {
+        reportFailure(e);
+        return false;
+      }
+      generation = loaded;
+      for (ReloadableHandle handle : handles)
+        handle.publish();
+      for (Consumer<? super Generation> listener : reloadListeners) {
+        try {
+          listener.accept(loaded);
+        } catch (RuntimeException e) {
+          reportFailure(e);
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Stops watching the files for changes. The most recently published values remain available. If
+   * a reload that was triggered by a change is in progress, this waits for it to finish, so no
+   * values are published by the watching thread once this method has returned.
+   * @throws IOException Thrown if the underlying {@code WatchService} could not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (reloadLock) {
+      closed = true;
+    }
+    try {
+      if (watchService != null)
+        watchService.close();
+    } finally {
+      if (watchThread != null)
+        stopWatchThread();
+    }
+  }
+
+  private void stopWatchThread() {
+    watchThread.interrupt();
+    if (Thread.currentThread() == watchThread)
+      return;
+    try {
+      watchThread.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Passes the exception to the failure listener. An exception thrown by the failure listener
+   * itself is dropped, as there is nowhere else to report it, and it must not stop the files from
+   * being watched.
+   */
+  private void reportFailure(Exception exception) {
+    if (failureListener == null)
+      return;
+    try {
+      failureListener.accept(exception);
+    } catch (RuntimeException e) {
+      // Dropped
+    }
+  }
+
+  private <H extends ReloadableHandle> H register(H handle) {
+    handles.add(handle);
+    return handle;
+  }
+
+  /**
+   * Stops updating the handle. This waits for any reload in progress to finish, so the handle is
+   * not updated once this method has returned.
+   * @param handle The handle to remove.
+   */
+  void unregister(ReloadableHandle handle) {
+    synchronized (reloadLock) {
+      handles.remove(handle);
+    }
+  }
+
+  private Generation load() throws IOException {
+    PropertySnapshot snapshot;
+    if (files.size() == 1) {
+      snapshot = PropertiesLoader.load(files.get(0));
+    } else {
+      Map<String, String> values = new HashMap<>();
+      for (Path file : files) {
+        PropertySnapshot loaded = PropertiesLoader.load(file);
+        for (String key : loaded.keys())
+          values.put(key, loaded.getProperty(key));
+      }
+      snapshot = PropertySnapshot.of(values);
+    }
+
+    PropertyReader reader = new PropertyReader(snapshot);
+    for (Consumer<PropertyReader> validation : validations)
+      validation.accept(reader);
+
+    Map<Class<?>, Object> beans = new HashMap<>();
+    for (Map.Entry<Class<?>, Function<PropertyReader, ?>> entry : beanFactories.entrySet())
+      beans.put(entry.getKey(), entry.getValue().apply(reader));
+    return new Generation(reader, beans);
+  }
+
+  private void startWatching() throws IOException {
+    Map<Path, Set<Path>> fileNamesByDirectory = new HashMap<>();
+    for (Path file : files) {
+      Path absolute = file.toAbsolutePath();
+      fileNamesByDirectory.computeIfAbsent(absolute.getParent(), directory -> new HashSet<>())
+                          .add(absolute.getFileName());
+    }
+
+    FileSystem fileSystem = files.get(0).toAbsolutePath().getFileSystem();
+    watchService = fileSystem.newWatchService();
+    Map<WatchKey, Set<Path>> fileNamesByKey = new HashMap<>();
+    for (Map.Entry<Path, Set<Path>> entry : fileNamesByDirectory.entrySet()) {
+      WatchKey key = entry.getKey().register(watchService,
+                                             StandardWatchEventKinds.ENTRY_CREATE,
+                                             StandardWatchEventKinds.ENTRY_MODIFY,
+                                             StandardWatchEventKinds.ENTRY_DELETE);
+      fileNamesByKey.put(key, entry.getValue());
+    }
+
+    watchThread = new Thread(() -> watch(fileNamesByKey), "properties-reload");
+    watchThread.setDaemon(true);
+    watchThread.start();
+  }
+
+  private void watch(Map<WatchKey, Set<Path>> fileNamesByKey) {
+    try {
+      // Stop once none of the directories can be watched any more
+      while (!fileNamesByKey.isEmpty()) {
+        // Wait for a change to one of the files, then for the changes to stop
+        if (!isRelevant(watchService.take(), fileNamesByKey))
+          continue;
+        WatchKey key;
+        while ((key = watchService.poll(debounce.toNanos(), TimeUnit.NANOSECONDS)) != null) {
+          // Any activity in the watched directories extends the quiet period
+          isRelevant(key, fileNamesByKey);
+        }
+        try {
+          reloadIfOpen();
+        } catch (RuntimeException e) {
+          // Keep watching, so that later changes are still picked up
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Closed
+    } catch (Error e) {
+      // It may not be safe to continue, but the files are no longer watched, so this must be seen
+      reportFailure(new IllegalStateException("Stopped watching for changes after an error", e));
+      throw e;
+    }
+  }
+
+  private void reloadIfOpen() {
+    synchronized (reloadLock) {
+      if (!closed)
+        reload();
+    }
+  }
+
+  private boolean isRelevant(WatchKey key, Map<WatchKey, Set<Path>> fileNamesByKey) {
+    Set<Path> fileNames = fileNamesByKey.get(key);
+    boolean relevant = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW
+          || (fileNames != null && fileNames.contains((Path) event.context())))
+        relevant = true;
+    }
+    if (!key.reset() && fileNamesByKey.remove(key) != null && !isClosed()) {
+      // The directory has gone, so changes to its files would otherwise be missed silently
+      reportFailure(new IllegalStateException(
+          "Stopped watching for changes in " + key.watchable() + " as it can no longer be watched"));
+    }
+    return relevant;
+  }
+
+  private boolean isClosed() {
+    synchronized (reloadLock) {
+      return closed;
+    }
+  }
+
+  /**
+   * A {@code PropertyReader}, and the beans bound from it, that were published together.
+   */
+  public static final class Generation {
+
+    private final PropertyReader reader;
+    private final Map<Class<?>, Object> beans;
+
+    Generation(PropertyReader reader, Map<Class<?>, Object> beans) {
+      this.reader = reader;
+      this.beans = beans;
+    }
+
+    /**
+     * Gets the reader for this generation's values.
+     * @return The reader.
+     */
+    public PropertyReader getReader() {
+      return reader;
+    }
+
+    /**
+     * Gets the bean of the given type, bound from this generation's values.
+     * @param type The type of the bean, as registered with {@link Builder#bind(Class, Function)}.
+     * @param <B> The type of the bean.
+     * @return The bean of the given type.
+     * @throws IllegalArgumentException Thrown if no bean of this type has been registered.
+     */
+    public <B> B getBean(Class<B> type) throws IllegalArgumentException {
+      Object bean = beans.get(type);
+      if (bean == null)
+        throw new IllegalArgumentException("No bean has been registered for " + type.getName());
+      return type.cast(bean);
+    }
+
+  }
+
+  /**
+   * Builds a {@link ReloadingProperties}.
+   */
+  public static final class Builder {
+
+    private final List<Path> files = new ArrayList<>();
+    private Duration debounce = Duration.ofMillis(200);
+    private final Map<Class<?>, Function<PropertyReader, ?>> beanFactories = new LinkedHashMap<>();
+    private final List<Consumer<PropertyReader>> validations = new ArrayList<>();
+    private final List<Consumer<? super Generation>> reloadListeners = new ArrayList<>();
+    private Consumer<? super Exception> failureListener;
+
+    private Builder(Path... files) {
+      Collections.addAll(this.files, files);
+    }
+
+    /**
+     * Sets how long the files must go without changing before they are reloaded. The default is
+     * 200 milliseconds.
+     * @param debounce The quiet period.
+     * @return {@code this} builder, for chaining.
+     * @throws IllegalArgumentException Thrown if the period is {@code null} or negative.
+     */
+    public Builder debounce(Duration debounce) throws IllegalArgumentException {
+      if (debounce == null || debounce.isNegative())
+        throw new IllegalArgumentException("Debounce period cannot be null or negative");
+      this.debounce = debounce;
+      return this;
+    }
+
+    /**
+     * Registers a bean that should be bound each time the files are loaded. If the factory throws
+     * an exception, e.g. because a value fails a constraint, the new values are rejected.
+     * @param type The type of the bean, used to retrieve it later.
+     * @param factory Creates the bean from a reader, e.g. {@code AppConfig::new}.
+     * @param <B> The type of the bean.
+     * @return {@code this} builder, for chaining.
+     */
+    public <B> Builder bind(Class<B> type, Function<PropertyReader, ? extends B> factory) {
+      beanFactories.put(type, factory);
+      return this;
+    }
+
+    /**
+     * Registers a check that is run each time the files are loaded. If the check throws an
+     * exception, e.g. from {@link org.richardinnocent.propertiestoolkit.Property#get()}, the new
+     * values are rejected.
+     * @param validation The check to run.
+     * @return {@code this} builder, for chaining.
+     */
+    public Builder validate(Consumer<PropertyReader> validation) {
+      validations.add(validation);
+      return this;
+    }
+
+    /**
+     * Registers a listener that is called, on the reloading thread, each time new values are
+     * published. This is not called for the initial load. If the listener throws an exception, the
+     * exception is passed to the failure listener, and the files continue to be watched.
+     * @param listener The listener.
+     * @return {@code this} builder, for chaining.
+     */
+    public Builder onReload(Consumer<? super Generation> listener) {
+      reloadListeners.add(listener);
+      return this;
+    }
+
+    /**
+     * Sets the listener that is called when new values are rejected, either because the files
+     * could not be read or because a validation or bean failed. The previous values remain in
+     * place. It is also called with any exception thrown by a reload listener, and with an {@code
+     * IllegalStateException} if an {@code Error} stops the files from being watched. Any exception
+     * thrown by the failure listener itself is ignored.
+     * @param failureListener The listener.
+     * @return {@code this} builder, for chaining.
+     */
+    public Builder onFailure(Consumer<? super Exception> failureListener) {
+      this.failureListener = failureListener;
+      return this;
+    }
+
+    /**
+     * Loads the files and, if they are valid, starts watching them for changes.
+     * @return The new {@code ReloadingProperties}.
+     * @throws IOException Thrown if the files could not be read, or could not be watched.
+     * @throws RuntimeException Thrown if a validation or bean fails for the initial values.
+     */
+    public ReloadingProperties start() throws IOException {
+      ReloadingProperties properties = new ReloadingProperties(this);
+      properties.generation = properties.load();
+      properties.startWatching();
+      return properties;
+    }
+
+  }
+
+}
@@ -0,0 +1,383 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.PropertyParser;
+
+/**
+ * An immutable set of IPv4 and IPv6 address ranges in CIDR notation, such as {@code 10.0.0.0/8,
+ * 192.168.1.17, 2001:db8::/32}, that is optimised for checking whether an address falls within
+ * any of the ranges. An address without a prefix length is a range of just that address.<br>
+ * <br>
+ * The ranges are held in a binary prefix tree, in which each node has a child for the next bit of
+ * the address, and the nodes at which a range ends are marked. A check walks the bits of the
+ * address until it reaches a marked node (a match) or a missing child (no match), so it takes at
+ * most 32 steps for an IPv4 address and 128 for an IPv6 address, however many ranges there are.
+ * The nodes are held in flat arrays, and checking an IPv4 address, as an {@code int}, a {@code
+ * byte[]} or text, never allocates.<br>
+ * <br>
+ * IPv4 addresses are only matched against IPv4 ranges, and IPv6 addresses against IPv6 ranges.
+ * @see org.richardinnocent.propertiestoolkit.PropertyReader#getCidrSet(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class CidrSet {
+
+  /**
+   * Parses comma-separated text to a {@code CidrSet}. Whitespace around each element is removed,
+   * and blank text is parsed to an empty set. Returns {@code null} if any element is not a valid
+   * address or range.
+   */
+  public static final PropertyParser<CidrSet> PARSER = parser(ListParsers.DEFAULT_DELIMITER);
+
+  private static final int IPV4_ROOT = 0;
+  private static final int IPV6_ROOT = 1;
+
+  /** The children of node {@code n} are at {@code 2n} (for a 0 bit) and {@code 2n + 1}. */
+  private final int[] children;
+  private final boolean[] terminal;
+  private final List<String> ranges;
+
+  private CidrSet(int[] children, boolean[] terminal, List<String> ranges) {
+    this.children = children;
+    this.terminal = terminal;
+    this.ranges = ranges;
+  }
+
+  /**
+   * Creates a set of the given ranges.
+   * @param ranges The ranges, in CIDR notation.
+   * @return The set.
+   * @throws IllegalArgumentException Thrown if any of the ranges is not valid.
+   */
+  public static CidrSet of(String... ranges) throws IllegalArgumentException {
+    Builder builder = new Builder();
+    for (String range : ranges) {
+      if (!builder.add(range, 0, range.length()))
+        throw new IllegalArgumentException("Invalid CIDR range: " + range);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a parser for text separated by the given delimiter, in the same manner as {@link
+   * #PARSER}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<CidrSet> parser(char delimiter) {
+    return text -> {
+      Builder builder = new Builder();
+      if (text.trim().isEmpty())
+        return builder.build();
+
+      int start = 0;
+      while (start <= text.length()) {
+        int end = text.indexOf(delimiter, start);
+        if (end < 0)
+          end = text.length();
+        int from = start;
+        int to = end;
+        while (from < to && text.charAt(from) <= ' ')
+          from++;
+        while (to > from && text.charAt(to - 1) <= ' ')
+          to--;
+        if (!builder.add(text, from, to))
+          return null;
+        start = end + 1;
+      }
+      return builder.build();
+    };
+  }
+
+  /**
+   * Checks whether an IPv4 address falls within any of the IPv4 ranges.
+   * @param address The address, with the first octet in the highest byte.
+   * @return {@code true} if the address is within one of the ranges.
+   */
+  public boolean containsIPv4(int address) {
+    int node = IPV4_ROOT;
+    for (int bit = 0; bit < 32; bit++) {
+      if (terminal[node])
+        return true;
+      node = children[2 * node + ((address >>> (31 - bit)) & 1)];
+      if (node == 0)
+        return false;
+    }
+    return terminal[node];
+  }
+
+  /**
+   * Checks whether an address falls within any of the ranges.
+   * @param address The address: 4 bytes for IPv4, or 16 for IPv6, as returned by {@link
+   * InetAddress#getAddress()}.
+   * @return {@code true} if the address is within one of the ranges, or {@code false} if it isn't
+   * or the address is not 4 or 16 bytes long.
+   */
+  public boolean contains(byte[] address) {
+    int root;
+    if (address.length == 4)
+      root = IPV4_ROOT;
+    else if (address.length == 16)
+      root = IPV6_ROOT;
+    else
+      return false;
+
+    int node = root;
+    for (int bit = 0; bit < address.length * 8; bit++) {
+      if (terminal[node])
+        return true;
+      node = children[2 * node + ((address[bit >>> 3] >>> (7 - (bit & 7))) & 1)];
+      if (node == 0)
+        return false;
+    }
+    return terminal[node];
+  }
+
+  /**
+   * Checks whether an address falls within any of the ranges.
+   * @param address The address.
+   * @return {@code true} if the address is within one of the ranges.
+   */
+  public boolean contains(InetAddress address) {
+    return contains(address.getAddress());
+  }
+
+  /**
+   * Checks whether an address, written as text, falls within any of the ranges. The address is
+   * parsed without any name lookup, and an IPv4 address is parsed without allocating.
+   * @param address The address, such as {@code 10.1.2.3} or {@code 2001:db8::1}.
+   * @return {@code true} if the address is within one of the ranges, or {@code false} if it isn't
+   * or it is not a valid address.
+   */
+  public boolean contains(String address) {
+    long ipv4 = parseIPv4(address, 0, address.length());
+    if (ipv4 >= 0)
+      return containsIPv4((int) ipv4);
+    byte[] ipv6 = parseIPv6(address, 0, address.length());
+    return ipv6 != null && contains(ipv6);
+  }
+
+  /**
+   * Gets the number of ranges in the set, including any that are covered by other ranges.
+   * @return The number of ranges.
+   */
+  public int size() {
+    return ranges.size();
+  }
+
+  /**
+   * Checks whether the set is empty.
+   * @return {@code true} if the set contains no ranges.
+   */
+  public boolean isEmpty() {
+    return ranges.isEmpty();
+  }
+
+  /**
+   * Gets the ranges, as they were given.
+   * @return An unmodifiable list of the ranges.
+   */
+  public List<String> getRanges() {
+    return ranges;
+  }
+
+  @Override
+  public String toString() {
+    return ranges.toString();
+  }
+
+  /**
+   * Parses an IPv4 address in dotted-decimal notation.
+   * @return The address as an unsigned value, or {@code -1} if the text is not a valid address.
+   */
+  private static long parseIPv4(String text, int start, int end) {
+    long address = 0;
+    int octets = 0;
+    int i = start;
+    while (octets < 4) {
+      int octetStart = i;
+      int octet = 0;
+      while (i < end && i - octetStart < 3 && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+        octet = octet * 10 + (text.charAt(i++) - '0');
+      if (i == octetStart || octet > 255)
+        return -1;
+      address = (address << 8) | octet;
+      if (++octets < 4) {
+        if (i == end || text.charAt(i) != '.')
+          return -1;
+        i++;
+      }
+    }
+    return i == end ? address : -1;
+  }
+
+  /**
+   * Parses an IPv6 address, which may contain a single {@code ::} and may end with an IPv4
+   * address.
+   * @return The 16 bytes of the address, or {@code null} if the text is not a valid address.
+   */
+  private static byte[] parseIPv6(String text, int start, int end) {
+    int[] groups = new int[8];
+    int gap = text.indexOf("::", start);
+    if (gap >= end - 1)
+      gap = -1;
+
+    int count;
+    if (gap < 0) {
+      count = parseGroups(text, start, end, groups, true);
+      if (count != 8)
+        return null;
+    } else {
+      int leading = parseGroups(text, start, gap, groups, false);
+      if (leading < 0)
+        return null;
+      int[] trailing = new int[8];
+      int trailingCount = parseGroups(text, gap + 2, end, trailing, true);
+      if (trailingCount < 0 || leading + trailingCount > 7)
+        return null;
+      System.arraycopy(trailing, 0, groups, 8 - trailingCount, trailingCount);
+    }
+
+    byte[] address = new byte[16];
+    for (int i = 0; i < 8; i++) {
+      address[2 * i] = (byte) (groups[i] >>> 8);
+      address[2 * i + 1] = (byte) groups[i];
+    }
+    return address;
+  }
+
+  /**
+   * Parses colon-separated groups of up to four hex digits. If {@code ipv4Allowed}, the last
+   * group may instead be an IPv4 address, which counts as two groups.
+   * @return The number of groups parsed, or {@code -1} if the text is not valid.
+   */
+  private static int parseGroups(String text, int start, int end, int[] groups,
+                                 boolean ipv4Allowed) {
+    int count = 0;
+    if (start == end)
+      return count;
+
+    int i = start;
+    while (true) {
+      int groupStart = i;
+      int group = 0;
+      while (i < end && i - groupStart < 4 && hexDigit(text.charAt(i)) >= 0)
+        group = (group << 4) | hexDigit(text.charAt(i++));
+
+      if (i < end && text.charAt(i) == '.') {
+        if (!ipv4Allowed)
+          return -1;
+        long ipv4 = parseIPv4(text, groupStart, end);
+        if (ipv4 < 0 || count > 6)
+          return -1;
+        groups[count++] = (int) (ipv4 >>> 16);
+        groups[count++] = (int) (ipv4 & 0xFFFF);
+        return count;
+      }
+      if (i == groupStart || count == 8)
+        return -1;
+      groups[count++] = group;
+      if (i == end)
+        return count;
+      if (text.charAt(i) != ':' || i + 1 == end)
+        return -1;
+      i++;
+    }
+  }
+
+  /**
+   * Gets the value of an ASCII hex digit. {@link Character#digit(char, int)} also accepts other
+   * Unicode digits, such as fullwidth digits, which are not valid in an address.
+   * @return The value of the digit, or {@code -1} if the character is not an ASCII hex digit.
+   */
+  private static int hexDigit(char c) {
+    return c < 0x80 ? Character.digit(c, 16) : -1;
+  }
+
+  /**
+   * Builds the prefix tree, growing its arrays as nodes are added.
+   */
+  private static final class Builder {
+
+    private int[] children = new int[64];
+    private boolean[] terminal = new boolean[32];
+    private int nodes = 2;
+    private final List<String> ranges = new ArrayList<>();
+
+    private boolean add(String text, int start, int end) {
+      int slash = text.indexOf('/', start);
+      if (slash >= end)
+        slash = -1;
+      int addressEnd = slash < 0 ? end : slash;
+
+      byte[] address;
+      long ipv4 = parseIPv4(text, start, addressEnd);
+      if (ipv4 >= 0) {
+        address = new byte[] {
+            (byte) (ipv4 >>> 24), (byte) (ipv4 >>> 16), (byte) (ipv4 >>> 8), (byte) ipv4
+        };
+      } else {
+        address = parseIPv6(text, start, addressEnd);
+        if (address == null)
+          return false;
+      }
+
+      int prefixLength = address.length * 8;
+      if (slash >= 0) {
+        if (slash + 1 == end || end - slash > 4)
+          return false;
+        prefixLength = 0;
+        for (int i = slash + 1; i < end; i++) {
+          char c = text.charAt(i);
+          if (c < '0' || c > '9')
+            return false;
+          prefixLength = prefixLength * 10 + (c - '0');
+        }
+        if (prefixLength > address.length * 8)
+          return false;
+      }
+
+      insert(address, prefixLength);
+      ranges.add(text.substring(start, end));
+      return true;
+    }
+
+    private void insert(byte[] address, int prefixLength) {
+      int node = address.length == 4 ? IPV4_ROOT : IPV6_ROOT;
+      for (int bit = 0; bit < prefixLength; bit++) {
+        if (terminal[node])
+          return;
+        int slot = 2 * node + ((address[bit >>> 3] >>> (7 - (bit & 7))) & 1);
+        if (children[slot] == 0) {
+          // newNode() may replace the array, so it must be called before the array is read
+          int child = newNode();
+          children[slot] = child;
+        }
+        node = children[slot];
+      }
+      terminal[node] = true;
+    }
+
+    private int newNode() {
+      if (nodes == terminal.length) {
+        terminal = Arrays.copyOf(terminal, nodes * 2);
+        children = Arrays.copyOf(children, nodes * 4);
+      }
+      return nodes++;
+    }
+
+    private CidrSet build() {
+      return new CidrSet(Arrays.copyOf(children, nodes * 2),
+                         Arrays.copyOf(terminal, nodes),
+                         Collections.unmodifiableList(new ArrayList<>(ranges)));
+    }
+
+  }
+
+}
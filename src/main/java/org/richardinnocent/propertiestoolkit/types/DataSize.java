@@ -0,0 +1,151 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+/**
+ * An immutable amount of data, such as a buffer size, held as a number of bytes. The larger units
+ * are binary, so a kilobyte is 1,024 bytes, a megabyte is 1,024 kilobytes, and so on.
+ * @see org.richardinnocent.propertiestoolkit.UnitParsers#DATA_SIZE
+ * @see org.richardinnocent.propertiestoolkit.PropertyReader#getDataSize(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+  /**
+   * The number of bytes in a kilobyte.
+   */
+  public static final long BYTES_PER_KB = 1L << 10;
+
+  /**
+   * The number of bytes in a megabyte.
+   */
+  public static final long BYTES_PER_MB = 1L << 20;
+
+  /**
+   * The number of bytes in a gigabyte.
+   */
+  public static final long BYTES_PER_GB = 1L << 30;
+
+  /**
+   * The number of bytes in a terabyte.
+   */
+  public static final long BYTES_PER_TB = 1L << 40;
+
+  private static final String[] UNITS = {"B", "KB", "MB", "GB", "TB"};
+
+  private final long bytes;
+
+  private DataSize(long bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Creates a size of the given number of bytes.
+   * @param bytes The number of bytes.
+   * @return The size.
+   * @throws IllegalArgumentException Thrown if the number of bytes is negative.
+   */
+  public static DataSize ofBytes(long bytes) throws IllegalArgumentException {
+    if (bytes < 0)
+      throw new IllegalArgumentException("Size cannot be negative: " + bytes);
+    return new DataSize(bytes);
+  }
+
+  /**
+   * Creates a size of the given number of kilobytes.
+   * @param kilobytes The number of kilobytes.
+   * @return The size.
+   * @throws IllegalArgumentException Thrown if the number of kilobytes is negative.
+   * @throws ArithmeticException Thrown if the number of bytes would overflow a {@code long}.
+   */
+  public static DataSize ofKilobytes(long kilobytes)
+      throws IllegalArgumentException, ArithmeticException {
+    return ofBytes(Math.multiplyExact(kilobytes, BYTES_PER_KB));
+  }
+
+  /**
+   * Creates a size of the given number of megabytes.
+   * @param megabytes The number of megabytes.
+   * @return The size.
+   * @throws IllegalArgumentException Thrown if the number of megabytes is negative.
+   * @throws ArithmeticException Thrown if the number of bytes would overflow a {@code long}.
+   */
+  public static DataSize ofMegabytes(long megabytes)
+      throws IllegalArgumentException, ArithmeticException {
+    return ofBytes(Math.multiplyExact(megabytes, BYTES_PER_MB));
+  }
+
+  /**
+   * Creates a size of the given number of gigabytes.
+   * @param gigabytes The number of gigabytes.
+   * @return The size.
+   * @throws IllegalArgumentException Thrown if the number of gigabytes is negative.
+   * @throws ArithmeticException Thrown if the number of bytes would overflow a {@code long}.
+   */
+  public static DataSize ofGigabytes(long gigabytes)
+      throws IllegalArgumentException, ArithmeticException {
+    return ofBytes(Math.multiplyExact(gigabytes, BYTES_PER_GB));
+  }
+
+  /**
+   * Gets the size in bytes.
+   * @return The number of bytes.
+   */
+  public long toBytes() {
+    return bytes;
+  }
+
+  /**
+   * Gets the size in whole kilobytes, rounded down.
+   * @return The number of kilobytes.
+   */
+  public long toKilobytes() {
+    return bytes / BYTES_PER_KB;
+  }
+
+  /**
+   * Gets the size in whole megabytes, rounded down.
+   * @return The number of megabytes.
+   */
+  public long toMegabytes() {
+    return bytes / BYTES_PER_MB;
+  }
+
+  /**
+   * Gets the size in whole gigabytes, rounded down.
+   * @return The number of gigabytes.
+   */
+  public long toGigabytes() {
+    return bytes / BYTES_PER_GB;
+  }
+
+  @Override
+  public int compareTo(DataSize other) {
+    return Long.compare(bytes, other.bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof DataSize && ((DataSize) o).bytes == bytes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(bytes);
+  }
+
+  /**
+   * Gets the size in the largest unit that represents it exactly, e.g. {@code 512MB}.
+   * @return The size as text.
+   */
+  @Override
+  public String toString() {
+    int unit = 0;
+    long value = bytes;
+    while (unit < UNITS.length - 1 && value != 0 && (value & (BYTES_PER_KB - 1)) == 0) {
+      value >>= 10;
+      unit++;
+    }
+    return value + UNITS[unit];
+  }
+
+}
@@ -0,0 +1,174 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.util.Arrays;
+
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.PropertyParser;
+
+/**
+ * An immutable set of {@code int}s, such as a list of blocked IDs, that is optimised for checking
+ * membership. If the values are dense enough that a bitset over their range needs no more {@code
+ * long}s than there are values, {@link #contains(int)} is a single lookup in that bitset, which
+ * then takes no more memory than the hash table it replaces. Otherwise, the values are held in an
+ * open-addressing hash table of primitives that is never more than half full, so {@link
+ * #contains(int)} is usually a single probe. Neither check boxes the value or allocates.
+ * @see org.richardinnocent.propertiestoolkit.PropertyReader#getIntSet(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class IntSet {
+
+  /**
+   * Parses comma-separated text, such as {@code 4, 8, 15}, to an {@code IntSet}. Blank text is
+   * parsed to an empty set. Returns {@code null} if any element cannot be parsed.
+   */
+  public static final PropertyParser<IntSet> PARSER = parser(ListParsers.DEFAULT_DELIMITER);
+
+  private static final IntSet EMPTY = new IntSet(new int[0]);
+
+  private final int[] values;
+  private final long[] bits;
+  private final int min;
+  /** The hash table, in which 0 marks an empty slot, so 0 itself is recorded separately. */
+  private final int[] table;
+  private final boolean containsZero;
+
+  private IntSet(int[] sortedValues) {
+    this.values = sortedValues;
+    this.min = sortedValues.length == 0 ? 0 : sortedValues[0];
+    long span = sortedValues.length == 0 ? 0 : (long) sortedValues[sortedValues.length - 1] - min;
+    if ((span >>> 6) < Math.max(sortedValues.length, 1)) {
+      long[] bits = new long[(int) (span >>> 6) + 1];
+      for (int value : sortedValues) {
+        long offset = (long) value - min;
+        bits[(int) (offset >>> 6)] |= 1L << offset;
+      }
+      this.bits = bits;
+      this.table = null;
+      this.containsZero = false;
+      return;
+    }
+
+    int[] table = new int[Integer.highestOneBit(sortedValues.length * 2 - 1) << 1];
+    boolean containsZero = false;
+    for (int value : sortedValues) {
+      if (value == 0) {
+        containsZero = true;
+        continue;
+      }
+      int index = hash(value) & (table.length - 1);
+      while (table[index] != 0)
+        index = (index + 1) & (table.length - 1);
+      table[index] = value;
+    }
+    this.bits = null;
+    this.table = table;
+    this.containsZero = containsZero;
+  }
+
+  /**
+   * Creates a set of the given values. Duplicates are ignored.
+   * @param values The values.
+   * @return The set.
+   */
+  public static IntSet of(int... values) {
+    if (values.length == 0)
+      return EMPTY;
+
+    int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int size = 1;
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] != sorted[size - 1])
+        sorted[size++] = sorted[i];
+    }
+    return new IntSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+  }
+
+  /**
+   * Creates a parser for text separated by the given delimiter, in the same manner as {@link
+   * #PARSER}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<IntSet> parser(char delimiter) {
+    PropertyParser<int[]> arrayParser = ListParsers.intArray(delimiter);
+    return text -> {
+      if (text.trim().isEmpty())
+        return EMPTY;
+      int[] values = arrayParser.parseOrNull(text);
+      return values == null ? null : of(values);
+    };
+  }
+
+  /**
+   * Checks whether the set contains the given value.
+   * @param value The value to check for.
+   * @return {@code true} if the set contains the {@code value}.
+   */
+  public boolean contains(int value) {
+    if (bits != null) {
+      long offset = (long) value - min;
+      return offset >= 0
+          && (offset >>> 6) < bits.length
+          && (bits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    if (value == 0)
+      return containsZero;
+    int mask = table.length - 1;
+    int index = hash(value) & mask;
+    int existing;
+    while ((existing = table[index]) != 0) {
+      if (existing == value)
+        return true;
+      index = (index + 1) & mask;
+    }
+    return false;
+  }
+
+  /**
+   * Gets the number of values in the set.
+   * @return The number of values.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Checks whether the set is empty.
+   * @return {@code true} if the set contains no values.
+   */
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Gets the values in the set, in ascending order.
+   * @return A new array of the values.
+   */
+  public int[] toArray() {
+    return values.clone();
+  }
+
+  private static int hash(int value) {
+    int hash = value * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof IntSet && Arrays.equals(values, ((IntSet) o).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+}
@@ -0,0 +1,172 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.util.Arrays;
+
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.PropertyParser;
+
+/**
+ * An immutable set of {@code long}s that is optimised for checking membership, in the same manner
+ * as {@link IntSet}: a bitset lookup if a bitset over the values' range needs no more {@code
+ * long}s than there are values, or otherwise a probe of an open-addressing hash table of
+ * primitives. Neither check boxes the value or allocates.
+ * @see org.richardinnocent.propertiestoolkit.PropertyReader#getLongSet(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class LongSet {
+
+  /**
+   * Parses comma-separated text to a {@code LongSet}. Blank text is parsed to an empty set.
+   * Returns {@code null} if any element cannot be parsed.
+   */
+  public static final PropertyParser<LongSet> PARSER = parser(ListParsers.DEFAULT_DELIMITER);
+
+  private static final LongSet EMPTY = new LongSet(new long[0]);
+
+  private final long[] values;
+  private final long[] bits;
+  /** The hash table, in which 0 marks an empty slot, so 0 itself is recorded separately. */
+  private final long[] table;
+  private final boolean containsZero;
+
+  private LongSet(long[] sortedValues) {
+    this.values = sortedValues;
+    long span =
+        sortedValues.length == 0 ? 0 : sortedValues[sortedValues.length - 1] - sortedValues[0];
+    // A negative span means that the subtraction overflowed, so the values can't be dense
+    if (span >= 0 && (span >>> 6) < Math.max(sortedValues.length, 1)) {
+      long[] bits = new long[(int) (span >>> 6) + 1];
+      for (long value : sortedValues) {
+        long offset = value - sortedValues[0];
+        bits[(int) (offset >>> 6)] |= 1L << offset;
+      }
+      this.bits = bits;
+      this.table = null;
+      this.containsZero = false;
+      return;
+    }
+
+    long[] table = new long[Integer.highestOneBit(sortedValues.length * 2 - 1) << 1];
+    boolean containsZero = false;
+    for (long value : sortedValues) {
+      if (value == 0) {
+        containsZero = true;
+        continue;
+      }
+      int index = hash(value) & (table.length - 1);
+      while (table[index] != 0)
+        index = (index + 1) & (table.length - 1);
+      table[index] = value;
+    }
+    this.bits = null;
+    this.table = table;
+    this.containsZero = containsZero;
+  }
+
+  /**
+   * Creates a set of the given values. Duplicates are ignored.
+   * @param values The values.
+   * @return The set.
+   */
+  public static LongSet of(long... values) {
+    if (values.length == 0)
+      return EMPTY;
+
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int size = 1;
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] != sorted[size - 1])
+        sorted[size++] = sorted[i];
+    }
+    return new LongSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+  }
+
+  /**
+   * Creates a parser for text separated by the given delimiter, in the same manner as {@link
+   * #PARSER}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<LongSet> parser(char delimiter) {
+    PropertyParser<long[]> arrayParser = ListParsers.longArray(delimiter);
+    return text -> {
+      if (text.trim().isEmpty())
+        return EMPTY;
+      long[] values = arrayParser.parseOrNull(text);
+      return values == null ? null : of(values);
+    };
+  }
+
+  /**
+   * Checks whether the set contains the given value.
+   * @param value The value to check for.
+   * @return {@code true} if the set contains the {@code value}.
+   */
+  public boolean contains(long value) {
+    if (bits != null) {
+      if (values.length == 0 || value < values[0] || value > values[values.length - 1])
+        return false;
+      long offset = value - values[0];
+      return (bits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    if (value == 0)
+      return containsZero;
+    int mask = table.length - 1;
+    int index = hash(value) & mask;
+    long existing;
+    while ((existing = table[index]) != 0) {
+      if (existing == value)
+        return true;
+      index = (index + 1) & mask;
+    }
+    return false;
+  }
+
+  /**
+   * Gets the number of values in the set.
+   * @return The number of values.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Checks whether the set is empty.
+   * @return {@code true} if the set contains no values.
+   */
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Gets the values in the set, in ascending order.
+   * @return A new array of the values.
+   */
+  public long[] toArray() {
+    return values.clone();
+  }
+
+  private static int hash(long value) {
+    int hash = (int) (value ^ (value >>> 32)) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof LongSet && Arrays.equals(values, ((LongSet) o).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+}
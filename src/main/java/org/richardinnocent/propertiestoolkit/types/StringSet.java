@@ -0,0 +1,178 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.richardinnocent.propertiestoolkit.ListParsers;
+import org.richardinnocent.propertiestoolkit.PropertyParser;
+
+/**
+ * An immutable set of {@code String}s, such as a list of allowed hosts, that is optimised for
+ * checking membership. The values are held in an open-addressing hash table that is never more
+ * than half full, so {@link #contains(String)} is usually a single probe, and never allocates.
+ * @see org.richardinnocent.propertiestoolkit.PropertyReader#getStringSet(String)
+ * @since 3.1.0
+ * @author RichardInnocent
+ */
+public final class StringSet {
+
+  /**
+   * Parses comma-separated text, such as {@code alpha, beta}, to a {@code StringSet}. Whitespace
+   * around each element is removed, and empty elements are ignored, so blank text is parsed to an
+   * empty set.
+   */
+  public static final PropertyParser<StringSet> PARSER = parser(ListParsers.DEFAULT_DELIMITER);
+
+  private final String[] table;
+  /**
+   * The hash of the value in each slot, or 0 if the slot is empty. A probe only reads the values
+   * whose hashes match, so a check for a missing value usually reads just this array.
+   */
+  private final int[] hashes;
+  private final List<String> values;
+
+  private StringSet(Collection<String> values) {
+    int capacity = Integer.highestOneBit(Math.max(values.size(), 1) * 2 - 1) << 1;
+    String[] table = new String[capacity];
+    int[] hashes = new int[capacity];
+    String[] distinct = new String[values.size()];
+    int size = 0;
+    for (String value : values) {
+      int hash = hash(value);
+      int index = indexOf(table, hashes, value, hash);
+      if (hashes[index] == 0) {
+        table[index] = value;
+        hashes[index] = hash;
+        distinct[size++] = value;
+      }
+    }
+    this.table = table;
+    this.hashes = hashes;
+    this.values = Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(distinct, size)));
+  }
+
+  /**
+   * Creates a set of the given values. Duplicates are ignored.
+   * @param values The values, none of which may be {@code null}.
+   * @return The set.
+   * @throws NullPointerException Thrown if any of the values is {@code null}.
+   */
+  public static StringSet of(String... values) throws NullPointerException {
+    return of(Arrays.asList(values));
+  }
+
+  /**
+   * Creates a set of the given values. Duplicates are ignored.
+   * @param values The values, none of which may be {@code null}.
+   * @return The set.
+   * @throws NullPointerException Thrown if any of the values is {@code null}.
+   */
+  public static StringSet of(Collection<String> values) throws NullPointerException {
+    return new StringSet(values);
+  }
+
+  /**
+   * Creates a parser for text separated by the given delimiter, in the same manner as {@link
+   * #PARSER}.
+   * @param delimiter The delimiter between elements.
+   * @return The parser.
+   */
+  public static PropertyParser<StringSet> parser(char delimiter) {
+    PropertyParser<List<String>> listParser = ListParsers.stringList(delimiter);
+    return text -> {
+      List<String> elements = listParser.parseOrNull(text);
+      String[] values = new String[elements.size()];
+      int size = 0;
+      for (String element : elements) {
+        if (!element.isEmpty())
+          values[size++] = element;
+      }
+      return new StringSet(Arrays.asList(values).subList(0, size));
+    };
+  }
+
+  /**
+   * Checks whether the set contains the given value.
+   * @param value The value to check for.
+   * @return {@code true} if the set contains the {@code value}, or {@code false} if it doesn't or
+   * the {@code value} is {@code null}.
+   */
+  public boolean contains(String value) {
+    return value != null && hashes[indexOf(table, hashes, value, hash(value))] != 0;
+  }
+
+  /**
+   * Gets the number of values in the set.
+   * @return The number of values.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Checks whether the set is empty.
+   * @return {@code true} if the set contains no values.
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * Gets the values in the set, in the order in which they were first given.
+   * @return An unmodifiable list of the values.
+   */
+  public List<String> toList() {
+    return values;
+  }
+
+  /**
+   * Finds the slot that holds the value, or the empty slot at which it would be inserted.
+   */
+  private static int indexOf(String[] table, int[] hashes, String value, int hash) {
+    int mask = table.length - 1;
+    int index = hash & mask;
+    int existing;
+    while ((existing = hashes[index]) != 0 && (existing != hash || !table[index].equals(value)))
+      index = (index + 1) & mask;
+    return index;
+  }
+
+  /**
+   * Gets the hash of a value, which is never 0, as that marks an empty slot.
+   */
+  private static int hash(String value) {
+    int hash = value.hashCode() * 0x9E3779B9;
+    hash ^= hash >>> 16;
+    return hash == 0 ? 1 : hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof StringSet))
+      return false;
+    StringSet other = (StringSet) o;
+    if (other.size() != size())
+      return false;
+    for (String value : values) {
+      if (!other.contains(value))
+        return false;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (String value : values)
+      hashCode += value.hashCode();
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+
+}
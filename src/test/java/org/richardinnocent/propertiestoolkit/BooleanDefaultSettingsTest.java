@@ -0,0 +1,40 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class BooleanDefaultSettingsTest {
+
+  private static final String KEY = "key";
+  private static final String VALUE = "false";
+
+  private final Map<String, String> taskMap = new HashMap<>();
+  private final BooleanDefaultSettings settings = new BooleanDefaultSettings();
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConditionsCantBeEmpty() {
+    settings.when();
+  }
+
+  @Test
+  public void testSpecifiedConditionAppliesTaskAndReturnsValue() {
+    settings.when(DefaultCondition.values())
+            .thenDo(taskMap::put)
+            .thenReturn(true);
+    assertTrue(settings.apply(DefaultCondition.IS_INVALID, KEY, VALUE));
+    assertEquals(VALUE, taskMap.get(KEY));
+  }
+
+  @Test
+  public void testUnspecifiedConditionIsNotHandled() {
+    assertFalse(settings.handles(DefaultCondition.IS_EMPTY));
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class BooleanPropertyTest {
+
+  private static final String KEY = "key";
+
+  @Test
+  public void testBasicParsing() {
+    assertTrue(new BooleanProperty(KEY, "true").get());
+    assertTrue(new BooleanProperty(KEY, "TRUE").get());
+    assertFalse(new BooleanProperty(KEY, "false").get());
+  }
+
+  @Test
+  public void testUnrecognisedValueIsFalse() {
+    assertFalse(new BooleanProperty(KEY, "yes").get());
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testEmptyPropertyWithNoDefault() {
+    new BooleanProperty(KEY, null).get();
+  }
+
+  @Test
+  public void testEmptyPropertyWithDefault() {
+    BooleanDefaultSettings settings = new BooleanDefaultSettings().when(DefaultCondition.IS_EMPTY)
+                                                                  .thenReturn(true);
+    assertTrue(new BooleanProperty(KEY, "").withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testInvalidValueWithNoDefault() {
+    new BooleanProperty(KEY, "false").addConstraint(value -> value).get();
+  }
+
+  @Test
+  public void testInvalidValueWithDefault() {
+    BooleanDefaultSettings settings = new BooleanDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                                  .thenReturn(true);
+    assertTrue(new BooleanProperty(KEY, "false")
+                   .addConstraint(null)
+                   .addConstraint(value -> value)
+                   .withDefaultSettings(settings)
+                   .get());
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(KEY + ": true", new BooleanProperty(KEY, "true").toString());
+  }
+
+}
@@ -0,0 +1,186 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class CachingPropertyReaderTest {
+
+  private static final String KEY = "key";
+
+  private final AtomicInteger parseCount = new AtomicInteger();
+  private final Function<String, StringBuilder> countingParser = text -> {
+    parseCount.incrementAndGet();
+    return new StringBuilder(text);
+  };
+
+  private final Properties properties = new Properties();
+  private CachingPropertyReader reader;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    properties.setProperty(KEY, "value");
+    reader = new CachingPropertyReader(properties);
+  }
+
+  @After
+  public void tearDown() {
+    if (executor != null)
+      executor.shutdownNow();
+  }
+
+  @Test
+  public void testValueIsOnlyParsedOnce() {
+    StringBuilder first = reader.getCustom(KEY, countingParser).get();
+    StringBuilder second = reader.getCustom(KEY, countingParser).get();
+    assertEquals("value", first.toString());
+    assertSame(first, second);
+    assertEquals(1, parseCount.get());
+  }
+
+  @Test
+  public void testDifferentParsersAreCachedSeparately() {
+    properties.setProperty(KEY, "12");
+    assertEquals(Integer.valueOf(12), reader.getInt(KEY).get());
+    assertEquals(Long.valueOf(12L), reader.getLong(KEY).get());
+    assertEquals("12", reader.getString(KEY).get());
+  }
+
+  @Test
+  public void testChangedValueIsParsedAgain() {
+    reader.getCustom(KEY, countingParser).get();
+    properties.setProperty(KEY, "changed");
+    assertEquals("changed", reader.getCustom(KEY, countingParser).get().toString());
+    assertEquals(2, parseCount.get());
+  }
+
+  @Test
+  public void testFailuresAreCached() {
+    Function<String, Integer> failingParser = text -> {
+      parseCount.incrementAndGet();
+      throw new IllegalStateException("Test exception");
+    };
+
+    Throwable[] causes = new Throwable[3];
+    for (int i = 0; i < causes.length; i++) {
+      try {
+        reader.getCustom(KEY, failingParser).get();
+        fail("Expected an InvalidTypeException");
+      } catch (InvalidTypeException e) {
+        causes[i] = e.getCause();
+      }
+    }
+    assertEquals(1, parseCount.get());
+    assertTrue(causes[0] instanceof IllegalStateException);
+    assertTrue(causes[1] instanceof IllegalArgumentException);
+    assertTrue(causes[1].getMessage().contains("Test exception"));
+  }
+
+  @Test
+  public void testCachedFailureIsNotSharedBetweenReads() {
+    Function<String, Integer> failingParser = text -> {
+      throw new IllegalStateException("Test exception");
+    };
+
+    Throwable[] causes = new Throwable[3];
+    for (int i = 0; i < causes.length; i++) {
+      try {
+        reader.getCustom(KEY, failingParser).get();
+        fail("Expected an InvalidTypeException");
+      } catch (InvalidTypeException e) {
+        causes[i] = e.getCause();
+      }
+    }
+    assertNotSame(causes[0], causes[1]);
+    assertNotSame(causes[1], causes[2]);
+  }
+
+  @Test
+  public void testPropertyParserFailuresRouteToDefaults() {
+    DefaultSettings<Integer> settings = new DefaultSettings<Integer>()
+        .when(DefaultCondition.PARSE_FAILS)
+        .thenReturn(-1);
+    assertEquals(Integer.valueOf(-1), reader.getInt(KEY).withDefaultSettings(settings).get());
+    assertEquals(Integer.valueOf(-1), reader.getInt(KEY).withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testPropertyParserFailuresThrowWithoutDefaults() {
+    reader.getInt(KEY).get();
+  }
+
+  @Test
+  public void testConstraintsAreAppliedToCachedValues() {
+    properties.setProperty(KEY, "5");
+    assertEquals(Integer.valueOf(5), reader.getInt(KEY).get());
+    try {
+      reader.getInt(KEY).addConstraint(value -> value > 10).get();
+      fail("Expected a ValidationException");
+    } catch (ValidationException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testInvalidate() {
+    StringBuilder first = reader.getCustom(KEY, countingParser).get();
+    reader.invalidate();
+    StringBuilder second = reader.getCustom(KEY, countingParser).get();
+    assertNotSame(first, second);
+    assertEquals(2, parseCount.get());
+  }
+
+  @Test
+  public void testSwap() {
+    reader.getCustom(KEY, countingParser).get();
+
+    Properties replacement = new Properties();
+    replacement.setProperty(KEY, "replacement");
+    replacement.setProperty("int", "3");
+    reader.swap(replacement);
+
+    assertEquals("replacement", reader.getCustom(KEY, countingParser).get().toString());
+    assertEquals(3, reader.getIntValue("int").get());
+    assertEquals(2, parseCount.get());
+
+    reader.swap(PropertySnapshot.of(properties));
+    assertEquals("value", reader.getString(KEY).get());
+  }
+
+  @Test
+  public void testConcurrentFirstAccessSharesOneResult() throws Exception {
+    int threads = 8;
+    executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    @SuppressWarnings("unchecked")
+    Future<StringBuilder>[] results = new Future[threads];
+    for (int i = 0; i < threads; i++) {
+      results[i] = executor.submit(() -> {
+        start.await();
+        return reader.getCustom(KEY, countingParser).get();
+      });
+    }
+    start.countDown();
+
+    StringBuilder first = results[0].get(10, TimeUnit.SECONDS);
+    for (Future<StringBuilder> result : results)
+      assertSame(first, result.get(10, TimeUnit.SECONDS));
+  }
+
+}
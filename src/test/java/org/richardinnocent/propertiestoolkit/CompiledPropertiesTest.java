@@ -0,0 +1,82 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class CompiledPropertiesTest {
+
+  private PropertyKeyRegistry registry;
+  private PropertyKey<Integer> intKey;
+  private PropertyKey<Long> longKey;
+  private PropertyKey<Double> doubleKey;
+  private PropertyKey<Boolean> booleanKey;
+  private PropertyKey<Integer> nullableKey;
+  private Properties properties;
+
+  @Before
+  public void setUp() {
+    registry = new PropertyKeyRegistry();
+    intKey = registry.register("int", NumberParsers.INTEGER);
+    longKey = registry.register("long", NumberParsers.LONG);
+    doubleKey = registry.register("double", NumberParsers.DOUBLE);
+    booleanKey = registry.register("boolean", Boolean::valueOf);
+    nullableKey = registry.register(
+        PropertySpec.of("nullable", NumberParsers.INTEGER)
+                    .withDefaultSettings(new DefaultSettings<Integer>()
+                                             .when(DefaultCondition.IS_EMPTY)
+                                             .thenReturn(null)));
+
+    properties = new Properties();
+    properties.setProperty("int", "43");
+    properties.setProperty("long", "5000000000");
+    properties.setProperty("double", "1.5");
+    properties.setProperty("boolean", "true");
+  }
+
+  @Test
+  public void testPrimitiveGetters() {
+    CompiledProperties compiled = registry.compile(new PropertyReader(properties));
+    assertEquals(43, compiled.getInt(intKey));
+    assertEquals(5_000_000_000L, compiled.getLong(longKey));
+    assertEquals(1.5, compiled.getDouble(doubleKey), 0d);
+    assertTrue(compiled.getBoolean(booleanKey));
+  }
+
+  @Test
+  public void testNullDefaultIsReturned() {
+    assertNull(registry.compile(new PropertyReader(properties)).get(nullableKey));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPrimitiveGetterWithNullValue() {
+    registry.compile(new PropertyReader(properties)).getInt(nullableKey);
+  }
+
+  @Test
+  public void testValuesAreFixedWhenCompiled() {
+    CompiledProperties compiled = registry.compile(new PropertyReader(properties));
+    properties.setProperty("int", "44");
+    assertEquals(43, compiled.getInt(intKey));
+    assertEquals(44, registry.compile(new PropertyReader(properties)).getInt(intKey));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testKeyFromAnotherRegistryIsRejected() {
+    PropertyKey<Integer> other = new PropertyKeyRegistry().register("int", NumberParsers.INTEGER);
+    registry.compile(new PropertyReader(properties)).get(other);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testKeyRegisteredAfterCompilingIsRejected() {
+    CompiledProperties compiled = registry.compile(new PropertyReader(properties));
+    compiled.get(registry.register("late", NumberParsers.INTEGER));
+  }
+
+}
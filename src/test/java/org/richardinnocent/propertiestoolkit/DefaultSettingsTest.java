@@ -52,24 +52,24 @@ public class DefaultSettingsTest {
     settings.when(condition)
             .thenDo(taskMap::put)
             .thenReturn(RETURN_VALUE);
-    assertEquals(RETURN_VALUE, settings.apply(condition, key, value, new PropertiesException()));
+    assertEquals(RETURN_VALUE, settings.apply(condition, key, value));
     assertEquals(value, taskMap.get(key)); // Ensures the task was executed
     taskMap.clear();
   }
 
-  @Test(expected = PropertiesException.class)
+  @Test
   public void testParseFailsWhenUnspecified() {
-    settings.apply(DefaultCondition.PARSE_FAILS, KEY, VALUE_INVALID_TYPE, new PropertiesException());
+    assertFalse(settings.handles(DefaultCondition.PARSE_FAILS));
   }
 
-  @Test(expected = PropertiesException.class)
+  @Test
   public void testIsEmptyWhenUnspecified() {
-    settings.apply(DefaultCondition.IS_EMPTY, KEY, VALUE_NULL, new PropertiesException());
+    assertFalse(settings.handles(DefaultCondition.IS_EMPTY));
   }
 
-  @Test(expected = PropertiesException.class)
+  @Test
   public void testIsInvalidWhenUnspecified() {
-    settings.apply(DefaultCondition.IS_INVALID, KEY, VALUE, new PropertiesException());
+    assertFalse(settings.handles(DefaultCondition.IS_INVALID));
   }
 
   @Test
@@ -77,11 +77,10 @@ public class DefaultSettingsTest {
     settings.when(DefaultCondition.values())
             .thenDo(taskMap::put)
             .thenReturn(RETURN_VALUE);
-    PropertiesException e = new PropertiesException();
-    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_EMPTY, DefaultCondition.IS_EMPTY.toString(), VALUE_NULL, e));
-    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_INVALID, DefaultCondition.IS_INVALID.toString(), VALUE, e));
+    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_EMPTY, DefaultCondition.IS_EMPTY.toString(), VALUE_NULL));
+    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_INVALID, DefaultCondition.IS_INVALID.toString(), VALUE));
     assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.PARSE_FAILS, DefaultCondition.PARSE_FAILS.toString(),
-                                              VALUE_INVALID_TYPE, e));
+                                              VALUE_INVALID_TYPE));
     assertEquals(VALUE_NULL, taskMap.get(DefaultCondition.IS_EMPTY.toString()));
     assertEquals(VALUE, taskMap.get(DefaultCondition.IS_INVALID.toString()));
     assertEquals(VALUE_INVALID_TYPE, taskMap.get(DefaultCondition.PARSE_FAILS.toString()));
@@ -98,8 +97,7 @@ public class DefaultSettingsTest {
             .when(DefaultCondition.IS_EMPTY)
             .thenDo(taskMap::put)
             .thenReturn(RETURN_VALUE);
-    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_EMPTY, KEY, VALUE_NULL,
-                                              new PropertiesException()));
+    assertEquals(RETURN_VALUE, settings.apply(DefaultCondition.IS_EMPTY, KEY, VALUE_NULL));
     assertEquals(VALUE_NULL, taskMap.get(KEY));
   }
 
@@ -0,0 +1,102 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class DoublePropertyTest {
+
+  private static final String KEY = "key";
+  private static final String STRING = "string";
+  private static final String DOUBLE_TEXT = "43.5";
+  private static final double DOUBLE = 43.5d;
+
+  @Test
+  public void testBasicParsing() {
+    assertEquals(DOUBLE, new DoubleProperty(KEY, DOUBLE_TEXT).get(), 0d);
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testEmptyPropertyWithNoDefault() {
+    new DoubleProperty(KEY, null).get();
+  }
+
+  @Test
+  public void testEmptyPropertyWithDefault() {
+    DoubleDefaultSettings settings = new DoubleDefaultSettings().when(DefaultCondition.IS_EMPTY)
+                                                          .thenReturn(DOUBLE);
+    assertEquals(DOUBLE, new DoubleProperty(KEY, "").withDefaultSettings(settings).get(), 0d);
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testInvalidTypeWithNoDefault() {
+    new DoubleProperty(KEY, STRING).get();
+  }
+
+  @Test
+  public void testInvalidTypeWithDefault() {
+    DoubleDefaultSettings settings = new DoubleDefaultSettings().when(DefaultCondition.PARSE_FAILS)
+                                                          .thenReturn(DOUBLE);
+    assertEquals(DOUBLE, new DoubleProperty(KEY, STRING).withDefaultSettings(settings).get(), 0d);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testInvalidValueWithNoDefault() {
+    new DoubleProperty(KEY, DOUBLE_TEXT).addConstraint(value -> value < DOUBLE).get();
+  }
+
+  @Test
+  public void testMultipleConstraints() {
+    DoubleDefaultSettings settings = new DoubleDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(DOUBLE,
+                 new DoubleProperty(KEY, DOUBLE_TEXT)
+                     .addConstraint(null)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 50)
+                     .get(),
+                 0d);
+
+    assertEquals(0,
+                 new DoubleProperty(KEY, DOUBLE_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 40)
+                     .get(),
+                 0d);
+  }
+
+  @Test
+  public void testExceptionThrownFromConstraintCaughtByDefaultWhenSet() {
+    DoubleDefaultSettings settings = new DoubleDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(0,
+                 new DoubleProperty(KEY, DOUBLE_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> {
+                       throw new RuntimeException();
+                     })
+                     .get(),
+                 0d);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testExceptionThrownFromConstraintNoDefaultThrowsException() {
+    new DoubleProperty(KEY, DOUBLE_TEXT)
+        .addConstraint(value -> {
+          throw new RuntimeException();
+        })
+        .get();
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(KEY + ": " + DOUBLE_TEXT, new DoubleProperty(KEY, DOUBLE_TEXT).toString());
+  }
+
+}
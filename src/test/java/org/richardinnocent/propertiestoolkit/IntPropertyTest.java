@@ -0,0 +1,104 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class IntPropertyTest {
+
+  private static final String KEY = "key";
+  private static final String STRING = "string";
+  private static final String INT_TEXT = "43";
+  private static final int INT = 43;
+
+  @Test
+  public void testBasicParsing() {
+    assertEquals(INT, new IntProperty(KEY, INT_TEXT).get());
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testEmptyPropertyWithNoDefault() {
+    new IntProperty(KEY, null).get();
+  }
+
+  @Test
+  public void testEmptyPropertyWithDefault() {
+    IntDefaultSettings settings = new IntDefaultSettings().when(DefaultCondition.IS_EMPTY)
+                                                          .thenReturn(INT);
+    assertEquals(INT, new IntProperty(KEY, "").withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testInvalidTypeWithNoDefault() {
+    new IntProperty(KEY, STRING).get();
+  }
+
+  @Test
+  public void testInvalidTypeWithDefault() {
+    IntDefaultSettings settings = new IntDefaultSettings().when(DefaultCondition.PARSE_FAILS)
+                                                          .thenReturn(INT);
+    assertEquals(INT, new IntProperty(KEY, STRING).withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testOutOfRangeValueIsInvalidType() {
+    new IntProperty(KEY, "2147483648").get();
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testInvalidValueWithNoDefault() {
+    new IntProperty(KEY, INT_TEXT).addConstraint(value -> value < INT).get();
+  }
+
+  @Test
+  public void testMultipleConstraints() {
+    IntDefaultSettings settings = new IntDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(INT,
+                 new IntProperty(KEY, INT_TEXT)
+                     .addConstraint(null)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 50)
+                     .get());
+
+    assertEquals(0,
+                 new IntProperty(KEY, INT_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 40)
+                     .get());
+  }
+
+  @Test
+  public void testExceptionThrownFromConstraintCaughtByDefaultWhenSet() {
+    IntDefaultSettings settings = new IntDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(0,
+                 new IntProperty(KEY, INT_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> {
+                       throw new RuntimeException();
+                     })
+                     .get());
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testExceptionThrownFromConstraintNoDefaultThrowsException() {
+    new IntProperty(KEY, INT_TEXT)
+        .addConstraint(value -> {
+          throw new RuntimeException();
+        })
+        .get();
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(KEY + ": " + INT_TEXT, new IntProperty(KEY, INT_TEXT).toString());
+  }
+
+}
@@ -21,4 +21,12 @@ public class InvalidTypeExceptionTest {
     assertEquals(cause, e.getCause());
   }
 
+  @Test
+  public void testForPropertyWithoutCause() {
+    InvalidTypeException e = InvalidTypeException.forProperty("key", "value");
+    assertEquals("Key, key, contains a value, value, that cannot be converted to the expected type",
+                 e.getMessage());
+    assertNull(e.getCause());
+  }
+
 }
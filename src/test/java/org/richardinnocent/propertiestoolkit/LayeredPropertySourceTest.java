@@ -0,0 +1,152 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class LayeredPropertySourceTest {
+
+  @Test
+  public void testLaterLayersOverrideEarlierLayers() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", properties("host", "base", "port", "80", "user", "admin"))
+        .withLayer("override", properties("host", "override", "port", "8080"))
+        .withLayer("system", properties("port", "9090"));
+
+    assertEquals("override", source.getProperty("host"));
+    assertEquals("9090", source.getProperty("port"));
+    assertEquals("admin", source.getProperty("user"));
+    assertNull(source.getProperty("missing"));
+  }
+
+  @Test
+  public void testOriginIsRecorded() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", properties("host", "base", "user", "admin"))
+        .withLayer("override", properties("host", "override"));
+
+    assertEquals("override", source.getOrigin("host"));
+    assertEquals("base", source.getOrigin("user"));
+    assertNull(source.getOrigin("missing"));
+  }
+
+  @Test
+  public void testKeysAreMerged() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", properties("a", "1", "b", "2"))
+        .withLayer("override", properties("b", "3", "c", "4"));
+
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), source.keys());
+    assertEquals(Arrays.asList("a", "b", "c"), source.keysWithPrefix(""));
+    assertEquals(3, source.snapshot().size());
+  }
+
+  @Test
+  public void testLayersAreMergedOnlyWhenChanged() {
+    Properties base = properties("key", "original");
+    LayeredPropertySource source = new LayeredPropertySource().withLayer("base", base);
+    assertEquals("original", source.getProperty("key"));
+
+    base.setProperty("key", "changed");
+    assertEquals("original", source.getProperty("key"));
+
+    source.refresh();
+    assertEquals("changed", source.getProperty("key"));
+  }
+
+  @Test
+  public void testReplaceLayer() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", properties("host", "base"))
+        .withLayer("override", properties("host", "override"));
+    assertEquals("override", source.getProperty("host"));
+
+    source.replaceLayer("override", PropertySource.of(new Properties()));
+    assertEquals("base", source.getProperty("host"));
+    assertEquals("base", source.getOrigin("host"));
+    assertEquals(Arrays.asList("base", "override"), source.getLayerNames());
+  }
+
+  @Test
+  public void testAddingLayerAfterReading() {
+    LayeredPropertySource source =
+        new LayeredPropertySource().withLayer("base", properties("host", "base"));
+    assertEquals("base", source.getProperty("host"));
+    source.withLayer("override", properties("host", "override"));
+    assertEquals("override", source.getProperty("host"));
+  }
+
+  @Test
+  public void testMapLayer() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("HOME", "/home/user");
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("environment", PropertySource.of(environment));
+    assertEquals("/home/user", source.getProperty("HOME"));
+    assertEquals("environment", source.getOrigin("HOME"));
+  }
+
+  @Test
+  public void testReaderCanReadLayers() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", properties("threads", "4"))
+        .withLayer("override", properties("threads", "8"));
+    assertEquals(8, new PropertyReader(source).getIntValue("threads").get());
+  }
+
+  @Test
+  public void testEmptySource() {
+    LayeredPropertySource source = new LayeredPropertySource();
+    assertNull(source.getProperty("key"));
+    assertTrue(source.keys().isEmpty());
+    assertEquals("LayeredPropertySource[]", source.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateLayerNameIsRejected() {
+    new LayeredPropertySource()
+        .withLayer("base", new Properties())
+        .withLayer("base", new Properties());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReplacingUnknownLayerIsRejected() {
+    new LayeredPropertySource().replaceLayer("base", PropertySource.of(new Properties()));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullNameIsRejected() {
+    new LayeredPropertySource().withLayer(null, new Properties());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullLayerIsRejected() {
+    new LayeredPropertySource().withLayer("base", (PropertySource) null);
+  }
+
+  @Test
+  public void testToString() {
+    LayeredPropertySource source = new LayeredPropertySource()
+        .withLayer("base", new Properties())
+        .withLayer("override", new Properties());
+    assertEquals("LayeredPropertySource[base, override]", source.toString());
+  }
+
+  private static Properties properties(String... keysAndValues) {
+    Properties properties = new Properties();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return properties;
+  }
+
+}
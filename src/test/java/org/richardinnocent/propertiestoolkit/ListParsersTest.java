@@ -0,0 +1,87 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class ListParsersTest {
+
+  @Test
+  public void testIntArray() {
+    assertArrayEquals(new int[] {1, -2, 3_000}, ListParsers.INT_ARRAY.parseOrNull("1,-2,3_000"));
+    assertArrayEquals(new int[] {1, 2, 3}, ListParsers.INT_ARRAY.parseOrNull(" 1 , 2,\t3 "));
+    assertArrayEquals(new int[] {42}, ListParsers.INT_ARRAY.parseOrNull("42"));
+  }
+
+  @Test
+  public void testIntArrayFailures() {
+    String[] invalid = {"", "1,,2", "1,2,", ",1", "1,a", "1,2147483648", "1;2"};
+    for (String text : invalid) {
+      assertNull(text, ListParsers.INT_ARRAY.parseOrNull(text));
+    }
+  }
+
+  @Test
+  public void testLongArray() {
+    assertArrayEquals(new long[] {1L, -2L, 9_000_000_000L},
+                      ListParsers.LONG_ARRAY.parseOrNull("1, -2, 9_000_000_000"));
+    assertArrayEquals(new long[] {Long.MIN_VALUE},
+                      ListParsers.LONG_ARRAY.parseOrNull("-9223372036854775808"));
+    assertNull(ListParsers.LONG_ARRAY.parseOrNull("1,9223372036854775808"));
+    assertNull(ListParsers.LONG_ARRAY.parseOrNull("1, ,2"));
+  }
+
+  @Test
+  public void testDoubleArray() {
+    assertArrayEquals(new double[] {0.5, 0.25, -1e3},
+                      ListParsers.DOUBLE_ARRAY.parseOrNull("0.5, 0.25, -1e3"), 0d);
+    double[] special = ListParsers.DOUBLE_ARRAY.parseOrNull("NaN, Infinity");
+    assertTrue(Double.isNaN(special[0]));
+    assertEquals(Double.POSITIVE_INFINITY, special[1], 0d);
+    assertNull(ListParsers.DOUBLE_ARRAY.parseOrNull("0.5,x"));
+    assertNull(ListParsers.DOUBLE_ARRAY.parseOrNull("0.5,"));
+  }
+
+  @Test
+  public void testStringList() {
+    List<String> values = ListParsers.STRING_LIST.parseOrNull(" a, b b ,,c ");
+    assertEquals(Arrays.asList("a", "b b", "", "c"), values);
+    assertEquals(Arrays.asList(""), ListParsers.STRING_LIST.parseOrNull(""));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testStringListCannotBeModified() {
+    ListParsers.STRING_LIST.parseOrNull("a,b").set(0, "c");
+  }
+
+  @Test
+  public void testCustomDelimiter() {
+    assertArrayEquals(new int[] {1, 2, 3}, ListParsers.intArray(';').parseOrNull("1;2;3"));
+    assertArrayEquals(new long[] {1L, 2L}, ListParsers.longArray('|').parseOrNull("1|2"));
+    assertArrayEquals(new double[] {1.5, 2d},
+                      ListParsers.doubleArray(' ').parseOrNull("1.5 2"), 0d);
+    assertEquals(Arrays.asList("a,b", "c"), ListParsers.stringList(';').parseOrNull("a,b;c"));
+    assertNull(ListParsers.intArray(';').parseOrNull("1,2"));
+  }
+
+  @Test
+  public void testElementConstraints() {
+    assertTrue(ListParsers.eachInt(value -> value > 0).test(new int[] {1, 2}));
+    assertFalse(ListParsers.eachInt(value -> value > 0).test(new int[] {1, 0}));
+    assertTrue(ListParsers.eachLong(value -> value > 0).test(new long[0]));
+    assertFalse(ListParsers.eachLong(value -> value > 0).test(new long[] {-1L}));
+    assertTrue(ListParsers.eachDouble(value -> value < 1).test(new double[] {0.5}));
+    assertFalse(ListParsers.eachDouble(value -> value < 1).test(new double[] {0.5, 1}));
+    assertTrue(ListParsers.<String>each(value -> !value.isEmpty())
+                   .test(Arrays.asList("a", "b")));
+    assertFalse(ListParsers.<String>each(value -> !value.isEmpty())
+                    .test(Arrays.asList("a", "")));
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class LongDefaultSettingsTest {
+
+  private static final long RETURN_VALUE = 40;
+  private static final String KEY = "key";
+  private static final String VALUE = "38";
+
+  private final Map<String, String> taskMap = new HashMap<>();
+  private final LongDefaultSettings settings = new LongDefaultSettings();
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConditionsCantBeEmpty() {
+    settings.when();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConditionsCantBeNull() {
+    settings.when((DefaultCondition[]) null);
+  }
+
+  @Test
+  public void testSpecifiedConditionAppliesTaskAndReturnsValue() {
+    settings.when(DefaultCondition.IS_INVALID)
+            .thenDo(taskMap::put)
+            .thenReturn(RETURN_VALUE);
+    assertEquals(RETURN_VALUE,
+                 settings.apply(DefaultCondition.IS_INVALID, KEY, VALUE));
+    assertEquals(VALUE, taskMap.get(KEY));
+  }
+
+  @Test
+  public void testUnspecifiedConditionIsNotHandled() {
+    settings.when(DefaultCondition.IS_INVALID)
+            .thenReturn(RETURN_VALUE);
+    assertFalse(settings.handles(DefaultCondition.PARSE_FAILS));
+  }
+
+  @Test
+  public void testOverwrite() {
+    settings.when(DefaultCondition.IS_EMPTY)
+            .thenReturn(RETURN_VALUE - 1)
+            .when(DefaultCondition.IS_EMPTY)
+            .thenReturn(RETURN_VALUE);
+    assertEquals(RETURN_VALUE,
+                 settings.apply(DefaultCondition.IS_EMPTY, KEY, null));
+  }
+
+}
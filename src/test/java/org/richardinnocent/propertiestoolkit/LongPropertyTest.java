@@ -0,0 +1,104 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class LongPropertyTest {
+
+  private static final String KEY = "key";
+  private static final String STRING = "string";
+  private static final String LONG_TEXT = "4200000000";
+  private static final long LONG = 4_200_000_000L;
+
+  @Test
+  public void testBasicParsing() {
+    assertEquals(LONG, new LongProperty(KEY, LONG_TEXT).get());
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testEmptyPropertyWithNoDefault() {
+    new LongProperty(KEY, null).get();
+  }
+
+  @Test
+  public void testEmptyPropertyWithDefault() {
+    LongDefaultSettings settings = new LongDefaultSettings().when(DefaultCondition.IS_EMPTY)
+                                                          .thenReturn(LONG);
+    assertEquals(LONG, new LongProperty(KEY, "").withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testInvalidTypeWithNoDefault() {
+    new LongProperty(KEY, STRING).get();
+  }
+
+  @Test
+  public void testInvalidTypeWithDefault() {
+    LongDefaultSettings settings = new LongDefaultSettings().when(DefaultCondition.PARSE_FAILS)
+                                                          .thenReturn(LONG);
+    assertEquals(LONG, new LongProperty(KEY, STRING).withDefaultSettings(settings).get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testOutOfRangeValueIsInvalidType() {
+    new LongProperty(KEY, "9223372036854775808").get();
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testInvalidValueWithNoDefault() {
+    new LongProperty(KEY, LONG_TEXT).addConstraint(value -> value < LONG).get();
+  }
+
+  @Test
+  public void testMultipleConstraints() {
+    LongDefaultSettings settings = new LongDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(LONG,
+                 new LongProperty(KEY, LONG_TEXT)
+                     .addConstraint(null)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 5_000_000_000L)
+                     .get());
+
+    assertEquals(0,
+                 new LongProperty(KEY, LONG_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> value > 0)
+                     .addConstraint(value -> value < 40)
+                     .get());
+  }
+
+  @Test
+  public void testExceptionThrownFromConstraintCaughtByDefaultWhenSet() {
+    LongDefaultSettings settings = new LongDefaultSettings().when(DefaultCondition.IS_INVALID)
+                                                          .thenReturn(0);
+
+    assertEquals(0,
+                 new LongProperty(KEY, LONG_TEXT)
+                     .withDefaultSettings(settings)
+                     .addConstraint(value -> {
+                       throw new RuntimeException();
+                     })
+                     .get());
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testExceptionThrownFromConstraintNoDefaultThrowsException() {
+    new LongProperty(KEY, LONG_TEXT)
+        .addConstraint(value -> {
+          throw new RuntimeException();
+        })
+        .get();
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(KEY + ": " + LONG_TEXT, new LongProperty(KEY, LONG_TEXT).toString());
+  }
+
+}
@@ -0,0 +1,173 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class NumberParsersTest {
+
+  @Test
+  public void testParseInt() {
+    assertEquals(0L, parseInt("0"));
+    assertEquals(42L, parseInt("42"));
+    assertEquals(42L, parseInt("+42"));
+    assertEquals(-42L, parseInt("-42"));
+    assertEquals(42L, parseInt("0042"));
+    assertEquals(Integer.MAX_VALUE, parseInt("2147483647"));
+    assertEquals(Integer.MIN_VALUE, parseInt("-2147483648"));
+  }
+
+  @Test
+  public void testParseIntToleratesWhitespaceAndSeparators() {
+    assertEquals(42L, parseInt("  42\t"));
+    assertEquals(1_000_000L, parseInt("1_000_000"));
+    assertEquals(-1_000L, parseInt(" -1__000 "));
+  }
+
+  @Test
+  public void testParseIntFailures() {
+    String[] invalid = {
+        "", "   ", "-", "+", "a", "4a", "4.0", "2147483648", "-2147483649", "_1", "1_", "-_1",
+        "1 000", "--1", "0x10"
+    };
+    for (String text : invalid) {
+      assertEquals(text, NumberParsers.INVALID_INT, parseInt(text));
+    }
+  }
+
+  @Test
+  public void testParseIntWithinRange() {
+    assertEquals(123L, NumberParsers.parseInt("a=123;", 2, 5));
+    assertEquals(NumberParsers.INVALID_INT, NumberParsers.parseInt("a=123;", 0, 5));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testParseIntWithInvalidRange() {
+    NumberParsers.parseInt("123", 2, 4);
+  }
+
+  @Test
+  public void testParseIntMatchesJdkForUnicodeDigits() {
+    assertEquals(Integer.parseInt("\u0661\u0662"), parseInt("\u0661\u0662"));
+  }
+
+  @Test
+  public void testParseLong() {
+    assertEquals(4_200_000_000L, parseLong("4200000000"));
+    assertEquals(Long.MAX_VALUE, parseLong("9223372036854775807"));
+    assertEquals(Long.MIN_VALUE, parseLong("-9223372036854775808"));
+    assertTrue(NumberParsers.isLong("-9223372036854775808", 0, 20));
+    assertEquals(Long.MIN_VALUE, parseLong("9223372036854775808"));
+    assertFalse(NumberParsers.isLong("9223372036854775808", 0, 19));
+    assertFalse(NumberParsers.isLong("abc", 0, 3));
+  }
+
+  @Test
+  public void testParseDoubleMatchesJdk() {
+    String[] values = {
+        "0", "-0", "1", "1.5", "-1.5", ".5", "5.", "1e10", "1E-10", "1.25e+3", "123456789012345678",
+        "1234567890123456789012345", "0.1", "0.30000000000000004", "2.2250738585072014E-308",
+        "4.9e-324", "1e-400", "1e400", "1.7976931348623157e308", "9007199254740993", "1.5d", "1.5F",
+        "0x1.8p1", "-0x1p-2", "Infinity", "-Infinity", "+Infinity", "3.141592653589793",
+        "000000000000000000000000001.5", "0.000000000000000000000000001"
+    };
+    for (String value : values) {
+      assertEquals(value, Double.parseDouble(value), parseDouble(value), 0d);
+      assertEquals(value,
+                   Double.doubleToLongBits(Double.parseDouble(value)),
+                   Double.doubleToLongBits(parseDouble(value)));
+    }
+  }
+
+  @Test
+  public void testParseDoubleMatchesJdkForRandomValues() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      double expected = Double.longBitsToDouble(random.nextLong());
+      if (Double.isNaN(expected))
+        continue;
+      String text = Double.toString(expected);
+      assertEquals(text, expected, parseDouble(text), 0d);
+
+      String shortText = (random.nextInt(2_000_000) - 1_000_000) + "." + random.nextInt(1000)
+          + "e" + (random.nextInt(40) - 20);
+      assertEquals(shortText, Double.parseDouble(shortText), parseDouble(shortText), 0d);
+    }
+  }
+
+  @Test
+  public void testParseFloatMatchesJdkForRandomValues() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      String text = random.nextInt(20_000_000) + "." + random.nextInt(1000)
+          + "e" + (random.nextInt(30) - 15);
+      assertEquals(text, Float.parseFloat(text), NumberParsers.parseFloat(text, 0, text.length()),
+                   0f);
+    }
+  }
+
+  @Test
+  public void testParseDoubleToleratesWhitespaceAndSeparators() {
+    assertEquals(1_000.5, parseDouble(" 1_000.5 "), 0d);
+    assertEquals(1.000_5, parseDouble("1.000_5"), 0d);
+    assertEquals(1e10, parseDouble("1e1_0"), 0d);
+    assertEquals(0x1_0p0, parseDouble("0x1_0p0"), 0d);
+    assertEquals(1_234_567_890_123_456_789_012.0, parseDouble("1_234_567_890_123_456_789_012"),
+                 0d);
+  }
+
+  @Test
+  public void testParseDoubleFailures() {
+    String[] invalid = {
+        "", " ", "-", ".", "e5", "1e", "1e+", "a", "1.5x", "1..5", "1_.5", "1._5", "_1", "1_",
+        "1e_5", "1.5dd", "0x", "0x1", "0xp1", "0x1.8", "Infinityd", "inf", "1,5"
+    };
+    for (String text : invalid) {
+      assertTrue(text, Double.isNaN(parseDouble(text)));
+      assertFalse(text, NumberParsers.isNaN(text, 0, text.length()));
+      assertNull(text, NumberParsers.DOUBLE.parseOrNull(text));
+    }
+  }
+
+  @Test
+  public void testNaN() {
+    assertTrue(Double.isNaN(parseDouble("NaN")));
+    assertTrue(NumberParsers.isNaN(" -NaN ", 0, 6));
+    assertTrue(Double.isNaN(NumberParsers.DOUBLE.parseOrNull("NaN")));
+    assertTrue(Float.isNaN(NumberParsers.FLOAT.parseOrNull("NaN")));
+  }
+
+  @Test
+  public void testBoxedParsers() {
+    assertEquals(Byte.valueOf((byte) -128), NumberParsers.BYTE.parseOrNull("-128"));
+    assertNull(NumberParsers.BYTE.parseOrNull("128"));
+    assertEquals(Short.valueOf((short) 32767), NumberParsers.SHORT.parseOrNull("32_767"));
+    assertNull(NumberParsers.SHORT.parseOrNull("32768"));
+    assertEquals(Integer.valueOf(7), NumberParsers.INTEGER.parseOrNull(" 7 "));
+    assertNull(NumberParsers.INTEGER.parseOrNull("seven"));
+    assertEquals(Long.valueOf(Long.MIN_VALUE),
+                 NumberParsers.LONG.parseOrNull("-9223372036854775808"));
+    assertNull(NumberParsers.LONG.parseOrNull("seven"));
+    assertEquals(Float.valueOf(1.5f), NumberParsers.FLOAT.parseOrNull("1.5"));
+    assertNull(NumberParsers.FLOAT.parseOrNull("1.5.1"));
+    assertEquals(Double.valueOf(1.5), NumberParsers.DOUBLE.parseOrNull("1.5"));
+  }
+
+  private static long parseInt(String text) {
+    return NumberParsers.parseInt(text, 0, text.length());
+  }
+
+  private static long parseLong(String text) {
+    return NumberParsers.parseLong(text, 0, text.length());
+  }
+
+  private static double parseDouble(String text) {
+    return NumberParsers.parseDouble(text, 0, text.length());
+  }
+
+}
@@ -0,0 +1,147 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PrefixedPropertyReaderTest {
+
+  private final Properties properties = new Properties();
+
+  {
+    properties.setProperty("db.primary.url", "jdbc:primary");
+    properties.setProperty("db.primary.pool.max", "20");
+    properties.setProperty("db.primary.ssl", "true");
+    properties.setProperty("db.replica.url", "jdbc:replica");
+    properties.setProperty("cache.size", "100");
+  }
+
+  @Test
+  public void testKeysAreRelativeToPrefix() {
+    PropertyReader primary = new PropertyReader(properties).withPrefix("db.primary.");
+    assertEquals("jdbc:primary", primary.getString("url").get());
+    assertEquals(20, (int) primary.getInt("pool.max").get());
+    assertEquals(20, primary.getIntValue("pool.max").get());
+    assertEquals(20L, primary.getLongValue("pool.max").get());
+    assertEquals(20.0, primary.getDoubleValue("pool.max").get(), 0.0);
+    assertTrue(primary.getBooleanValue("ssl").get());
+    assertNull(primary.getString("cache.size").withDefaultSettings(
+        new DefaultSettings<String>().when(DefaultCondition.IS_EMPTY).thenReturn(null)).get());
+  }
+
+  @Test
+  public void testExceptionsReportFullKey() {
+    PropertyReader primary = new PropertyReader(properties).withPrefix("db.primary.");
+    try {
+      primary.getInt("missing").get();
+      fail("Expected a MissingPropertyException");
+    } catch (MissingPropertyException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("db.primary.missing"));
+    }
+    try {
+      primary.getIntValue("url").get();
+      fail("Expected an InvalidTypeException");
+    } catch (InvalidTypeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("db.primary.url"));
+    }
+  }
+
+  @Test
+  public void testDurationsAndSizesAreRelativeToPrefix() {
+    properties.setProperty("db.primary.timeout", "250ms");
+    properties.setProperty("db.primary.buffer", "64KB");
+    PropertyReader primary = new PropertyReader(properties).withPrefix("db.primary.");
+    assertEquals(250_000_000L, primary.getDurationNanos("timeout").get());
+    assertEquals(65_536L, primary.getSizeBytes("buffer").get());
+    try {
+      primary.getDurationNanos("url").get();
+      fail("Expected an InvalidTypeException");
+    } catch (InvalidTypeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("db.primary.url"));
+    }
+  }
+
+  @Test
+  public void testKeysWithPrefix() {
+    PropertyReader reader = new PropertyReader(properties);
+    assertEquals(Arrays.asList("db.primary.pool.max", "db.primary.ssl", "db.primary.url"),
+                 reader.keysWithPrefix("db.primary."));
+
+    PropertyReader db = reader.withPrefix("db.");
+    assertEquals(Arrays.asList("primary.pool.max", "primary.ssl", "primary.url", "replica.url"),
+                 db.keysWithPrefix(""));
+    assertEquals(Arrays.asList("replica.url"), db.keysWithPrefix("replica."));
+  }
+
+  @Test
+  public void testKeysWithPrefixFromSnapshot() {
+    PropertyReader db = PropertyReader.snapshot(properties).withPrefix("db.");
+    assertEquals(Arrays.asList("primary.pool.max", "primary.ssl", "primary.url"),
+                 db.keysWithPrefix("primary."));
+  }
+
+  @Test
+  public void testNestedPrefixes() {
+    PropertyReader pool =
+        PropertyReader.snapshot(properties).withPrefix("db.").withPrefix("primary.pool.");
+    assertEquals(20, pool.getIntValue("max").get());
+    assertEquals(Arrays.asList("max"), pool.keysWithPrefix(""));
+    assertEquals("PropertyReader[db.primary.pool.]", pool.toString());
+  }
+
+  @Test
+  public void testViewSeesChangesToParent() {
+    PropertyReader primary = new PropertyReader(properties).withPrefix("db.primary.");
+    properties.setProperty("db.primary.timeout", "30");
+    assertEquals(30, primary.getIntValue("timeout").get());
+    assertTrue(primary.keysWithPrefix("").contains("timeout"));
+  }
+
+  @Test
+  public void testViewOfCachingReaderFollowsSwap() {
+    CachingPropertyReader reader = new CachingPropertyReader(PropertySnapshot.of(properties));
+    PropertyReader primary = reader.withPrefix("db.primary.");
+    assertEquals("jdbc:primary", primary.getString("url").get());
+
+    Properties swapped = new Properties();
+    swapped.setProperty("db.primary.url", "jdbc:swapped");
+    reader.swap(PropertySnapshot.of(swapped));
+    assertEquals("jdbc:swapped", primary.getString("url").get());
+    assertEquals(Arrays.asList("url"), primary.keysWithPrefix(""));
+  }
+
+  @Test
+  public void testViewCanBeWrappedAsSource() {
+    PropertyReader primary = PropertyReader.snapshot(properties).withPrefix("db.primary.");
+    PropertySnapshot snapshot = PropertySnapshot.of(primary.getSource());
+    assertEquals(3, snapshot.size());
+    assertEquals("jdbc:primary", snapshot.getProperty("url"));
+    assertEquals(new HashSet<>(Arrays.asList("url", "pool.max", "ssl")),
+                 primary.getSource().keys());
+    assertTrue(primary.getSource().keys().contains("ssl"));
+    assertFalse(primary.getSource().keys().contains("cache.size"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullPrefixIsRejected() {
+    new PropertyReader(properties).withPrefix(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullNestedPrefixIsRejected() {
+    new PropertyReader(properties).withPrefix("db.").withPrefix(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullKeysPrefixIsRejected() {
+    new PropertyReader(properties).keysWithPrefix(null);
+  }
+
+}
@@ -1,5 +1,7 @@
 package org.richardinnocent.propertiestoolkit;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -29,4 +31,42 @@ public class PropertiesExceptionTest {
     assertEquals(CAUSE, new PropertiesException(CAUSE).getCause());
   }
 
+  @Test
+  public void testLazyMessageIsFormattedOnce() {
+    AtomicInteger formats = new AtomicInteger();
+    PropertiesException e = new PropertiesException(CAUSE, true) {
+      @Override
+      protected String formatMessage() {
+        formats.incrementAndGet();
+        return MESSAGE;
+      }
+    };
+    assertEquals(0, formats.get());
+    assertEquals(MESSAGE, e.getMessage());
+    assertEquals(MESSAGE, e.getMessage());
+    assertEquals(1, formats.get());
+    assertEquals(CAUSE, e.getCause());
+  }
+
+  @Test
+  public void testStackTraceIsCapturedByDefault() {
+    assertFalse(PropertiesException.isStackless());
+    assertTrue(MissingPropertyException.forProperty("key").getStackTrace().length > 0);
+  }
+
+  @Test
+  public void testStacklessExceptions() {
+    PropertiesException.setStackless(true);
+    try {
+      assertTrue(PropertiesException.isStackless());
+      MissingPropertyException missing = MissingPropertyException.forProperty("key");
+      assertEquals(0, missing.getStackTrace().length);
+      assertEquals("Property, key, is missing", missing.getMessage());
+      assertEquals(0, InvalidTypeException.forProperty("key", "value").getStackTrace().length);
+      assertEquals(0, ValidationException.forProperty("key", "value").getStackTrace().length);
+    } finally {
+      PropertiesException.setStackless(false);
+    }
+  }
+
 }
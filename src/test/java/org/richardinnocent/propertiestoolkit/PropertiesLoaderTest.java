@@ -0,0 +1,172 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertiesLoaderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSimpleFile() throws IOException {
+    Path file = folder.newFile("simple.properties").toPath();
+    Files.write(file, "a=1\nb = 2\n# comment\nc:3\n".getBytes(StandardCharsets.ISO_8859_1));
+
+    PropertySnapshot snapshot = PropertiesLoader.load(file);
+    assertEquals(3, snapshot.size());
+    assertEquals("1", snapshot.getProperty("a"));
+    assertEquals("2", snapshot.getProperty("b"));
+    assertEquals("3", snapshot.getProperty("c"));
+  }
+
+  @Test
+  public void testEmptyFile() throws IOException {
+    Path file = folder.newFile("empty.properties").toPath();
+    assertEquals(0, PropertiesLoader.load(file).size());
+  }
+
+  @Test
+  public void testUtf8File() throws IOException {
+    Path file = folder.newFile("utf8.properties").toPath();
+    Files.write(file, "greeting=héllo wörld 世界\n".getBytes(StandardCharsets.UTF_8));
+    assertEquals("héllo wörld 世界",
+                 PropertiesLoader.load(file, StandardCharsets.UTF_8).getProperty("greeting"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedCharset() {
+    PropertiesLoader.load(new byte[0], StandardCharsets.UTF_16);
+  }
+
+  @Test
+  public void testFormatFeatures() throws IOException {
+    assertMatchesProperties(String.join(
+        "\n",
+        "# A comment",
+        "! Another comment \\",
+        "   indented = value",
+        "key\\ with\\ spaces = value with spaces  ",
+        "separator\\=in\\:key=value",
+        "noSeparator",
+        "whitespaceSeparator value",
+        "doubleSeparator == value",
+        "escapes = \\t\\n\\r\\f\\\\\\q",
+        "unicode = \\u0048\\u0069 \\u00e9",
+        "continued = first, \\",
+        "            second, \\",
+        "  # not a comment",
+        "emptyContinuation = a\\",
+        "",
+        "evenBackslashes = a\\\\",
+        "next = b",
+        "duplicate = first",
+        "duplicate = second",
+        "windows = line\r\nafterWindows = value\r",
+        "mac = line\rafterMac=value",
+        "continuedWindows = a\\\r\n   b",
+        "trailingBackslash = value\\"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMalformedUnicodeEscape() {
+    PropertiesLoader.load("key=\\u00g0".getBytes(StandardCharsets.ISO_8859_1),
+                          StandardCharsets.ISO_8859_1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTruncatedUnicodeEscape() {
+    PropertiesLoader.load("key=\\u00".getBytes(StandardCharsets.ISO_8859_1),
+                          StandardCharsets.ISO_8859_1);
+  }
+
+  @Test
+  public void testRandomInputsMatchProperties() throws IOException {
+    String[] fragments = {
+        "a", "b", "key", "value", " ", "\t", "\f", "=", ":", "\\", "\\\\", "\n", "\r", "\r\n", "#",
+        "!", "\\u0041", "\\t", "é", "世", "😀", "﻿"
+    };
+    Random random = new Random(42);
+    for (int i = 0; i < 20_000; i++) {
+      StringBuilder text = new StringBuilder();
+      int length = random.nextInt(30);
+      for (int j = 0; j < length; j++)
+        text.append(fragments[random.nextInt(fragments.length)]);
+      assertMatchesProperties(text.toString());
+    }
+  }
+
+  private static void assertMatchesProperties(String text) throws IOException {
+    assertMatchesProperties(text, StandardCharsets.UTF_8);
+
+    // Only characters that can be represented in ISO-8859-1 are kept
+    StringBuilder latin1 = new StringBuilder();
+    for (char c : text.toCharArray()) {
+      if (c <= 0xFF)
+        latin1.append(c);
+    }
+    assertMatchesProperties(latin1.toString(), StandardCharsets.ISO_8859_1);
+  }
+
+  private static void assertMatchesProperties(String text, Charset charset) throws IOException {
+    byte[] data = text.getBytes(charset);
+
+    Properties expected = new Properties();
+    RuntimeException expectedFailure = null;
+    try {
+      if (charset == StandardCharsets.UTF_8)
+        expected.load(new InputStreamReader(new ByteArrayInputStream(data), charset));
+      else
+        expected.load(new ByteArrayInputStream(data));
+    } catch (IllegalArgumentException e) {
+      expectedFailure = e;
+    }
+
+    PropertySnapshot actual;
+    try {
+      actual = PropertiesLoader.load(data, charset);
+    } catch (IllegalArgumentException e) {
+      assertNotNull("Unexpected failure for " + describe(text), expectedFailure);
+      return;
+    }
+    assertNull("Expected failure for " + describe(text), expectedFailure);
+    assertEquals(describe(text), toMap(PropertySnapshot.of(expected)), toMap(actual));
+  }
+
+  private static Map<String, String> toMap(PropertySource source) {
+    Map<String, String> map = new HashMap<>();
+    for (String key : source.keys())
+      map.put(key, source.getProperty(key));
+    return map;
+  }
+
+  private static String describe(String text) {
+    StringBuilder builder = new StringBuilder("\"");
+    for (char c : text.toCharArray()) {
+      if (c < 0x20 || c > 0x7e)
+        builder.append(String.format("\\u%04x", (int) c));
+      else
+        builder.append(c);
+    }
+    return builder.append('"').toString();
+  }
+
+}
@@ -0,0 +1,103 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertyKeyRegistryTest {
+
+  @Test
+  public void testKeysAreGivenDenseOrdinals() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    PropertyKey<Integer> first = registry.register("first", NumberParsers.INTEGER);
+    PropertyKey<String> second = registry.register(PropertySpec.of("second", value -> value));
+
+    assertEquals(0, first.getOrdinal());
+    assertEquals(1, second.getOrdinal());
+    assertEquals("first", first.getName());
+    assertEquals("second", second.toString());
+    assertEquals(2, registry.size());
+    assertEquals(Arrays.asList(first, second), registry.getKeys());
+  }
+
+  @Test
+  public void testKeyHoldsItsSpec() {
+    PropertySpec<Integer> spec = PropertySpec.of("key", NumberParsers.INTEGER);
+    assertSame(spec, new PropertyKeyRegistry().register(spec).getSpec());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateKeysAreRejected() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    registry.register("key", NumberParsers.INTEGER);
+    registry.register("key", NumberParsers.LONG);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullSpecIsRejected() {
+    new PropertyKeyRegistry().register(null);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testKeysCannotBeModified() {
+    new PropertyKeyRegistry().getKeys().clear();
+  }
+
+  @Test
+  public void testCompileReadsEveryKey() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    PropertyKey<Integer> maxUsers = registry.register("maxUsers", NumberParsers.INTEGER);
+    PropertyKey<Boolean> flag = registry.register("flag", Boolean::valueOf);
+
+    Properties properties = new Properties();
+    properties.setProperty("maxUsers", "100");
+    properties.setProperty("flag", "true");
+    CompiledProperties compiled = registry.compile(new PropertyReader(properties));
+
+    assertEquals(Integer.valueOf(100), compiled.get(maxUsers));
+    assertTrue(compiled.get(flag));
+    assertEquals(2, compiled.size());
+    assertSame(registry, compiled.getRegistry());
+  }
+
+  @Test
+  public void testCompileAppliesDefaults() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    PropertyKey<Integer> maxUsers = registry.register(
+        PropertySpec.of("maxUsers", NumberParsers.INTEGER)
+                    .withConstraint(value -> value > 0)
+                    .withDefaultSettings(new DefaultSettings<Integer>()
+                                             .when(DefaultCondition.values())
+                                             .thenReturn(10)));
+
+    Properties properties = new Properties();
+    properties.setProperty("maxUsers", "-100");
+    assertEquals(Integer.valueOf(10),
+                 registry.compile(new PropertyReader(properties)).get(maxUsers));
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testCompileFailsForInvalidValues() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    registry.register(PropertySpec.of("maxUsers", NumberParsers.INTEGER)
+                                  .withConstraint(value -> value > 0));
+
+    Properties properties = new Properties();
+    properties.setProperty("maxUsers", "-100");
+    registry.compile(new PropertyReader(properties));
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testCompileFailsForMissingValues() {
+    PropertyKeyRegistry registry = new PropertyKeyRegistry();
+    registry.register("maxUsers", NumberParsers.INTEGER);
+    registry.compile(new PropertyReader(new Properties()));
+  }
+
+}
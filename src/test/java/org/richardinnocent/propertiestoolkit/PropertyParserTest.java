@@ -0,0 +1,24 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertyParserTest {
+
+  private static final PropertyParser<String> PARSER = text -> text.isEmpty() ? null : text;
+
+  @Test
+  public void testApplyReturnsParsedValue() {
+    assertEquals("value", PARSER.apply("value"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyThrowsWhenValueCannotBeParsed() {
+    PARSER.apply("");
+  }
+
+}
@@ -1,9 +1,16 @@
 package org.richardinnocent.propertiestoolkit;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Properties;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.types.CidrSet;
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+import org.richardinnocent.propertiestoolkit.types.IntSet;
+import org.richardinnocent.propertiestoolkit.types.LongSet;
+import org.richardinnocent.propertiestoolkit.types.StringSet;
 
 import static org.junit.Assert.*;
 
@@ -99,6 +106,153 @@ public class PropertyReaderTest {
     assertEquals(STRING_VALUE, reader.getString(STRING_LABEL).get());
   }
 
+  @Test
+  public void testGetIntValue() {
+    assertEquals(INT_VALUE.intValue(), reader.getIntValue(INT_LABEL).get());
+  }
+
+  @Test
+  public void testGetLongValue() {
+    assertEquals(LONG_VALUE.longValue(), reader.getLongValue(LONG_LABEL).get());
+  }
+
+  @Test
+  public void testGetDoubleValue() {
+    assertEquals(DOUBLE_VALUE, reader.getDoubleValue(DOUBLE_LABEL).get(), 0d);
+  }
+
+  @Test
+  public void testGetBooleanValue() {
+    assertEquals(BOOLEAN_VALUE, reader.getBooleanValue(BOOLEAN_LABEL).get());
+  }
+
+  @Test
+  public void testGetIntArray() {
+    properties.setProperty("ints", "1, 2, 3");
+    assertArrayEquals(new int[] {1, 2, 3}, reader.getIntArray("ints").get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testGetIntArrayWithInvalidElement() {
+    properties.setProperty("ints", "1, two, 3");
+    reader.getIntArray("ints").get();
+  }
+
+  @Test
+  public void testGetLongArray() {
+    properties.setProperty("longs", "1, 9000000000");
+    assertArrayEquals(new long[] {1L, 9_000_000_000L}, reader.getLongArray("longs").get());
+  }
+
+  @Test
+  public void testGetDoubleArray() {
+    properties.setProperty("doubles", "0.5, 0.25");
+    assertArrayEquals(new double[] {0.5, 0.25}, reader.getDoubleArray("doubles").get(), 0d);
+  }
+
+  @Test
+  public void testGetStringList() {
+    properties.setProperty("strings", "a, b ,c");
+    assertEquals(Arrays.asList("a", "b", "c"), reader.getStringList("strings").get());
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testArrayElementConstraint() {
+    properties.setProperty("ints", "1, -2, 3");
+    reader.getIntArray("ints").addConstraint(ListParsers.eachInt(value -> value > 0)).get();
+  }
+
+  @Test
+  public void testGetIntSet() {
+    properties.setProperty("blocked.ids", "17, 4, 17");
+    assertEquals(IntSet.of(4, 17), reader.getIntSet("blocked.ids").get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testGetIntSetWithInvalidElement() {
+    properties.setProperty("blocked.ids", "17, x");
+    reader.getIntSet("blocked.ids").get();
+  }
+
+  @Test
+  public void testGetLongSet() {
+    properties.setProperty("blocked.accounts", "9000000000, 1");
+    assertEquals(LongSet.of(1L, 9_000_000_000L), reader.getLongSet("blocked.accounts").get());
+  }
+
+  @Test
+  public void testGetStringSet() {
+    properties.setProperty("allowed.hosts", "alpha, beta");
+    assertEquals(StringSet.of("alpha", "beta"), reader.getStringSet("allowed.hosts").get());
+  }
+
+  @Test
+  public void testGetCidrSet() {
+    properties.setProperty("allowed.cidrs", "10.0.0.0/8, 2001:db8::/32");
+    CidrSet cidrs = reader.getCidrSet("allowed.cidrs").get();
+    assertTrue(cidrs.contains("10.1.2.3"));
+    assertTrue(cidrs.contains("2001:db8::1"));
+    assertFalse(cidrs.contains("192.168.0.1"));
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testGetCidrSetWithInvalidRange() {
+    properties.setProperty("allowed.cidrs", "10.0.0.0/33");
+    reader.getCidrSet("allowed.cidrs").get();
+  }
+
+  @Test
+  public void testGetDuration() {
+    properties.setProperty("timeout", "250ms");
+    assertEquals(Duration.ofMillis(250), reader.getDuration("timeout").get());
+    assertEquals(250_000_000L, reader.getDurationNanos("timeout").get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testGetDurationNanosWithInvalidUnit() {
+    properties.setProperty("timeout", "250 fortnights");
+    reader.getDurationNanos("timeout").get();
+  }
+
+  @Test
+  public void testGetDurationNanosWithConstraintAndDefault() {
+    properties.setProperty("timeout", "-1s");
+    long nanos = reader.getDurationNanos("timeout")
+                       .addConstraint(value -> value > 0)
+                       .withDefaultSettings(new LongDefaultSettings()
+                                                .when(DefaultCondition.IS_INVALID)
+                                                .thenReturn(5L))
+                       .get();
+    assertEquals(5L, nanos);
+  }
+
+  @Test
+  public void testGetDataSize() {
+    properties.setProperty("buffer", "512MB");
+    assertEquals(DataSize.ofMegabytes(512), reader.getDataSize("buffer").get());
+    assertEquals(512L << 20, reader.getSizeBytes("buffer").get());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testGetSizeBytesWithNegativeSize() {
+    properties.setProperty("buffer", "-512MB");
+    reader.getSizeBytes("buffer").get();
+  }
+
+  @Test
+  public void testReaderSeesChangesToProperties() {
+    properties.setProperty(STRING_LABEL, "changed");
+    assertEquals("changed", reader.getString(STRING_LABEL).get());
+  }
+
+  @Test
+  public void testSnapshotDoesNotSeeChangesToProperties() {
+    PropertyReader snapshotReader = PropertyReader.snapshot(properties);
+    properties.setProperty(STRING_LABEL, "changed");
+    assertEquals(STRING_VALUE, snapshotReader.getString(STRING_LABEL).get());
+    assertEquals(INT_VALUE, snapshotReader.getInt(INT_LABEL).get());
+  }
+
   @Test
   public void testCustom() {
     String key = "custom";
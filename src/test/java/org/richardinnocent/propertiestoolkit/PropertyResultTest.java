@@ -0,0 +1,75 @@
+package org.richardinnocent.propertiestoolkit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertyResultTest {
+
+  private static final String KEY = "key";
+  private static final String VALUE = "value";
+
+  @Test
+  public void testSuccess() {
+    PropertyResult<String> result = PropertyResult.success(KEY, VALUE, "parsed");
+    assertTrue(result.isSuccessful());
+    assertEquals("parsed", result.orElse("other"));
+    assertEquals("parsed", result.orElseThrow());
+    assertEquals(KEY, result.getKey());
+    assertEquals(VALUE, result.getRawValue());
+    assertNull(result.getCondition());
+    assertNull(result.getCause());
+  }
+
+  @Test
+  public void testFailure() {
+    RuntimeException cause = new RuntimeException();
+    PropertyResult<String> result =
+        PropertyResult.failure(KEY, VALUE, DefaultCondition.IS_INVALID, cause);
+    assertFalse(result.isSuccessful());
+    assertEquals("other", result.orElse("other"));
+    assertEquals(DefaultCondition.IS_INVALID, result.getCondition());
+    assertSame(cause, result.getCause());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testFailureRequiresCondition() {
+    PropertyResult.failure(KEY, VALUE, null, null);
+  }
+
+  @Test
+  public void testOrElseThrowCreatesTheExceptionForTheCondition() {
+    try {
+      PropertyResult.failure(KEY, null, DefaultCondition.IS_EMPTY, null).orElseThrow();
+      fail("Expected a MissingPropertyException");
+    } catch (MissingPropertyException e) {
+      assertEquals("Property, key, is missing", e.getMessage());
+    }
+
+    Exception cause = new NumberFormatException();
+    try {
+      PropertyResult.failure(KEY, VALUE, DefaultCondition.PARSE_FAILS, cause).orElseThrow();
+      fail("Expected an InvalidTypeException");
+    } catch (InvalidTypeException e) {
+      assertSame(cause, e.getCause());
+    }
+
+    try {
+      PropertyResult.failure(KEY, VALUE, DefaultCondition.IS_INVALID, null).orElseThrow();
+      fail("Expected a ValidationException");
+    } catch (ValidationException e) {
+      assertNull(e.getCause());
+    }
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("key: 12", PropertyResult.success(KEY, "12", 12).toString());
+    assertEquals("key: value (PARSE_FAILS)",
+                 PropertyResult.failure(KEY, VALUE, DefaultCondition.PARSE_FAILS, null).toString());
+  }
+
+}
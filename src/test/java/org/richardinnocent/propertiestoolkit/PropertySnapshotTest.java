@@ -0,0 +1,145 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertySnapshotTest {
+
+  @Test
+  public void testSnapshotOfPropertiesIncludesDefaults() {
+    Properties defaults = new Properties();
+    defaults.setProperty("overridden", "default");
+    defaults.setProperty("inherited", "default");
+    Properties properties = new Properties(defaults);
+    properties.setProperty("overridden", "value");
+
+    PropertySnapshot snapshot = PropertySnapshot.of(properties);
+    assertEquals("value", snapshot.getProperty("overridden"));
+    assertEquals("default", snapshot.getProperty("inherited"));
+    assertNull(snapshot.getProperty("missing"));
+    assertEquals(2, snapshot.size());
+  }
+
+  @Test
+  public void testSnapshotIsNotAffectedByLaterChanges() {
+    Properties properties = new Properties();
+    properties.setProperty("key", "value");
+    PropertySnapshot snapshot = PropertySnapshot.of(properties);
+
+    properties.setProperty("key", "changed");
+    properties.setProperty("other", "value");
+
+    assertEquals("value", snapshot.getProperty("key"));
+    assertNull(snapshot.getProperty("other"));
+  }
+
+  @Test
+  public void testManyKeys() {
+    Map<String, String> values = new HashMap<>();
+    for (int i = 0; i < 10_000; i++)
+      values.put("key." + i, Integer.toString(i));
+
+    PropertySnapshot snapshot = PropertySnapshot.of(values);
+    assertEquals(values.size(), snapshot.size());
+    for (int i = 0; i < 10_000; i++)
+      assertEquals(Integer.toString(i), snapshot.getProperty("key." + i));
+    assertNull(snapshot.getProperty("key.10000"));
+    assertEquals(values.keySet(), snapshot.keys());
+  }
+
+  @Test
+  public void testCollidingHashes() {
+    // "Aa" and "BB" have the same hash code
+    Map<String, String> values = new HashMap<>();
+    values.put("Aa", "1");
+    values.put("BB", "2");
+    values.put("AaAa", "3");
+    values.put("BBBB", "4");
+    values.put("AaBB", "5");
+
+    PropertySnapshot snapshot = PropertySnapshot.of(values);
+    values.forEach((key, value) -> assertEquals(value, snapshot.getProperty(key)));
+    assertNull(snapshot.getProperty("BBAa"));
+  }
+
+  @Test
+  public void testNullValuesAreIgnored() {
+    Map<String, String> values = new HashMap<>();
+    values.put("key", null);
+    PropertySnapshot snapshot = PropertySnapshot.of(values);
+    assertEquals(0, snapshot.size());
+    assertTrue(snapshot.keys().isEmpty());
+    assertNull(snapshot.getProperty("key"));
+  }
+
+  @Test
+  public void testSnapshotOfSnapshotIsSameInstance() {
+    PropertySnapshot snapshot = PropertySnapshot.of(new Properties());
+    assertSame(snapshot, PropertySnapshot.of((PropertySource) snapshot));
+  }
+
+  @Test
+  public void testSnapshotOfSource() {
+    Properties properties = new Properties();
+    properties.setProperty("key", "value");
+    PropertySnapshot snapshot = PropertySnapshot.of(PropertySource.of(properties));
+    assertEquals("value", snapshot.getProperty("key"));
+  }
+
+  @Test
+  public void testKeys() {
+    Map<String, String> values = new HashMap<>();
+    values.put("a", "1");
+    values.put("b", "2");
+    PropertySnapshot snapshot = PropertySnapshot.of(values);
+
+    assertEquals(new HashSet<>(Arrays.asList("a", "b")), snapshot.keys());
+    assertTrue(snapshot.keys().contains("a"));
+    assertFalse(snapshot.keys().contains("c"));
+    assertFalse(snapshot.keys().contains(1));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testKeysCannotBeModified() {
+    PropertySnapshot.of(new Properties()).keys().add("key");
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testKeyIteratorIsExhausted() {
+    Iterator<String> iterator = PropertySnapshot.of(new Properties()).keys().iterator();
+    assertFalse(iterator.hasNext());
+    iterator.next();
+  }
+
+  @Test
+  public void testToString() {
+    Map<String, String> values = new HashMap<>();
+    values.put("key", "value");
+    assertEquals("{key=value}", PropertySnapshot.of(values).toString());
+  }
+
+  @Test
+  public void testKeysWithPrefix() {
+    Map<String, String> values = new HashMap<>();
+    values.put("db.url", "a");
+    values.put("cache.size", "b");
+    values.put("db.pool", "c");
+    PropertySnapshot snapshot = PropertySnapshot.of(values);
+    assertEquals(Arrays.asList("db.pool", "db.url"), snapshot.keysWithPrefix("db."));
+    assertEquals(Arrays.asList("cache.size"), snapshot.keysWithPrefix("cache"));
+    assertTrue(snapshot.keysWithPrefix("queue.").isEmpty());
+  }
+
+}
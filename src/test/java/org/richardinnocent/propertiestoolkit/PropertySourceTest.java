@@ -0,0 +1,61 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertySourceTest {
+
+  @Test
+  public void testPropertiesSourceIsALiveView() {
+    Properties defaults = new Properties();
+    defaults.setProperty("default", "a");
+    Properties properties = new Properties(defaults);
+    PropertySource source = PropertySource.of(properties);
+
+    assertEquals("a", source.getProperty("default"));
+    assertNull(source.getProperty("key"));
+
+    properties.setProperty("key", "b");
+    assertEquals("b", source.getProperty("key"));
+    assertEquals(new HashSet<>(Arrays.asList("default", "key")),
+                 source.keys());
+  }
+
+  @Test
+  public void testEmptyProperties() {
+    assertEquals(Collections.emptySet(), PropertySource.of(new Properties()).keys());
+  }
+
+  @Test
+  public void testKeysWithPrefixAreSorted() {
+    Properties properties = new Properties();
+    properties.setProperty("db.url", "a");
+    properties.setProperty("cache.size", "b");
+    properties.setProperty("db.pool", "c");
+    assertEquals(Arrays.asList("db.pool", "db.url"),
+                 PropertySource.of(properties).keysWithPrefix("db."));
+  }
+
+  @Test
+  public void testMapSourceIsALiveView() {
+    Map<String, String> map = new HashMap<>();
+    PropertySource source = PropertySource.of(map);
+    assertNull(source.getProperty("key"));
+
+    map.put("key", "value");
+    assertEquals("value", source.getProperty("key"));
+    assertEquals(Collections.singleton("key"), source.keys());
+  }
+
+}
@@ -0,0 +1,211 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class PropertySpecTest {
+
+  private static final PropertySpec<Integer> INT_SPEC =
+      PropertySpec.of("int", NumberParsers.INTEGER);
+
+  private Properties properties;
+  private PropertyReader reader;
+
+  @Before
+  public void setUp() {
+    properties = new Properties();
+    properties.setProperty("int", "43");
+    properties.setProperty("negative", "-43");
+    properties.setProperty("string", "string");
+    properties.setProperty("app.int", "12");
+    reader = new PropertyReader(properties);
+  }
+
+  @Test
+  public void testBasicParsing() {
+    assertEquals(Integer.valueOf(43), INT_SPEC.get(reader));
+  }
+
+  @Test
+  public void testSpecIsEvaluatedAgainstCurrentValue() {
+    assertEquals(Integer.valueOf(43), INT_SPEC.get(reader));
+    properties.setProperty("int", "44");
+    assertEquals(Integer.valueOf(44), INT_SPEC.get(reader));
+  }
+
+  @Test
+  public void testSpecCanBeEvaluatedAgainstAnyReader() {
+    Properties other = new Properties();
+    other.setProperty("int", "7");
+    assertEquals(Integer.valueOf(7), INT_SPEC.get(new PropertyReader(other)));
+    assertEquals(Integer.valueOf(43), INT_SPEC.get(reader));
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testMissingPropertyWithNoDefault() {
+    PropertySpec.of("missing", NumberParsers.INTEGER).get(reader);
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testInvalidTypeWithNoDefault() {
+    PropertySpec.of("string", NumberParsers.INTEGER).get(reader);
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testParserThrowingWithNoDefault() {
+    PropertySpec.of("string", Integer::parseInt).get(reader);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testFailedConstraintWithNoDefault() {
+    PropertySpec.of("negative", NumberParsers.INTEGER)
+                .withConstraint(value -> value > 0)
+                .get(reader);
+  }
+
+  @Test
+  public void testDefaultsAreApplied() {
+    AtomicInteger tasks = new AtomicInteger();
+    DefaultSettings<Integer> settings = new DefaultSettings<Integer>()
+        .when(DefaultCondition.values())
+        .thenDo((key, value) -> tasks.incrementAndGet())
+        .thenReturn(1);
+    PropertySpec<Integer> positive = PropertySpec.of("negative", NumberParsers.INTEGER)
+                                                 .withConstraint(value -> value > 0)
+                                                 .withDefaultSettings(settings);
+    assertEquals(Integer.valueOf(1), positive.get(reader));
+    assertEquals(Integer.valueOf(1),
+                 PropertySpec.of("missing", NumberParsers.INTEGER)
+                             .withDefaultSettings(settings)
+                             .get(reader));
+    assertEquals(2, tasks.get());
+  }
+
+  @Test
+  public void testWithMethodsDoNotModifyTheOriginal() {
+    PropertySpec<Integer> unconstrained = PropertySpec.of("negative", NumberParsers.INTEGER);
+    PropertySpec<Integer> positive = unconstrained.withConstraint(value -> value > 0);
+    PropertySpec<Integer> even = positive.withConstraint(value -> value % 2 == 0);
+
+    assertEquals(Integer.valueOf(-43), unconstrained.get(reader));
+    assertEquals(DefaultCondition.IS_INVALID, positive.evaluate(reader).getCondition());
+    assertEquals(DefaultCondition.IS_INVALID, even.evaluate(reader).getCondition());
+
+    PropertySpec<Integer> withDefault = positive.withDefaultSettings(
+        new DefaultSettings<Integer>().when(DefaultCondition.IS_INVALID).thenReturn(0));
+    assertEquals(Integer.valueOf(0), withDefault.get(reader));
+    assertFalse(positive.evaluate(reader).isSuccessful());
+    assertFalse(withDefault.withDefaultSettings(null).evaluate(reader).isSuccessful());
+  }
+
+  @Test
+  public void testEvaluateReportsFailureWithoutThrowing() {
+    PropertyResult<Integer> result = PropertySpec.of("string", NumberParsers.INTEGER)
+                                                 .evaluate(reader);
+    assertFalse(result.isSuccessful());
+    assertEquals("string", result.getKey());
+    assertEquals(DefaultCondition.PARSE_FAILS, result.getCondition());
+  }
+
+  @Test
+  public void testSpecMatchesEquivalentProperty() {
+    String[] keys = {"int", "negative", "string", "missing"};
+    for (String key : keys) {
+      PropertyResult<Integer> fromSpec = PropertySpec.of(key, NumberParsers.INTEGER)
+                                                     .withConstraint(value -> value > 0)
+                                                     .evaluate(reader);
+      PropertyResult<Integer> fromProperty = reader.getInt(key)
+                                                   .addConstraint(value -> value > 0)
+                                                   .evaluate();
+      assertEquals(key, fromProperty.getCondition(), fromSpec.getCondition());
+      assertEquals(key, fromProperty.orElse(null), fromSpec.orElse(null));
+    }
+  }
+
+  @Test
+  public void testSpecIsRelativeToPrefix() {
+    assertEquals(Integer.valueOf(12), INT_SPEC.get(reader.withPrefix("app.")));
+  }
+
+  @Test
+  public void testSpecUsesCache() {
+    AtomicInteger parses = new AtomicInteger();
+    PropertySpec<Integer> spec = PropertySpec.of("int", value -> {
+      parses.incrementAndGet();
+      return Integer.parseInt(value);
+    });
+    CachingPropertyReader cachingReader = new CachingPropertyReader(properties);
+    assertEquals(Integer.valueOf(43), spec.get(cachingReader));
+    assertEquals(Integer.valueOf(43), spec.get(cachingReader));
+    assertEquals(1, parses.get());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullKeyIsRejected() {
+    PropertySpec.of(null, NumberParsers.INTEGER);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullParserIsRejected() {
+    PropertySpec.of("int", null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullConstraintIsRejected() {
+    INT_SPEC.withConstraint(null);
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testDefaultSettingsAddedAfterBuildingAreIgnored() {
+    DefaultSettings<Integer> settings = new DefaultSettings<>();
+    PropertySpec<Integer> spec =
+        PropertySpec.of("missing", NumberParsers.INTEGER).withDefaultSettings(settings);
+    settings.when(DefaultCondition.IS_EMPTY).thenReturn(5);
+    spec.get(reader);
+  }
+
+  @Test
+  public void testDefaultSettingsAreCopiedWhenBuilt() {
+    DefaultSettings<Integer> settings =
+        new DefaultSettings<Integer>().when(DefaultCondition.IS_EMPTY).thenReturn(5);
+    PropertySpec<Integer> spec =
+        PropertySpec.of("missing", NumberParsers.INTEGER).withDefaultSettings(settings);
+    settings.when(DefaultCondition.IS_EMPTY).thenReturn(6);
+    assertEquals(Integer.valueOf(5), spec.get(reader));
+  }
+
+  @Test
+  public void testSpecIsReadThroughOverriddenGetCustom() {
+    AtomicInteger calls = new AtomicInteger();
+    PropertyReader custom = new PropertyReader(properties) {
+      @Override
+      public <T> Property<T> getCustom(String key, Function<String, T> parser) {
+        calls.incrementAndGet();
+        return super.getCustom(key, parser);
+      }
+    };
+    assertEquals(Integer.valueOf(43), INT_SPEC.get(custom));
+    assertTrue(INT_SPEC.evaluate(custom).isSuccessful());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void testGetKey() {
+    assertEquals("int", INT_SPEC.getKey());
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("PropertySpec[int]", INT_SPEC.toString());
+  }
+
+}
@@ -55,6 +55,22 @@ public class PropertyTest {
                      .get());
   }
 
+  @Test(expected = InvalidTypeException.class)
+  public void testPropertyParserReturningNullWithNoDefault() {
+    new Property<>(KEY, STRING, NumberParsers.INTEGER).get();
+  }
+
+  @Test
+  public void testPropertyParserReturningNullWithDefault() {
+    DefaultSettings<Integer> settings = new DefaultSettings<Integer>()
+        .when(DefaultCondition.PARSE_FAILS)
+        .thenReturn(INT);
+    assertEquals(INT,
+                 new Property<>(KEY, STRING, NumberParsers.INTEGER)
+                     .withDefaultSettings(settings)
+                     .get());
+  }
+
   @Test(expected = ValidationException.class)
   public void testInvalidValueWithNoDefault() {
     new Property<>(KEY, INT_TEXT, INT_PARSER)
@@ -147,6 +163,48 @@ public class PropertyTest {
                      .get());
   }
 
+  @Test
+  public void testEvaluateSuccess() {
+    PropertyResult<Integer> result = new Property<>(KEY, INT_TEXT, INT_PARSER).evaluate();
+    assertTrue(result.isSuccessful());
+    assertEquals(INT, result.orElseThrow());
+    assertNull(result.getCondition());
+  }
+
+  @Test
+  public void testEvaluateReportsEachCondition() {
+    assertEquals(DefaultCondition.IS_EMPTY,
+                 new Property<>(KEY, "", INT_PARSER).evaluate().getCondition());
+    assertEquals(DefaultCondition.PARSE_FAILS,
+                 new Property<>(KEY, STRING, NumberParsers.INTEGER).evaluate().getCondition());
+    assertEquals(DefaultCondition.IS_INVALID,
+                 new Property<>(KEY, INT_TEXT, INT_PARSER)
+                     .addConstraint(value -> value < INT)
+                     .evaluate()
+                     .getCondition());
+  }
+
+  @Test
+  public void testEvaluateKeepsParserException() {
+    PropertyResult<Integer> result = new Property<>(KEY, STRING, INT_PARSER).evaluate();
+    assertFalse(result.isSuccessful());
+    assertEquals(DefaultCondition.PARSE_FAILS, result.getCondition());
+    assertTrue(result.getCause() instanceof NumberFormatException);
+    assertEquals(KEY, result.getKey());
+    assertEquals(STRING, result.getRawValue());
+  }
+
+  @Test
+  public void testEvaluateAppliesDefaults() {
+    DefaultSettings<Integer> settings = new DefaultSettings<Integer>()
+        .when(DefaultCondition.IS_EMPTY)
+        .thenReturn(INT);
+    PropertyResult<Integer> result =
+        new Property<>(KEY, null, INT_PARSER).withDefaultSettings(settings).evaluate();
+    assertTrue(result.isSuccessful());
+    assertEquals(INT, result.orElseThrow());
+  }
+
   @Test
   public void testToString() {
     assertEquals(KEY + ": " + INT_TEXT,
@@ -0,0 +1,72 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class SortedKeyIndexTest {
+
+  private final SortedKeyIndex index = new SortedKeyIndex(Arrays.asList(
+      "db.replica.url", "db.primary.url", "db.primary.user", "db", "dbx", "cache.size",
+      "db.primary.pool.max"));
+
+  @Test
+  public void testKeysWithPrefixAreSorted() {
+    assertEquals(Arrays.asList("db.primary.pool.max", "db.primary.url", "db.primary.user"),
+                 index.keysWithPrefix("db.primary."));
+  }
+
+  @Test
+  public void testKeyEqualToPrefixIsIncluded() {
+    assertEquals(Arrays.asList("db", "db.primary.pool.max", "db.primary.url", "db.primary.user",
+                               "db.replica.url", "dbx"),
+                 index.keysWithPrefix("db"));
+  }
+
+  @Test
+  public void testEmptyPrefixGivesEveryKey() {
+    assertEquals(7, index.keysWithPrefix("").size());
+    assertEquals(7, index.size());
+  }
+
+  @Test
+  public void testUnknownPrefixGivesNoKeys() {
+    assertTrue(index.keysWithPrefix("queue.").isEmpty());
+    assertTrue(index.keysWithPrefix("zzz").isEmpty());
+    assertTrue(index.keysWithPrefix("a").isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testKeysCannotBeModified() {
+    index.keysWithPrefix("db").clear();
+  }
+
+  @Test
+  public void testMatchesLinearScan() {
+    Random random = new Random(16);
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      keys.add("s" + random.nextInt(20) + "." + random.nextInt(50) + ".k" + i);
+    }
+    SortedKeyIndex randomIndex = new SortedKeyIndex(keys);
+    for (String prefix : Arrays.asList("s1", "s1.", "s19.4", "s3.30.", "s7.7.k", "t", "")) {
+      List<String> expected = new ArrayList<>();
+      for (String key : keys) {
+        if (key.startsWith(prefix))
+          expected.add(key);
+      }
+      Collections.sort(expected);
+      assertEquals(expected, randomIndex.keysWithPrefix(prefix));
+    }
+  }
+
+}
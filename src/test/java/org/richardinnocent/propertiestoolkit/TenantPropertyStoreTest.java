@@ -0,0 +1,182 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class TenantPropertyStoreTest {
+
+  @Test
+  public void testTenantsAreReadIndependently() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties("pool.threads", "8", "host", "acme.example.com"));
+    store.put("globex", properties("pool.threads", "16", "region", "eu"));
+
+    assertEquals(8, (int) store.getReader("acme").getInt("pool.threads").get());
+    assertEquals("acme.example.com", store.getSource("acme").getProperty("host"));
+    assertNull(store.getSource("acme").getProperty("region"));
+    assertEquals(16, (int) store.getReader("globex").getInt("pool.threads").get());
+    assertEquals("eu", store.getSource("globex").getProperty("region"));
+    assertNull(store.getSource("globex").getProperty("host"));
+    assertNull(store.getSource("globex").getProperty("missing"));
+  }
+
+  @Test
+  public void testKeysAreShared() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    for (int i = 0; i < 100; i++) {
+      store.put("tenant" + i, properties("a", "1", "b", "2", "c", "tenant" + i));
+    }
+    store.put("extra", properties("a", "1", "d", "4"));
+    assertEquals(101, store.size());
+    assertEquals(4, store.getKeyCount());
+  }
+
+  @Test
+  public void testValuesAreDeduplicated() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties("enabled", new String("true"), "name", "acme"));
+    store.put("globex", properties("enabled", new String("true"), "name", "globex"));
+    assertSame(store.getSource("acme").getProperty("enabled"),
+               store.getSource("globex").getProperty("enabled"));
+    assertEquals(3, store.getValueCount());
+  }
+
+  @Test
+  public void testPropertiesIncludeDefaults() {
+    Properties defaults = properties("inherited", "default", "overridden", "default");
+    Properties properties = new Properties(defaults);
+    properties.setProperty("overridden", "value");
+
+    TenantPropertyStore store = new TenantPropertyStore();
+    PropertySource source = store.put("acme", properties);
+    assertEquals("default", source.getProperty("inherited"));
+    assertEquals("value", source.getProperty("overridden"));
+  }
+
+  @Test
+  public void testStoredPropertiesAreACopy() {
+    Properties properties = properties("key", "value");
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties);
+    properties.setProperty("key", "changed");
+    properties.setProperty("added", "value");
+    assertEquals("value", store.getSource("acme").getProperty("key"));
+    assertNull(store.getSource("acme").getProperty("added"));
+  }
+
+  @Test
+  public void testPutReplacesTenant() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    PropertySource original = store.put("acme", properties("key", "original"));
+    store.put("acme", properties("key", "replaced"));
+    assertEquals("replaced", store.getSource("acme").getProperty("key"));
+    assertEquals("original", original.getProperty("key"));
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  public void testSourceStillResolvesKeysAfterDictionaryGrows() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    PropertySource acme = store.put("acme", properties("a", "1"));
+    for (int i = 0; i < 1000; i++) {
+      store.put("tenant" + i, properties("key" + i, "value" + i));
+    }
+    assertEquals("1", acme.getProperty("a"));
+    assertNull(acme.getProperty("key500"));
+    assertEquals("value500", store.getSource("tenant500").getProperty("key500"));
+    assertNull(store.getSource("tenant500").getProperty("a"));
+  }
+
+  @Test
+  public void testKeys() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties("a", "1", "b", "2", "c", "3"));
+    PropertySource globex = store.put("globex", properties("c", "3", "d", "4"));
+
+    assertEquals(new HashSet<>(Arrays.asList("c", "d")), globex.keys());
+    assertEquals(2, globex.keys().size());
+    assertTrue(globex.keys().contains("d"));
+    assertFalse(globex.keys().contains("a"));
+
+    Iterator<String> iterator = globex.keys().iterator();
+    iterator.next();
+    iterator.next();
+    assertFalse(iterator.hasNext());
+    try {
+      iterator.next();
+      fail("Expected a NoSuchElementException");
+    } catch (NoSuchElementException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testPutFromSource() {
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "value");
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", PropertySnapshot.of(map));
+    assertEquals("value", store.getSource("acme").getProperty("key"));
+  }
+
+  @Test
+  public void testUnknownTenant() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    assertNull(store.getSource("acme"));
+    assertNull(store.getReader("acme"));
+    assertNull(store.remove("acme"));
+  }
+
+  @Test
+  public void testRemove() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties("key", "value"));
+    store.put("globex", properties("key", "value"));
+    PropertySource removed = store.remove("acme");
+    assertEquals("value", removed.getProperty("key"));
+    assertNull(store.getSource("acme"));
+    assertEquals(new HashSet<>(Arrays.asList("globex")), store.tenants());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testTenantsCannotBeModified() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    store.put("acme", properties("key", "value"));
+    store.tenants().remove("acme");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullTenantIsRejected() {
+    new TenantPropertyStore().put(null, properties("key", "value"));
+  }
+
+  @Test
+  public void testToString() {
+    TenantPropertyStore store = new TenantPropertyStore();
+    PropertySource source = store.put("acme", properties("a", "1"));
+    store.put("globex", properties("b", "2"));
+    assertEquals("{a=1}", source.toString());
+    assertEquals("TenantPropertyStore[2 tenants, 2 keys]", store.toString());
+  }
+
+  private static Properties properties(String... keysAndValues) {
+    Properties properties = new Properties();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return properties;
+  }
+
+}
@@ -0,0 +1,112 @@
+package org.richardinnocent.propertiestoolkit;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class UnitParsersTest {
+
+  @Test
+  public void testParseDurationUnits() {
+    assertEquals(250L, nanos("250ns"));
+    assertEquals(250_000L, nanos("250us"));
+    assertEquals(250_000L, nanos("250\u00B5s"));
+    assertEquals(250_000_000L, nanos("250ms"));
+    assertEquals(30_000_000_000L, nanos("30s"));
+    assertEquals(Duration.ofMinutes(5).toNanos(), nanos("5m"));
+    assertEquals(Duration.ofMinutes(5).toNanos(), nanos("5min"));
+    assertEquals(Duration.ofHours(2).toNanos(), nanos("2h"));
+    assertEquals(Duration.ofDays(7).toNanos(), nanos("7d"));
+  }
+
+  @Test
+  public void testParseDurationWithoutUnitIsMilliseconds() {
+    assertEquals(1_500_000_000L, nanos("1500"));
+  }
+
+  @Test
+  public void testParseDurationFormatting() {
+    assertEquals(30_000_000_000L, nanos(" 30 s "));
+    assertEquals(30_000_000_000L, nanos("30S"));
+    assertEquals(1_500_000_000L, nanos("1.5s"));
+    assertEquals(1_000_000_000_000L, nanos("1_000s"));
+    assertEquals(-5_000_000_000L, nanos("-5s"));
+  }
+
+  @Test
+  public void testParseIsoDuration() {
+    assertEquals(30_000_000_000L, nanos("PT30S"));
+    assertEquals(Duration.ofMinutes(-90).toNanos(), nanos(" -PT1H30M "));
+    assertEquals(UnitParsers.INVALID, nanos("PT"));
+  }
+
+  @Test
+  public void testParseDurationFailures() {
+    String[] invalid = {
+        "", " ", "s", "5 5s", "5x", "5sec", "5 ms s", "1.2.3s", "NaNs", "Infinity ms",
+        "106752d", "9223372036854775807ns0", "-9223372036854775808ns", "P1000000000D"
+    };
+    for (String text : invalid) {
+      assertEquals(text, UnitParsers.INVALID, nanos(text));
+    }
+  }
+
+  @Test
+  public void testParseDurationWithinRange() {
+    assertEquals(5_000_000_000L, UnitParsers.parseDurationNanos("timeout=5s;", 8, 10));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testParseDurationWithInvalidRange() {
+    UnitParsers.parseDurationNanos("5s", 1, 3);
+  }
+
+  @Test
+  public void testParseSizeUnits() {
+    assertEquals(512L, bytes("512"));
+    assertEquals(512L, bytes("512B"));
+    assertEquals(2048L, bytes("2KB"));
+    assertEquals(2048L, bytes("2k"));
+    assertEquals(2048L, bytes("2KiB"));
+    assertEquals(512L << 20, bytes("512MB"));
+    assertEquals(512L << 20, bytes("512 mb"));
+    assertEquals(3L << 30, bytes("3G"));
+    assertEquals(1L << 40, bytes("1TiB"));
+    assertEquals(1536L, bytes("1.5KB"));
+  }
+
+  @Test
+  public void testParseSizeFailures() {
+    String[] invalid = {"", "KB", "-1KB", "5PB", "5KBB", "5Ki", "5 iB", "8388608TB", "1.5.1MB"};
+    for (String text : invalid) {
+      assertEquals(text, UnitParsers.INVALID, bytes(text));
+    }
+  }
+
+  @Test
+  public void testDurationParser() {
+    assertEquals(Duration.ofMillis(250), UnitParsers.DURATION.parseOrNull("250ms"));
+    assertNull(UnitParsers.DURATION.parseOrNull("250 lightyears"));
+  }
+
+  @Test
+  public void testDataSizeParser() {
+    assertEquals(DataSize.ofMegabytes(512), UnitParsers.DATA_SIZE.parseOrNull("512MB"));
+    assertNull(UnitParsers.DATA_SIZE.parseOrNull("-512MB"));
+  }
+
+  private static long nanos(String text) {
+    return UnitParsers.parseDurationNanos(text, 0, text.length());
+  }
+
+  private static long bytes(String text) {
+    return UnitParsers.parseSizeBytes(text, 0, text.length());
+  }
+
+}
@@ -0,0 +1,360 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.PropertyConstraint;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unused")
+public class BindingPlanTest {
+
+  @Test
+  public void testPlanIsCompiledOncePerClass() {
+    assertSame(BindingPlan.forClass(CountingBean.class), BindingPlan.forClass(CountingBean.class));
+  }
+
+  @Test
+  public void testExtractorIsOnlyInstantiatedWhenThePlanIsCompiled() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "value");
+    new CountingBean(properties);
+    int instances = CountingExtractor.INSTANCES.get();
+    CountingBean bean = new CountingBean(properties);
+    assertEquals(instances, CountingExtractor.INSTANCES.get());
+    assertEquals("value", bean.field);
+  }
+
+  @Test
+  public void testPlanAppliesToEachBeanIndependently() {
+    Properties first = new Properties();
+    first.setProperty("field", "first");
+    Properties second = new Properties();
+    second.setProperty("field", "second");
+    assertEquals("first", new CountingBean(first).field);
+    assertEquals("second", new CountingBean(second).field);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testInvalidAnnotationIsReportedWhenThePlanIsCompiled() {
+    BindingPlan.forClass(FinalFieldBean.class);
+  }
+
+  @Test
+  public void testPrimitiveFieldsAreWritten() {
+    Properties properties = new Properties();
+    properties.setProperty("intField", "12");
+    properties.setProperty("longField", "4200000000");
+    properties.setProperty("doubleField", "1.5");
+    properties.setProperty("booleanField", "true");
+    PrimitiveBean bean = new PrimitiveBean(properties);
+    assertEquals(12, bean.intField);
+    assertEquals(4_200_000_000L, bean.longField);
+    assertEquals(1.5d, bean.doubleField, 1e-9);
+    assertTrue(bean.booleanField);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testValueOfTheWrongTypeIsRejected() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "12");
+    new WrongTypeBean(properties);
+  }
+
+  @Test
+  public void testIntegerIsWidenedIntoLongField() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "5");
+    assertEquals(5L, new WideningLongBean(properties).field);
+  }
+
+  @Test
+  public void testByteIsWidenedIntoIntField() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "-3");
+    assertEquals(-3, new WideningIntBean(properties).field);
+  }
+
+  @Test
+  public void testLongIsNotNarrowedIntoIntField() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "5");
+    try {
+      new NarrowingIntBean(properties);
+      fail("Expected the value of the wrong type to be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Cannot set field field to a value of type java.lang.Long", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testBinderNameIsDerivedFromTheBinaryName() {
+    assertEquals("org.richardinnocent.propertiestoolkit.annotations.BindingPlanTest_CountingBeanBinder",
+                 BindingPlan.getBinderName(CountingBean.class));
+    assertEquals("java.lang.ObjectBinder", BindingPlan.getBinderName(Object.class));
+  }
+
+  @Test
+  public void testGeneratedBinderIsUsedWhenPresent() {
+    Properties properties = new Properties();
+    properties.setProperty("field", "value");
+    assertEquals("value from generated binder", new GeneratedBinderBean(properties).field);
+  }
+
+  @Test
+  public void testGeneratedBinderThatCannotBeInstantiatedIsReported() {
+    try {
+      BindingPlan.forClass(UninstantiableBinderBean.class);
+      fail("Expected the binder to be reported");
+    } catch (InvalidAnnotationException e) {
+      assertTrue(e.getMessage().contains(
+          BindingPlanTest_UninstantiableBinderBeanBinder.class.getName()));
+    }
+  }
+
+  @Test
+  public void testGeneratedBinderThatCannotBeInitialisedIsReported() {
+    try {
+      BindingPlan.forClass(UninitialisableBinderBean.class);
+      fail("Expected the binder to be reported");
+    } catch (InvalidAnnotationException e) {
+      assertTrue(e.getMessage().contains(
+          BindingPlanTest_UninitialisableBinderBeanBinder.class.getName()));
+      assertTrue(e.getCause() instanceof NullPointerException);
+    }
+  }
+
+  @Test
+  public void testListFieldsAreWritten() {
+    Properties properties = listProperties("80, 443", "0.5, 0.25");
+    properties.setProperty("hosts", "alpha, beta");
+    ListBean bean = new ListBean(properties);
+    assertArrayEquals(new int[] {80, 443}, bean.ports);
+    assertArrayEquals(new double[] {0.5, 0.25}, bean.weights, 0d);
+    assertEquals(Arrays.asList("alpha", "beta"), bean.hosts);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testConstraintIsAppliedToEachElementOfAnArray() {
+    Properties properties = listProperties("80, -443", "0.5");
+    properties.setProperty("hosts", "alpha");
+    new ListBean(properties);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testConstraintIsAppliedToEachElementOfAList() {
+    Properties properties = listProperties("80", "0.5");
+    properties.setProperty("hosts", "alpha,,beta");
+    new ListBean(properties);
+  }
+
+  @Test
+  public void testListOfAnotherTypeIsRejected() {
+    try {
+      BindingPlan.forClass(IntegerListBean.class);
+      fail("Expected the list of integers to be rejected");
+    } catch (InvalidAnnotationException e) {
+      assertTrue(e.getMessage().contains("List<String>"));
+    }
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testRawListIsRejected() {
+    BindingPlan.forClass(RawListBean.class);
+  }
+
+  @Test
+  public void testClassWithoutAnnotationsHasAnEmptyPlan() {
+    BindingPlan.forClass(Object.class).bind(new Object(), new PropertyReader(new Properties()));
+  }
+
+  private static Properties listProperties(String ports, String weights) {
+    Properties properties = new Properties();
+    properties.setProperty("ports", ports);
+    properties.setProperty("weights", weights);
+    return properties;
+  }
+
+  public static class CountingExtractor implements PropertyExtractor<String> {
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountingExtractor() {
+      INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public Function<String, String> getExtractionMethod() {
+      return text -> text;
+    }
+  }
+
+  private static class CountingBean extends PropertiesBean {
+    @FromProperty(extractor = CountingExtractor.class)
+    private String field;
+
+    private CountingBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  public static class LongExtractor implements PropertyExtractor<Long> {
+    @Override
+    public Function<String, Long> getExtractionMethod() {
+      return Long::valueOf;
+    }
+  }
+
+  private static class PrimitiveBean extends PropertiesBean {
+    @FromProperty
+    private int intField;
+    @FromProperty
+    private long longField;
+    @FromProperty
+    private double doubleField;
+    @FromProperty
+    private boolean booleanField;
+
+    private PrimitiveBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class WrongTypeBean extends PropertiesBean {
+    @FromProperty(extractor = LongExtractor.class)
+    private int field;
+
+    private WrongTypeBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  public static class IntegerExtractor implements PropertyExtractor<Integer> {
+    @Override
+    public Function<String, Integer> getExtractionMethod() {
+      return Integer::valueOf;
+    }
+  }
+
+  public static class ByteExtractor implements PropertyExtractor<Byte> {
+    @Override
+    public Function<String, Byte> getExtractionMethod() {
+      return Byte::valueOf;
+    }
+  }
+
+  private static class WideningLongBean extends PropertiesBean {
+    @FromProperty(extractor = IntegerExtractor.class)
+    private long field;
+
+    private WideningLongBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class NarrowingIntBean extends PropertiesBean {
+    @FromProperty(extractor = LongExtractor.class)
+    private int field;
+
+    private NarrowingIntBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class WideningIntBean extends PropertiesBean {
+    @FromProperty(extractor = ByteExtractor.class)
+    private int field;
+
+    private WideningIntBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  static class GeneratedBinderBean extends PropertiesBean {
+    @FromProperty
+    String field;
+
+    private GeneratedBinderBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  static class UninstantiableBinderBean extends PropertiesBean {
+    @FromProperty
+    String field;
+
+    private UninstantiableBinderBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  static class UninitialisableBinderBean extends PropertiesBean {
+    @FromProperty
+    String field;
+
+    private UninitialisableBinderBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  public static class StringMustNotBeEmpty extends PropertyConstraint<String> {
+    public StringMustNotBeEmpty() {
+      super(String.class);
+    }
+
+    @Override
+    public Predicate<String> getConstraint() {
+      return value -> !value.isEmpty();
+    }
+  }
+
+  private static class ListBean extends PropertiesBean {
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private int[] ports;
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private double[] weights;
+    @FromProperty(constraints = StringMustNotBeEmpty.class)
+    private List<String> hosts;
+
+    private ListBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class IntegerListBean extends PropertiesBean {
+    @FromProperty
+    private List<Integer> ids;
+
+    private IntegerListBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static class RawListBean extends PropertiesBean {
+    @FromProperty
+    private List ids;
+
+    private RawListBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class FinalFieldBean extends PropertiesBean {
+    @FromProperty
+    private final String field = "value";
+
+    private FinalFieldBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+}
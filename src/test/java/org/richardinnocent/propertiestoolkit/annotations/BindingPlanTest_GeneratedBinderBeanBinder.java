@@ -0,0 +1,17 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Stands in for the binder that the annotation processor would generate for {@link
+ * BindingPlanTest.GeneratedBinderBean}.
+ */
+public final class BindingPlanTest_GeneratedBinderBeanBinder
+    implements PropertiesBinder<BindingPlanTest.GeneratedBinderBean> {
+
+  @Override
+  public void bind(BindingPlanTest.GeneratedBinderBean bean, PropertyReader reader) {
+    bean.field = reader.getString("field").get() + " from generated binder";
+  }
+
+}
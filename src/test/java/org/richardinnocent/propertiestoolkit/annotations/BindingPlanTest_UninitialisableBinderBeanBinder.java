@@ -0,0 +1,20 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+
+/**
+ * Stands in for a generated binder for {@link BindingPlanTest.UninitialisableBinderBean} whose
+ * specs cannot be compiled, so the class cannot be initialised.
+ */
+public final class BindingPlanTest_UninitialisableBinderBeanBinder
+    implements PropertiesBinder<BindingPlanTest.UninitialisableBinderBean> {
+
+  private static final PropertySpec<String> SPEC0 = PropertySpec.of("field", null);
+
+  @Override
+  public void bind(BindingPlanTest.UninitialisableBinderBean bean, PropertyReader reader) {
+    bean.field = SPEC0.get(reader);
+  }
+
+}
@@ -0,0 +1,19 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+/**
+ * Stands in for a generated binder for {@link BindingPlanTest.UninstantiableBinderBean} that
+ * cannot be instantiated, as it has no public no-argument constructor.
+ */
+public final class BindingPlanTest_UninstantiableBinderBeanBinder
+    implements PropertiesBinder<BindingPlanTest.UninstantiableBinderBean> {
+
+  private BindingPlanTest_UninstantiableBinderBeanBinder() {}
+
+  @Override
+  public void bind(BindingPlanTest.UninstantiableBinderBean bean, PropertyReader reader) {
+    bean.field = reader.getString("field").get();
+  }
+
+}
@@ -0,0 +1,215 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.InvalidTypeException;
+import org.richardinnocent.propertiestoolkit.MissingPropertyException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unused")
+public class BulkBinderTest {
+
+  @Test
+  public void testBeansAreBoundInInputOrder() {
+    List<PropertyReader> readers = new ArrayList<>();
+    for (int i = 1; i <= 1000; i++) {
+      readers.add(new PropertyReader(properties("tenant" + i, Integer.toString(i))));
+    }
+
+    BulkBindResult<TenantBean> result = BulkBinder.forClass(TenantBean.class).bindAll(readers);
+    assertTrue(result.isSuccessful());
+    assertEquals(1000, result.size());
+    List<TenantBean> beans = result.getBeans();
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("tenant" + (i + 1), beans.get(i).name);
+      assertEquals(i + 1, beans.get(i).threads);
+      assertSame(beans.get(i), result.getBean(i));
+      assertNull(result.getFailure(i));
+    }
+  }
+
+  @Test
+  public void testPropertiesAreBound() {
+    List<Properties> properties = new ArrayList<>();
+    for (int i = 1; i <= 100; i++) {
+      properties.add(properties("tenant" + i, Integer.toString(i)));
+    }
+
+    List<TenantBean> beans =
+        BulkBinder.forClass(TenantBean.class).bindAllProperties(properties).getBeans();
+    assertEquals(100, beans.size());
+    assertEquals("tenant100", beans.get(99).name);
+  }
+
+  @Test
+  public void testFailuresAreRecordedAgainstTheirInput() {
+    List<PropertyReader> readers = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      readers.add(new PropertyReader(properties("tenant" + i, "4")));
+    }
+    readers.set(3, new PropertyReader(properties(null, "4")));
+    readers.set(17, new PropertyReader(properties("tenant17", "many")));
+    readers.set(42, new PropertyReader(properties("tenant42", "-1")));
+
+    BulkBindResult<TenantBean> result = BulkBinder.forClass(TenantBean.class).bindAll(readers);
+    assertFalse(result.isSuccessful());
+    assertEquals(3, result.getFailureCount());
+    assertNull(result.getBean(3));
+    assertTrue(result.getFailure(3) instanceof MissingPropertyException);
+    assertTrue(result.getFailure(17) instanceof InvalidTypeException);
+    assertTrue(result.getFailure(42) instanceof ValidationException);
+    assertEquals("tenant4", result.getBean(4).name);
+
+    Map<Integer, RuntimeException> failures = result.getFailures();
+    assertEquals(Arrays.asList(3, 17, 42), new ArrayList<>(failures.keySet()));
+  }
+
+  @Test
+  public void testFailuresAreAggregated() {
+    List<PropertyReader> readers = new ArrayList<>();
+    readers.add(new PropertyReader(properties("tenant", "1")));
+    readers.add(new PropertyReader(properties(null, "1")));
+    readers.add(new PropertyReader(properties("tenant", "many")));
+
+    BulkBindResult<TenantBean> result = BulkBinder.forClass(TenantBean.class).bindAll(readers);
+    try {
+      result.getBeans();
+      fail("Expected a BulkBindingException");
+    } catch (BulkBindingException e) {
+      assertEquals(
+          "2 of 3 beans could not be bound. The first failure was at index 1", e.getMessage());
+      assertTrue(e.getCause() instanceof MissingPropertyException);
+      assertEquals(1, e.getSuppressed().length);
+      assertTrue(e.getSuppressed()[0] instanceof InvalidTypeException);
+      assertEquals(result.getFailures(), e.getFailures());
+    }
+  }
+
+  @Test
+  public void testBeansCanBeBoundOnAnotherExecutor() throws InterruptedException {
+    List<PropertyReader> readers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      readers.add(new PropertyReader(properties("tenant" + i, "2")));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<TenantBean> beans =
+          BulkBinder.forClass(TenantBean.class).bindAll(readers, executor).getBeans();
+      assertEquals("tenant99", beans.get(99).name);
+    } finally {
+      executor.shutdown();
+    }
+
+    List<TenantBean> beans =
+        BulkBinder.forClass(TenantBean.class).bindAll(readers, Runnable::run).getBeans();
+    assertEquals("tenant0", beans.get(0).name);
+
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      beans = BulkBinder.forClass(TenantBean.class).bindAll(readers, pool).getBeans();
+      assertEquals(100, beans.size());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testSuppliedConstructorIsUsed() {
+    AtomicInteger constructions = new AtomicInteger();
+    BulkBinder<TenantBean> binder = BulkBinder.forClass(TenantBean.class, reader -> {
+      constructions.incrementAndGet();
+      return new TenantBean(reader);
+    });
+    List<TenantBean> beans = binder
+        .bindAll(Collections.singletonList(new PropertyReader(properties("tenant", "1"))))
+        .getBeans();
+    assertEquals("tenant", beans.get(0).name);
+    assertEquals(1, constructions.get());
+  }
+
+  @Test
+  public void testEmptyInputGivesEmptyResult() {
+    BulkBindResult<TenantBean> result =
+        BulkBinder.forClass(TenantBean.class).bindAll(Collections.emptyList());
+    assertTrue(result.isSuccessful());
+    assertEquals(0, result.size());
+    assertTrue(result.getBeans().isEmpty());
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testClassWithoutReaderConstructorIsRejected() {
+    BulkBinder.forClass(NoReaderConstructorBean.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testInvalidAnnotationsAreRejectedUpFront() {
+    BulkBinder.forClass(InvalidBean.class, InvalidBean::new);
+  }
+
+  @Test
+  public void testExceptionsFromConstructorAreRecorded() {
+    BulkBindResult<ThrowingBean> result = BulkBinder.forClass(ThrowingBean.class)
+        .bindAll(Collections.singletonList(new PropertyReader(new Properties())));
+    assertTrue(result.getFailure(0) instanceof IllegalStateException);
+  }
+
+  private static Properties properties(String name, String threads) {
+    Properties properties = new Properties();
+    if (name != null)
+      properties.setProperty("name", name);
+    properties.setProperty("threads", threads);
+    return properties;
+  }
+
+  private static class TenantBean extends PropertiesBean {
+    @FromProperty
+    private String name;
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private int threads;
+
+    private TenantBean(PropertyReader reader) {
+      super(reader);
+    }
+  }
+
+  private static class NoReaderConstructorBean extends PropertiesBean {
+    @FromProperty
+    private String name;
+
+    private NoReaderConstructorBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class InvalidBean extends PropertiesBean {
+    @FromProperty
+    private final String name = null;
+
+    private InvalidBean(PropertyReader reader) {
+      super(reader);
+    }
+  }
+
+  private static class ThrowingBean extends PropertiesBean {
+    private ThrowingBean(PropertyReader reader) {
+      super(reader);
+      throw new IllegalStateException("Cannot create bean");
+    }
+  }
+
+}
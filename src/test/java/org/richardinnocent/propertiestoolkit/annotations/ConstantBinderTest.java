@@ -0,0 +1,155 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.InvalidTypeException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unused")
+public class ConstantBinderTest {
+
+  private Properties properties;
+
+  @Before
+  public void setUp() {
+    properties = new Properties();
+    properties.setProperty("debug.enabled", "false");
+    properties.setProperty("pool.size", "8");
+    properties.setProperty("pool.timeout", "250ms");
+  }
+
+  @Test
+  public void testConstantsReturnValuesOfImmutableObject() throws Throwable {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    MethodHandle debugEnabled = binder.constant("debugEnabled");
+    MethodHandle size = binder.constant("size");
+    MethodHandle timeout = binder.constant("timeout");
+
+    assertFalse((boolean) debugEnabled.invokeExact());
+    assertEquals(8, (int) size.invokeExact());
+    assertEquals(Duration.ofMillis(250), (Duration) timeout.invokeExact());
+  }
+
+  @Test
+  public void testConstantsReturnValuesOfBean() throws Throwable {
+    ConstantBinder<BeanConfig> binder =
+        ConstantBinder.link(BeanConfig.class, BeanConfig::new, new PropertyReader(properties));
+    assertEquals(8, (int) binder.constant("size").invokeExact());
+    assertEquals(8, binder.getBean().size);
+  }
+
+  @Test
+  public void testConstantHasExactTypeOfField() {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    assertEquals(MethodType.methodType(boolean.class), binder.constant("debugEnabled").type());
+    assertEquals(MethodType.methodType(Duration.class), binder.constant("timeout").type());
+  }
+
+  @Test
+  public void testSameHandleIsReturnedForSameField() {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    assertSame(binder.constant("size"), binder.constant("size"));
+  }
+
+  @Test
+  public void testRelinkUpdatesExistingHandles() throws Throwable {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    MethodHandle debugEnabled = binder.constant("debugEnabled");
+    MethodHandle size = binder.constant("size");
+
+    properties.setProperty("debug.enabled", "true");
+    properties.setProperty("pool.size", "16");
+    ImmutableConfig relinked = binder.relink(new PropertyReader(properties));
+
+    assertTrue((boolean) debugEnabled.invokeExact());
+    assertEquals(16, (int) size.invokeExact());
+    assertSame(relinked, binder.getBean());
+  }
+
+  @Test
+  public void testHandleCreatedAfterRelinkReturnsNewValue() throws Throwable {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    properties.setProperty("pool.size", "16");
+    binder.relink(new PropertyReader(properties));
+    assertEquals(16, (int) binder.constant("size").invokeExact());
+  }
+
+  @Test
+  public void testFailedRelinkKeepsCurrentValues() throws Throwable {
+    ConstantBinder<ImmutableConfig> binder =
+        ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties));
+    MethodHandle size = binder.constant("size");
+    ImmutableConfig original = binder.getBean();
+
+    properties.setProperty("pool.size", "16");
+    properties.setProperty("pool.timeout", "soon");
+    try {
+      binder.relink(new PropertyReader(properties));
+      fail("Expected the invalid value to be reported");
+    } catch (InvalidTypeException e) {
+      // Expected
+    }
+
+    assertEquals(8, (int) size.invokeExact());
+    assertSame(original, binder.getBean());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownFieldIsRejected() {
+    ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties))
+                  .constant("unknown");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStaticFieldIsRejected() {
+    ConstantBinder.link(ImmutableConfig.class, new PropertyReader(properties))
+                  .constant("DEFAULT_SIZE");
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testClassWithoutAnnotatedConstructorIsRejected() {
+    ConstantBinder.link(BeanConfig.class, new PropertyReader(properties));
+  }
+
+  public static final class ImmutableConfig {
+
+    private static final int DEFAULT_SIZE = 4;
+
+    private final boolean debugEnabled;
+    private final int size;
+    private final Duration timeout;
+
+    public ImmutableConfig(@FromProperty(key = "debug.enabled") boolean debugEnabled,
+                           @FromProperty(key = "pool.size") int size,
+                           @FromProperty(key = "pool.timeout") Duration timeout) {
+      this.debugEnabled = debugEnabled;
+      this.size = size;
+      this.timeout = timeout;
+    }
+
+  }
+
+  public static class BeanConfig extends PropertiesBean {
+
+    @FromProperty(key = "pool.size")
+    private int size;
+
+    public BeanConfig(PropertyReader reader) {
+      super(reader);
+    }
+
+  }
+
+}
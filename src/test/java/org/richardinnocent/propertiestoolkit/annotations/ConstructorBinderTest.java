@@ -0,0 +1,320 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.InvalidTypeException;
+import org.richardinnocent.propertiestoolkit.MissingPropertyException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+
+@SuppressWarnings("unused")
+public class ConstructorBinderTest {
+
+  private Properties properties;
+
+  @Before
+  public void setUp() {
+    properties = new Properties();
+    properties.setProperty("pool.size", "8");
+    properties.setProperty("pool.timeout", "250ms");
+    properties.setProperty("pool.hosts", "a,b");
+    properties.setProperty("pool.ratio", "0.5");
+  }
+
+  @Test
+  public void testFinalFieldsAreSetThroughConstructor() {
+    PoolConfig config = ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+    assertEquals(8, config.size);
+    assertEquals(Duration.ofMillis(250), config.timeout);
+    assertEquals(Arrays.asList("a", "b"), config.hosts);
+  }
+
+  @Test
+  public void testBinderIsResolvedOncePerClass() {
+    assertSame(ConstructorBinder.forClass(PoolConfig.class),
+               ConstructorBinder.forClass(PoolConfig.class));
+  }
+
+  @Test
+  public void testBinderIsAFunction() {
+    PoolConfig config = ConstructorBinder.forClass(PoolConfig.class)
+                                         .apply(new PropertyReader(properties));
+    assertEquals(8, config.size);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testConstraintsAreApplied() {
+    properties.setProperty("pool.size", "-1");
+    ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testInvalidValuesAreReported() {
+    properties.setProperty("pool.timeout", "soon");
+    ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testMissingValuesAreReported() {
+    properties.remove("pool.hosts");
+    ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+  }
+
+  @Test
+  public void testPrivateConstructorAndPrimitives() {
+    PrimitiveConfig config = ConstructorBinder.forClass(PrimitiveConfig.class).bind(properties);
+    assertEquals(8L, config.size);
+    assertEquals(0.5, config.ratio, 0d);
+  }
+
+  @Test
+  public void testIntegerIsWidenedIntoLongParameter() {
+    WideningConfig config = ConstructorBinder.forClass(WideningConfig.class).bind(properties);
+    assertEquals(8L, config.size);
+  }
+
+  @Test
+  public void testValueOfTheWrongTypeIsRejectedWithTheParameterName() {
+    try {
+      ConstructorBinder.forClass(WrongTypeConfig.class).bind(properties);
+      fail("Expected the value of the wrong type to be rejected");
+    } catch (IllegalArgumentException e) {
+      String name = WrongTypeConfig.class.getDeclaredConstructors()[0].getParameters()[0].getName();
+      assertEquals("Cannot set parameter " + name + " to a value of type java.lang.Integer",
+                   e.getMessage());
+    }
+  }
+
+  @Test
+  public void testOnlyFullyAnnotatedConstructorIsUsed() {
+    assertEquals(8, ConstructorBinder.forClass(SeveralConstructors.class).bind(properties).size);
+  }
+
+  @Test
+  public void testLazyParametersAreReadWhenAccessed() {
+    properties.setProperty("pool.size", "invalid");
+    LazyConfig config = ConstructorBinder.forClass(LazyConfig.class).bind(properties);
+    try {
+      config.size.get();
+      fail("Expected the invalid value to be reported on access");
+    } catch (InvalidTypeException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testExceptionFromConstructorIsThrown() {
+    try {
+      ConstructorBinder.forClass(ThrowingConfig.class).bind(properties);
+      fail("Expected the constructor's exception to be thrown");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Size is too small", e.getMessage());
+    }
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testClassWithoutAnnotatedConstructorIsRejected() {
+    ConstructorBinder.forClass(String.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testPartiallyAnnotatedConstructorIsRejected() {
+    ConstructorBinder.forClass(PartiallyAnnotated.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testAmbiguousConstructorsAreRejected() {
+    ConstructorBinder.forClass(Ambiguous.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testAbstractClassIsRejected() {
+    ConstructorBinder.forClass(AbstractConfig.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testInnerClassIsRejected() {
+    ConstructorBinder.forClass(InnerConfig.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testConstraintOfWrongTypeIsRejected() {
+    ConstructorBinder.forClass(WrongConstraint.class);
+  }
+
+  @Test
+  public void testParameterWithoutKeyNeedsParameterNames() throws NoSuchMethodException {
+    assumeFalse(UnnamedConfig.class.getDeclaredConstructor(int.class)
+                                   .getParameters()[0]
+                                   .isNamePresent());
+    try {
+      ConstructorBinder.forClass(UnnamedConfig.class);
+      fail("Expected the missing key to be reported");
+    } catch (InvalidAnnotationException e) {
+      assertTrue(e.getMessage().contains("-parameters"));
+    }
+  }
+
+  @Test
+  public void testFinalFieldOnBeanSuggestsConstructorBinding() {
+    try {
+      BindingPlan.forClass(FinalFieldBean.class);
+      fail("Expected the final field to be rejected");
+    } catch (InvalidAnnotationException e) {
+      assertTrue(e.getMessage().contains(ConstructorBinder.class.getSimpleName()));
+    }
+  }
+
+  public static final class PoolConfig {
+
+    private final int size;
+    private final Duration timeout;
+    private final List<String> hosts;
+
+    public PoolConfig(@FromProperty(key = "pool.size",
+                                    constraints = NumberMustBePositive.class) int size,
+                      @FromProperty(key = "pool.timeout") Duration timeout,
+                      @FromProperty(key = "pool.hosts") List<String> hosts) {
+      this.size = size;
+      this.timeout = timeout;
+      this.hosts = hosts;
+    }
+
+  }
+
+  static final class PrimitiveConfig {
+
+    private final long size;
+    private final double ratio;
+
+    private PrimitiveConfig(@FromProperty(key = "pool.size") long size,
+                            @FromProperty(key = "pool.ratio") double ratio) {
+      this.size = size;
+      this.ratio = ratio;
+    }
+
+  }
+
+  public static class IntegerExtractor implements PropertyExtractor<Integer> {
+    @Override
+    public Function<String, Integer> getExtractionMethod() {
+      return Integer::valueOf;
+    }
+  }
+
+  public static final class WideningConfig {
+
+    private final long size;
+
+    public WideningConfig(@FromProperty(key = "pool.size",
+                                        extractor = IntegerExtractor.class) long size) {
+      this.size = size;
+    }
+
+  }
+
+  public static final class WrongTypeConfig {
+
+    public WrongTypeConfig(@FromProperty(key = "pool.size",
+                                         extractor = IntegerExtractor.class) String size) {}
+
+  }
+
+  public static final class SeveralConstructors {
+
+    private final int size;
+
+    public SeveralConstructors() {
+      this(1);
+    }
+
+    public SeveralConstructors(@FromProperty(key = "pool.size") int size) {
+      this.size = size;
+    }
+
+    public SeveralConstructors(int size, String ignored) {
+      this(size);
+    }
+
+  }
+
+  public static final class LazyConfig {
+
+    private final LazyValue<Integer> size;
+
+    public LazyConfig(@FromProperty(key = "pool.size") LazyValue<Integer> size) {
+      this.size = size;
+    }
+
+  }
+
+  public static final class ThrowingConfig {
+
+    public ThrowingConfig(@FromProperty(key = "pool.size") int size) {
+      if (size < 10)
+        throw new IllegalArgumentException("Size is too small");
+    }
+
+  }
+
+  public static final class PartiallyAnnotated {
+
+    public PartiallyAnnotated(@FromProperty(key = "pool.size") int size, String name) {}
+
+  }
+
+  public static final class Ambiguous {
+
+    public Ambiguous(@FromProperty(key = "pool.size") int size) {}
+
+    public Ambiguous(@FromProperty(key = "pool.ratio") double ratio) {}
+
+  }
+
+  public abstract static class AbstractConfig {
+
+    public AbstractConfig(@FromProperty(key = "pool.size") int size) {}
+
+  }
+
+  public final class InnerConfig {
+
+    public InnerConfig(@FromProperty(key = "pool.size") int size) {}
+
+  }
+
+  public static final class WrongConstraint {
+
+    public WrongConstraint(@FromProperty(key = "pool.timeout",
+                                         constraints = NumberMustBePositive.class) String value) {}
+
+  }
+
+  public static final class UnnamedConfig {
+
+    public UnnamedConfig(@FromProperty int size) {}
+
+  }
+
+  public static class FinalFieldBean extends PropertiesBean {
+
+    @FromProperty
+    private final String field = "";
+
+    public FinalFieldBean(PropertyReader reader) {
+      super(reader);
+    }
+
+  }
+
+}
@@ -0,0 +1,237 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.InvalidTypeException;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unused")
+public class LazyValueTest {
+
+  @Test
+  public void testValueIsOnlyEvaluatedOnce() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyValue<String> value =
+        new LazyValue<>(reader -> "value" + evaluations.incrementAndGet(), null);
+    assertFalse(value.isEvaluated());
+    assertEquals("value1", value.get());
+    assertEquals("value1", value.get());
+    assertTrue(value.isEvaluated());
+    assertEquals(1, evaluations.get());
+  }
+
+  @Test
+  public void testNullValueIsRemembered() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyValue<String> value = new LazyValue<>(reader -> {
+      evaluations.incrementAndGet();
+      return null;
+    }, null);
+    assertNull(value.get());
+    assertNull(value.get());
+    assertTrue(value.isEvaluated());
+    assertEquals(1, evaluations.get());
+  }
+
+  @Test
+  public void testFailureIsNotRemembered() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyValue<String> value = new LazyValue<>(reader -> {
+      if (evaluations.incrementAndGet() == 1)
+        throw new IllegalStateException("invalid");
+      return "value";
+    }, null);
+    try {
+      value.get();
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertFalse(value.isEvaluated());
+    }
+    assertEquals("value", value.get());
+  }
+
+  @Test
+  public void testConcurrentReadsEvaluateOnce() throws InterruptedException {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyValue<Object> value = new LazyValue<>(reader -> {
+      evaluations.incrementAndGet();
+      return new Object();
+    }, null);
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Object> results = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        Object result = value.get();
+        synchronized (results) {
+          results.add(result);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads)
+      thread.join();
+
+    assertEquals(1, evaluations.get());
+    assertEquals(8, results.size());
+    for (Object result : results)
+      assertSame(results.get(0), result);
+  }
+
+  @Test
+  public void testLazyFieldIsNotReadWhenTheBeanIsCreated() {
+    Properties properties = new Properties();
+    properties.setProperty("eager", "value");
+    properties.setProperty("lazy", "12");
+    CountingParserBean bean = new CountingParserBean(properties);
+    int evaluations = CountingParserBean.EVALUATIONS.get();
+
+    assertFalse(bean.lazy.isEvaluated());
+    assertEquals("value", bean.eager);
+    assertEquals("12!", bean.lazy.get());
+    assertEquals("12!", bean.lazy.get());
+    assertEquals(evaluations + 1, CountingParserBean.EVALUATIONS.get());
+  }
+
+  @Test
+  public void testLazyFieldUsesTheTypeArgument() {
+    Properties properties = new Properties();
+    properties.setProperty("number", "12");
+    properties.setProperty("flag", "true");
+    LazyBean bean = new LazyBean(properties);
+    assertEquals(Integer.valueOf(12), bean.number.get());
+    assertEquals(Boolean.TRUE, bean.flag.get());
+  }
+
+  @Test
+  public void testConstraintsAreAppliedOnAccess() {
+    Properties properties = new Properties();
+    properties.setProperty("number", "-12");
+    properties.setProperty("flag", "true");
+    LazyBean bean = new LazyBean(properties);
+    try {
+      bean.number.get();
+      fail("Expected a ValidationException");
+    } catch (ValidationException e) {
+      // Expected
+    }
+    assertEquals(Boolean.TRUE, bean.flag.get());
+  }
+
+  @Test
+  public void testValidateAllReadsEveryLazyField() {
+    Properties properties = new Properties();
+    properties.setProperty("number", "12");
+    properties.setProperty("flag", "true");
+    LazyBean bean = new LazyBean(properties);
+    bean.validateAll();
+    assertTrue(bean.number.isEvaluated());
+    assertTrue(bean.flag.isEvaluated());
+  }
+
+  @Test(expected = InvalidTypeException.class)
+  public void testValidateAllReportsInvalidValues() {
+    Properties properties = new Properties();
+    properties.setProperty("number", "twelve");
+    properties.setProperty("flag", "true");
+    new LazyBean(properties).validateAll();
+  }
+
+  @Test
+  public void testValidateAllOnBeanWithoutLazyFields() {
+    Properties properties = new Properties();
+    properties.setProperty("eager", "value");
+    new EagerBean(properties).validateAll();
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testRawLazyValueIsRejected() {
+    BindingPlan.forClass(RawLazyBean.class);
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testConstraintIsCheckedAgainstTheTypeArgument() {
+    BindingPlan.forClass(MismatchedConstraintBean.class);
+  }
+
+  public static class CountingExtractor implements PropertyExtractor<String> {
+    @Override
+    public Function<String, String> getExtractionMethod() {
+      return text -> {
+        CountingParserBean.EVALUATIONS.incrementAndGet();
+        return text + "!";
+      };
+    }
+  }
+
+  private static class CountingParserBean extends PropertiesBean {
+    private static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+    @FromProperty
+    private String eager;
+    @FromProperty(extractor = CountingExtractor.class)
+    private LazyValue<String> lazy;
+
+    private CountingParserBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class LazyBean extends PropertiesBean {
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private LazyValue<Integer> number;
+    @FromProperty
+    private LazyValue<Boolean> flag;
+
+    private LazyBean(Properties properties) {
+      super(new PropertyReader(properties));
+    }
+  }
+
+  private static class EagerBean extends PropertiesBean {
+    @FromProperty
+    private String eager;
+
+    private EagerBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static class RawLazyBean extends PropertiesBean {
+    @FromProperty
+    private LazyValue field;
+
+    private RawLazyBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+  private static class MismatchedConstraintBean extends PropertiesBean {
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private LazyValue<String> field;
+
+    private MismatchedConstraintBean(Properties properties) {
+      super(properties);
+    }
+  }
+
+}
@@ -1,7 +1,16 @@
 package org.richardinnocent.propertiestoolkit.annotations.propertyHelpers;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 import org.richardinnocent.propertiestoolkit.annotations.InvalidAnnotationException;
+import org.richardinnocent.propertiestoolkit.types.CidrSet;
+import org.richardinnocent.propertiestoolkit.types.DataSize;
+import org.richardinnocent.propertiestoolkit.types.IntSet;
+import org.richardinnocent.propertiestoolkit.types.LongSet;
+import org.richardinnocent.propertiestoolkit.types.StringSet;
 
 import static org.junit.Assert.*;
 
@@ -126,6 +135,49 @@ public class GenericExtractorTest {
     assertNull(EXTRACTOR.getDefaultSettings());
   }
 
+  @Test
+  public void testParsingIntArray() {
+    assertArrayEquals(new int[] {1, 2, 3}, extract("1, 2, 3", int[].class));
+  }
+
+  @Test
+  public void testParsingLongArray() {
+    assertArrayEquals(new long[] {1L, 9_000_000_000L}, extract("1,9000000000", long[].class));
+  }
+
+  @Test
+  public void testParsingDoubleArray() {
+    assertArrayEquals(new double[] {0.5, 1.5}, extract("0.5, 1.5", double[].class), 0d);
+  }
+
+  @Test
+  public void testParsingStringList() {
+    assertEquals(Arrays.asList("a", "b"), extract("a, b", List.class));
+  }
+
+  @Test
+  public void testParsingSets() {
+    assertEquals(IntSet.of(1, 2), extract("2, 1", IntSet.class));
+    assertEquals(LongSet.of(1L, 2L), extract("2, 1", LongSet.class));
+    assertEquals(StringSet.of("a", "b"), extract("a, b", StringSet.class));
+    assertTrue(extract("10.0.0.0/8", CidrSet.class).contains("10.0.0.1"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParsingInvalidCidrSet() {
+    extract("10.0.0.0/33", CidrSet.class);
+  }
+
+  @Test
+  public void testParsingDuration() {
+    assertEquals(Duration.ofSeconds(30), extract("30s", Duration.class));
+  }
+
+  @Test
+  public void testParsingDataSize() {
+    assertEquals(DataSize.ofKilobytes(64), extract("64KB", DataSize.class));
+  }
+
   private <T> T extract(String value, Class<T> valueType) {
     return (T) EXTRACTOR.getExtractionMethod(valueType).apply(value);
   }
@@ -0,0 +1,420 @@
+package org.richardinnocent.propertiestoolkit.reload;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.richardinnocent.propertiestoolkit.MissingPropertyException;
+import org.richardinnocent.propertiestoolkit.NumberParsers;
+import org.richardinnocent.propertiestoolkit.PropertyReader;
+import org.richardinnocent.propertiestoolkit.PropertySpec;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.FromProperty;
+import org.richardinnocent.propertiestoolkit.annotations.PropertiesBean;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+
+import static org.junit.Assert.*;
+
+public class ReloadingPropertiesTest {
+
+  private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(20);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path file;
+  private ReloadingProperties properties;
+  private final List<Exception> failures = new CopyOnWriteArrayList<>();
+  private final AtomicInteger reloads = new AtomicInteger();
+
+  @Before
+  public void setUp() throws IOException {
+    file = folder.newFile("app.properties").toPath();
+    write(file, "maxUsers=10", "name=first");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    if (properties != null)
+      properties.close();
+  }
+
+  @Test
+  public void testInitialLoad() throws IOException {
+    properties = builder().start();
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+    assertEquals("first", properties.getReader().getString("name").get());
+    assertSame(properties.getGeneration().getBean(TestBean.class),
+               properties.getBean(TestBean.class));
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testInvalidInitialLoadThrows() throws IOException {
+    write(file, "maxUsers=-1", "name=first");
+    builder().start();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoFiles() {
+    ReloadingProperties.watching();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnregisteredBean() throws IOException {
+    properties = builder().start();
+    properties.getBean(String.class);
+  }
+
+  @Test
+  public void testManualReload() throws IOException {
+    properties = builder().start();
+    TestBean original = properties.getBean(TestBean.class);
+
+    write(file, "maxUsers=20", "name=second");
+    assertTrue(properties.reload());
+
+    TestBean reloaded = properties.getBean(TestBean.class);
+    assertNotSame(original, reloaded);
+    assertEquals(20, reloaded.maxUsers);
+    assertEquals(10, original.maxUsers);
+    assertEquals("second", properties.getReader().getString("name").get());
+    assertEquals(1, reloads.get());
+  }
+
+  @Test
+  public void testInvalidReloadIsRejected() throws IOException {
+    properties = builder().start();
+    PropertyReader originalReader = properties.getReader();
+
+    write(file, "maxUsers=-5", "name=second");
+    assertFalse(properties.reload());
+
+    assertSame(originalReader, properties.getReader());
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+    assertEquals(1, failures.size());
+    assertTrue(failures.get(0) instanceof ValidationException);
+    assertEquals(0, reloads.get());
+  }
+
+  @Test
+  public void testFailedValidationIsRejected() throws IOException {
+    properties = builder()
+        .validate(reader -> reader.getString("name")
+                                  .addConstraint(name -> name.startsWith("f"))
+                                  .get())
+        .start();
+
+    write(file, "maxUsers=20", "name=second");
+    assertFalse(properties.reload());
+    assertEquals("first", properties.getReader().getString("name").get());
+  }
+
+  @Test
+  public void testMissingFileIsRejected() throws IOException {
+    properties = builder().start();
+    Files.delete(file);
+    assertFalse(properties.reload());
+    assertTrue(failures.get(0) instanceof IOException);
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+  }
+
+  @Test
+  public void testLaterFilesOverrideEarlierFiles() throws IOException {
+    Path overrides = folder.newFile("overrides.properties").toPath();
+    write(overrides, "name=overridden");
+    properties = ReloadingProperties.watching(file, overrides).start();
+    assertEquals("overridden", properties.getReader().getString("name").get());
+    assertEquals("10", properties.getReader().getString("maxUsers").get());
+  }
+
+  @Test
+  public void testChangesAreDetected() throws Exception {
+    properties = builder().debounce(Duration.ofMillis(50)).start();
+
+    write(file, "maxUsers=30", "name=second");
+
+    awaitTrue(() -> properties.getBean(TestBean.class).maxUsers == 30);
+    assertEquals("second", properties.getReader().getString("name").get());
+  }
+
+  @Test
+  public void testBurstsOfChangesAreDebounced() throws Exception {
+    properties = builder().debounce(Duration.ofMillis(750)).start();
+
+    for (int i = 1; i <= 5; i++) {
+      write(file, "maxUsers=" + (100 + i), "name=second");
+      Thread.sleep(20);
+    }
+
+    awaitTrue(() -> properties.getBean(TestBean.class).maxUsers == 105);
+    Thread.sleep(1000);
+    assertEquals(1, reloads.get());
+  }
+
+  @Test
+  public void testChangesAreNotDetectedAfterClose() throws Exception {
+    properties = builder().debounce(Duration.ofMillis(50)).start();
+    properties.close();
+
+    write(file, "maxUsers=30", "name=second");
+    Thread.sleep(500);
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+  }
+
+  @Test
+  public void testCloseWaitsForReloadInProgress() throws Exception {
+    CountDownLatch binding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    properties = builder().debounce(Duration.ofMillis(50))
+                          .bind(String.class, reader -> {
+                            if (reader.getInt("maxUsers").get() == 30) {
+                              binding.countDown();
+                              awaitQuietly(release);
+                            }
+                            return "bound";
+                          })
+                          .start();
+
+    write(file, "maxUsers=30", "name=second");
+    assertTrue(binding.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+    Thread closer = new Thread(() -> {
+      try {
+        properties.close();
+      } catch (IOException e) {
+        failures.add(e);
+      }
+    });
+    closer.start();
+    release.countDown();
+    closer.join(TIMEOUT_MILLIS);
+
+    assertFalse(closer.isAlive());
+    assertEquals(1, reloads.get());
+    assertEquals(30, properties.getBean(TestBean.class).maxUsers);
+  }
+
+  @Test
+  public void testErrorThatStopsWatchingIsReported() throws Exception {
+    AssertionError error = new AssertionError("Binder failed");
+    properties = builder().debounce(Duration.ofMillis(50))
+                          .bind(String.class, reader -> {
+                            if (reader.getInt("maxUsers").get() == 30)
+                              throw error;
+                            return "bound";
+                          })
+                          .start();
+
+    write(file, "maxUsers=30", "name=second");
+
+    awaitTrue(() -> !failures.isEmpty());
+    assertTrue(failures.get(0) instanceof IllegalStateException);
+    assertSame(error, failures.get(0).getCause());
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+  }
+
+  @Test
+  public void testDirectoryThatCanNoLongerBeWatchedIsReported() throws Exception {
+    Path directory = folder.newFolder("config").toPath();
+    file = directory.resolve("app.properties");
+    write(file, "maxUsers=10", "name=first");
+    properties = builder().debounce(Duration.ofMillis(50)).start();
+
+    Files.delete(file);
+    Files.delete(directory);
+
+    awaitTrue(() -> failures.stream().anyMatch(failure ->
+        failure instanceof IllegalStateException
+            && failure.getMessage().contains("can no longer be watched")));
+    assertEquals(10, properties.getBean(TestBean.class).maxUsers);
+  }
+
+  @Test
+  public void testHandlesAreUpdatedOnReload() throws IOException {
+    write(file, "maxUsers=10", "name=first", "timeout=250ms", "ratio=0.5");
+    properties = builder().start();
+    ConfigHandle<String> name = properties.handle(reader -> reader.getString("name").get());
+    ConfigHandle<Integer> maxUsers =
+        properties.handle(PropertySpec.of("maxUsers", NumberParsers.INTEGER));
+    IntHandle maxUsersValue = properties.intHandle(reader -> reader.getIntValue("maxUsers").get());
+    LongHandle timeout = properties.longHandle(reader -> reader.getDurationNanos("timeout").get());
+    DoubleHandle ratio = properties.doubleHandle(reader -> reader.getDoubleValue("ratio").get());
+
+    assertEquals("first", name.get());
+    assertEquals(Integer.valueOf(10), maxUsers.get());
+    assertEquals(10, maxUsersValue.get());
+    assertEquals(250_000_000L, timeout.getAsLong());
+    assertEquals(0.5, ratio.get(), 0d);
+
+    write(file, "maxUsers=20", "name=second", "timeout=1s", "ratio=0.75");
+    assertTrue(properties.reload());
+
+    assertEquals("second", name.get());
+    assertEquals(Integer.valueOf(20), maxUsers.get());
+    assertEquals(20, maxUsersValue.getAsInt());
+    assertEquals(1_000_000_000L, timeout.get());
+    assertEquals(0.75, ratio.getAsDouble(), 0d);
+    assertEquals("20", maxUsersValue.toString());
+  }
+
+  @Test
+  public void testHandleThatFailsRejectsReload() throws IOException {
+    properties = builder().start();
+    ConfigHandle<String> name = properties.handle(reader -> reader.getString("name").get());
+    IntHandle limit = properties.intHandle(reader -> reader.getIntValue("maxUsers")
+                                                           .addConstraint(i -> i < 15)
+                                                           .get());
+
+    write(file, "maxUsers=20", "name=second");
+    assertFalse(properties.reload());
+
+    assertEquals("first", name.get());
+    assertEquals(10, limit.get());
+    assertEquals("first", properties.getReader().getString("name").get());
+    assertTrue(failures.get(0) instanceof ValidationException);
+    assertEquals(0, reloads.get());
+  }
+
+  @Test
+  public void testClosedHandlesAreNoLongerUpdated() throws IOException {
+    properties = builder().start();
+    IntHandle maxUsers = properties.intHandle(reader -> reader.getIntValue("maxUsers").get());
+    try (ConfigHandle<String> name = properties.handle(reader -> reader.getString("name").get())) {
+      assertEquals("first", name.get());
+    }
+    IntHandle limit = properties.intHandle(reader -> reader.getIntValue("maxUsers")
+                                                           .addConstraint(i -> i < 15)
+                                                           .get());
+    limit.close();
+    limit.close();
+
+    write(file, "maxUsers=20", "missing=name");
+    assertTrue(properties.reload());
+
+    assertEquals(20, maxUsers.get());
+    assertEquals(10, limit.get());
+  }
+
+  @Test(expected = MissingPropertyException.class)
+  public void testHandleForMissingValueThrows() throws IOException {
+    properties = builder().start();
+    properties.handle(reader -> reader.getString("missing").get());
+  }
+
+  @Test
+  public void testHandlesAreUpdatedWhenChangesAreDetected() throws Exception {
+    properties = builder().debounce(Duration.ofMillis(50)).start();
+    IntHandle maxUsers = properties.intHandle(reader -> reader.getIntValue("maxUsers").get());
+
+    write(file, "maxUsers=30", "name=second");
+
+    awaitTrue(() -> maxUsers.get() == 30);
+  }
+
+  @Test
+  public void testChangesAreDetectedAfterReloadListenerThrows() throws Exception {
+    IllegalStateException thrown = new IllegalStateException("Listener failed");
+    properties = builder().debounce(Duration.ofMillis(50))
+                          .onReload(generation -> {
+                            throw thrown;
+                          })
+                          .start();
+
+    write(file, "maxUsers=30", "name=second");
+    awaitTrue(() -> properties.getBean(TestBean.class).maxUsers == 30);
+    awaitTrue(() -> failures.contains(thrown));
+
+    write(file, "maxUsers=40", "name=third");
+    awaitTrue(() -> properties.getBean(TestBean.class).maxUsers == 40);
+    assertEquals("third", properties.getReader().getString("name").get());
+  }
+
+  @Test
+  public void testReloadListenerThatThrowsDoesNotStopOtherListeners() throws IOException {
+    properties = ReloadingProperties.watching(file)
+                                    .onReload(generation -> {
+                                      throw new IllegalStateException("Listener failed");
+                                    })
+                                    .onReload(generation -> reloads.incrementAndGet())
+                                    .onFailure(failures::add)
+                                    .start();
+
+    write(file, "maxUsers=20", "name=second");
+    assertTrue(properties.reload());
+
+    assertEquals(1, reloads.get());
+    assertEquals("second", properties.getReader().getString("name").get());
+    assertTrue(failures.get(0) instanceof IllegalStateException);
+  }
+
+  @Test
+  public void testChangesAreDetectedAfterFailureListenerThrows() throws Exception {
+    AtomicInteger reportedFailures = new AtomicInteger();
+    properties = builder().debounce(Duration.ofMillis(50))
+                          .onFailure(e -> {
+                            reportedFailures.incrementAndGet();
+                            throw new IllegalStateException("Listener failed");
+                          })
+                          .start();
+
+    write(file, "maxUsers=-1", "name=second");
+    awaitTrue(() -> reportedFailures.get() > 0);
+    assertFalse(properties.reload());
+
+    write(file, "maxUsers=30", "name=third");
+    awaitTrue(() -> properties.getBean(TestBean.class).maxUsers == 30);
+  }
+
+  private ReloadingProperties.Builder builder() {
+    return ReloadingProperties.watching(file)
+                              .bind(TestBean.class, TestBean::new)
+                              .onReload(generation -> reloads.incrementAndGet())
+                              .onFailure(failures::add);
+  }
+
+  private static void write(Path path, String... lines) throws IOException {
+    Files.write(path, String.join("\n", lines).getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline)
+        fail("Timed out waiting for condition");
+      Thread.sleep(10);
+    }
+  }
+
+  public static class TestBean extends PropertiesBean {
+
+    @FromProperty(constraints = NumberMustBePositive.class)
+    private int maxUsers;
+
+    public TestBean(PropertyReader reader) {
+      super(reader);
+    }
+
+  }
+
+}
@@ -0,0 +1,141 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class CidrSetTest {
+
+  @Test
+  public void testIPv4Ranges() {
+    CidrSet set = CidrSet.PARSER.parseOrNull("10.0.0.0/8, 192.168.1.0/24, 203.0.113.7");
+    assertTrue(set.contains("10.0.0.0"));
+    assertTrue(set.contains("10.255.255.255"));
+    assertFalse(set.contains("11.0.0.0"));
+    assertTrue(set.contains("192.168.1.42"));
+    assertFalse(set.contains("192.168.2.42"));
+    assertTrue(set.contains("203.0.113.7"));
+    assertFalse(set.contains("203.0.113.8"));
+    assertFalse(set.contains("9.255.255.255"));
+  }
+
+  @Test
+  public void testIPv4AsAnInt() {
+    CidrSet set = CidrSet.of("172.16.0.0/12");
+    assertTrue(set.containsIPv4(0xAC100001));
+    assertTrue(set.containsIPv4(0xAC1FFFFF));
+    assertFalse(set.containsIPv4(0xAC200000));
+  }
+
+  @Test
+  public void testIPv6Ranges() {
+    CidrSet set = CidrSet.of("2001:db8::/32", "fe80::1", "::ffff:192.0.2.0/120");
+    assertTrue(set.contains("2001:db8::1"));
+    assertTrue(set.contains("2001:0db8:ffff:ffff:ffff:ffff:ffff:ffff"));
+    assertFalse(set.contains("2001:db9::"));
+    assertTrue(set.contains("fe80::1"));
+    assertTrue(set.contains("fe80:0:0:0:0:0:0:1"));
+    assertFalse(set.contains("fe80::2"));
+    assertTrue(set.contains("::ffff:192.0.2.200"));
+    assertFalse(set.contains("::ffff:192.0.3.1"));
+  }
+
+  @Test
+  public void testAddressFamiliesAreSeparate() {
+    CidrSet set = CidrSet.of("0.0.0.0/0");
+    assertTrue(set.contains("1.2.3.4"));
+    assertFalse(set.contains("::1"));
+    set = CidrSet.of("::/0");
+    assertTrue(set.contains("::1"));
+    assertFalse(set.contains("1.2.3.4"));
+  }
+
+  @Test
+  public void testOverlappingRanges() {
+    CidrSet set = CidrSet.of("10.1.2.0/24", "10.0.0.0/8", "10.1.2.3");
+    assertTrue(set.contains("10.1.2.3"));
+    assertTrue(set.contains("10.200.0.1"));
+    assertEquals(3, set.size());
+  }
+
+  @Test
+  public void testBytesAndInetAddresses() throws Exception {
+    CidrSet set = CidrSet.of("192.168.0.0/16", "2001:db8::/32");
+    assertTrue(set.contains(new byte[] {(byte) 192, (byte) 168, 1, 1}));
+    assertFalse(set.contains(new byte[] {(byte) 192, (byte) 169, 1, 1}));
+    assertFalse(set.contains(new byte[] {(byte) 192, (byte) 168, 1}));
+    assertTrue(set.contains(InetAddress.getByName("192.168.7.7")));
+    assertTrue(set.contains(InetAddress.getByName("2001:db8::7")));
+    assertFalse(set.contains(InetAddress.getByName("2001:db9::7")));
+  }
+
+  @Test
+  public void testInvalidAddressesAreNotContained() {
+    CidrSet set = CidrSet.of("0.0.0.0/0", "::/0");
+    String[] invalid = {
+        "", "1.2.3", "1.2.3.4.5", "256.0.0.1", "1.2.3.4 ", "a.b.c.d", "1::2::3", "12345::",
+        "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7", ":1::", "1.2.3.4::", "example.com"
+    };
+    for (String address : invalid) {
+      assertFalse(address, set.contains(address));
+    }
+  }
+
+  @Test
+  public void testInvalidRanges() {
+    String[] invalid = {"10.0.0.0/33", "10.0.0.0/", "10.0.0.0/8/8", "2001:db8::/129", "x", ""};
+    for (String range : invalid) {
+      assertNull(range, CidrSet.PARSER.parseOrNull("10.0.0.0/8, " + range));
+    }
+  }
+
+  @Test
+  public void testNonAsciiHexDigitsAreRejected() {
+    // Fullwidth digits and letters, which Character.digit accepts but InetAddress does not
+    CidrSet set = CidrSet.of("::/0");
+    assertFalse(set.contains("\uFF11::"));
+    assertFalse(set.contains("2001:db8::\uFF21"));
+    assertNull(CidrSet.PARSER.parseOrNull("2001:db8::/32, \uFF12001:db8::/32"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRangeIsRejectedByOf() {
+    CidrSet.of("10.0.0.0/33");
+  }
+
+  @Test
+  public void testBlankTextIsAnEmptySet() {
+    CidrSet set = CidrSet.PARSER.parseOrNull(" ");
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains("1.2.3.4"));
+    assertFalse(set.contains("::1"));
+  }
+
+  @Test
+  public void testManyRanges() {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 256; i++) {
+      for (int j = 0; j < 256; j += 2) {
+        text.append(i).append('.').append(j).append(".0.0/16,");
+      }
+    }
+    CidrSet set = CidrSet.parser(',').parseOrNull(text.substring(0, text.length() - 1));
+    assertEquals(256 * 128, set.size());
+    assertTrue(set.contains("17.42.1.1"));
+    assertFalse(set.contains("17.43.1.1"));
+  }
+
+  @Test
+  public void testRangesAndToString() {
+    CidrSet set = CidrSet.PARSER.parseOrNull("10.0.0.0/8 , ::1");
+    assertEquals(Arrays.asList("10.0.0.0/8", "::1"), set.getRanges());
+    assertEquals("[10.0.0.0/8, ::1]", set.toString());
+  }
+
+}
@@ -0,0 +1,56 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class DataSizeTest {
+
+  @Test
+  public void testConversions() {
+    DataSize size = DataSize.ofMegabytes(3);
+    assertEquals(3L << 20, size.toBytes());
+    assertEquals(3L << 10, size.toKilobytes());
+    assertEquals(3L, size.toMegabytes());
+    assertEquals(0L, size.toGigabytes());
+    assertEquals(DataSize.ofKilobytes(2048), DataSize.ofMegabytes(2));
+    assertEquals(DataSize.ofBytes(1L << 30), DataSize.ofGigabytes(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeSizeIsRejected() {
+    DataSize.ofBytes(-1);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testOverflowIsRejected() {
+    DataSize.ofGigabytes(Long.MAX_VALUE / 1024);
+  }
+
+  @Test
+  public void testCompareTo() {
+    assertTrue(DataSize.ofKilobytes(1).compareTo(DataSize.ofBytes(1023)) > 0);
+    assertEquals(0, DataSize.ofKilobytes(1).compareTo(DataSize.ofBytes(1024)));
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    assertEquals(DataSize.ofBytes(1024), DataSize.ofKilobytes(1));
+    assertEquals(DataSize.ofBytes(1024).hashCode(), DataSize.ofKilobytes(1).hashCode());
+    assertNotEquals(DataSize.ofBytes(1024), DataSize.ofBytes(1025));
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("0B", DataSize.ofBytes(0).toString());
+    assertEquals("1000B", DataSize.ofBytes(1000).toString());
+    assertEquals("1536B", DataSize.ofBytes(1536).toString());
+    assertEquals("512MB", DataSize.ofMegabytes(512).toString());
+    assertEquals("2GB", DataSize.ofMegabytes(2048).toString());
+    assertEquals("1024TB", DataSize.ofBytes(1L << 50).toString());
+  }
+
+}
@@ -0,0 +1,93 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class IntSetTest {
+
+  @Test
+  public void testSparseValues() {
+    IntSet set = IntSet.PARSER.parseOrNull("1000000, -5, 42, 42, 7");
+    assertEquals(4, set.size());
+    assertTrue(set.contains(1_000_000));
+    assertTrue(set.contains(-5));
+    assertTrue(set.contains(42));
+    assertTrue(set.contains(7));
+    assertFalse(set.contains(8));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+    assertArrayEquals(new int[] {-5, 7, 42, 1_000_000}, set.toArray());
+  }
+
+  @Test
+  public void testDenseValues() {
+    IntSet set = IntSet.of(100, 101, 103, 164, 165, 227);
+    for (int value = 0; value < 300; value++) {
+      boolean expected = value == 100 || value == 101 || value == 103 || value == 164
+          || value == 165 || value == 227;
+      assertEquals(Integer.toString(value), expected, set.contains(value));
+    }
+    assertFalse(set.contains(Integer.MAX_VALUE));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+  }
+
+  @Test
+  public void testExtremeValues() {
+    IntSet set = IntSet.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertTrue(set.contains(Integer.MIN_VALUE));
+    assertTrue(set.contains(Integer.MAX_VALUE));
+    assertFalse(set.contains(0));
+  }
+
+  @Test
+  public void testMatchesAHashSet() {
+    Random random = new Random(1);
+    for (int range : new int[] {100, 10_000, 1_000_000}) {
+      int[] values = new int[1000];
+      Set<Integer> expected = new HashSet<>();
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(range) - range / 2;
+        expected.add(values[i]);
+      }
+      IntSet set = IntSet.of(values);
+      assertEquals(expected.size(), set.size());
+      for (int value = -range / 2 - 10; value < range / 2 + 10; value += 1 + range / 10_000) {
+        assertEquals(Integer.toString(value), expected.contains(value), set.contains(value));
+      }
+    }
+  }
+
+  @Test
+  public void testBlankTextIsAnEmptySet() {
+    IntSet set = IntSet.PARSER.parseOrNull("  ");
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+  }
+
+  @Test
+  public void testInvalidElement() {
+    assertNull(IntSet.PARSER.parseOrNull("1, two"));
+    assertNull(IntSet.PARSER.parseOrNull("1,,2"));
+  }
+
+  @Test
+  public void testCustomDelimiter() {
+    assertEquals(IntSet.of(1, 2, 3), IntSet.parser(';').parseOrNull("3;2;1"));
+  }
+
+  @Test
+  public void testEqualsAndToString() {
+    assertEquals(IntSet.of(3, 1, 2), IntSet.of(1, 2, 3, 3));
+    assertEquals(IntSet.of(3, 1, 2).hashCode(), IntSet.of(1, 2, 3, 3).hashCode());
+    assertNotEquals(IntSet.of(1, 2), IntSet.of(1, 2, 3));
+    assertEquals("[1, 2, 3]", IntSet.of(3, 2, 1).toString());
+  }
+
+}
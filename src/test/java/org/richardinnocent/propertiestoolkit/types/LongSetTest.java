@@ -0,0 +1,63 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class LongSetTest {
+
+  @Test
+  public void testSparseValues() {
+    LongSet set = LongSet.PARSER.parseOrNull("9000000000, -5, 42");
+    assertEquals(3, set.size());
+    assertTrue(set.contains(9_000_000_000L));
+    assertTrue(set.contains(-5L));
+    assertTrue(set.contains(42L));
+    assertFalse(set.contains(43L));
+    assertArrayEquals(new long[] {-5L, 42L, 9_000_000_000L}, set.toArray());
+  }
+
+  @Test
+  public void testDenseValues() {
+    LongSet set = LongSet.of(5_000_000_000L, 5_000_000_001L, 5_000_000_063L, 5_000_000_064L);
+    for (long value = 4_999_999_990L; value < 5_000_000_100L; value++) {
+      boolean expected = value == 5_000_000_000L || value == 5_000_000_001L
+          || value == 5_000_000_063L || value == 5_000_000_064L;
+      assertEquals(Long.toString(value), expected, set.contains(value));
+    }
+  }
+
+  @Test
+  public void testExtremeValues() {
+    LongSet set = LongSet.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertFalse(set.contains(0L));
+  }
+
+  @Test
+  public void testBlankTextIsAnEmptySet() {
+    assertTrue(LongSet.PARSER.parseOrNull("").isEmpty());
+  }
+
+  @Test
+  public void testInvalidElement() {
+    assertNull(LongSet.PARSER.parseOrNull("1, 9223372036854775808"));
+  }
+
+  @Test
+  public void testCustomDelimiter() {
+    assertEquals(LongSet.of(1L, 2L), LongSet.parser('|').parseOrNull("2|1"));
+  }
+
+  @Test
+  public void testEqualsAndToString() {
+    assertEquals(LongSet.of(2L, 1L), LongSet.of(1L, 2L, 2L));
+    assertEquals(LongSet.of(2L, 1L).hashCode(), LongSet.of(1L, 2L, 2L).hashCode());
+    assertEquals("[1, 2]", LongSet.of(2L, 1L).toString());
+  }
+
+}
@@ -0,0 +1,83 @@
+package org.richardinnocent.propertiestoolkit.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author RichardInnocent
+ */
+public class StringSetTest {
+
+  @Test
+  public void testContains() {
+    StringSet set = StringSet.PARSER.parseOrNull(" alpha, beta ,, gamma, alpha");
+    assertEquals(3, set.size());
+    assertTrue(set.contains("alpha"));
+    assertTrue(set.contains("beta"));
+    assertTrue(set.contains("gamma"));
+    assertFalse(set.contains("delta"));
+    assertFalse(set.contains(""));
+    assertFalse(set.contains(null));
+    assertEquals(Arrays.asList("alpha", "beta", "gamma"), set.toList());
+  }
+
+  @Test
+  public void testManyValues() {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      values.add("host" + i + ".example.com");
+    }
+    StringSet set = StringSet.of(values);
+    assertEquals(values.size(), set.size());
+    for (int i = 0; i < 20_000; i++) {
+      assertEquals(i < 10_000, set.contains("host" + i + ".example.com"));
+    }
+  }
+
+  @Test
+  public void testCollidingHashCodes() {
+    // "Aa" and "BB" have the same hash code
+    StringSet set = StringSet.of("Aa", "BB", "AaAa", "BBBB", "AaBB");
+    assertTrue(set.contains("Aa"));
+    assertTrue(set.contains("BB"));
+    assertFalse(set.contains("BBAa"));
+    assertTrue(set.contains("AaBB"));
+    assertEquals(5, set.size());
+  }
+
+  @Test
+  public void testBlankTextIsAnEmptySet() {
+    StringSet set = StringSet.PARSER.parseOrNull(" ");
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(""));
+  }
+
+  @Test
+  public void testCustomDelimiter() {
+    assertEquals(StringSet.of("a,b", "c"), StringSet.parser(';').parseOrNull("a,b; c"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullValueIsRejected() {
+    StringSet.of("a", null);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testListCannotBeModified() {
+    StringSet.of("a").toList().add("b");
+  }
+
+  @Test
+  public void testEqualsAndToString() {
+    assertEquals(StringSet.of("a", "b"), StringSet.of("b", "a", "b"));
+    assertEquals(StringSet.of("a", "b").hashCode(), StringSet.of("b", "a").hashCode());
+    assertNotEquals(StringSet.of("a"), StringSet.of("a", "b"));
+    assertEquals("[b, a]", StringSet.of("b", "a").toString());
+  }
+
+}
@@ -0,0 +1,86 @@
+package org.richardinnocent.propertiestoolkit.annotations;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.richardinnocent.propertiestoolkit.ValidationException;
+import org.richardinnocent.propertiestoolkit.annotations.constraints.NumberMustBePositive;
+
+import static org.junit.Assert.*;
+
+public class ConstructorBinderRecordTest {
+
+  private Properties properties;
+
+  @Before
+  public void setUp() {
+    properties = new Properties();
+    properties.setProperty("size", "8");
+    properties.setProperty("pool.timeout", "250ms");
+  }
+
+  @Test
+  public void testRecordIsBoundThroughCanonicalConstructor() {
+    PoolConfig config = ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+    assertEquals(new PoolConfig(8, Duration.ofMillis(250)), config);
+  }
+
+  @Test(expected = ValidationException.class)
+  public void testConstraintsOnComponentsAreApplied() {
+    properties.setProperty("size", "-8");
+    ConstructorBinder.forClass(PoolConfig.class).bind(properties);
+  }
+
+  @Test
+  public void testCompactConstructorIsRun() {
+    try {
+      ConstructorBinder.forClass(CheckedConfig.class).bind(properties);
+      fail("Expected the compact constructor's check to fail");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Size is too small", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testCanonicalConstructorIsUsedWhenThereAreOthers() {
+    assertEquals(8, ConstructorBinder.forClass(SeveralConstructors.class).bind(properties).size());
+  }
+
+  @Test(expected = InvalidAnnotationException.class)
+  public void testUnannotatedComponentIsRejected() {
+    ConstructorBinder.forClass(Unannotated.class);
+  }
+
+  @Test
+  public void testRecordsAreRecognised() {
+    assertTrue(Records.isRecord(PoolConfig.class));
+    assertFalse(Records.isRecord(String.class));
+    assertArrayEquals(new String[] {"size", "timeout"},
+                      Records.getComponentNames(PoolConfig.class));
+  }
+
+  public record PoolConfig(@FromProperty(constraints = NumberMustBePositive.class) int size,
+                           @FromProperty(key = "pool.timeout") Duration timeout) {}
+
+  public record CheckedConfig(@FromProperty int size) {
+
+    public CheckedConfig {
+      if (size < 10)
+        throw new IllegalArgumentException("Size is too small");
+    }
+
+  }
+
+  public record SeveralConstructors(@FromProperty int size) {
+
+    public SeveralConstructors(@FromProperty(key = "other") String size) {
+      this(Integer.parseInt(size));
+    }
+
+  }
+
+  public record Unannotated(@FromProperty int size, String name) {}
+
+}